@@ -0,0 +1,66 @@
+package com.enterprise.webtemplate.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메모리 매핑 비밀번호 인덱스 조회 성능 측정
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BreachedPasswordIndexBenchmark {
+
+    @Param({"1000000"})
+    private int entries;
+
+    private Path dictionary;
+    private Path indexFile;
+    private BreachedPasswordIndex index;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        dictionary = Files.createTempFile("bench-passwords", ".txt");
+        indexFile = Files.createTempFile("bench-passwords", ".idx");
+        try (BufferedWriter writer = Files.newBufferedWriter(dictionary, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < entries; i++) {
+                writer.write("leaked-password-" + i);
+                writer.newLine();
+            }
+        }
+        BreachedPasswordIndexCompiler.compile(dictionary, indexFile);
+        index = BreachedPasswordIndex.open(indexFile);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(dictionary);
+        Files.deleteIfExists(indexFile);
+    }
+
+    @Benchmark
+    public boolean containsHit() {
+        return index.contains("leaked-password-424242");
+    }
+
+    @Benchmark
+    public boolean containsMiss() {
+        return index.contains("Unique&Strong#Passphrase2024");
+    }
+}
@@ -0,0 +1,101 @@
+package com.enterprise.webtemplate.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자 부분 문자열 검색: 3-gram 인덱스 vs H2 LIKE '%...%' 전체 스캔
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UserSubstringIndexBenchmark {
+
+    private static final String[] DEPARTMENTS = {"개발팀", "영업팀", "인사팀", "재무팀", "마케팅팀", "고객지원팀"};
+    private static final String[] POSITIONS = {"사원", "주임", "대리", "과장", "차장", "부장"};
+
+    @Param({"100000"})
+    private int users;
+
+    @Param({"user-4242", "r-99", "ex"})
+    private String query;
+
+    private Connection connection;
+    private PreparedStatement likeQuery;
+    private TrigramIndex index;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:substring-bench;DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE users (id BIGINT PRIMARY KEY, email VARCHAR(100), name VARCHAR(50), "
+                    + "department VARCHAR(100), position VARCHAR(50))");
+        }
+
+        index = new TrigramIndex(4);
+        String[] surnames = {"kim", "lee", "park", "choi", "jung"};
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO users VALUES (?, ?, ?, ?, ?)")) {
+            for (int i = 1; i <= users; i++) {
+                String[] fields = {
+                        "user-" + i + "@example.com",
+                        surnames[i % surnames.length] + " " + Integer.toString(i, 36),
+                        DEPARTMENTS[i % DEPARTMENTS.length],
+                        POSITIONS[i % POSITIONS.length]
+                };
+                insert.setLong(1, i);
+                for (int field = 0; field < fields.length; field++) {
+                    insert.setString(field + 2, fields[field]);
+                }
+                insert.addBatch();
+                index.put(i, fields);
+            }
+            insert.executeBatch();
+        }
+
+        // UserSearchRepositoryImpl의 부분 일치 조건과 같은 형태 (id만 조회)
+        likeQuery = connection.prepareStatement("SELECT id FROM users WHERE LOWER(email) LIKE ?");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        likeQuery.close();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE users");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public int like() throws SQLException {
+        likeQuery.setString(1, "%" + query + "%");
+        int count = 0;
+        try (ResultSet rs = likeQuery.executeQuery()) {
+            while (rs.next()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int trigramIndex() {
+        return index.search(new String[]{query, null, null, null}).length;
+    }
+}
@@ -1,6 +1,9 @@
 package com.enterprise.webtemplate.config;
 
 import com.enterprise.webtemplate.filter.JwtAuthenticationFilter;
+import com.enterprise.webtemplate.security.PasswordHashingExecutor;
+import com.enterprise.webtemplate.security.PooledPasswordEncoder;
+import com.enterprise.webtemplate.security.RbacEngine;
 import com.enterprise.webtemplate.service.CustomUserDetailsService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -15,7 +18,6 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -36,6 +38,12 @@ public class SecurityConfig {
     @Autowired
     private CustomUserDetailsService userDetailsService;
 
+    @Autowired
+    private RbacEngine rbacEngine;
+
+    @Autowired
+    private PasswordHashingExecutor passwordHashingExecutor;
+
     @Value("#{'${app.cors.allowed-origins}'.split(',')}")
     private List<String> allowedOrigins;
 
@@ -44,7 +52,7 @@ public class SecurityConfig {
 
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new PooledPasswordEncoder(passwordHashingExecutor);
     }
 
     @Bean
@@ -52,6 +60,8 @@ public class SecurityConfig {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService);
         authProvider.setPasswordEncoder(passwordEncoder());
+        // 저장된 해시의 cost가 현재 보정값보다 낮으면 로그인 성공 시 재해싱하여 저장
+        authProvider.setUserDetailsPasswordService(userDetailsService);
         return authProvider;
     }
 
@@ -75,18 +85,20 @@ public class SecurityConfig {
                 .requestMatchers("/api/public/**").permitAll()
                 .requestMatchers("/h2-console/**").permitAll()
                 .requestMatchers("/actuator/health").permitAll()
+                // WebSocket 핸드셰이크 (인증은 STOMP CONNECT 헤더로 처리)
+                .requestMatchers("/ws/**").permitAll()
                 
                 // User management endpoints
                 .requestMatchers("/api/users/me").authenticated()
-                .requestMatchers("/api/users/**").hasAuthority("USER_MANAGEMENT")
+                .requestMatchers("/api/users/**").access(rbacEngine.requires("USER_MANAGEMENT"))
                 
                 // Admin endpoints
-                .requestMatchers("/api/admin/**").hasAuthority("ADMIN_ACCESS")
+                .requestMatchers("/api/admin/**").access(rbacEngine.requires("ADMIN_ACCESS"))
                 
                 // File management
-                .requestMatchers("/api/files/upload").hasAuthority("FILE_UPLOAD")
-                .requestMatchers("/api/files/download/**").hasAuthority("FILE_DOWNLOAD")
-                .requestMatchers("/api/files/**").hasAuthority("FILE_MANAGEMENT")
+                .requestMatchers("/api/files/upload").access(rbacEngine.requires("FILE_UPLOAD"))
+                .requestMatchers("/api/files/download/**").access(rbacEngine.requires("FILE_DOWNLOAD"))
+                .requestMatchers("/api/files/**").access(rbacEngine.requires("FILE_MANAGEMENT"))
                 
                 // Notification endpoints
                 .requestMatchers("/api/notifications/**").authenticated()
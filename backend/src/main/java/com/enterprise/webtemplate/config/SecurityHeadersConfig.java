@@ -68,13 +68,8 @@ public class SecurityHeadersConfig {
             // Cross-Origin-Resource-Policy
             response.setHeader("Cross-Origin-Resource-Policy", "same-origin");
             
-            // Cache-Control for sensitive endpoints
-            String requestURI = request.getRequestURI();
-            if (requestURI.contains("/api/auth/") || requestURI.contains("/api/admin/")) {
-                response.setHeader("Cache-Control", "no-store, no-cache, must-revalidate, max-age=0");
-                response.setHeader("Pragma", "no-cache");
-                response.setHeader("Expires", "0");
-            }
+            // Cache-Control은 URI로 일괄 지정하지 않음
+            // 기본값은 Spring Security의 no-store이며, ETag로 재검증하는 엔드포인트만 컨트롤러에서 직접 지정
             
             // Server header 제거
             response.setHeader("Server", "");
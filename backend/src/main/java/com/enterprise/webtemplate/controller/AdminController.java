@@ -1,27 +1,67 @@
 package com.enterprise.webtemplate.controller;
 
 import com.enterprise.webtemplate.annotation.RequirePermission;
+import com.enterprise.webtemplate.dto.BulkUserActionRequest;
 import com.enterprise.webtemplate.dto.UserListResponse;
 import com.enterprise.webtemplate.dto.UserProfileResponse;
 import com.enterprise.webtemplate.dto.UserProfileUpdateRequest;
 import com.enterprise.webtemplate.dto.UserSearchRequest;
 import com.enterprise.webtemplate.entity.User;
+import com.enterprise.webtemplate.security.PasswordHashingSaturatedException;
+import com.enterprise.webtemplate.service.UserBulkService;
+import com.enterprise.webtemplate.service.UserExportService;
+import com.enterprise.webtemplate.service.UserFacetIndex;
+import com.enterprise.webtemplate.service.UserImportService;
+import com.enterprise.webtemplate.service.UserSearchCursor;
 import com.enterprise.webtemplate.service.UserService;
+import com.enterprise.webtemplate.service.UserSubstringIndex;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/admin/users")
 public class AdminController {
 
+    // 내보내기 파일 이름용 시각 형식
+    private static final DateTimeFormatter EXPORT_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private UserBulkService userBulkService;
+
+    @Autowired
+    private UserExportService userExportService;
+
+    @Autowired
+    private UserImportService userImportService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserSubstringIndex userSubstringIndex;
+
+    @Autowired
+    private UserFacetIndex userFacetIndex;
+
     @GetMapping
     @RequirePermission("USER_MANAGEMENT")
     public ResponseEntity<?> searchUsers(
@@ -61,6 +101,149 @@ public class AdminController {
         }
     }
 
+    // 커서 기반 검색 (대용량 테이블용, 전체 건수는 includeTotal=true일 때만 포함)
+    @GetMapping("/scroll")
+    @RequirePermission("USER_MANAGEMENT")
+    public ResponseEntity<?> scrollUsers(
+            @RequestParam(required = false) String email,
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) String department,
+            @RequestParam(required = false) String position,
+            @RequestParam(required = false) Boolean isActive,
+            @RequestParam(required = false) Boolean isEmailVerified,
+            @RequestParam(required = false) User.ApprovalStatus approvalStatus,
+            @RequestParam(required = false) String roleName,
+            @RequestParam(defaultValue = "createdAt") String sortBy,
+            @RequestParam(defaultValue = "desc") String sortDirection,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") Integer size,
+            @RequestParam(defaultValue = "false") boolean includeTotal
+    ) {
+        // 커서가 있으면 정렬 기준은 커서에 담긴 값을 사용
+        if (cursor == null || cursor.isBlank()) {
+            try {
+                UserSearchCursor.SortKey.fromProperty(sortBy);
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest()
+                        .body(Map.of("error", "INVALID_SORT", "message", e.getMessage()));
+            }
+        }
+
+        try {
+            UserSearchRequest request = new UserSearchRequest();
+            request.setEmail(email);
+            request.setName(name);
+            request.setDepartment(department);
+            request.setPosition(position);
+            request.setIsActive(isActive);
+            request.setIsEmailVerified(isEmailVerified);
+            request.setApprovalStatus(approvalStatus);
+            request.setRoleName(roleName);
+            request.setSortBy(sortBy);
+            request.setSortDirection(sortDirection);
+            request.setCursor(cursor);
+            request.setSize(size);
+            request.setIncludeTotal(includeTotal);
+
+            UserListResponse.CursorResponse response = userService.scrollUsers(request);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "INVALID_CURSOR", "message", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError()
+                    .body(Map.of("error", "USER_SEARCH_FAILED", "message", "사용자 검색 중 오류가 발생했습니다."));
+        }
+    }
+
+    /**
+     * 검색 조건에 맞는 사용자 전체를 CSV 또는 NDJSON으로 스트리밍 (정렬은 id 순)
+     */
+    @GetMapping("/export")
+    @RequirePermission("USER_MANAGEMENT")
+    public ResponseEntity<StreamingResponseBody> exportUsers(
+            @RequestParam(required = false) String email,
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) String department,
+            @RequestParam(required = false) String position,
+            @RequestParam(required = false) Boolean isActive,
+            @RequestParam(required = false) Boolean isEmailVerified,
+            @RequestParam(required = false) User.ApprovalStatus approvalStatus,
+            @RequestParam(required = false) String roleName,
+            @RequestParam(defaultValue = "csv") String format
+    ) {
+        UserExportService.Format exportFormat;
+        try {
+            exportFormat = UserExportService.Format.valueOf(format.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return exportError(HttpStatus.BAD_REQUEST, "INVALID_FORMAT", "지원하지 않는 형식입니다. (csv, ndjson)");
+        }
+
+        try {
+            UserSearchRequest request = new UserSearchRequest();
+            request.setEmail(email);
+            request.setName(name);
+            request.setDepartment(department);
+            request.setPosition(position);
+            request.setIsActive(isActive);
+            request.setIsEmailVerified(isEmailVerified);
+            request.setApprovalStatus(approvalStatus);
+            request.setRoleName(roleName);
+
+            StreamingResponseBody body = userExportService.export(request, exportFormat);
+            String filename = "users-" + LocalDateTime.now().format(EXPORT_TIMESTAMP) + "." + exportFormat.getExtension();
+            return ResponseEntity.ok()
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                    .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                    .body(body);
+        } catch (RuntimeException e) {
+            return exportError(HttpStatus.BAD_REQUEST, "USER_EXPORT_FAILED", e.getMessage());
+        }
+    }
+
+    // 스트리밍 응답 타입을 유지하면서 다른 API와 같은 형식의 오류 본문을 돌려줌
+    private ResponseEntity<StreamingResponseBody> exportError(HttpStatus status, String error, String message) {
+        return ResponseEntity.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(outputStream -> objectMapper.writeValue(outputStream, Map.of("error", error, "message", message)));
+    }
+
+    @GetMapping("/facets")
+    @RequirePermission("USER_MANAGEMENT")
+    public ResponseEntity<?> getUserFacets(
+            @RequestParam(required = false) String email,
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) String department,
+            @RequestParam(required = false) String position,
+            @RequestParam(required = false) Boolean isActive,
+            @RequestParam(required = false) Boolean isEmailVerified,
+            @RequestParam(required = false) User.ApprovalStatus approvalStatus,
+            @RequestParam(required = false) String roleName
+    ) {
+        try {
+            UserSearchRequest request = new UserSearchRequest();
+            request.setEmail(email);
+            request.setName(name);
+            request.setDepartment(department);
+            request.setPosition(position);
+            request.setIsActive(isActive);
+            request.setIsEmailVerified(isEmailVerified);
+            request.setApprovalStatus(approvalStatus);
+            request.setRoleName(roleName);
+
+            Optional<Map<String, Object>> facets = userService.getUserFacets(request);
+            if (facets.isEmpty()) {
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .header(HttpHeaders.RETRY_AFTER, "5")
+                        .body(Map.of("error", "FACET_INDEX_NOT_READY", "message", "사용자 집계 인덱스를 준비 중입니다."));
+            }
+            return ResponseEntity.ok(facets.get());
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError()
+                    .body(Map.of("error", "USER_FACETS_FAILED", "message", "사용자 집계 중 오류가 발생했습니다."));
+        }
+    }
+
     @GetMapping("/{userId}")
     @RequirePermission("USER_MANAGEMENT")
     public ResponseEntity<?> getUserById(@PathVariable Long userId) {
@@ -222,6 +405,8 @@ public class AdminController {
             
             userService.resetUserPassword(userId, newPassword);
             return ResponseEntity.ok(Map.of("message", "사용자 비밀번호가 성공적으로 재설정되었습니다."));
+        } catch (PasswordHashingSaturatedException e) {
+            return ServiceBusyResponse.of(e);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest()
                     .body(Map.of("error", "VALIDATION_ERROR", "message", e.getMessage()));
@@ -234,6 +419,21 @@ public class AdminController {
         }
     }
 
+    @PostMapping("/{userId}/sign-out")
+    @RequirePermission("USER_MANAGEMENT")
+    public ResponseEntity<?> forceSignOut(@PathVariable Long userId) {
+        try {
+            userService.forceSignOut(userId);
+            return ResponseEntity.ok(Map.of("message", "사용자의 모든 세션이 로그아웃되었습니다."));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "FORCE_SIGN_OUT_FAILED", "message", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError()
+                    .body(Map.of("error", "INTERNAL_ERROR", "message", "강제 로그아웃 처리 중 오류가 발생했습니다."));
+        }
+    }
+
     @PostMapping("/{userId}/unlock")
     @RequirePermission("USER_MANAGEMENT")
     public ResponseEntity<?> unlockUserAccount(@PathVariable Long userId) {
@@ -248,4 +448,145 @@ public class AdminController {
                     .body(Map.of("error", "INTERNAL_ERROR", "message", "계정 잠금 해제 중 오류가 발생했습니다."));
         }
     }
-}
\ No newline at end of file
+
+    @PostMapping("/bulk/approval")
+    @RequirePermission("USER_MANAGEMENT")
+    public ResponseEntity<?> bulkUpdateApprovalStatus(@RequestBody BulkUserActionRequest request) {
+        User.ApprovalStatus status;
+        try {
+            if (request.getStatus() == null) {
+                return ResponseEntity.badRequest()
+                        .body(Map.of("error", "MISSING_STATUS", "message", "승인 상태를 입력해주세요."));
+            }
+            status = User.ApprovalStatus.valueOf(request.getStatus().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "INVALID_STATUS", "message", "올바른 승인 상태를 입력해주세요."));
+        }
+
+        try {
+            return ResponseEntity.ok(userBulkService.updateApprovalStatus(request, status));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "BULK_APPROVAL_FAILED", "message", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError()
+                    .body(Map.of("error", "INTERNAL_ERROR", "message", "승인 상태 일괄 변경 중 오류가 발생했습니다."));
+        }
+    }
+
+    @PostMapping("/bulk/activation")
+    @RequirePermission("USER_MANAGEMENT")
+    public ResponseEntity<?> bulkUpdateActivation(@RequestBody BulkUserActionRequest request) {
+        try {
+            if (request.getIsActive() == null) {
+                return ResponseEntity.badRequest()
+                        .body(Map.of("error", "MISSING_ACTIVATION", "message", "활성화 여부를 입력해주세요."));
+            }
+            return ResponseEntity.ok(userBulkService.updateActivation(request, request.getIsActive()));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "BULK_ACTIVATION_FAILED", "message", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError()
+                    .body(Map.of("error", "INTERNAL_ERROR", "message", "활성화 상태 일괄 변경 중 오류가 발생했습니다."));
+        }
+    }
+
+    @PostMapping("/bulk/unlock")
+    @RequirePermission("USER_MANAGEMENT")
+    public ResponseEntity<?> bulkUnlock(@RequestBody BulkUserActionRequest request) {
+        try {
+            return ResponseEntity.ok(userBulkService.unlock(request));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "BULK_UNLOCK_FAILED", "message", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError()
+                    .body(Map.of("error", "INTERNAL_ERROR", "message", "계정 잠금 일괄 해제 중 오류가 발생했습니다."));
+        }
+    }
+
+    /**
+     * CSV(email,name,password[,phone,department,position] 헤더 필요) 또는 NDJSON 파일로 사용자 일괄 등록
+     * 형식을 지정하지 않으면 파일 확장자로 판단하고, 실패한 묶음이 있으면 응답의 nextBatch를 startBatch로 다시 요청합니다.
+     */
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @RequirePermission("USER_MANAGEMENT")
+    public ResponseEntity<?> importUsers(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(required = false) String format,
+            @RequestParam(defaultValue = "0") int startBatch,
+            @RequestParam(defaultValue = "APPROVED") User.ApprovalStatus approvalStatus
+    ) {
+        if (file.isEmpty()) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "EMPTY_FILE", "message", "등록할 파일을 선택해주세요."));
+        }
+        UserExportService.Format importFormat = resolveImportFormat(format, file.getOriginalFilename());
+        if (importFormat == null) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "INVALID_FORMAT", "message", "지원하지 않는 형식입니다. (csv, ndjson)"));
+        }
+
+        try (InputStream input = file.getInputStream()) {
+            return ResponseEntity.ok(userImportService.importUsers(input, importFormat, startBatch, approvalStatus));
+        } catch (IOException e) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "FILE_READ_FAILED", "message", "파일을 읽는 중 오류가 발생했습니다."));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "VALIDATION_ERROR", "message", e.getMessage()));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "USER_IMPORT_FAILED", "message", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError()
+                    .body(Map.of("error", "INTERNAL_ERROR", "message", "사용자 일괄 등록 중 오류가 발생했습니다."));
+        }
+    }
+
+    // 형식 파라미터가 없으면 확장자로 판단 (.csv, .ndjson, .jsonl)
+    private UserExportService.Format resolveImportFormat(String format, String filename) {
+        if (format != null) {
+            try {
+                return UserExportService.Format.valueOf(format.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+        String name = filename != null ? filename.toLowerCase() : "";
+        if (name.endsWith(".csv")) {
+            return UserExportService.Format.CSV;
+        }
+        if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+            return UserExportService.Format.NDJSON;
+        }
+        return null;
+    }
+
+    @GetMapping("/search-index")
+    @RequirePermission("SYSTEM_CONFIG")
+    public ResponseEntity<?> getSearchIndexStats() {
+        return ResponseEntity.ok(Map.of(
+                "substring", userSubstringIndex.getStats(),
+                "facets", userFacetIndex.getStats()
+        ));
+    }
+
+    @PostMapping("/search-index/rebuild")
+    @RequirePermission("SYSTEM_CONFIG")
+    public ResponseEntity<?> rebuildSearchIndex() {
+        try {
+            userSubstringIndex.rebuild();
+            userFacetIndex.rebuild();
+            return ResponseEntity.ok(Map.of(
+                    "substring", userSubstringIndex.getStats(),
+                    "facets", userFacetIndex.getStats()
+            ));
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError()
+                    .body(Map.of("error", "SEARCH_INDEX_REBUILD_FAILED", "message", "검색 인덱스 재구성 중 오류가 발생했습니다."));
+        }
+    }
+}
@@ -4,11 +4,15 @@ import com.enterprise.webtemplate.dto.LoginRequest;
 import com.enterprise.webtemplate.dto.LoginResponse;
 import com.enterprise.webtemplate.dto.RegisterRequest;
 import com.enterprise.webtemplate.dto.RegisterResponse;
+import com.enterprise.webtemplate.security.LoginThrottledException;
+import com.enterprise.webtemplate.security.PasswordHashingSaturatedException;
 import com.enterprise.webtemplate.service.AuthService;
 import com.enterprise.webtemplate.service.UserService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.DisabledException;
@@ -27,10 +31,17 @@ public class AuthController {
     private UserService userService;
 
     @PostMapping("/login")
-    public ResponseEntity<?> login(@Valid @RequestBody LoginRequest loginRequest) {
+    public ResponseEntity<?> login(@Valid @RequestBody LoginRequest loginRequest, HttpServletRequest request) {
         try {
-            LoginResponse response = authService.login(loginRequest);
+            // 프록시 환경에서는 server.forward-headers-strategy 설정으로 실제 클라이언트 주소가 반영됨
+            LoginResponse response = authService.login(loginRequest, request.getRemoteAddr());
             return ResponseEntity.ok(response);
+        } catch (LoginThrottledException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                    .body(Map.of("error", "TOO_MANY_ATTEMPTS", "message", e.getMessage()));
+        } catch (PasswordHashingSaturatedException e) {
+            return ServiceBusyResponse.of(e);
         } catch (BadCredentialsException e) {
             return ResponseEntity.badRequest()
                     .body(Map.of("error", "INVALID_CREDENTIALS", "message", e.getMessage()));
@@ -64,12 +75,14 @@ public class AuthController {
     }
 
     @PostMapping("/logout")
-    public ResponseEntity<?> logout(HttpServletRequest request) {
+    public ResponseEntity<?> logout(HttpServletRequest request,
+                                    @RequestBody(required = false) Map<String, String> body) {
         try {
             String authHeader = request.getHeader("Authorization");
             if (authHeader != null && authHeader.startsWith("Bearer ")) {
                 String token = authHeader.substring(7);
-                authService.logout(token);
+                // 리프레시 토큰도 함께 전달되면 폐기하여 로그아웃 이후 재발급을 막음
+                authService.logout(token, body != null ? body.get("refreshToken") : null);
             }
             return ResponseEntity.ok(Map.of("message", "로그아웃되었습니다."));
         } catch (Exception e) {
@@ -109,6 +122,8 @@ public class AuthController {
         try {
             RegisterResponse response = userService.registerUser(registerRequest);
             return ResponseEntity.ok(response);
+        } catch (PasswordHashingSaturatedException e) {
+            return ServiceBusyResponse.of(e);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest()
                     .body(Map.of("error", "VALIDATION_ERROR", "message", e.getMessage()));
@@ -1,26 +1,41 @@
 package com.enterprise.webtemplate.controller;
 
 import com.enterprise.webtemplate.annotation.RequirePermission;
+import com.enterprise.webtemplate.service.DashboardLivePublisher;
 import com.enterprise.webtemplate.service.DashboardService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.util.List;
 import java.util.Map;
 
 @RestController
 @RequestMapping("/api/dashboard")
 public class DashboardController {
 
+    // 변경 여부를 매번 ETag로 재검증 (공유 캐시에는 저장하지 않음)
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     @Autowired
     private DashboardService dashboardService;
 
+    @Autowired
+    private DashboardLivePublisher dashboardLivePublisher;
+
     @GetMapping("/stats")
     @RequirePermission("DASHBOARD_VIEW")
-    public ResponseEntity<?> getDashboardStats() {
+    public ResponseEntity<?> getDashboardStats(WebRequest webRequest) {
         try {
+            String etag = dashboardService.getDashboardStatsVersion();
+            if (webRequest.checkNotModified(etag)) {
+                return null;
+            }
             Map<String, Object> stats = dashboardService.getDashboardStats();
-            return ResponseEntity.ok(stats);
+            return revalidatable(etag, stats);
         } catch (Exception e) {
             return ResponseEntity.internalServerError()
                     .body(Map.of("error", "DASHBOARD_FETCH_FAILED", "message", "대시보드 통계 조회 중 오류가 발생했습니다."));
@@ -29,28 +44,105 @@ public class DashboardController {
 
     @GetMapping("/user-stats")
     @RequirePermission("DASHBOARD_VIEW")
-    public ResponseEntity<?> getUserStats() {
+    public ResponseEntity<?> getUserStats(WebRequest webRequest) {
         try {
+            String etag = dashboardService.getUserStatsVersion();
+            if (webRequest.checkNotModified(etag)) {
+                return null;
+            }
             Map<String, Object> userStats = dashboardService.getUserStats();
-            return ResponseEntity.ok(userStats);
+            return revalidatable(etag, userStats);
         } catch (Exception e) {
             return ResponseEntity.internalServerError()
                     .body(Map.of("error", "USER_STATS_FETCH_FAILED", "message", "사용자 통계 조회 중 오류가 발생했습니다."));
         }
     }
 
+    @GetMapping("/daily-stats")
+    @RequirePermission("DASHBOARD_VIEW")
+    public ResponseEntity<?> getDailyStats(@RequestParam(defaultValue = "30") int days, WebRequest webRequest) {
+        try {
+            String etag = dashboardService.getRollupStatsVersion("daily", days);
+            if (webRequest.checkNotModified(etag)) {
+                return null;
+            }
+            Map<String, Object> dailyStats = dashboardService.getDailyStats(days);
+            return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(dailyStats);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "VALIDATION_ERROR", "message", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError()
+                    .body(Map.of("error", "DAILY_STATS_FETCH_FAILED", "message", "일별 통계 조회 중 오류가 발생했습니다."));
+        }
+    }
+
+    @GetMapping("/monthly-stats")
+    @RequirePermission("DASHBOARD_VIEW")
+    public ResponseEntity<?> getMonthlyStats(@RequestParam(defaultValue = "12") int months, WebRequest webRequest) {
+        try {
+            String etag = dashboardService.getRollupStatsVersion("monthly", months);
+            if (webRequest.checkNotModified(etag)) {
+                return null;
+            }
+            Map<String, Object> monthlyStats = dashboardService.getMonthlyStats(months);
+            return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(monthlyStats);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "VALIDATION_ERROR", "message", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError()
+                    .body(Map.of("error", "MONTHLY_STATS_FETCH_FAILED", "message", "월별 통계 조회 중 오류가 발생했습니다."));
+        }
+    }
+
     @GetMapping("/recent-activities")
     @RequirePermission("DASHBOARD_VIEW")
-    public ResponseEntity<?> getRecentActivities() {
+    public ResponseEntity<?> getRecentActivities(WebRequest webRequest) {
         try {
+            String etag = dashboardService.getRecentActivitiesVersion();
+            if (webRequest.checkNotModified(etag)) {
+                return null;
+            }
             Map<String, Object> activities = dashboardService.getRecentActivities();
-            return ResponseEntity.ok(activities);
+            return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(activities);
         } catch (Exception e) {
             return ResponseEntity.internalServerError()
                     .body(Map.of("error", "ACTIVITIES_FETCH_FAILED", "message", "최근 활동 조회 중 오류가 발생했습니다."));
         }
     }
 
+    @GetMapping("/activities")
+    @RequirePermission("DASHBOARD_VIEW")
+    public ResponseEntity<?> getActivityFeed(@RequestParam(required = false) String cursor,
+                                             @RequestParam(required = false) List<String> types,
+                                             @RequestParam(defaultValue = "20") int size,
+                                             WebRequest webRequest) {
+        try {
+            String etag = dashboardService.getActivityFeedVersion(cursor, types, size);
+            if (webRequest.checkNotModified(etag)) {
+                return null;
+            }
+            Map<String, Object> feed = dashboardService.getActivityFeed(cursor, types, size);
+            return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(feed);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "VALIDATION_ERROR", "message", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError()
+                    .body(Map.of("error", "ACTIVITY_FEED_FETCH_FAILED", "message", "활동 피드 조회 중 오류가 발생했습니다."));
+        }
+    }
+
+    /**
+     * 실시간 대시보드 전체 스냅샷 (/app/dashboard 구독 시 한 번 응답, 이후 변경은 /topic/dashboard로 수신)
+     * 구독 권한은 StompAuthChannelInterceptor에서 검사합니다.
+     */
+    @SubscribeMapping("/dashboard")
+    public Map<String, Object> subscribeDashboard() {
+        return dashboardLivePublisher.snapshot();
+    }
+
     @GetMapping("/system-health")
     @RequirePermission("DASHBOARD_VIEW")
     public ResponseEntity<?> getSystemHealth() {
@@ -62,4 +154,12 @@ public class DashboardController {
                     .body(Map.of("error", "SYSTEM_HEALTH_FETCH_FAILED", "message", "시스템 상태 조회 중 오류가 발생했습니다."));
         }
     }
+
+    // 일부 항목이 빠진(degraded) 응답은 ETag 없이 저장 금지로 보내 다음 요청에서 전체를 다시 받도록 함
+    private static ResponseEntity<?> revalidatable(String etag, Map<String, Object> body) {
+        if (Boolean.TRUE.equals(body.get("degraded"))) {
+            return ResponseEntity.ok().cacheControl(CacheControl.noStore()).body(body);
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(body);
+    }
 }
\ No newline at end of file
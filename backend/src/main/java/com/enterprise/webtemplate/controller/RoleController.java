@@ -1,16 +1,20 @@
 package com.enterprise.webtemplate.controller;
 
 import com.enterprise.webtemplate.annotation.RequirePermission;
+import com.enterprise.webtemplate.dto.BulkUserActionRequest;
 import com.enterprise.webtemplate.dto.RoleResponse;
 import com.enterprise.webtemplate.dto.RoleCreateRequest;
 import com.enterprise.webtemplate.dto.RoleUpdateRequest;
 import com.enterprise.webtemplate.dto.PermissionResponse;
 import com.enterprise.webtemplate.entity.User;
 import com.enterprise.webtemplate.service.RoleService;
+import com.enterprise.webtemplate.service.UserBulkService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.Map;
@@ -20,15 +24,25 @@ import java.util.Set;
 @RequestMapping("/api/admin/roles")
 public class RoleController {
 
+    // 변경 여부를 매번 ETag로 재검증 (공유 캐시에는 저장하지 않음)
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     @Autowired
     private RoleService roleService;
 
+    @Autowired
+    private UserBulkService userBulkService;
+
     @GetMapping
     @RequirePermission("ROLE_MANAGEMENT")
-    public ResponseEntity<?> getAllRoles() {
+    public ResponseEntity<?> getAllRoles(WebRequest webRequest) {
         try {
+            String etag = roleService.getRolesVersion();
+            if (webRequest.checkNotModified(etag)) {
+                return null;
+            }
             List<RoleResponse> roles = roleService.getAllRoles();
-            return ResponseEntity.ok(roles);
+            return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(roles);
         } catch (Exception e) {
             return ResponseEntity.internalServerError()
                     .body(Map.of("error", "ROLES_FETCH_FAILED", "message", "역할 목록 조회 중 오류가 발생했습니다."));
@@ -112,10 +126,14 @@ public class RoleController {
 
     @GetMapping("/permissions")
     @RequirePermission("ROLE_MANAGEMENT")
-    public ResponseEntity<?> getAllPermissions() {
+    public ResponseEntity<?> getAllPermissions(WebRequest webRequest) {
         try {
+            String etag = roleService.getPermissionsVersion();
+            if (webRequest.checkNotModified(etag)) {
+                return null;
+            }
             List<PermissionResponse> permissions = roleService.getAllPermissions();
-            return ResponseEntity.ok(permissions);
+            return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(permissions);
         } catch (Exception e) {
             return ResponseEntity.internalServerError()
                     .body(Map.of("error", "PERMISSIONS_FETCH_FAILED", "message", "권한 목록 조회 중 오류가 발생했습니다."));
@@ -124,10 +142,14 @@ public class RoleController {
 
     @GetMapping("/permissions/by-category")
     @RequirePermission("ROLE_MANAGEMENT")
-    public ResponseEntity<?> getPermissionsByCategory() {
+    public ResponseEntity<?> getPermissionsByCategory(WebRequest webRequest) {
         try {
+            String etag = roleService.getPermissionsVersion();
+            if (webRequest.checkNotModified(etag)) {
+                return null;
+            }
             Map<String, List<PermissionResponse>> permissionsByCategory = roleService.getPermissionsByCategory();
-            return ResponseEntity.ok(permissionsByCategory);
+            return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(permissionsByCategory);
         } catch (Exception e) {
             return ResponseEntity.internalServerError()
                     .body(Map.of("error", "PERMISSIONS_FETCH_FAILED", "message", "권한 카테고리 조회 중 오류가 발생했습니다."));
@@ -156,6 +178,23 @@ public class RoleController {
         }
     }
 
+    @PostMapping("/assign-users")
+    @RequirePermission("ROLE_MANAGEMENT")
+    public ResponseEntity<?> assignRolesToUsers(@RequestBody BulkUserActionRequest request) {
+        try {
+            return ResponseEntity.ok(userBulkService.assignRoles(request, request.getRoleNames()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "VALIDATION_ERROR", "message", e.getMessage()));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "ROLE_ASSIGN_FAILED", "message", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError()
+                    .body(Map.of("error", "INTERNAL_ERROR", "message", "역할 일괄 할당 중 오류가 발생했습니다."));
+        }
+    }
+
     @GetMapping("/{roleName}/users")
     @RequirePermission("ROLE_MANAGEMENT")
     public ResponseEntity<?> getUsersByRole(@PathVariable String roleName) {
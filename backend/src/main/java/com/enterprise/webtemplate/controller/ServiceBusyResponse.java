@@ -0,0 +1,27 @@
+package com.enterprise.webtemplate.controller;
+
+import com.enterprise.webtemplate.security.PasswordHashingSaturatedException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Map;
+
+/**
+ * 비밀번호 해싱 풀 포화 응답 (503 + Retry-After)
+ * 로그인/가입/비밀번호 변경/재설정 컨트롤러가 같은 형식으로 응답하도록 한 곳에서 생성합니다.
+ */
+final class ServiceBusyResponse {
+
+    // 해싱 대기열은 보통 1초 안에 비워지므로 짧게 재시도 안내
+    static final String RETRY_AFTER_SECONDS = "1";
+
+    private ServiceBusyResponse() {
+    }
+
+    static ResponseEntity<Map<String, String>> of(PasswordHashingSaturatedException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .body(Map.of("error", "SERVICE_BUSY", "message", e.getMessage()));
+    }
+}
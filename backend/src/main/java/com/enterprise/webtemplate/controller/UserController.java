@@ -3,12 +3,15 @@ package com.enterprise.webtemplate.controller;
 import com.enterprise.webtemplate.dto.UserProfileResponse;
 import com.enterprise.webtemplate.dto.UserProfileUpdateRequest;
 import com.enterprise.webtemplate.dto.PasswordChangeRequest;
+import com.enterprise.webtemplate.security.PasswordHashingSaturatedException;
 import com.enterprise.webtemplate.service.UserService;
 import com.enterprise.webtemplate.service.FileService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.Map;
 
@@ -16,6 +19,9 @@ import java.util.Map;
 @RequestMapping("/api/users")
 public class UserController {
 
+    // 변경 여부를 매번 ETag로 재검증 (공유 캐시에는 저장하지 않음)
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     @Autowired
     private UserService userService;
 
@@ -23,10 +29,14 @@ public class UserController {
     private FileService fileService;
 
     @GetMapping("/me")
-    public ResponseEntity<?> getCurrentUserProfile() {
+    public ResponseEntity<?> getCurrentUserProfile(WebRequest webRequest) {
         try {
+            String etag = userService.getCurrentUserProfileVersion();
+            if (webRequest.checkNotModified(etag)) {
+                return null;
+            }
             UserProfileResponse profile = userService.getCurrentUserProfile();
-            return ResponseEntity.ok(profile);
+            return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(profile);
         } catch (RuntimeException e) {
             return ResponseEntity.badRequest()
                     .body(Map.of("error", "PROFILE_FETCH_FAILED", "message", e.getMessage()));
@@ -61,6 +71,8 @@ public class UserController {
         try {
             userService.changePassword(request);
             return ResponseEntity.ok(Map.of("message", "비밀번호가 성공적으로 변경되었습니다."));
+        } catch (PasswordHashingSaturatedException e) {
+            return ServiceBusyResponse.of(e);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest()
                     .body(Map.of("error", "VALIDATION_ERROR", "message", e.getMessage()));
@@ -0,0 +1,63 @@
+package com.enterprise.webtemplate.dto;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 사용자 일괄 처리 요청 (userIds 또는 filter 중 하나로 대상 지정)
+ */
+public class BulkUserActionRequest {
+
+    private List<Long> userIds;
+    private UserSearchRequest filter;
+    private String status;
+    private Boolean isActive;
+    private Set<String> roleNames;
+
+    public BulkUserActionRequest() {}
+
+    public BulkUserActionRequest(List<Long> userIds) {
+        this.userIds = userIds;
+    }
+
+    // Getters and Setters
+    public List<Long> getUserIds() {
+        return userIds;
+    }
+
+    public void setUserIds(List<Long> userIds) {
+        this.userIds = userIds;
+    }
+
+    public UserSearchRequest getFilter() {
+        return filter;
+    }
+
+    public void setFilter(UserSearchRequest filter) {
+        this.filter = filter;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public Boolean getIsActive() {
+        return isActive;
+    }
+
+    public void setIsActive(Boolean isActive) {
+        this.isActive = isActive;
+    }
+
+    public Set<String> getRoleNames() {
+        return roleNames;
+    }
+
+    public void setRoleNames(Set<String> roleNames) {
+        this.roleNames = roleNames;
+    }
+}
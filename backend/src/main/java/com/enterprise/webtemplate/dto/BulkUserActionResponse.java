@@ -0,0 +1,80 @@
+package com.enterprise.webtemplate.dto;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자 일괄 처리 결과 (대상 id별 결과와 결과별 건수)
+ */
+public class BulkUserActionResponse {
+
+    public enum Outcome {
+        UPDATED,    // 변경됨
+        UNCHANGED,  // 이미 요청한 상태
+        SKIPPED,    // 보호 대상 등으로 제외
+        NOT_FOUND,  // 없는 사용자
+        FAILED      // 처리 중 오류 (해당 묶음 전체 롤백)
+    }
+
+    public static class Result {
+        private final Long userId;
+        private final Outcome outcome;
+        private final String message;
+
+        public Result(Long userId, Outcome outcome, String message) {
+            this.userId = userId;
+            this.outcome = outcome;
+            this.message = message;
+        }
+
+        public Long getUserId() {
+            return userId;
+        }
+
+        public Outcome getOutcome() {
+            return outcome;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+    }
+
+    private final String action;
+    private final List<Result> results = new ArrayList<>();
+    private final Map<Outcome, Integer> counts = new EnumMap<>(Outcome.class);
+
+    public BulkUserActionResponse(String action) {
+        this.action = action;
+        for (Outcome outcome : Outcome.values()) {
+            counts.put(outcome, 0);
+        }
+    }
+
+    public void add(Result result) {
+        results.add(result);
+        counts.merge(result.getOutcome(), 1, Integer::sum);
+    }
+
+    public String getAction() {
+        return action;
+    }
+
+    public int getRequested() {
+        return results.size();
+    }
+
+    public Map<Outcome, Integer> getCounts() {
+        return counts;
+    }
+
+    public List<Result> getResults() {
+        return results;
+    }
+
+    public int count(Outcome outcome) {
+        return counts.get(outcome);
+    }
+}
@@ -34,6 +34,24 @@ public class FileUploadResponse {
         this.createdAt = fileEntity.getCreatedAt();
     }
 
+    /**
+     * JPQL 생성자 프로젝션용 (업로더 이름을 조인으로 함께 조회하여 행마다 사용자를 로딩하지 않음)
+     */
+    public FileUploadResponse(Long id, String originalName, String fileName, FileEntity.FileType fileType,
+                              Long fileSize, String filePath, Boolean isPublic, String uploadedBy,
+                              LocalDateTime createdAt) {
+        this.id = id;
+        this.originalName = originalName;
+        this.fileName = fileName;
+        this.fileType = fileType.name();
+        this.fileSize = fileSize;
+        this.filePath = filePath;
+        this.downloadUrl = "/api/files/" + id + "/download";
+        this.isPublic = isPublic;
+        this.uploadedBy = uploadedBy;
+        this.createdAt = createdAt;
+    }
+
     // Getters and Setters
     public Long getId() {
         return id;
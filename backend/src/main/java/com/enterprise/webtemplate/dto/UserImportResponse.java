@@ -0,0 +1,191 @@
+package com.enterprise.webtemplate.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 사용자 일괄 등록 결과 (행별 오류, 묶음별 결과, 처리량)
+ * 실패한 묶음이 있으면 nextBatch부터 같은 파일로 다시 요청하여 이어서 등록할 수 있습니다.
+ */
+public class UserImportResponse {
+
+    public enum BatchStatus {
+        COMMITTED,  // 등록 완료 (오류 행 제외)
+        FAILED      // 처리 중 오류 (해당 묶음 전체 롤백)
+    }
+
+    public static class RowError {
+        private final int row;
+        private final String email;
+        private final String code;
+        private final String message;
+
+        public RowError(int row, String email, String code, String message) {
+            this.row = row;
+            this.email = email;
+            this.code = code;
+            this.message = message;
+        }
+
+        public int getRow() {
+            return row;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+
+        public String getCode() {
+            return code;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+    }
+
+    public static class BatchResult {
+        private final int batch;
+        private final int firstRow;
+        private final int lastRow;
+        private final int imported;
+        private final BatchStatus status;
+        private final long elapsedMillis;
+
+        public BatchResult(int batch, int firstRow, int lastRow, int imported, BatchStatus status, long elapsedMillis) {
+            this.batch = batch;
+            this.firstRow = firstRow;
+            this.lastRow = lastRow;
+            this.imported = imported;
+            this.status = status;
+            this.elapsedMillis = elapsedMillis;
+        }
+
+        public int getBatch() {
+            return batch;
+        }
+
+        public int getFirstRow() {
+            return firstRow;
+        }
+
+        public int getLastRow() {
+            return lastRow;
+        }
+
+        public int getImported() {
+            return imported;
+        }
+
+        public BatchStatus getStatus() {
+            return status;
+        }
+
+        public long getElapsedMillis() {
+            return elapsedMillis;
+        }
+    }
+
+    private final int totalRows;
+    private final int batchSize;
+    private final int startBatch;
+    private int imported;
+    private int skippedRows;
+    private final List<RowError> errors = new ArrayList<>();
+    private final List<BatchResult> batches = new ArrayList<>();
+    private long hashMillis;
+    private long insertMillis;
+    private long elapsedMillis;
+
+    public UserImportResponse(int totalRows, int batchSize, int startBatch) {
+        this.totalRows = totalRows;
+        this.batchSize = batchSize;
+        this.startBatch = startBatch;
+    }
+
+    public void addError(RowError error) {
+        errors.add(error);
+    }
+
+    public void addBatch(BatchResult batch) {
+        batches.add(batch);
+        imported += batch.getImported();
+    }
+
+    public void addSkippedRows(int rows) {
+        skippedRows += rows;
+    }
+
+    public void addHashMillis(long millis) {
+        hashMillis += millis;
+    }
+
+    public void addInsertMillis(long millis) {
+        insertMillis += millis;
+    }
+
+    public void setElapsedMillis(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public int getTotalRows() {
+        return totalRows;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public int getStartBatch() {
+        return startBatch;
+    }
+
+    public int getImported() {
+        return imported;
+    }
+
+    public int getFailed() {
+        return errors.size();
+    }
+
+    public int getSkippedRows() {
+        return skippedRows;
+    }
+
+    public List<RowError> getErrors() {
+        return errors;
+    }
+
+    public List<BatchResult> getBatches() {
+        return batches;
+    }
+
+    public long getHashMillis() {
+        return hashMillis;
+    }
+
+    public long getInsertMillis() {
+        return insertMillis;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    // 건너뛴 행을 제외하고 실제 처리한 행 기준
+    public double getRowsPerSecond() {
+        int processed = totalRows - skippedRows;
+        return elapsedMillis > 0 ? processed * 1000.0 / elapsedMillis : processed;
+    }
+
+    /**
+     * 다시 요청할 첫 묶음 번호 (실패한 묶음이 없으면 null)
+     */
+    public Integer getNextBatch() {
+        return batches.stream()
+                .filter(batch -> batch.getStatus() == BatchStatus.FAILED)
+                .map(BatchResult::getBatch)
+                .findFirst()
+                .orElse(null);
+    }
+}
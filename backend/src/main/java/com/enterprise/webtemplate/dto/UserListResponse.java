@@ -5,6 +5,7 @@ import com.enterprise.webtemplate.entity.User;
 import org.springframework.data.domain.Page;
 
 import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -49,6 +50,30 @@ public class UserListResponse {
         this.failedLoginAttempts = user.getFailedLoginAttempts();
     }
 
+    /**
+     * JPQL 생성자 프로젝션용 (역할은 페이지 단위로 한 번에 조회하여 채움)
+     */
+    public UserListResponse(Long id, String email, String name, String phone, String department, String position,
+                            String profileImageUrl, Boolean isActive, Boolean isEmailVerified,
+                            User.ApprovalStatus approvalStatus, LocalDateTime lastLoginAt,
+                            LocalDateTime createdAt, LocalDateTime updatedAt, Integer failedLoginAttempts) {
+        this.id = id;
+        this.email = email;
+        this.name = name;
+        this.phone = phone;
+        this.department = department;
+        this.position = position;
+        this.profileImageUrl = profileImageUrl;
+        this.isActive = isActive;
+        this.isEmailVerified = isEmailVerified;
+        this.approvalStatus = approvalStatus;
+        this.roleNames = new HashSet<>();
+        this.lastLoginAt = lastLoginAt;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.failedLoginAttempts = failedLoginAttempts;
+    }
+
     // Getters and Setters
     public Long getId() {
         return id;
@@ -184,10 +209,8 @@ public class UserListResponse {
 
         public PageResponse() {}
 
-        public PageResponse(Page<User> userPage) {
-            this.content = userPage.getContent().stream()
-                    .map(UserListResponse::new)
-                    .collect(Collectors.toList());
+        public PageResponse(Page<UserListResponse> userPage) {
+            this.content = userPage.getContent();
             this.page = userPage.getNumber();
             this.size = userPage.getSize();
             this.totalElements = userPage.getTotalElements();
@@ -271,4 +294,64 @@ public class UserListResponse {
             this.hasPrevious = hasPrevious;
         }
     }
-}
\ No newline at end of file
+
+    // 커서(키셋) 페이지네이션 응답
+    public static class CursorResponse {
+        private List<UserListResponse> content;
+        private int size;
+        private boolean hasNext;
+        private String nextCursor;
+        private Long totalElements;
+
+        public CursorResponse() {}
+
+        public CursorResponse(List<UserListResponse> users, String nextCursor, Long totalElements) {
+            this.content = users;
+            this.size = this.content.size();
+            this.hasNext = nextCursor != null;
+            this.nextCursor = nextCursor;
+            this.totalElements = totalElements;
+        }
+
+        public List<UserListResponse> getContent() {
+            return content;
+        }
+
+        public void setContent(List<UserListResponse> content) {
+            this.content = content;
+        }
+
+        public int getSize() {
+            return size;
+        }
+
+        public void setSize(int size) {
+            this.size = size;
+        }
+
+        public boolean isHasNext() {
+            return hasNext;
+        }
+
+        public void setHasNext(boolean hasNext) {
+            this.hasNext = hasNext;
+        }
+
+        public String getNextCursor() {
+            return nextCursor;
+        }
+
+        public void setNextCursor(String nextCursor) {
+            this.nextCursor = nextCursor;
+        }
+
+        // includeTotal을 요청하지 않으면 null
+        public Long getTotalElements() {
+            return totalElements;
+        }
+
+        public void setTotalElements(Long totalElements) {
+            this.totalElements = totalElements;
+        }
+    }
+}
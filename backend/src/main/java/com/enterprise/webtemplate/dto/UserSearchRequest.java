@@ -16,6 +16,8 @@ public class UserSearchRequest {
     private String sortDirection = "desc";
     private Integer page = 0;
     private Integer size = 20;
+    private String cursor;
+    private boolean includeTotal;
 
     public UserSearchRequest() {}
 
@@ -115,4 +117,20 @@ public class UserSearchRequest {
     public void setSize(Integer size) {
         this.size = size;
     }
-}
\ No newline at end of file
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public void setCursor(String cursor) {
+        this.cursor = cursor;
+    }
+
+    public boolean isIncludeTotal() {
+        return includeTotal;
+    }
+
+    public void setIncludeTotal(boolean includeTotal) {
+        this.includeTotal = includeTotal;
+    }
+}
@@ -0,0 +1,109 @@
+package com.enterprise.webtemplate.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 활동 이벤트 (추가만 하는 로그)
+ * id는 ActivityEventLog가 기록 순서대로 부여하며, 피드 커서로 사용됩니다.
+ */
+@Entity
+@Table(name = "activity_events", indexes = {
+        // 유형별 피드의 (유형, id) 역순 탐색용
+        @Index(name = "idx_activity_events_type_id", columnList = "type, id")
+})
+public class ActivityEvent {
+
+    @Id
+    private Long id;
+
+    @Column(name = "type", nullable = false, length = 30)
+    @Enumerated(EnumType.STRING)
+    private ActivityType type;
+
+    // 활동을 수행한 사용자 (시스템 작업이면 null)
+    @Column(name = "actor_id")
+    private Long actorId;
+
+    // 활동 대상 (사용자/파일/역할 id, 일괄 처리면 null)
+    @Column(name = "target_id")
+    private Long targetId;
+
+    @Column(name = "message", nullable = false, length = 500)
+    private String message;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public enum ActivityType {
+        USER_REGISTRATION,
+        USER_APPROVAL,
+        USER_REJECTION,
+        LOGIN,
+        FILE_UPLOAD,
+        ROLE_CHANGE,
+        USER_BULK_UPDATE
+    }
+
+    public ActivityEvent() {}
+
+    public ActivityEvent(Long id, ActivityType type, Long actorId, Long targetId, String message,
+                         LocalDateTime createdAt) {
+        this.id = id;
+        this.type = type;
+        this.actorId = actorId;
+        this.targetId = targetId;
+        this.message = message;
+        this.createdAt = createdAt;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public ActivityType getType() {
+        return type;
+    }
+
+    public void setType(ActivityType type) {
+        this.type = type;
+    }
+
+    public Long getActorId() {
+        return actorId;
+    }
+
+    public void setActorId(Long actorId) {
+        this.actorId = actorId;
+    }
+
+    public Long getTargetId() {
+        return targetId;
+    }
+
+    public void setTargetId(Long targetId) {
+        this.targetId = targetId;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,111 @@
+package com.enterprise.webtemplate.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 일별 집계 (가입, 승인, 로그인, 업로드, 알림 건수)
+ * 마감된 날짜의 행은 다시 계산하지 않으며, 진행 중인 날짜만 주기적으로 갱신됩니다.
+ */
+@Entity
+@Table(name = "daily_stats")
+public class DailyStats {
+
+    @Id
+    @Column(name = "stat_date")
+    private LocalDate statDate;
+
+    @Column(name = "registrations", nullable = false)
+    private Long registrations = 0L;
+
+    @Column(name = "approvals", nullable = false)
+    private Long approvals = 0L;
+
+    @Column(name = "logins", nullable = false)
+    private Long logins = 0L;
+
+    @Column(name = "uploads", nullable = false)
+    private Long uploads = 0L;
+
+    @Column(name = "notifications", nullable = false)
+    private Long notifications = 0L;
+
+    @Column(name = "is_closed", nullable = false)
+    private Boolean isClosed = false;
+
+    @Column(name = "aggregated_at", nullable = false)
+    private LocalDateTime aggregatedAt;
+
+    public DailyStats() {}
+
+    public DailyStats(LocalDate statDate) {
+        this.statDate = statDate;
+    }
+
+    // Getters and Setters
+    public LocalDate getStatDate() {
+        return statDate;
+    }
+
+    public void setStatDate(LocalDate statDate) {
+        this.statDate = statDate;
+    }
+
+    public Long getRegistrations() {
+        return registrations;
+    }
+
+    public void setRegistrations(Long registrations) {
+        this.registrations = registrations;
+    }
+
+    public Long getApprovals() {
+        return approvals;
+    }
+
+    public void setApprovals(Long approvals) {
+        this.approvals = approvals;
+    }
+
+    public Long getLogins() {
+        return logins;
+    }
+
+    public void setLogins(Long logins) {
+        this.logins = logins;
+    }
+
+    public Long getUploads() {
+        return uploads;
+    }
+
+    public void setUploads(Long uploads) {
+        this.uploads = uploads;
+    }
+
+    public Long getNotifications() {
+        return notifications;
+    }
+
+    public void setNotifications(Long notifications) {
+        this.notifications = notifications;
+    }
+
+    public Boolean getIsClosed() {
+        return isClosed;
+    }
+
+    public void setIsClosed(Boolean isClosed) {
+        this.isClosed = isClosed;
+    }
+
+    public LocalDateTime getAggregatedAt() {
+        return aggregatedAt;
+    }
+
+    public void setAggregatedAt(LocalDateTime aggregatedAt) {
+        this.aggregatedAt = aggregatedAt;
+    }
+}
@@ -0,0 +1,60 @@
+package com.enterprise.webtemplate.entity;
+
+import com.enterprise.webtemplate.service.DashboardCounters;
+import com.enterprise.webtemplate.service.DashboardCounters.Total;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * 사용자/역할/권한/파일 생성·삭제를 대시보드 카운터에 반영하는 JPA 리스너 (Hibernate가 스프링 빈 컨테이너로 생성)
+ * JdbcTemplate으로 직접 INSERT/DELETE하는 경우에는 쓰는 쪽에서 직접 반영해야 합니다.
+ */
+public class DashboardCounterListener {
+
+    @Autowired
+    private DashboardCounters dashboardCounters;
+
+    @PostPersist
+    public void onPersist(Object entity) {
+        if (dashboardCounters == null) {
+            return;
+        }
+        if (entity instanceof User user) {
+            dashboardCounters.onUsersRegistered(user.getCreatedAt(), 1);
+        } else {
+            Total total = totalOf(entity);
+            if (total != null) {
+                dashboardCounters.onCreated(total);
+            }
+        }
+    }
+
+    @PostRemove
+    public void onRemove(Object entity) {
+        if (dashboardCounters == null) {
+            return;
+        }
+        if (entity instanceof User user) {
+            dashboardCounters.onUserRemoved(user.getCreatedAt());
+        } else {
+            Total total = totalOf(entity);
+            if (total != null) {
+                dashboardCounters.onRemoved(total);
+            }
+        }
+    }
+
+    private Total totalOf(Object entity) {
+        if (entity instanceof Role) {
+            return Total.ROLES;
+        }
+        if (entity instanceof Permission) {
+            return Total.PERMISSIONS;
+        }
+        if (entity instanceof FileEntity) {
+            return Total.FILES;
+        }
+        return null;
+    }
+}
@@ -9,7 +9,7 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "files")
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, ResourceChangeListener.class, DashboardCounterListener.class})
 public class FileEntity {
 
     @Id
@@ -11,7 +11,7 @@ import java.util.Set;
 
 @Entity
 @Table(name = "permissions")
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, ResourceChangeListener.class, DashboardCounterListener.class})
 public class Permission {
 
     @Id
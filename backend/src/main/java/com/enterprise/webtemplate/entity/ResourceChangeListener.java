@@ -0,0 +1,41 @@
+package com.enterprise.webtemplate.entity;
+
+import com.enterprise.webtemplate.repository.ResourceVersionTracker;
+import com.enterprise.webtemplate.repository.ResourceVersionTracker.Resource;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * 엔티티 저장/삭제 시 해당 자원의 버전을 올리는 JPA 리스너 (Hibernate가 스프링 빈 컨테이너로 생성)
+ * 벌크 UPDATE나 JdbcTemplate으로 직접 쓰는 경우에는 호출되지 않으므로 쓰는 쪽에서 직접 기록해야 합니다.
+ */
+public class ResourceChangeListener {
+
+    @Autowired
+    private ResourceVersionTracker resourceVersionTracker;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        Resource resource = resourceOf(entity);
+        if (resource != null && resourceVersionTracker != null) {
+            resourceVersionTracker.changed(resource);
+        }
+    }
+
+    private Resource resourceOf(Object entity) {
+        if (entity instanceof User) {
+            return Resource.USERS;
+        }
+        if (entity instanceof Role || entity instanceof Permission) {
+            return Resource.RBAC;
+        }
+        if (entity instanceof FileEntity) {
+            return Resource.FILES;
+        }
+        return null;
+    }
+}
@@ -11,7 +11,8 @@ import java.util.Set;
 
 @Entity
 @Table(name = "roles")
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, ResourceChangeListener.class, UserSearchIndexListener.class,
+        DashboardCounterListener.class})
 public class Role {
 
     @Id
@@ -10,8 +10,16 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "users")
-@EntityListeners(AuditingEntityListener.class)
+@Table(name = "users", indexes = {
+        // 키셋 페이지네이션의 (정렬 키, id) 범위 탐색용
+        @Index(name = "idx_users_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_users_updated_at_id", columnList = "updated_at, id"),
+        @Index(name = "idx_users_name_id", columnList = "name, id"),
+        // 일별 승인 집계의 날짜 범위 조회용
+        @Index(name = "idx_users_approved_at", columnList = "approved_at")
+})
+@EntityListeners({AuditingEntityListener.class, ResourceChangeListener.class, UserSearchIndexListener.class,
+        DashboardCounterListener.class})
 public class User {
 
     @Id
@@ -49,6 +57,10 @@ public class User {
     @Enumerated(EnumType.STRING)
     private ApprovalStatus approvalStatus = ApprovalStatus.PENDING;
 
+    // 현재 승인 상태가 된 시각 (승인 상태가 아니면 null, 일별 승인 집계 기준)
+    @Column(name = "approved_at")
+    private LocalDateTime approvedAt;
+
     @Column(name = "last_login_at")
     private LocalDateTime lastLoginAt;
 
@@ -177,9 +189,22 @@ public class User {
     }
 
     public void setApprovalStatus(ApprovalStatus approvalStatus) {
+        if (approvalStatus != ApprovalStatus.APPROVED) {
+            this.approvedAt = null;
+        } else if (this.approvalStatus != ApprovalStatus.APPROVED || this.approvedAt == null) {
+            this.approvedAt = LocalDateTime.now();
+        }
         this.approvalStatus = approvalStatus;
     }
 
+    public LocalDateTime getApprovedAt() {
+        return approvedAt;
+    }
+
+    public void setApprovedAt(LocalDateTime approvedAt) {
+        this.approvedAt = approvedAt;
+    }
+
     public LocalDateTime getLastLoginAt() {
         return lastLoginAt;
     }
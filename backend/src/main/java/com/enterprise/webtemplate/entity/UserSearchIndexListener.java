@@ -0,0 +1,48 @@
+package com.enterprise.webtemplate.entity;
+
+import com.enterprise.webtemplate.service.UserFacetIndex;
+import com.enterprise.webtemplate.service.UserSubstringIndex;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * 사용자/역할 저장·삭제를 메모리 검색 인덱스(부분 문자열, 패싯)에 반영하는 JPA 리스너 (Hibernate가 스프링 빈 컨테이너로 생성)
+ * 벌크 UPDATE나 JdbcTemplate으로 색인 대상 컬럼을 바꾸는 경우에는 쓰는 쪽에서 직접 반영해야 합니다.
+ */
+public class UserSearchIndexListener {
+
+    @Autowired
+    private UserSubstringIndex userSubstringIndex;
+
+    @Autowired
+    private UserFacetIndex userFacetIndex;
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Object entity) {
+        if (userSubstringIndex == null || userFacetIndex == null) {
+            return;
+        }
+        if (entity instanceof User user) {
+            userSubstringIndex.onUserSaved(user);
+            userFacetIndex.onUserSaved(user);
+        } else if (entity instanceof Role role) {
+            userFacetIndex.onRoleSaved(role);
+        }
+    }
+
+    @PostRemove
+    public void onRemove(Object entity) {
+        if (userSubstringIndex == null || userFacetIndex == null) {
+            return;
+        }
+        if (entity instanceof User user) {
+            userSubstringIndex.onUserRemoved(user.getId());
+            userFacetIndex.onUserRemoved(user.getId());
+        } else if (entity instanceof Role role) {
+            userFacetIndex.onRoleRemoved(role.getId());
+        }
+    }
+}
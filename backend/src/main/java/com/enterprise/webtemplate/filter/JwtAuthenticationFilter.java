@@ -1,5 +1,11 @@
 package com.enterprise.webtemplate.filter;
 
+import com.enterprise.webtemplate.security.AuthenticatedPrincipal;
+import com.enterprise.webtemplate.security.PermissionSet;
+import com.enterprise.webtemplate.security.RbacEngine;
+import com.enterprise.webtemplate.security.SecurityVersionRegistry;
+import com.enterprise.webtemplate.security.TokenRevocationStore;
+import com.enterprise.webtemplate.security.VerifiedToken;
 import com.enterprise.webtemplate.service.CustomUserDetailsService;
 import com.enterprise.webtemplate.service.JwtService;
 import jakarta.servlet.FilterChain;
@@ -7,8 +13,10 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -16,6 +24,10 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
@@ -26,6 +38,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Autowired
     private CustomUserDetailsService userDetailsService;
 
+    @Autowired
+    private SecurityVersionRegistry securityVersionRegistry;
+
+    @Autowired
+    private RbacEngine rbacEngine;
+
+    @Autowired
+    private TokenRevocationStore tokenRevocationStore;
+
+    @Value("${app.jwt.stateless-auth.enabled:true}")
+    private boolean statelessAuthEnabled;
+
     @Override
     protected void doFilterInternal(
             @NonNull HttpServletRequest request,
@@ -35,7 +59,6 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         
         final String authHeader = request.getHeader("Authorization");
         final String jwt;
-        final String userEmail;
 
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
             filterChain.doFilter(request, response);
@@ -45,12 +68,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         jwt = authHeader.substring(7);
         
         try {
-            userEmail = jwtService.extractUsername(jwt);
+            // 토큰은 요청당 한 번만 파싱/검증한다
+            VerifiedToken verifiedToken = jwtService.verify(jwt);
+            String userEmail = verifiedToken.getSubject();
+
+            // 로그아웃/강제 로그아웃된 토큰 차단 (메모리 조회만 수행)
+            if (tokenRevocationStore.isRevoked(verifiedToken)) {
+                throw new RuntimeException("JWT token is revoked");
+            }
 
             if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
+                UserDetails userDetails = resolveUserDetails(verifiedToken);
                 
-                if (jwtService.isTokenValid(jwt, userDetails)) {
+                if (userDetails != null && jwtService.isTokenValid(verifiedToken, userDetails)) {
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                             userDetails,
                             null,
@@ -73,4 +103,48 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
-}
\ No newline at end of file
+
+    /**
+     * 보안 버전이 일치하면 토큰 클레임만으로 사용자 정보를 구성하고,
+     * 그렇지 않으면 DB에서 사용자를 다시 조회하여 활성 상태를 확인한다.
+     */
+    private UserDetails resolveUserDetails(VerifiedToken verifiedToken) {
+        String userEmail = verifiedToken.getSubject();
+
+        if (statelessAuthEnabled
+                && verifiedToken.isAuthoritiesResolved()
+                && securityVersionRegistry.isCurrent(userEmail, verifiedToken.getClaim(SecurityVersionRegistry.CLAIM_NAME))) {
+            if (rbacEngine.isReady()) {
+                PermissionSet permissionSet = verifiedToken.getPermissionSet();
+                if (permissionSet == null || permissionSet.getGeneration() != rbacEngine.getGeneration()) {
+                    permissionSet = rbacEngine.compileAuthorities(verifiedToken.getAuthorities());
+                }
+                return new AuthenticatedPrincipal(userEmail, "", true, true,
+                        rbacEngine.toAuthorities(permissionSet), permissionSet,
+                        claimAsLong(verifiedToken.getClaim(JwtService.USER_ID_CLAIM)),
+                        claimAsStringSet(verifiedToken.getClaim(JwtService.ROLES_CLAIM)));
+            }
+            List<SimpleGrantedAuthority> authorities = verifiedToken.getAuthorities().stream()
+                    .map(SimpleGrantedAuthority::new)
+                    .collect(Collectors.toList());
+            return org.springframework.security.core.userdetails.User.withUsername(userEmail)
+                    .password("")
+                    .authorities(authorities)
+                    .build();
+        }
+
+        UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
+        return userDetails.isEnabled() ? userDetails : null;
+    }
+
+    private Long claimAsLong(Object value) {
+        return value instanceof Number number ? number.longValue() : null;
+    }
+
+    private Set<String> claimAsStringSet(Object value) {
+        if (!(value instanceof Collection<?> values)) {
+            return Set.of();
+        }
+        return values.stream().map(String::valueOf).collect(Collectors.toSet());
+    }
+}
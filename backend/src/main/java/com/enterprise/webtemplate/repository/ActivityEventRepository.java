@@ -0,0 +1,24 @@
+package com.enterprise.webtemplate.repository;
+
+import com.enterprise.webtemplate.entity.ActivityEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ActivityEventRepository extends JpaRepository<ActivityEvent, Long> {
+
+    // 커서 이전의 이벤트 (id 역순)
+    List<ActivityEvent> findByIdLessThanOrderByIdDesc(Long id, Pageable pageable);
+
+    List<ActivityEvent> findByIdLessThanAndTypeInOrderByIdDesc(Long id, Collection<ActivityEvent.ActivityType> types,
+                                                              Pageable pageable);
+
+    // 마지막으로 부여된 id (없으면 null)
+    @Query("SELECT MAX(e.id) FROM ActivityEvent e")
+    Long findMaxId();
+}
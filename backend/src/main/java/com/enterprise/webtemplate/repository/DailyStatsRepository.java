@@ -0,0 +1,23 @@
+package com.enterprise.webtemplate.repository;
+
+import com.enterprise.webtemplate.entity.DailyStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface DailyStatsRepository extends JpaRepository<DailyStats, LocalDate> {
+
+    List<DailyStats> findByStatDateBetweenOrderByStatDate(LocalDate from, LocalDate to);
+
+    // 마지막 마감 날짜 (없으면 null)
+    @Query("SELECT MAX(d.statDate) FROM DailyStats d WHERE d.isClosed = true")
+    LocalDate findLastClosedDate();
+
+    // 집계가 시작된 날짜 (없으면 null)
+    @Query("SELECT MIN(d.statDate) FROM DailyStats d")
+    LocalDate findFirstDate();
+}
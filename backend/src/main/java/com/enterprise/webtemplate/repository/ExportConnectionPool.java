@@ -0,0 +1,122 @@
+package com.enterprise.webtemplate.repository;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.DriverPropertyInfo;
+import java.sql.SQLException;
+import java.util.Properties;
+
+/**
+ * 사용자 내보내기 전용 커넥션 풀 (MySQL 서버 측 커서)
+ * useCursorFetch는 서버 PreparedStatement(useServerPrepStmts)를 함께 켜므로 기본 풀 URL에 두면 모든 쿼리의 실행 방식이 바뀝니다.
+ * 커서가 필요한 내보내기 조회만 이 풀을 쓰고, 기본 풀은 클라이언트 측 PreparedStatement를 그대로 유지합니다.
+ * MySQL이 아니거나 비활성화된 경우에는 만들지 않으며, 이때 내보내기는 기본 커넥션에서 실행됩니다
+ * (드라이버가 결과 전체를 메모리에 읽을 수 있으므로 기동 시 경고를 남김).
+ * MySQL인데 드라이버가 useCursorFetch를 켜지 못하면 기동을 중단합니다.
+ * 이 풀은 DataSource 빈으로 등록하지 않습니다 (등록하면 기본 DataSource 자동 구성이 꺼짐).
+ */
+@Component
+public class ExportConnectionPool {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExportConnectionPool.class);
+
+    @Value("${spring.datasource.url}")
+    private String url;
+
+    @Value("${spring.datasource.username:}")
+    private String username;
+
+    @Value("${spring.datasource.password:}")
+    private String password;
+
+    @Value("${app.user.export.cursor-fetch:true}")
+    private boolean cursorFetch;
+
+    // 동시에 실행할 수 있는 내보내기 수
+    @Value("${app.user.export.pool-size:2}")
+    private int poolSize;
+
+    private HikariDataSource dataSource;
+
+    @PostConstruct
+    void initialize() {
+        if (!cursorFetch) {
+            logger.info("User export cursor fetch disabled; exports run on the main connection pool");
+            return;
+        }
+        if (!url.startsWith("jdbc:mysql:")) {
+            logger.warn("User export cursor fetch is only supported on MySQL; exports run on the main connection "
+                    + "pool and the driver may buffer the whole result set");
+            return;
+        }
+        String jdbcUrl = withCursorFetch(url);
+        verifyCursorFetch(jdbcUrl);
+
+        HikariConfig config = new HikariConfig();
+        config.setPoolName("user-export");
+        config.setJdbcUrl(jdbcUrl);
+        config.setUsername(username);
+        config.setPassword(password);
+        config.setMaximumPoolSize(poolSize);
+        config.setMinimumIdle(0);
+        config.setReadOnly(true);
+        // 첫 내보내기 요청 때 연결 (기동 시 DB 연결을 요구하지 않음)
+        config.setInitializationFailTimeout(-1);
+        this.dataSource = new HikariDataSource(config);
+        logger.info("User export connection pool initialized: poolSize={}", poolSize);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (dataSource != null) {
+            dataSource.close();
+        }
+    }
+
+    // 기존 useCursorFetch 설정은 지우고 true로 지정
+    static String withCursorFetch(String url) {
+        String base = url.replaceAll("([?&])useCursorFetch=[^&]*&?", "$1").replaceAll("[?&]$", "");
+        return base + (base.contains("?") ? "&" : "?") + "useCursorFetch=true";
+    }
+
+    // 연결하지 않고 드라이버가 해석한 접속 속성으로 확인 (확인할 수 없으면 경고만 남김)
+    private void verifyCursorFetch(String jdbcUrl) {
+        Boolean enabled = null;
+        try {
+            for (DriverPropertyInfo property : DriverManager.getDriver(jdbcUrl).getPropertyInfo(jdbcUrl, new Properties())) {
+                if ("useCursorFetch".equals(property.name)) {
+                    enabled = Boolean.parseBoolean(property.value);
+                }
+            }
+        } catch (SQLException e) {
+            logger.warn("Could not verify user export cursor fetch: {}", e.getMessage());
+            return;
+        }
+        if (enabled == null) {
+            logger.warn("Could not verify user export cursor fetch: driver does not report useCursorFetch");
+        } else if (!enabled) {
+            throw new IllegalStateException("내보내기 전용 커넥션에서 useCursorFetch를 켤 수 없습니다. "
+                    + "app.user.export.cursor-fetch를 끄거나 드라이버 설정을 확인하세요.");
+        }
+    }
+
+    public boolean isAvailable() {
+        return dataSource != null;
+    }
+
+    public Connection getConnection() throws SQLException {
+        if (dataSource == null) {
+            throw new IllegalStateException("내보내기 전용 커넥션 풀이 없습니다.");
+        }
+        return dataSource.getConnection();
+    }
+}
@@ -0,0 +1,18 @@
+package com.enterprise.webtemplate.repository;
+
+import com.enterprise.webtemplate.dto.FileUploadResponse;
+import com.enterprise.webtemplate.entity.FileEntity;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * 파일 목록 조회 (응답에 필요한 컬럼과 업로더 이름만 생성자 프로젝션으로 읽음)
+ */
+public interface FileListRepository {
+
+    /**
+     * 삭제되지 않은 파일 목록 (null인 조건은 제외)
+     */
+    Page<FileUploadResponse> findFileList(Long uploadedById, FileEntity.FileType fileType, String search,
+                                          Boolean isPublic, boolean excludeProfileImages, Pageable pageable);
+}
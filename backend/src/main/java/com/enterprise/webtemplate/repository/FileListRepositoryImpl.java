@@ -0,0 +1,111 @@
+package com.enterprise.webtemplate.repository;
+
+import com.enterprise.webtemplate.dto.FileUploadResponse;
+import com.enterprise.webtemplate.entity.FileEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 업로더를 조인하여 이름만 함께 읽으므로 행 수와 관계없이 목록 쿼리 하나(필요 시 COUNT 하나)로 끝납니다.
+ */
+public class FileListRepositoryImpl implements FileListRepository {
+
+    private static final char LIKE_ESCAPE = '!';
+
+    private static final String LIST_PROJECTION = "SELECT new " + FileUploadResponse.class.getName() + "("
+            + "f.id, f.originalFilename, f.storedFilename, f.fileType, f.fileSize, f.filePath, f.isPublic, "
+            + "u.name, f.createdAt) FROM FileEntity f JOIN f.uploadedBy u";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<FileUploadResponse> findFileList(Long uploadedById, FileEntity.FileType fileType, String search,
+                                                 Boolean isPublic, boolean excludeProfileImages, Pageable pageable) {
+        List<String> conditions = new ArrayList<>();
+        conditions.add("f.deletedAt IS NULL");
+        if (excludeProfileImages) {
+            conditions.add("f.fileType <> :profileImage");
+        }
+        if (uploadedById != null) {
+            conditions.add("f.uploadedBy.id = :uploadedById");
+        }
+        if (fileType != null) {
+            conditions.add("f.fileType = :fileType");
+        }
+        if (search != null) {
+            conditions.add("(LOWER(f.originalFilename) LIKE :search ESCAPE '" + LIKE_ESCAPE + "'"
+                    + " OR LOWER(f.description) LIKE :search ESCAPE '" + LIKE_ESCAPE + "')");
+        }
+        if (isPublic != null) {
+            conditions.add("f.isPublic = :isPublic");
+        }
+        String where = " WHERE " + String.join(" AND ", conditions);
+
+        TypedQuery<FileUploadResponse> query = entityManager.createQuery(
+                LIST_PROJECTION + where + orderBy(pageable.getSort()), FileUploadResponse.class);
+        bind(query, uploadedById, fileType, search, isPublic, excludeProfileImages);
+        query.setFirstResult((int) pageable.getOffset());
+        query.setMaxResults(pageable.getPageSize());
+
+        return PageableExecutionUtils.getPage(query.getResultList(), pageable, () -> {
+            TypedQuery<Long> count = entityManager.createQuery("SELECT COUNT(f) FROM FileEntity f" + where, Long.class);
+            bind(count, uploadedById, fileType, search, isPublic, excludeProfileImages);
+            return count.getSingleResult();
+        });
+    }
+
+    private void bind(TypedQuery<?> query, Long uploadedById, FileEntity.FileType fileType, String search,
+                      Boolean isPublic, boolean excludeProfileImages) {
+        if (excludeProfileImages) {
+            query.setParameter("profileImage", FileEntity.FileType.PROFILE_IMAGE);
+        }
+        if (uploadedById != null) {
+            query.setParameter("uploadedById", uploadedById);
+        }
+        if (fileType != null) {
+            query.setParameter("fileType", fileType);
+        }
+        if (search != null) {
+            query.setParameter("search", "%" + escapeLike(search.toLowerCase(Locale.ROOT)) + "%");
+        }
+        if (isPublic != null) {
+            query.setParameter("isPublic", isPublic);
+        }
+    }
+
+    private String escapeLike(String value) {
+        StringBuilder escaped = new StringBuilder(value.length() + 4);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '%' || c == '_' || c == LIKE_ESCAPE) {
+                escaped.append(LIKE_ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+
+    // 같은 생성 시각끼리 페이지 경계가 흔들리지 않도록 id를 마지막 정렬 키로 추가
+    private String orderBy(Sort sort) {
+        List<String> orders = new ArrayList<>();
+        Sort.Direction lastDirection = Sort.Direction.DESC;
+        for (Sort.Order order : sort) {
+            String property = entityManager.getMetamodel().entity(FileEntity.class)
+                    .getSingularAttribute(order.getProperty()).getName();
+            orders.add("f." + property + " " + order.getDirection().name());
+            lastDirection = order.getDirection();
+        }
+        orders.add("f.id " + lastDirection.name());
+        return " ORDER BY " + String.join(", ", orders);
+    }
+}
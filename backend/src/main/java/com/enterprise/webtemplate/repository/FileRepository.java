@@ -3,7 +3,6 @@ package com.enterprise.webtemplate.repository;
 import com.enterprise.webtemplate.entity.FileEntity;
 import com.enterprise.webtemplate.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -13,7 +12,7 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface FileRepository extends JpaRepository<FileEntity, Long>, JpaSpecificationExecutor<FileEntity> {
+public interface FileRepository extends JpaRepository<FileEntity, Long>, FileListRepository {
 
     List<FileEntity> findByUploadedByAndFileTypeAndDeletedAtIsNull(User uploadedBy, FileEntity.FileType fileType);
 
@@ -0,0 +1,82 @@
+package com.enterprise.webtemplate.repository;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 자원 종류별 변경 카운터
+ * 엔티티가 저장/삭제되면 해당 자원의 버전이 올라가며, 서비스는 이 버전으로 조회 결과의 ETag를 만듭니다.
+ * 트랜잭션 안에서의 변경은 커밋 후에 반영되므로, 버전이 같으면 커밋된 데이터도 같다고 볼 수 있습니다.
+ */
+@Component
+public class ResourceVersionTracker {
+
+    public enum Resource {
+        USERS, RBAC, FILES
+    }
+
+    // 재시작 전에 발급된 ETag와 우연히 일치하지 않도록 기동 시각을 함께 사용한다
+    private final long bootVersion = System.currentTimeMillis();
+
+    private final Map<Resource, AtomicLong> versions = new EnumMap<>(Resource.class);
+
+    public ResourceVersionTracker() {
+        for (Resource resource : Resource.values()) {
+            versions.put(resource, new AtomicLong());
+        }
+    }
+
+    public long currentVersion(Resource resource) {
+        return versions.get(resource).get();
+    }
+
+    /**
+     * 자원 변경 기록 (트랜잭션 안이면 커밋 후 한 번만 올림)
+     */
+    public void changed(Resource resource) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            versions.get(resource).incrementAndGet();
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        Set<Resource> pending = (Set<Resource>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Set<Resource> changedResources = EnumSet.noneOf(Resource.class);
+            TransactionSynchronizationManager.bindResource(this, changedResources);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ResourceVersionTracker.this);
+                    if (status == STATUS_COMMITTED) {
+                        changedResources.forEach(resource -> versions.get(resource).incrementAndGet());
+                    }
+                }
+            });
+            pending = changedResources;
+        }
+        pending.add(resource);
+    }
+
+    /**
+     * 주어진 자원 버전과 추가 구분값으로 강한 ETag 생성
+     */
+    public String etag(String scope, Set<Resource> resources, Object... discriminators) {
+        StringBuilder tag = new StringBuilder("\"").append(scope)
+                .append('-').append(Long.toHexString(bootVersion));
+        for (Resource resource : resources) {
+            tag.append('.').append(Long.toHexString(currentVersion(resource)));
+        }
+        for (Object discriminator : discriminators) {
+            tag.append('-').append(discriminator);
+        }
+        return tag.append('"').toString();
+    }
+}
@@ -24,4 +24,8 @@ public interface RoleRepository extends JpaRepository<Role, Long> {
 
     @Query("SELECT r FROM Role r WHERE r.name IN :names")
     List<Role> findByNames(@Param("names") List<String> names);
+
+    // 역할별 사용자 수 (역할 이름, 인원) - 보유자 컬렉션을 로딩하지 않음
+    @Query("SELECT r.name, COUNT(u) FROM Role r LEFT JOIN r.users u GROUP BY r.name")
+    List<Object[]> countUsersByRole();
 }
\ No newline at end of file
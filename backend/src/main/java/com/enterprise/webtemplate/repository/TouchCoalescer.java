@@ -0,0 +1,97 @@
+package com.enterprise.webtemplate.repository;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 마지막 접근 시각/카운터 같은 "touch" 성격의 갱신을 모아 주기적으로 일괄 UPDATE하는 write-behind 저장소
+ * 같은 행에 대한 갱신은 flush 주기 동안 하나로 합쳐지므로 행당 최대 한 번만 기록됩니다.
+ */
+@Component
+public class TouchCoalescer {
+
+    /**
+     * 갱신 대상 테이블/컬럼 정의 (counterColumn이 null이면 시각만 갱신)
+     */
+    public record TouchTarget(String table, String idColumn, String timestampColumn, String counterColumn) {
+
+        String updateSql() {
+            StringBuilder sql = new StringBuilder("UPDATE ").append(table)
+                    .append(" SET ").append(timestampColumn).append(" = ?");
+            if (counterColumn != null) {
+                sql.append(", ").append(counterColumn).append(" = ").append(counterColumn).append(" + ?");
+            }
+            return sql.append(" WHERE ").append(idColumn).append(" = ?").toString();
+        }
+    }
+
+    public static final TouchTarget USER_LAST_LOGIN =
+            new TouchTarget("users", "id", "last_login_at", null);
+
+    public static final TouchTarget FILE_ACCESS =
+            new TouchTarget("files", "id", "last_accessed_at", "download_count");
+
+    private record PendingTouch(LocalDateTime touchedAt, long increment) {
+
+        PendingTouch merge(PendingTouch other) {
+            LocalDateTime latest = touchedAt.isAfter(other.touchedAt) ? touchedAt : other.touchedAt;
+            return new PendingTouch(latest, increment + other.increment);
+        }
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final Map<TouchTarget, WriteBehindBuffer<Long, PendingTouch>> pending = new ConcurrentHashMap<>();
+
+    /**
+     * 시각만 갱신
+     */
+    public void touch(TouchTarget target, Long id) {
+        touch(target, id, 0L);
+    }
+
+    /**
+     * 시각 갱신 및 카운터 증가
+     */
+    public void touch(TouchTarget target, Long id, long increment) {
+        if (id == null) {
+            return;
+        }
+        pending.computeIfAbsent(target, TouchCoalescer::newBuffer)
+                .merge(id, new PendingTouch(LocalDateTime.now(), increment), PendingTouch::merge);
+    }
+
+    public int pendingCount() {
+        return pending.values().stream().mapToInt(WriteBehindBuffer::size).sum();
+    }
+
+    @Scheduled(fixedDelayString = "${app.write-behind.flush-interval:10000}")
+    public void flush() {
+        for (WriteBehindBuffer<Long, PendingTouch> buffer : pending.values()) {
+            buffer.flush(jdbcTemplate);
+        }
+    }
+
+    // 실패한 갱신은 그 사이 들어온 갱신과 합쳐 다음 주기에 다시 시도
+    private static WriteBehindBuffer<Long, PendingTouch> newBuffer(TouchTarget target) {
+        return new WriteBehindBuffer<>(target.table() + "." + target.timestampColumn(), target.updateSql(),
+                (id, touch) -> target.counterColumn() != null
+                        ? new Object[]{Timestamp.valueOf(touch.touchedAt()), touch.increment(), id}
+                        : new Object[]{Timestamp.valueOf(touch.touchedAt()), id},
+                PendingTouch::merge);
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+}
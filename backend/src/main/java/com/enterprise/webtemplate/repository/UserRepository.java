@@ -4,19 +4,25 @@ import com.enterprise.webtemplate.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserSearchRepository {
 
     Optional<User> findByEmail(String email);
 
+    // 현재 사용자 해석용 (역할을 함께 조회하여 지연 로딩 쿼리 방지)
+    @Query("SELECT u FROM User u LEFT JOIN FETCH u.roles WHERE u.email = :email")
+    Optional<User> findByEmailWithRoles(@Param("email") String email);
+
     boolean existsByEmail(String email);
 
     @Query("SELECT u FROM User u WHERE u.isActive = true")
@@ -40,30 +46,6 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("SELECT COUNT(u) FROM User u WHERE u.approvalStatus = :status")
     long countByApprovalStatus(@Param("status") User.ApprovalStatus status);
     
-    // 관리자용 사용자 검색 쿼리
-    @Query("SELECT u FROM User u " +
-           "WHERE (:email IS NULL OR LOWER(u.email) LIKE LOWER(CONCAT('%', :email, '%'))) " +
-           "AND (:name IS NULL OR LOWER(u.name) LIKE LOWER(CONCAT('%', :name, '%'))) " +
-           "AND (:department IS NULL OR LOWER(u.department) LIKE LOWER(CONCAT('%', :department, '%'))) " +
-           "AND (:position IS NULL OR LOWER(u.position) LIKE LOWER(CONCAT('%', :position, '%'))) " +
-           "AND (:isActive IS NULL OR u.isActive = :isActive) " +
-           "AND (:isEmailVerified IS NULL OR u.isEmailVerified = :isEmailVerified) " +
-           "AND (:approvalStatus IS NULL OR u.approvalStatus = :approvalStatus)")
-    Page<User> findUsersWithFilters(
-            @Param("email") String email,
-            @Param("name") String name,
-            @Param("department") String department,
-            @Param("position") String position,
-            @Param("isActive") Boolean isActive,
-            @Param("isEmailVerified") Boolean isEmailVerified,
-            @Param("approvalStatus") User.ApprovalStatus approvalStatus,
-            Pageable pageable
-    );
-    
-    // 역할별 사용자 검색
-    @Query("SELECT u FROM User u JOIN u.roles r WHERE r.name = :roleName")
-    Page<User> findByRoleName(@Param("roleName") String roleName, Pageable pageable);
-    
     // 승인 대기 사용자 목록
     @Query("SELECT u FROM User u WHERE u.approvalStatus = 'PENDING' ORDER BY u.createdAt ASC")
     List<User> findPendingUsers();
@@ -91,13 +73,64 @@ public interface UserRepository extends JpaRepository<User, Long> {
     
     long countByCreatedAtBetween(LocalDateTime startDate, LocalDateTime endDate);
     
-    List<User> findTop10ByOrderByCreatedAtDesc();
-    
-    List<User> findTop10ByApprovalStatusOrderByUpdatedAtDesc(String approvalStatus);
-    
     // 알림 서비스용 메서드들
     List<User> findByIsActive(boolean isActive);
     
     @Query("SELECT u FROM User u JOIN u.roles r WHERE r.name IN :roleNames")
     List<User> findByRoleNames(@Param("roleNames") List<String> roleNames);
-}
\ No newline at end of file
+
+    // 목록 페이지의 (사용자 id, 역할 이름) 일괄 조회 (Role 엔티티를 읽지 않으므로 권한 EAGER 로딩도 없음)
+    @Query("SELECT u.id, r.name FROM User u JOIN u.roles r WHERE u.id IN :userIds")
+    List<Object[]> findRoleNamesByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    // 보안 버전 갱신용 역할 보유자 이메일 목록
+    @Query("SELECT u.email FROM User u JOIN u.roles r WHERE r.id = :roleId")
+    List<String> findEmailsByRoleId(@Param("roleId") Long roleId);
+
+    // 프로필 응답 버전 계산용 (수정 시각, 마지막 로그인 시각)
+    @Query("SELECT u.updatedAt, u.lastLoginAt FROM User u WHERE u.id = :id")
+    List<Object[]> findProfileTimestampsById(@Param("id") Long id);
+
+    // 일괄 등록 시 이미 가입된 이메일 확인 (묶음당 한 번)
+    @Query("SELECT u.email FROM User u WHERE u.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    // 일괄 등록 직후 생성된 id 조회 (이메일, id)
+    @Query("SELECT u.email, u.id FROM User u WHERE u.email IN :emails")
+    List<Object[]> findIdsByEmails(@Param("emails") Collection<String> emails);
+
+    // 일괄 처리 대상의 현재 상태 (id, 이메일, 활성, 승인 상태, 실패 횟수, 잠금 해제 시각)
+    @Query("SELECT u.id, u.email, u.isActive, u.approvalStatus, u.failedLoginAttempts, u.accountLockedUntil " +
+           "FROM User u WHERE u.id IN :ids")
+    List<Object[]> findBulkTargetsByIds(@Param("ids") Collection<Long> ids);
+
+    // 일괄 처리 대상 중 특정 역할 보유자 (마스터 계정 보호용)
+    @Query("SELECT u.id FROM User u JOIN u.roles r WHERE u.id IN :ids AND r.name = :roleName")
+    List<Long> findIdsWithRole(@Param("ids") Collection<Long> ids, @Param("roleName") String roleName);
+
+    // 일괄 역할 추가 시 이미 있는 (사용자 id, 역할 id) 조회
+    @Query("SELECT u.id, r.id FROM User u JOIN u.roles r WHERE u.id IN :userIds")
+    List<Object[]> findRoleIdsByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    // 일괄 변경 (벌크 UPDATE는 감사/엔티티 리스너를 거치지 않으므로 수정 시각을 직접 기록)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE User u SET u.approvalStatus = :status, u.approvedAt = :approvedAt, u.updatedAt = :now " +
+           "WHERE u.id IN :ids AND u.approvalStatus <> :status")
+    int updateApprovalStatusByIds(@Param("ids") Collection<Long> ids, @Param("status") User.ApprovalStatus status,
+                                  @Param("approvedAt") LocalDateTime approvedAt, @Param("now") LocalDateTime now);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE User u SET u.isActive = :isActive, u.updatedAt = :now WHERE u.id IN :ids AND u.isActive <> :isActive")
+    int updateActivationByIds(@Param("ids") Collection<Long> ids, @Param("isActive") boolean isActive,
+                              @Param("now") LocalDateTime now);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE User u SET u.failedLoginAttempts = 0, u.accountLockedUntil = NULL, u.updatedAt = :now " +
+           "WHERE u.id IN :ids")
+    int unlockByIds(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    // 로그인 시 재해싱된 비밀번호 저장 (변경 일시는 유지)
+    @Modifying
+    @Query("UPDATE User u SET u.password = :password WHERE u.email = :email")
+    int updatePasswordHash(@Param("email") String email, @Param("password") String password);
+}
@@ -0,0 +1,114 @@
+package com.enterprise.webtemplate.repository;
+
+import com.enterprise.webtemplate.entity.User;
+
+import java.util.List;
+
+/**
+ * 관리자 사용자 검색 필터 (null인 항목은 조건에서 제외)
+ * ids는 부분 문자열 인덱스가 미리 찾은 후보 id로, 지정되면 id 목록 조건으로 대체됩니다.
+ */
+public record UserSearchFilter(TextMatch email, TextMatch name, TextMatch department, TextMatch position,
+                               Boolean isActive, Boolean isEmailVerified, User.ApprovalStatus approvalStatus,
+                               String roleName, List<Long> ids) {
+
+    /**
+     * 문자열 필터 비교 방식
+     * "=값"은 일치, "값*"은 접두사, 그 외는 기존과 같은 부분 일치로 해석합니다.
+     * 세 방식 모두 대소문자를 구분하지 않습니다. 컬럼과 값을 모두 소문자(Locale.ROOT)로 바꿔 비교하며,
+     * 부분 일치용 메모리 트라이그램 인덱스도 같은 규칙을 쓰므로 "Kim"과 "kim"은 방식과 DB collation에 관계없이 같은 결과입니다.
+     * LOWER(컬럼) 비교라 일반 컬럼 인덱스는 쓰지 못하며, 부분 일치는 가능하면 메모리 인덱스가 먼저 처리합니다.
+     */
+    public record TextMatch(Mode mode, String value) {
+
+        public enum Mode {
+            EQUALS, PREFIX, CONTAINS
+        }
+
+        public static TextMatch parse(String raw) {
+            if (raw == null || raw.isBlank()) {
+                return null;
+            }
+            String value = raw.trim();
+            if (value.length() > 1 && value.startsWith("=")) {
+                return new TextMatch(Mode.EQUALS, value.substring(1).trim());
+            }
+            if (value.length() > 1 && value.endsWith("*")) {
+                return new TextMatch(Mode.PREFIX, value.substring(0, value.length() - 1).trim());
+            }
+            return new TextMatch(Mode.CONTAINS, value);
+        }
+    }
+
+    public static UserSearchFilter of(String email, String name, String department, String position,
+                                      Boolean isActive, Boolean isEmailVerified,
+                                      User.ApprovalStatus approvalStatus, String roleName) {
+        return new UserSearchFilter(TextMatch.parse(email), TextMatch.parse(name),
+                TextMatch.parse(department), TextMatch.parse(position),
+                isActive, isEmailVerified, approvalStatus,
+                roleName != null && !roleName.isBlank() ? roleName.trim() : null, null);
+    }
+
+    /**
+     * 부분 일치 조건을 인덱스가 찾은 id 목록으로 대체한 필터 (일치/접두사 조건은 DB에서 그대로 비교)
+     */
+    public UserSearchFilter restrictToIds(List<Long> matchedIds) {
+        return new UserSearchFilter(exceptContains(email), exceptContains(name),
+                exceptContains(department), exceptContains(position),
+                isActive, isEmailVerified, approvalStatus, roleName, List.copyOf(matchedIds));
+    }
+
+    /**
+     * id 목록만 조건으로 하는 필터
+     */
+    public static UserSearchFilter forIds(List<Long> ids) {
+        return new UserSearchFilter(null, null, null, null, null, null, null, null, List.copyOf(ids));
+    }
+
+    public boolean hasTextMatch() {
+        return email != null || name != null || department != null || position != null;
+    }
+
+    public boolean hasContainsMatch() {
+        return isContains(email) || isContains(name) || isContains(department) || isContains(position);
+    }
+
+    /**
+     * 쿼리 형태 비트마스크 (문자열 필터마다 2비트로 비교 방식, 나머지는 존재 여부 1비트)
+     * 값이 달라도 형태가 같으면 같은 JPQL을 재사용합니다.
+     */
+    public int shape() {
+        int shape = textBits(email)
+                | textBits(name) << 2
+                | textBits(department) << 4
+                | textBits(position) << 6;
+        if (isActive != null) {
+            shape |= 1 << 8;
+        }
+        if (isEmailVerified != null) {
+            shape |= 1 << 9;
+        }
+        if (approvalStatus != null) {
+            shape |= 1 << 10;
+        }
+        if (roleName != null) {
+            shape |= 1 << 11;
+        }
+        if (ids != null) {
+            shape |= 1 << 12;
+        }
+        return shape;
+    }
+
+    private static boolean isContains(TextMatch match) {
+        return match != null && match.mode() == TextMatch.Mode.CONTAINS;
+    }
+
+    private static TextMatch exceptContains(TextMatch match) {
+        return isContains(match) ? null : match;
+    }
+
+    private static int textBits(TextMatch match) {
+        return match == null ? 0 : match.mode().ordinal() + 1;
+    }
+}
@@ -0,0 +1,35 @@
+package com.enterprise.webtemplate.repository;
+
+import com.enterprise.webtemplate.dto.UserListResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 관리자 사용자 검색 (지정된 필터만 조건으로 넣은 쿼리를 형태별로 재사용)
+ * 목록 응답에 필요한 컬럼만 생성자 프로젝션으로 읽으며, 역할 이름은 채우지 않습니다.
+ */
+public interface UserSearchRepository {
+
+    Page<UserListResponse> search(UserSearchFilter filter, Pageable pageable);
+
+    /**
+     * 키셋 조회: (sortProperty, id)가 (seekValue, seekId) 다음인 행부터 limit개 (seekId가 null이면 처음부터)
+     */
+    List<UserListResponse> scroll(UserSearchFilter filter, String sortProperty, boolean descending,
+                                  Object seekValue, Long seekId, int limit);
+
+    long countMatching(UserSearchFilter filter);
+
+    /**
+     * 필터에 맞는 사용자 id 전체 (패싯 집계 대상 산출용, 엔티티를 읽지 않음)
+     */
+    List<Long> findMatchingIds(UserSearchFilter filter);
+
+    /**
+     * 필터에 맞는 사용자를 id 순서로 전진 전용 커서에서 읽는 스트림 (내보내기용, 트랜잭션 안에서 사용 후 닫아야 함)
+     */
+    Stream<UserListResponse> streamMatching(UserSearchFilter filter, int fetchSize);
+}
@@ -0,0 +1,321 @@
+package com.enterprise.webtemplate.repository;
+
+import com.enterprise.webtemplate.dto.UserListResponse;
+import com.enterprise.webtemplate.entity.User;
+import com.enterprise.webtemplate.repository.UserSearchFilter.TextMatch;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.metamodel.EntityType;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * 필터 형태(비트마스크)별로 JPQL을 한 번만 만들어 캐시
+ * Hibernate는 쿼리 문자열 단위로 해석 결과를 캐시하므로, 형태가 같은 검색은 같은 문자열을 써서 재해석 없이 실행되고
+ * DB에도 같은 SQL이 전달됩니다. "(:x IS NULL OR ...)" 대신 지정된 조건만 들어가므로 옵티마이저가 인덱스를 선택할 수 있습니다.
+ */
+public class UserSearchRepositoryImpl implements UserSearchRepository {
+
+    private static final char LIKE_ESCAPE = '!';
+
+    // 목록 응답 생성자 프로젝션 (연관관계를 읽지 않으므로 행마다 추가 쿼리가 없음)
+    private static final String LIST_PROJECTION = "SELECT new " + UserListResponse.class.getName() + "("
+            + "u.id, u.email, u.name, u.phone, u.department, u.position, u.profileImageUrl, "
+            + "u.isActive, u.isEmailVerified, u.approvalStatus, u.lastLoginAt, u.createdAt, u.updatedAt, "
+            + "u.failedLoginAttempts) FROM User u";
+
+    private enum Variant {
+        SELECT, COUNT, IDS, SCROLL_FIRST, SCROLL_AFTER
+    }
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // JPA 슬라이스 테스트처럼 컴포넌트를 스캔하지 않는 컨텍스트에서는 없음 (기본 커넥션으로 조회)
+    @Autowired(required = false)
+    private ExportConnectionPool exportConnectionPool;
+
+    private final Map<String, String> compiledQueries = new ConcurrentHashMap<>();
+
+    @Override
+    public Page<UserListResponse> search(UserSearchFilter filter, Pageable pageable) {
+        if (matchesNothing(filter)) {
+            return Page.empty(pageable);
+        }
+        String jpql = compile(filter, Variant.SELECT, orderBy(pageable.getSort()), null);
+        TypedQuery<UserListResponse> query = entityManager.createQuery(jpql, UserListResponse.class);
+        bindFilter(query, filter);
+        query.setFirstResult((int) pageable.getOffset());
+        query.setMaxResults(pageable.getPageSize());
+
+        // 마지막 페이지가 덜 찼으면 COUNT 쿼리를 생략
+        return PageableExecutionUtils.getPage(query.getResultList(), pageable, () -> countMatching(filter));
+    }
+
+    @Override
+    public List<UserListResponse> scroll(UserSearchFilter filter, String sortProperty, boolean descending,
+                             Object seekValue, Long seekId, int limit) {
+        if (matchesNothing(filter)) {
+            return List.of();
+        }
+        Sort.Direction direction = descending ? Sort.Direction.DESC : Sort.Direction.ASC;
+        Sort sort = Sort.by(direction, sortProperty);
+        String seekProperty = "id".equals(sortProperty) ? null : validatedProperty(sortProperty);
+
+        Variant variant = seekId == null ? Variant.SCROLL_FIRST : Variant.SCROLL_AFTER;
+        String seek = variant == Variant.SCROLL_FIRST ? null : seekCondition(seekProperty, descending);
+        TypedQuery<UserListResponse> query = entityManager.createQuery(
+                compile(filter, variant, orderBy(sort), seek), UserListResponse.class);
+        bindFilter(query, filter);
+        if (variant == Variant.SCROLL_AFTER) {
+            if (seekProperty != null) {
+                query.setParameter("seekValue", seekValue);
+            }
+            query.setParameter("seekId", seekId);
+        }
+        query.setMaxResults(limit);
+        return query.getResultList();
+    }
+
+    @Override
+    public long countMatching(UserSearchFilter filter) {
+        if (matchesNothing(filter)) {
+            return 0;
+        }
+        TypedQuery<Long> query = entityManager.createQuery(compile(filter, Variant.COUNT, "", null), Long.class);
+        bindFilter(query, filter);
+        return query.getSingleResult();
+    }
+
+    @Override
+    public List<Long> findMatchingIds(UserSearchFilter filter) {
+        if (matchesNothing(filter)) {
+            return List.of();
+        }
+        TypedQuery<Long> query = entityManager.createQuery(compile(filter, Variant.IDS, "", null), Long.class);
+        bindFilter(query, filter);
+        return query.getResultList();
+    }
+
+    @Override
+    public Stream<UserListResponse> streamMatching(UserSearchFilter filter, int fetchSize) {
+        if (matchesNothing(filter)) {
+            return Stream.empty();
+        }
+        String jpql = compile(filter, Variant.SELECT, orderBy(Sort.by("id")), null);
+        if (exportConnectionPool != null && exportConnectionPool.isAvailable()) {
+            return streamOnExportConnection(jpql, filter, fetchSize);
+        }
+        TypedQuery<UserListResponse> query = entityManager.createQuery(jpql, UserListResponse.class);
+        bindFilter(query, filter);
+        // 프로젝션이라 영속성 컨텍스트에 쌓이는 엔티티가 없고, 드라이버는 fetchSize만큼씩 가져옴
+        query.setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize);
+        query.setHint(HibernateHints.HINT_READ_ONLY, true);
+        return query.getResultStream();
+    }
+
+    /**
+     * 내보내기 전용 커넥션(서버 측 커서)에서 별도 세션으로 조회
+     * 스트림을 닫으면 세션과 커넥션을 반환하므로 호출자는 반드시 스트림을 닫아야 합니다.
+     */
+    private Stream<UserListResponse> streamOnExportConnection(String jpql, UserSearchFilter filter, int fetchSize) {
+        Connection connection;
+        try {
+            connection = exportConnectionPool.getConnection();
+        } catch (SQLException e) {
+            throw new IllegalStateException("내보내기 커넥션을 얻지 못했습니다.", e);
+        }
+        Session session = null;
+        try {
+            session = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class)
+                    .withOptions().connection(connection).openSession();
+            session.setDefaultReadOnly(true);
+            TypedQuery<UserListResponse> query = session.createQuery(jpql, UserListResponse.class);
+            bindFilter(query, filter);
+            query.setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize);
+            Session opened = session;
+            return query.getResultStream().onClose(() -> {
+                opened.close();
+                closeQuietly(connection);
+            });
+        } catch (RuntimeException e) {
+            if (session != null) {
+                session.close();
+            }
+            closeQuietly(connection);
+            throw e;
+        }
+    }
+
+    // 직접 넘긴 커넥션은 세션이 닫지 않으므로 풀에 직접 반환
+    private static void closeQuietly(Connection connection) {
+        try {
+            connection.close();
+        } catch (SQLException ignored) {
+            // 이미 끊어진 커넥션
+        }
+    }
+
+    // 인덱스가 일치하는 사용자가 없다고 답한 경우 (빈 IN 목록은 DB마다 처리가 달라 쿼리하지 않음)
+    private boolean matchesNothing(UserSearchFilter filter) {
+        return filter.ids() != null && filter.ids().isEmpty();
+    }
+
+    private String compile(UserSearchFilter filter, Variant variant, String orderBy, String seek) {
+        String key = variant + ":" + filter.shape() + ":" + (seek != null ? seek : "") + ":" + orderBy;
+        return compiledQueries.computeIfAbsent(key, ignored -> buildJpql(filter, variant, orderBy, seek));
+    }
+
+    private String buildJpql(UserSearchFilter filter, Variant variant, String orderBy, String seek) {
+        StringBuilder jpql = new StringBuilder(switch (variant) {
+            case COUNT -> "SELECT COUNT(u) FROM User u";
+            case IDS -> "SELECT u.id FROM User u";
+            default -> LIST_PROJECTION;
+        });
+        if (filter.roleName() != null) {
+            jpql.append(" JOIN u.roles r");
+        }
+
+        List<String> conditions = new ArrayList<>();
+        addText(conditions, "email", filter.email());
+        addText(conditions, "name", filter.name());
+        addText(conditions, "department", filter.department());
+        addText(conditions, "position", filter.position());
+        if (filter.isActive() != null) {
+            conditions.add("u.isActive = :isActive");
+        }
+        if (filter.isEmailVerified() != null) {
+            conditions.add("u.isEmailVerified = :isEmailVerified");
+        }
+        if (filter.approvalStatus() != null) {
+            conditions.add("u.approvalStatus = :approvalStatus");
+        }
+        if (filter.roleName() != null) {
+            conditions.add("r.name = :roleName");
+        }
+        if (filter.ids() != null) {
+            conditions.add("u.id IN :ids");
+        }
+        if (seek != null) {
+            conditions.add(seek);
+        }
+
+        if (!conditions.isEmpty()) {
+            jpql.append(" WHERE ").append(String.join(" AND ", conditions));
+        }
+        return jpql.append(orderBy).toString();
+    }
+
+    // 모든 비교 방식에서 소문자로 맞춰 비교 (DB collation과 무관하게 대소문자 구분 없음, TextMatch 참고)
+    private void addText(List<String> conditions, String property, TextMatch match) {
+        if (match == null) {
+            return;
+        }
+        String column = "LOWER(u." + property + ")";
+        switch (match.mode()) {
+            case EQUALS -> conditions.add(column + " = :" + property);
+            case PREFIX, CONTAINS -> conditions.add(column + " LIKE :" + property + " ESCAPE '" + LIKE_ESCAPE + "'");
+        }
+    }
+
+    private void bindFilter(TypedQuery<?> query, UserSearchFilter filter) {
+        bindText(query, "email", filter.email());
+        bindText(query, "name", filter.name());
+        bindText(query, "department", filter.department());
+        bindText(query, "position", filter.position());
+        if (filter.isActive() != null) {
+            query.setParameter("isActive", filter.isActive());
+        }
+        if (filter.isEmailVerified() != null) {
+            query.setParameter("isEmailVerified", filter.isEmailVerified());
+        }
+        if (filter.approvalStatus() != null) {
+            query.setParameter("approvalStatus", filter.approvalStatus());
+        }
+        if (filter.roleName() != null) {
+            query.setParameter("roleName", filter.roleName());
+        }
+        if (filter.ids() != null) {
+            query.setParameter("ids", filter.ids());
+        }
+    }
+
+    private void bindText(TypedQuery<?> query, String property, TextMatch match) {
+        if (match == null) {
+            return;
+        }
+        String normalized = match.value().toLowerCase(Locale.ROOT);
+        String value = switch (match.mode()) {
+            case EQUALS -> normalized;
+            case PREFIX -> escapeLike(normalized) + "%";
+            case CONTAINS -> "%" + escapeLike(normalized) + "%";
+        };
+        query.setParameter(property, value);
+    }
+
+    private String escapeLike(String value) {
+        StringBuilder escaped = new StringBuilder(value.length() + 4);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '%' || c == '_' || c == LIKE_ESCAPE) {
+                escaped.append(LIKE_ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+
+    // (key, id) 다음 행: (key < v) OR (key = v AND id < lastId)
+    private String seekCondition(String seekProperty, boolean descending) {
+        String op = descending ? " < " : " > ";
+        if (seekProperty == null) {
+            return "u.id" + op + ":seekId";
+        }
+        String key = "u." + seekProperty;
+        return "(" + key + op + ":seekValue OR (" + key + " = :seekValue AND u.id" + op + ":seekId))";
+    }
+
+    /**
+     * 정렬 절 (엔티티에 없는 속성은 거부하고, 같은 값끼리 순서가 흔들리지 않도록 id를 마지막 정렬 키로 추가)
+     */
+    private String orderBy(Sort sort) {
+        List<String> orders = new ArrayList<>();
+        Sort.Direction lastDirection = Sort.Direction.ASC;
+        boolean hasId = false;
+        for (Sort.Order order : sort) {
+            String property = validatedProperty(order.getProperty());
+            orders.add("u." + property + " " + order.getDirection().name());
+            lastDirection = order.getDirection();
+            hasId |= "id".equals(property);
+        }
+        if (!hasId) {
+            orders.add("u.id " + lastDirection.name());
+        }
+        return " ORDER BY " + String.join(", ", orders);
+    }
+
+    private String validatedProperty(String property) {
+        EntityType<User> userType = entityManager.getMetamodel().entity(User.class);
+        try {
+            return userType.getSingularAttribute(property).getName();
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("정렬할 수 없는 항목입니다: " + property);
+        }
+    }
+}
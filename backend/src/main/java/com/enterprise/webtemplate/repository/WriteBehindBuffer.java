@@ -0,0 +1,95 @@
+package com.enterprise.webtemplate.repository;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+
+/**
+ * write-behind 대기열 (TouchCoalescer, LockoutStateWriter 공용)
+ * 키마다 값 하나만 보관하고 flush 시 꺼낸 값을 한 번의 배치 UPDATE로 기록합니다.
+ * 기록에 실패하면 꺼낸 값을 되돌려 다음 flush에서 다시 시도하며, 그 사이 들어온 값과는 requeueMerge로 합칩니다.
+ */
+public class WriteBehindBuffer<K, V> {
+
+    private static final Logger logger = LoggerFactory.getLogger(WriteBehindBuffer.class);
+
+    private final String name;
+    private final String updateSql;
+    private final BiFunction<K, V, Object[]> toParams;
+    private final BinaryOperator<V> requeueMerge;
+    private final Map<K, V> pending = new ConcurrentHashMap<>();
+
+    /**
+     * @param name 로그에 표시할 이름
+     * @param updateSql 키 하나당 실행할 UPDATE 문
+     * @param toParams (키, 값)을 UPDATE 파라미터로 변환
+     * @param requeueMerge 실패한 값을 되돌릴 때 (그 사이 들어온 값, 실패한 값)으로 남길 값을 결정
+     */
+    public WriteBehindBuffer(String name, String updateSql, BiFunction<K, V, Object[]> toParams,
+                             BinaryOperator<V> requeueMerge) {
+        this.name = name;
+        this.updateSql = updateSql;
+        this.toParams = toParams;
+        this.requeueMerge = requeueMerge;
+    }
+
+    public void put(K key, V value) {
+        pending.put(key, value);
+    }
+
+    public void merge(K key, V value, BinaryOperator<V> merger) {
+        pending.merge(key, value, merger);
+    }
+
+    public void remove(K key) {
+        pending.remove(key);
+    }
+
+    public boolean contains(K key) {
+        return pending.containsKey(key);
+    }
+
+    public int size() {
+        return pending.size();
+    }
+
+    /**
+     * 대기 중인 값을 모두 꺼내 일괄 UPDATE (기록한 건수 반환, 대기 중인 값이 없거나 실패하면 0)
+     */
+    public int flush(JdbcTemplate jdbcTemplate) {
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        Map<K, V> drained = new LinkedHashMap<>();
+        List<Object[]> batch = new ArrayList<>();
+        for (K key : new ArrayList<>(pending.keySet())) {
+            V value = pending.remove(key);
+            if (value != null) {
+                drained.put(key, value);
+                batch.add(toParams.apply(key, value));
+            }
+        }
+
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(updateSql, batch);
+            return batch.size();
+        } catch (RuntimeException e) {
+            drained.forEach((key, value) -> pending.merge(key, value, requeueMerge));
+            logger.warn("Failed to flush {} pending {} updates: {}", batch.size(), name, e.getMessage());
+            return 0;
+        }
+    }
+}
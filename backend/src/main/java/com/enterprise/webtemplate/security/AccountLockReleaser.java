@@ -0,0 +1,51 @@
+package com.enterprise.webtemplate.security;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 관리자 잠금 해제/비밀번호 재설정 시 DB 밖에 남아 있는 잠금 상태 정리
+ * 메모리 잠금(LoginAttemptThrottle)과 아직 기록되지 않은 잠금(LockoutStateWriter)이 남아 있으면
+ * DB 컬럼을 초기화해도 로그인이 계속 거부되거나 다음 flush에서 다시 잠깁니다.
+ */
+@Component
+public class AccountLockReleaser {
+
+    @Autowired
+    private LoginAttemptThrottle loginAttemptThrottle;
+
+    @Autowired
+    private LockoutStateWriter lockoutStateWriter;
+
+    /**
+     * DB 컬럼과 별개로 메모리 잠금이나 기록 대기 중인 잠금 상태가 남아 있는지 여부
+     */
+    public boolean isHeld(String email) {
+        return loginAttemptThrottle.accountLockedUntil(email) > 0 || lockoutStateWriter.isPending(email);
+    }
+
+    /**
+     * 대기 중인 잠금 기록은 즉시 취소하고, 커밋 이후 한 번 더 취소하면서 메모리 잠금을 해제
+     * (트랜잭션 밖에서 호출되면 바로 해제)
+     */
+    public void releaseAfterCommit(String email) {
+        lockoutStateWriter.cancel(email);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    release(email);
+                }
+            });
+        } else {
+            release(email);
+        }
+    }
+
+    private void release(String email) {
+        lockoutStateWriter.cancel(email);
+        loginAttemptThrottle.clear(email);
+    }
+}
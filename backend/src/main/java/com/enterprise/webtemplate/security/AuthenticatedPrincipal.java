@@ -0,0 +1,57 @@
+package com.enterprise.webtemplate.security;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * 컴파일된 권한 비트셋을 함께 보관하는 인증 주체
+ * 권한 검사 시 문자열 비교 대신 비트 검사로 처리할 수 있도록 합니다.
+ */
+public class AuthenticatedPrincipal extends User {
+
+    private final PermissionSet permissionSet;
+    private final Long userId;
+    private final Set<String> roleNames;
+
+    public AuthenticatedPrincipal(String username, String password, boolean enabled, boolean accountNonLocked,
+                                  Collection<? extends GrantedAuthority> authorities, PermissionSet permissionSet) {
+        this(username, password, enabled, accountNonLocked, authorities, permissionSet, null, Set.of());
+    }
+
+    public AuthenticatedPrincipal(String username, String password, boolean enabled, boolean accountNonLocked,
+                                  Collection<? extends GrantedAuthority> authorities, PermissionSet permissionSet,
+                                  Long userId, Set<String> roleNames) {
+        super(username, password, enabled, true, true, accountNonLocked, authorities);
+        this.permissionSet = permissionSet;
+        this.userId = userId;
+        this.roleNames = roleNames != null ? Set.copyOf(roleNames) : Set.of();
+    }
+
+    public PermissionSet getPermissionSet() {
+        return permissionSet;
+    }
+
+    /**
+     * 사용자 ID (uid 클레임이 없는 예전 토큰이면 null)
+     */
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Set<String> getRoleNames() {
+        return roleNames;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return super.equals(obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+}
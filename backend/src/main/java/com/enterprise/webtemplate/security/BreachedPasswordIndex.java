@@ -0,0 +1,143 @@
+package com.enterprise.webtemplate.security;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+
+/**
+ * 유출/흔한 비밀번호 해시 인덱스
+ * 정렬된 64비트 해시 파일을 메모리 매핑하고 이진 탐색하므로 수백만 항목도 힙에 올리지 않고 조회합니다.
+ * app.security.breached-passwords.index-path가 비어있으면 빌드 시 생성된 번들 인덱스를 사용합니다.
+ */
+@Component
+public class BreachedPasswordIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(BreachedPasswordIndex.class);
+
+    private static final String BUNDLED_INDEX = "security/breached-passwords.idx";
+
+    // MessageDigest는 스레드 안전하지 않으므로 스레드별로 재사용
+    private static final ThreadLocal<MessageDigest> DIGEST =
+            ThreadLocal.withInitial(BreachedPasswordIndexCompiler::newDigest);
+
+    @Value("${app.security.breached-passwords.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.security.breached-passwords.index-path:}")
+    private String indexPath;
+
+    private volatile LongBuffer hashes;
+
+    @PostConstruct
+    void initialize() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Path path = indexPath != null && !indexPath.isBlank()
+                    ? Paths.get(indexPath)
+                    : extractBundledIndex();
+            if (path == null) {
+                logger.warn("Bundled breached password index not found; breached password check disabled");
+                return;
+            }
+            this.hashes = map(path);
+            logger.info("Breached password index loaded: {} entries from {}", hashes.limit(), path);
+        } catch (IOException | IllegalStateException e) {
+            logger.warn("Failed to load breached password index: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 지정한 인덱스 파일을 연 인스턴스 생성 (벤치마크/도구용)
+     */
+    public static BreachedPasswordIndex open(Path path) throws IOException {
+        BreachedPasswordIndex index = new BreachedPasswordIndex();
+        index.enabled = true;
+        index.hashes = map(path);
+        return index;
+    }
+
+    public boolean isLoaded() {
+        return hashes != null;
+    }
+
+    public int size() {
+        LongBuffer current = hashes;
+        return current != null ? current.limit() : 0;
+    }
+
+    /**
+     * 비밀번호(대소문자 무시)가 인덱스에 있는지 확인
+     */
+    public boolean contains(String password) {
+        LongBuffer current = hashes;
+        if (current == null || password == null || password.isEmpty()) {
+            return false;
+        }
+        long target = BreachedPasswordIndexCompiler.hash(DIGEST.get(), password);
+
+        int low = 0;
+        int high = current.limit() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long value = current.get(mid);
+            if (value < target) {
+                low = mid + 1;
+            } else if (value > target) {
+                high = mid - 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static LongBuffer map(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.limit() < BreachedPasswordIndexCompiler.HEADER_BYTES
+                    || buffer.getInt(0) != BreachedPasswordIndexCompiler.MAGIC
+                    || buffer.getInt(4) != BreachedPasswordIndexCompiler.VERSION) {
+                throw new IllegalStateException("비밀번호 인덱스 형식이 올바르지 않습니다: " + path);
+            }
+            long count = buffer.getLong(8);
+            long expectedBytes = BreachedPasswordIndexCompiler.HEADER_BYTES + count * Long.BYTES;
+            if (count > Integer.MAX_VALUE || expectedBytes != buffer.limit()) {
+                throw new IllegalStateException("비밀번호 인덱스 크기가 올바르지 않습니다: " + path);
+            }
+            ByteBuffer body = buffer.position(BreachedPasswordIndexCompiler.HEADER_BYTES).slice();
+            return body.asLongBuffer();
+        }
+    }
+
+    // jar 내부 리소스는 매핑할 수 없으므로 임시 파일로 복사
+    private Path extractBundledIndex() throws IOException {
+        ClassPathResource resource = new ClassPathResource(BUNDLED_INDEX);
+        if (!resource.exists()) {
+            return null;
+        }
+        Path target = Files.createTempFile("breached-passwords", ".idx");
+        target.toFile().deleteOnExit();
+        try (InputStream in = resource.getInputStream()) {
+            Files.copy(in, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return target;
+    }
+}
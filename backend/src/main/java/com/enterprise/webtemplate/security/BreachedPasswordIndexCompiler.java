@@ -0,0 +1,103 @@
+package com.enterprise.webtemplate.security;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * 비밀번호 사전(한 줄에 하나, '#'으로 시작하면 주석)을 정렬된 고정 폭 해시 인덱스로 변환
+ * 빌드 시 compilePasswordIndex 태스크가 번들 사전으로 실행하며, 대용량 유출 목록도 같은 방식으로 변환할 수 있습니다.
+ *
+ * 파일 형식: [magic(4) | version(4) | count(8)] + 정렬된 64비트 해시 count개 (big-endian)
+ */
+public final class BreachedPasswordIndexCompiler {
+
+    static final int MAGIC = 0x50574958; // "PWIX"
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 16;
+
+    private BreachedPasswordIndexCompiler() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: BreachedPasswordIndexCompiler <dictionary.txt> <output.idx>");
+            System.exit(1);
+        }
+        int count = compile(Paths.get(args[0]), Paths.get(args[1]));
+        System.out.println("Compiled " + count + " password hashes into " + args[1]);
+    }
+
+    /**
+     * 사전 파일을 인덱스로 변환하고 중복 제거 후 항목 수를 반환
+     */
+    public static int compile(Path dictionary, Path output) throws IOException {
+        long[] hashes = new long[1024];
+        int size = 0;
+
+        try (BufferedReader reader = Files.newBufferedReader(dictionary, StandardCharsets.UTF_8)) {
+            MessageDigest digest = newDigest();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String entry = line.strip();
+                if (entry.isEmpty() || entry.startsWith("#")) {
+                    continue;
+                }
+                if (size == hashes.length) {
+                    hashes = Arrays.copyOf(hashes, size * 2);
+                }
+                hashes[size++] = hash(digest, entry);
+            }
+        }
+
+        Arrays.sort(hashes, 0, size);
+        int unique = 0;
+        for (int i = 0; i < size; i++) {
+            if (unique == 0 || hashes[i] != hashes[unique - 1]) {
+                hashes[unique++] = hashes[i];
+            }
+        }
+
+        if (output.getParent() != null) {
+            Files.createDirectories(output.getParent());
+        }
+        try (OutputStream out = Files.newOutputStream(output)) {
+            ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+            buffer.putInt(MAGIC).putInt(VERSION).putLong(unique);
+            for (int i = 0; i < unique; i++) {
+                if (buffer.remaining() < Long.BYTES) {
+                    out.write(buffer.array(), 0, buffer.position());
+                    buffer.clear();
+                }
+                buffer.putLong(hashes[i]);
+            }
+            out.write(buffer.array(), 0, buffer.position());
+        }
+        return unique;
+    }
+
+    /**
+     * 소문자로 정규화한 비밀번호의 SHA-1 앞 8바이트
+     */
+    static long hash(MessageDigest digest, String password) {
+        byte[] sha1 = digest.digest(password.toLowerCase(Locale.ROOT).getBytes(StandardCharsets.UTF_8));
+        return ByteBuffer.wrap(sha1, 0, Long.BYTES).getLong();
+    }
+
+    static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-1 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.enterprise.webtemplate.security;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Base64;
+import java.util.Collection;
+
+/**
+ * JWT 권한 클레임의 압축 표현 ("pbm" 클레임)
+ * 형식: {@code 1.<사전 지문>.<Base64url 비트맵>}
+ * 권한 이름 목록 대신 RBAC 엔진의 권한 번호 사전을 기준으로 한 비트맵을 싣습니다.
+ */
+@Component
+public class CompactAuthorityCodec {
+
+    public static final String CLAIM_NAME = "pbm";
+
+    private static final String FORMAT_VERSION = "1";
+
+    @Autowired
+    private RbacEngine rbacEngine;
+
+    /**
+     * 권한 이름 목록을 압축 문자열로 변환 (엔진이 준비되지 않았으면 null)
+     */
+    public String encode(Collection<String> authorityNames) {
+        if (!rbacEngine.isReady()) {
+            return null;
+        }
+        PermissionSet permissionSet = rbacEngine.compileAuthorities(authorityNames);
+        if (permissionSet.size() != authorityNames.size()) {
+            // 사전에 없는 권한이 섞여 있으면 손실이 생기므로 압축하지 않는다
+            return null;
+        }
+        return FORMAT_VERSION + "." + rbacEngine.getDictionaryFingerprint() + "."
+                + Base64.getUrlEncoder().withoutPadding().encodeToString(rbacEngine.toBitmap(permissionSet));
+    }
+
+    /**
+     * 압축 문자열을 권한 비트셋으로 복원 (형식/사전이 맞지 않으면 null)
+     */
+    public PermissionSet decode(String encoded) {
+        if (encoded == null) {
+            return null;
+        }
+        String[] parts = encoded.split("\\.", -1);
+        if (parts.length != 3 || !FORMAT_VERSION.equals(parts[0])) {
+            return null;
+        }
+        try {
+            return rbacEngine.fromBitmap(parts[1], Base64.getUrlDecoder().decode(parts[2]));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
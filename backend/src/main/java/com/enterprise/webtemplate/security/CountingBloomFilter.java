@@ -0,0 +1,90 @@
+package com.enterprise.webtemplate.security;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 삭제를 지원하는 문자열 키용 Counting Bloom 필터
+ * 슬롯마다 4비트 카운터를 두어(long 하나에 16개) 일반 Bloom 필터의 4배 메모리로 삭제를 지원합니다.
+ * 카운터가 최댓값(15)에 도달하면 더 이상 감소시키지 않으므로 거짓 음성은 생기지 않습니다.
+ */
+public class CountingBloomFilter {
+
+    private static final int COUNTER_BITS = 4;
+    private static final int COUNTERS_PER_WORD = Long.SIZE / COUNTER_BITS;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+
+    private final AtomicLongArray words;
+    private final int slotCount;
+    private final int hashCount;
+
+    public CountingBloomFilter(int expectedInsertions, double falsePositiveRate) {
+        int n = Math.max(1, expectedInsertions);
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.slotCount = (int) Math.max(COUNTERS_PER_WORD, Math.min(m, Integer.MAX_VALUE - COUNTERS_PER_WORD));
+        this.hashCount = Math.max(1, (int) Math.round((double) slotCount / n * Math.log(2)));
+        this.words = new AtomicLongArray((slotCount + COUNTERS_PER_WORD - 1) / COUNTERS_PER_WORD);
+    }
+
+    public void add(String key) {
+        long hash = BloomFilter.hash64(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            update(index(h1 + i * h2), 1);
+        }
+    }
+
+    public void remove(String key) {
+        long hash = BloomFilter.hash64(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            update(index(h1 + i * h2), -1);
+        }
+    }
+
+    public boolean mightContain(String key) {
+        long hash = BloomFilter.hash64(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            if (counter(index(h1 + i * h2)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int getSlotCount() {
+        return slotCount;
+    }
+
+    public int getHashCount() {
+        return hashCount;
+    }
+
+    private int index(int combined) {
+        return (combined & Integer.MAX_VALUE) % slotCount;
+    }
+
+    private long counter(int slot) {
+        int shift = (slot % COUNTERS_PER_WORD) * COUNTER_BITS;
+        return (words.get(slot / COUNTERS_PER_WORD) >>> shift) & COUNTER_MASK;
+    }
+
+    private void update(int slot, int delta) {
+        int wordIndex = slot / COUNTERS_PER_WORD;
+        int shift = (slot % COUNTERS_PER_WORD) * COUNTER_BITS;
+        long current;
+        long next;
+        do {
+            current = words.get(wordIndex);
+            long value = (current >>> shift) & COUNTER_MASK;
+            // 포화된 카운터는 고정, 0인 카운터는 감소하지 않음
+            if (value == COUNTER_MASK || (delta < 0 && value == 0)) {
+                return;
+            }
+            next = (current & ~(COUNTER_MASK << shift)) | ((value + delta) << shift);
+        } while (!words.compareAndSet(wordIndex, current, next));
+    }
+}
@@ -0,0 +1,56 @@
+package com.enterprise.webtemplate.security;
+
+import java.util.Set;
+
+/**
+ * 요청 단위로 한 번만 해석되는 현재 사용자의 불변 표현
+ * 서비스 계층의 본인/관리자 확인은 DB 조회 없이 이 값으로 처리합니다.
+ */
+public final class CurrentUser {
+
+    private static final Set<String> ADMIN_ROLES = Set.of("ADMIN", "MASTER");
+
+    private final Long id;
+    private final String email;
+    private final Set<String> roleNames;
+    private final PermissionSet permissionSet;
+
+    public CurrentUser(Long id, String email, Set<String> roleNames, PermissionSet permissionSet) {
+        this.id = id;
+        this.email = email;
+        this.roleNames = roleNames != null ? Set.copyOf(roleNames) : Set.of();
+        this.permissionSet = permissionSet;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public Set<String> getRoleNames() {
+        return roleNames;
+    }
+
+    /**
+     * 권한 비트셋 (RBAC 엔진 준비 전이면 null)
+     */
+    public PermissionSet getPermissionSet() {
+        return permissionSet;
+    }
+
+    public boolean hasRole(String roleName) {
+        return roleNames.contains(roleName);
+    }
+
+    public boolean isAdmin() {
+        for (String roleName : roleNames) {
+            if (ADMIN_ROLES.contains(roleName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
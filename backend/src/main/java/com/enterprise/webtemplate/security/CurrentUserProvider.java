@@ -0,0 +1,90 @@
+package com.enterprise.webtemplate.security;
+
+import com.enterprise.webtemplate.entity.Role;
+import com.enterprise.webtemplate.entity.User;
+import com.enterprise.webtemplate.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 현재 인증 정보에서 CurrentUser를 해석하고 요청 속성에 보관하여 요청당 한 번만 해석
+ * 토큰 클레임(uid, roles)으로 인증된 경우 DB를 조회하지 않으며, 클레임이 없는 예전 토큰만 한 번 조회합니다.
+ */
+@Component
+public class CurrentUserProvider {
+
+    private static final String REQUEST_ATTRIBUTE = CurrentUserProvider.class.getName() + ".CURRENT_USER";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RbacEngine rbacEngine;
+
+    /**
+     * 현재 사용자 (인증되지 않았거나 익명 사용자면 RuntimeException)
+     */
+    public CurrentUser get() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        // 익명 토큰도 isAuthenticated()가 true이므로 따로 걸러 DB 조회를 막음
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            throw new RuntimeException("인증된 사용자를 찾을 수 없습니다.");
+        }
+
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            Object cached = attributes.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+            if (cached instanceof CurrentUser currentUser && currentUser.getEmail().equals(authentication.getName())) {
+                return currentUser;
+            }
+        }
+
+        CurrentUser currentUser = resolve(authentication);
+        if (attributes != null) {
+            attributes.setAttribute(REQUEST_ATTRIBUTE, currentUser, RequestAttributes.SCOPE_REQUEST);
+        }
+        return currentUser;
+    }
+
+    /**
+     * 관리자(ADMIN/MASTER)가 아니면 RuntimeException
+     */
+    public CurrentUser requireAdmin() {
+        CurrentUser currentUser = get();
+        if (!currentUser.isAdmin()) {
+            throw new RuntimeException("관리자 권한이 필요합니다.");
+        }
+        return currentUser;
+    }
+
+    /**
+     * 현재 사용자의 엔티티 참조 (연관관계/조회 조건용, 필드 접근 전까지 DB를 조회하지 않음)
+     */
+    public User getReference() {
+        return userRepository.getReferenceById(get().getId());
+    }
+
+    private CurrentUser resolve(Authentication authentication) {
+        if (authentication.getPrincipal() instanceof AuthenticatedPrincipal principal && principal.getUserId() != null) {
+            return new CurrentUser(principal.getUserId(), principal.getUsername(),
+                    principal.getRoleNames(), principal.getPermissionSet());
+        }
+
+        User user = userRepository.findByEmailWithRoles(authentication.getName())
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+        Set<String> roleNames = user.getRoles().stream()
+                .map(Role::getName)
+                .collect(Collectors.toSet());
+        PermissionSet permissionSet = rbacEngine.isReady() ? rbacEngine.compileRoles(roleNames) : null;
+        return new CurrentUser(user.getId(), user.getEmail(), roleNames, permissionSet);
+    }
+}
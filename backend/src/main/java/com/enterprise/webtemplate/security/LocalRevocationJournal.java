@@ -0,0 +1,110 @@
+package com.enterprise.webtemplate.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 단일 노드용 폐기 기록 저장소
+ * 경로가 지정되면 추가 전용 파일에 기록하여 재시작 후에도 폐기 상태를 복원합니다.
+ * 경로가 비어 있으면 메모리에서만 동작합니다. 다중 노드 구현체는 {@code @Primary}로 등록하여 교체합니다.
+ */
+@Component
+public class LocalRevocationJournal implements RevocationJournal {
+
+    private static final Logger logger = LoggerFactory.getLogger(LocalRevocationJournal.class);
+
+    @Value("${app.jwt.revocation.journal-path:}")
+    private String journalPath;
+
+    @Override
+    public synchronized void append(RevocationRecord record) {
+        Path path = resolvePath();
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.createDirectories(path.toAbsolutePath().getParent());
+            Files.writeString(path, format(record) + System.lineSeparator(), StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            logger.warn("Failed to append revocation record: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public synchronized List<RevocationRecord> loadActive(long nowMillis) {
+        List<RevocationRecord> records = new ArrayList<>();
+        Path path = resolvePath();
+        if (path == null || !Files.exists(path)) {
+            return records;
+        }
+        try {
+            for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+                RevocationRecord record = parse(line);
+                if (record != null && !record.isExpiredAt(nowMillis)) {
+                    records.add(record);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("폐기 기록을 읽을 수 없습니다.", e);
+        }
+        return records;
+    }
+
+    @Override
+    public synchronized void compact(List<RevocationRecord> activeRecords) {
+        Path path = resolvePath();
+        if (path == null || !Files.exists(path)) {
+            return;
+        }
+        try {
+            Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+            List<String> lines = new ArrayList<>();
+            for (RevocationRecord record : activeRecords) {
+                lines.add(format(record));
+            }
+            Files.write(temp, lines, StandardCharsets.UTF_8);
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.warn("Failed to compact revocation journal: {}", e.getMessage());
+        }
+    }
+
+    private Path resolvePath() {
+        return journalPath == null || journalPath.isBlank() ? null : Paths.get(journalPath);
+    }
+
+    private String format(RevocationRecord record) {
+        return record.getType() + "\t" + record.getKey() + "\t" + record.getRevokedAtMillis() + "\t" + record.getExpiresAtMillis();
+    }
+
+    private RevocationRecord parse(String line) {
+        String[] parts = line.split("\t");
+        if (parts.length != 4) {
+            return null;
+        }
+        try {
+            return new RevocationRecord(
+                    RevocationRecord.Type.valueOf(parts[0]),
+                    parts[1],
+                    Long.parseLong(parts[2]),
+                    Long.parseLong(parts[3])
+            );
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.enterprise.webtemplate.security;
+
+import com.enterprise.webtemplate.repository.ResourceVersionTracker;
+import com.enterprise.webtemplate.repository.ResourceVersionTracker.Resource;
+import com.enterprise.webtemplate.repository.WriteBehindBuffer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * 계정 잠금 상태 변경을 모아 주기적으로 일괄 UPDATE하는 write-behind 기록기
+ * 같은 계정의 변경이 여러 번 쌓이면 마지막 상태만 기록합니다.
+ */
+@Component
+public class LockoutStateWriter {
+
+    private static final String UPDATE_SQL =
+            "UPDATE users SET failed_login_attempts = ?, account_locked_until = ?, updated_at = ? WHERE email = ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ResourceVersionTracker resourceVersionTracker;
+
+    // 실패한 상태는 그 사이 새 상태가 들어왔으면 새 상태를 우선
+    private final WriteBehindBuffer<String, PendingState> pending = new WriteBehindBuffer<>(
+            "lockout state", UPDATE_SQL,
+            (email, state) -> new Object[]{
+                    state.failedAttempts(),
+                    state.lockedUntil() != null ? Timestamp.valueOf(state.lockedUntil()) : null,
+                    Timestamp.valueOf(LocalDateTime.now()),
+                    email
+            },
+            (newer, failed) -> newer);
+
+    private record PendingState(int failedAttempts, LocalDateTime lockedUntil) {
+    }
+
+    /**
+     * 잠금 상태 기록 예약
+     */
+    public void enqueue(String email, int failedAttempts, LocalDateTime lockedUntil) {
+        pending.put(email, new PendingState(failedAttempts, lockedUntil));
+    }
+
+    /**
+     * 아직 기록되지 않은 상태 취소 (로그인 성공으로 엔티티가 직접 저장되는 경우)
+     */
+    public void cancel(String email) {
+        pending.remove(email);
+    }
+
+    public boolean isPending(String email) {
+        return pending.contains(email);
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    @Scheduled(fixedDelayString = "${app.security.login-throttle.flush-interval:5000}")
+    public void flush() {
+        if (pending.flush(jdbcTemplate) > 0) {
+            // updated_at을 직접 갱신하므로 엔티티 리스너 대신 기록
+            resourceVersionTracker.changed(Resource.USERS);
+        }
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,251 @@
+package com.enterprise.webtemplate.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * 이메일/클라이언트 IP별 로그인 실패를 메모리에서 집계하는 슬라이딩 윈도우 카운터
+ * 키 해시로 샤드를 나누고 샤드 단위로만 잠가 경합을 줄이며, 잠금 여부를 DB 조회/BCrypt 이전에 판단합니다.
+ * DB에는 잠금 상태가 실제로 바뀔 때만 기록합니다 (LockoutStateWriter).
+ */
+@Component
+public class LoginAttemptThrottle {
+
+    private static final int SHARD_COUNT = 64;
+
+    @Value("${app.security.login-throttle.account.max-failures:5}")
+    private int accountMaxFailures;
+
+    @Value("${app.security.login-throttle.account.window-ms:900000}")
+    private long accountWindowMillis;
+
+    @Value("${app.security.login-throttle.account.lockout-ms:1800000}")
+    private long accountLockoutMillis;
+
+    @Value("${app.security.login-throttle.ip.max-failures:50}")
+    private int ipMaxFailures;
+
+    @Value("${app.security.login-throttle.ip.window-ms:600000}")
+    private long ipWindowMillis;
+
+    private final Shard[] accountShards = newShards();
+    private final Shard[] ipShards = newShards();
+
+    /**
+     * 실패 기록 결과
+     * lockTransition이 true이면 이번 실패로 계정이 새로 잠긴 것입니다.
+     */
+    public static final class FailureResult {
+        private final int failures;
+        private final long lockedUntilMillis;
+        private final boolean lockTransition;
+
+        FailureResult(int failures, long lockedUntilMillis, boolean lockTransition) {
+            this.failures = failures;
+            this.lockedUntilMillis = lockedUntilMillis;
+            this.lockTransition = lockTransition;
+        }
+
+        public int getFailures() { return failures; }
+        public long getLockedUntilMillis() { return lockedUntilMillis; }
+        public boolean isLockTransition() { return lockTransition; }
+    }
+
+    /**
+     * 계정 잠금 해제 시각 (잠겨있지 않으면 0)
+     */
+    public long accountLockedUntil(String email) {
+        if (email == null) {
+            return 0L;
+        }
+        long now = System.currentTimeMillis();
+        Shard shard = shardFor(accountShards, email);
+        synchronized (shard) {
+            SlidingWindow window = shard.windows.get(email);
+            return window != null && window.lockedUntil > now ? window.lockedUntil : 0L;
+        }
+    }
+
+    /**
+     * 클라이언트 IP의 최근 실패가 임계치 이상이면 남은 차단 시간(초), 아니면 0
+     */
+    public long clientRetryAfterSeconds(String clientIp) {
+        if (clientIp == null) {
+            return 0L;
+        }
+        long now = System.currentTimeMillis();
+        Shard shard = shardFor(ipShards, clientIp);
+        synchronized (shard) {
+            SlidingWindow window = shard.windows.get(clientIp);
+            if (window == null || window.countSince(now - ipWindowMillis) < ipMaxFailures) {
+                return 0L;
+            }
+            // 가장 오래된 실패가 윈도우를 벗어나면 다시 허용
+            long releaseAt = window.oldest() + ipWindowMillis;
+            return Math.max(1L, (releaseAt - now + 999) / 1000);
+        }
+    }
+
+    /**
+     * 로그인 실패 기록 (email이 null이면 IP만 집계)
+     */
+    public FailureResult recordFailure(String email, String clientIp) {
+        long now = System.currentTimeMillis();
+
+        if (clientIp != null) {
+            Shard shard = shardFor(ipShards, clientIp);
+            synchronized (shard) {
+                shard.windows.computeIfAbsent(clientIp, key -> new SlidingWindow(ipMaxFailures)).add(now);
+            }
+        }
+
+        if (email == null) {
+            return new FailureResult(0, 0L, false);
+        }
+
+        Shard shard = shardFor(accountShards, email);
+        synchronized (shard) {
+            SlidingWindow window = shard.windows.computeIfAbsent(email, key -> new SlidingWindow(accountMaxFailures));
+            if (window.lockedUntil > now) {
+                return new FailureResult(window.countSince(now - accountWindowMillis), window.lockedUntil, false);
+            }
+
+            window.add(now);
+            int failures = window.countSince(now - accountWindowMillis);
+            if (failures >= accountMaxFailures) {
+                window.lockedUntil = now + accountLockoutMillis;
+                return new FailureResult(failures, window.lockedUntil, true);
+            }
+            return new FailureResult(failures, 0L, false);
+        }
+    }
+
+    /**
+     * 로그인 성공 시 계정 카운터 초기화
+     */
+    public void recordSuccess(String email) {
+        Shard shard = shardFor(accountShards, email);
+        synchronized (shard) {
+            shard.windows.remove(email);
+        }
+    }
+
+    /**
+     * 계정의 실패 기록과 잠금을 모두 해제 (관리자 잠금 해제, 비밀번호 재설정)
+     */
+    public void clear(String email) {
+        recordSuccess(email);
+    }
+
+    /**
+     * DB에 기록된 잠금 상태를 메모리에 반영 (재시작 또는 다른 인스턴스에서 잠근 경우)
+     */
+    public void seedLock(String email, long lockedUntilMillis) {
+        if (lockedUntilMillis <= System.currentTimeMillis()) {
+            return;
+        }
+        Shard shard = shardFor(accountShards, email);
+        synchronized (shard) {
+            SlidingWindow window = shard.windows.computeIfAbsent(email, key -> new SlidingWindow(accountMaxFailures));
+            window.lockedUntil = Math.max(window.lockedUntil, lockedUntilMillis);
+        }
+    }
+
+    /**
+     * 윈도우를 벗어났고 잠금도 끝난 항목 정리
+     */
+    @Scheduled(fixedDelayString = "${app.security.login-throttle.evict-interval:60000}")
+    public void evictIdle() {
+        long now = System.currentTimeMillis();
+        evictIdle(accountShards, now - accountWindowMillis, now);
+        evictIdle(ipShards, now - ipWindowMillis, now);
+    }
+
+    int trackedEntries() {
+        int total = 0;
+        for (Shard shard : accountShards) {
+            synchronized (shard) {
+                total += shard.windows.size();
+            }
+        }
+        for (Shard shard : ipShards) {
+            synchronized (shard) {
+                total += shard.windows.size();
+            }
+        }
+        return total;
+    }
+
+    private void evictIdle(Shard[] shards, long windowStart, long now) {
+        for (Shard shard : shards) {
+            synchronized (shard) {
+                Iterator<Map.Entry<String, SlidingWindow>> iterator = shard.windows.entrySet().iterator();
+                while (iterator.hasNext()) {
+                    SlidingWindow window = iterator.next().getValue();
+                    if (window.lockedUntil <= now && window.countSince(windowStart) == 0) {
+                        iterator.remove();
+                    }
+                }
+            }
+        }
+    }
+
+    private static Shard shardFor(Shard[] shards, String key) {
+        int hash = key.hashCode();
+        return shards[(hash ^ (hash >>> 16)) & (SHARD_COUNT - 1)];
+    }
+
+    private static Shard[] newShards() {
+        Shard[] shards = new Shard[SHARD_COUNT];
+        for (int i = 0; i < SHARD_COUNT; i++) {
+            shards[i] = new Shard();
+        }
+        return shards;
+    }
+
+    private static final class Shard {
+        private final Map<String, SlidingWindow> windows = new HashMap<>();
+    }
+
+    /**
+     * 최근 N개의 실패 시각만 보관하는 링 버퍼
+     * (임계치가 N이므로 그보다 오래된 실패는 판단에 필요 없음)
+     */
+    private static final class SlidingWindow {
+        private final long[] timestamps;
+        private int next;
+        private int size;
+        private long lockedUntil;
+
+        SlidingWindow(int capacity) {
+            this.timestamps = new long[Math.max(1, capacity)];
+        }
+
+        void add(long timestamp) {
+            timestamps[next] = timestamp;
+            next = (next + 1) % timestamps.length;
+            if (size < timestamps.length) {
+                size++;
+            }
+        }
+
+        int countSince(long windowStart) {
+            int count = 0;
+            for (int i = 0; i < size; i++) {
+                if (timestamps[i] > windowStart) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        long oldest() {
+            return size < timestamps.length ? timestamps[0] : timestamps[next];
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.enterprise.webtemplate.security;
+
+/**
+ * 동일 클라이언트의 로그인 실패가 임계치를 넘어 시도를 일시 차단할 때 발생 (HTTP 429로 응답)
+ */
+public class LoginThrottledException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public LoginThrottledException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,188 @@
+package com.enterprise.webtemplate.security;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * BCrypt 전용 스레드 풀
+ * 해싱을 요청 스레드/DB 트랜잭션과 분리하고, 대기열이 가득 차면 즉시 거부하여 로그인 폭주 시에도
+ * 요청 스레드와 커넥션이 해시 계산 시간 동안 묶이지 않도록 합니다.
+ * 기동 시 목표 지연 시간에 맞춰 BCrypt cost를 보정합니다.
+ */
+@Component
+public class PasswordHashingExecutor {
+
+    private static final Logger logger = LoggerFactory.getLogger(PasswordHashingExecutor.class);
+
+    private static final int CALIBRATION_BASE_COST = 10;
+
+    @Value("${app.security.password-hashing.threads:0}")
+    private int threads;
+
+    @Value("${app.security.password-hashing.queue-capacity:64}")
+    private int queueCapacity;
+
+    @Value("${app.security.password-hashing.wait-timeout-ms:5000}")
+    private long waitTimeoutMillis;
+
+    @Value("${app.security.password-hashing.target-millis:250}")
+    private long targetMillis;
+
+    @Value("${app.security.password-hashing.min-strength:10}")
+    private int minStrength;
+
+    @Value("${app.security.password-hashing.max-strength:14}")
+    private int maxStrength;
+
+    // 0보다 크면 보정 없이 고정 cost 사용
+    @Value("${app.security.password-hashing.strength:0}")
+    private int fixedStrength;
+
+    private ThreadPoolExecutor executor;
+    private int strength;
+
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong totalHashNanos = new AtomicLong();
+
+    @PostConstruct
+    void initialize() {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.strength = fixedStrength > 0 ? fixedStrength : calibrate();
+        logger.info("Password hashing executor initialized: threads={}, queueCapacity={}, bcryptStrength={}",
+                poolSize, queueCapacity, strength);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    public int getPoolSize() {
+        return executor.getCorePoolSize();
+    }
+
+    /**
+     * 해싱 작업을 전용 풀에서 실행하고 결과를 기다림
+     * 대기열이 가득 차거나 대기 시간을 넘기면 PasswordHashingSaturatedException을 던집니다.
+     */
+    public <T> T execute(Callable<T> task) {
+        Future<T> future = submit(task);
+        try {
+            return future.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.incrementAndGet();
+            throw new PasswordHashingSaturatedException("요청이 많아 잠시 후 다시 시도해주세요.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 처리 중 인터럽트가 발생했습니다.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("비밀번호 처리 중 오류가 발생했습니다.", cause);
+        }
+    }
+
+    /**
+     * 해싱 작업을 제출만 하고 결과는 기다리지 않음 (대량 처리용, 호출 측에서 동시 제출 수를 제한해야 함)
+     * 대기열이 가득 차면 PasswordHashingSaturatedException을 던집니다.
+     */
+    public <T> Future<T> submit(Callable<T> task) {
+        try {
+            Future<T> future = executor.submit(() -> {
+                long start = System.nanoTime();
+                try {
+                    return task.call();
+                } finally {
+                    totalHashNanos.addAndGet(System.nanoTime() - start);
+                    completed.incrementAndGet();
+                }
+            });
+            submitted.incrementAndGet();
+            return future;
+        } catch (RejectedExecutionException e) {
+            rejected.incrementAndGet();
+            throw new PasswordHashingSaturatedException("요청이 많아 잠시 후 다시 시도해주세요.", e);
+        }
+    }
+
+    /**
+     * 풀 상태 및 처리량 지표
+     */
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new HashMap<>();
+        long done = completed.get();
+        metrics.put("strength", strength);
+        metrics.put("activeThreads", executor.getActiveCount());
+        metrics.put("queueDepth", executor.getQueue().size());
+        metrics.put("queueCapacity", queueCapacity);
+        metrics.put("submitted", submitted.get());
+        metrics.put("rejected", rejected.get());
+        metrics.put("completed", done);
+        metrics.put("averageHashMillis", done > 0 ? totalHashNanos.get() / done / 1_000_000.0 : 0.0);
+        return metrics;
+    }
+
+    /**
+     * 기준 cost의 실제 소요 시간을 측정하여 목표 지연 시간에 가장 가까운 cost를 선택
+     * (cost가 1 증가할 때마다 소요 시간은 두 배가 됩니다)
+     */
+    private int calibrate() {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(CALIBRATION_BASE_COST);
+        probe.encode("calibration-warmup");
+
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            long start = System.nanoTime();
+            probe.encode("calibration-sample");
+            best = Math.min(best, System.nanoTime() - start);
+        }
+
+        double measuredMillis = Math.max(best / 1_000_000.0, 0.1);
+        int cost = CALIBRATION_BASE_COST + (int) Math.round(Math.log(targetMillis / measuredMillis) / Math.log(2));
+        int calibrated = Math.max(minStrength, Math.min(maxStrength, cost));
+        logger.info("BCrypt calibration: cost {} took {}ms, target {}ms -> cost {}",
+                CALIBRATION_BASE_COST, String.format("%.1f", measuredMillis), targetMillis, calibrated);
+        return calibrated;
+    }
+}
@@ -0,0 +1,15 @@
+package com.enterprise.webtemplate.security;
+
+/**
+ * 비밀번호 해싱 풀이 포화 상태라 요청을 즉시 거부할 때 발생 (HTTP 503으로 응답)
+ */
+public class PasswordHashingSaturatedException extends RuntimeException {
+
+    public PasswordHashingSaturatedException(String message) {
+        super(message);
+    }
+
+    public PasswordHashingSaturatedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
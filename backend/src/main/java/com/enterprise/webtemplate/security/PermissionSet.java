@@ -0,0 +1,41 @@
+package com.enterprise.webtemplate.security;
+
+import java.util.BitSet;
+
+/**
+ * RBAC 엔진 스냅샷 기준으로 컴파일된 권한 비트셋
+ * 스냅샷 세대(generation)가 바뀌면 비트 번호가 달라질 수 있으므로 세대가 일치할 때만 사용합니다.
+ */
+public final class PermissionSet {
+
+    private final long generation;
+    private final BitSet bits;
+    // 비트 번호 → 권한 이름 (생성된 세대의 사전, 세대가 바뀌었을 때 이름으로 다시 컴파일하는 데 사용)
+    private final String[] permissionNames;
+
+    PermissionSet(long generation, BitSet bits, String[] permissionNames) {
+        this.generation = generation;
+        this.bits = (BitSet) bits.clone();
+        this.permissionNames = permissionNames;
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    public boolean has(int permissionId) {
+        return permissionId >= 0 && bits.get(permissionId);
+    }
+
+    public int size() {
+        return bits.cardinality();
+    }
+
+    BitSet bits() {
+        return bits;
+    }
+
+    String permissionName(int permissionId) {
+        return permissionId < permissionNames.length ? permissionNames[permissionId] : null;
+    }
+}
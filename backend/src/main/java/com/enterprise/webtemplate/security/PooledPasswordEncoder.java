@@ -0,0 +1,62 @@
+package com.enterprise.webtemplate.security;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.Future;
+
+/**
+ * 해싱/검증을 전용 풀에서 수행하는 BCrypt 인코더
+ * 저장된 해시의 cost가 보정된 cost보다 낮을 때만 로그인 성공 시 재해싱 대상으로 판단합니다.
+ * (느린 호스트에서 보정값이 낮게 나와도 기존 해시를 약한 cost로 낮추지 않음)
+ */
+public class PooledPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordHashingExecutor hashingExecutor;
+    private final BCryptPasswordEncoder delegate;
+
+    public PooledPasswordEncoder(PasswordHashingExecutor hashingExecutor) {
+        this.hashingExecutor = hashingExecutor;
+        this.delegate = new BCryptPasswordEncoder(hashingExecutor.getStrength());
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return hashingExecutor.execute(() -> delegate.encode(rawPassword));
+    }
+
+    /**
+     * 결과를 기다리지 않는 해싱 (일괄 등록용)
+     */
+    public Future<String> encodeAsync(CharSequence rawPassword) {
+        return hashingExecutor.submit(() -> delegate.encode(rawPassword));
+    }
+
+    public int getPoolSize() {
+        return hashingExecutor.getPoolSize();
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return hashingExecutor.execute(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        int storedCost = extractCost(encodedPassword);
+        return storedCost > 0 && storedCost < hashingExecutor.getStrength();
+    }
+
+    // "$2a$10$..." 형식에서 cost 추출 (형식이 다르면 -1)
+    private int extractCost(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7
+                || encodedPassword.charAt(0) != '$' || encodedPassword.charAt(3) != '$') {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(encodedPassword.substring(4, 6));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.enterprise.webtemplate.security;
+
+/**
+ * 역할 또는 권한 구성이 변경되었음을 알리는 이벤트 (커밋 이후 RBAC 스냅샷 재구성)
+ */
+public class RbacChangedEvent {
+
+    private final String reason;
+
+    public RbacChangedEvent(String reason) {
+        this.reason = reason;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+}
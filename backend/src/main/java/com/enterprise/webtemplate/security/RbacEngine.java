@@ -0,0 +1,276 @@
+package com.enterprise.webtemplate.security;
+
+import com.enterprise.webtemplate.entity.Permission;
+import com.enterprise.webtemplate.entity.Role;
+import com.enterprise.webtemplate.repository.PermissionRepository;
+import com.enterprise.webtemplate.repository.RoleRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+
+/**
+ * 메모리 기반 RBAC 엔진
+ * 권한마다 연속된 정수 번호를 부여하고 역할을 비트셋으로 미리 계산해 두어,
+ * 사용자 권한은 역할 비트셋의 OR로, 권한 검사는 단일 비트 검사로 처리합니다.
+ * 역할/권한이 변경되면 커밋 이후 스냅샷 전체를 다시 만들어 원자적으로 교체합니다.
+ */
+@Component
+public class RbacEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(RbacEngine.class);
+
+    @Autowired
+    private PermissionRepository permissionRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    private final AtomicLong generations = new AtomicLong();
+
+    private volatile Snapshot snapshot = Snapshot.empty();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void initialize() {
+        rebuild();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onRbacChanged(RbacChangedEvent event) {
+        rebuild();
+    }
+
+    /**
+     * 권한/역할 테이블로부터 스냅샷 재구성
+     */
+    public void rebuild() {
+        List<Permission> permissions = permissionRepository.findAll();
+        permissions.sort(Comparator.comparing(Permission::getId));
+
+        Map<String, Integer> permissionIds = new HashMap<>();
+        String[] permissionNames = new String[permissions.size()];
+        for (int i = 0; i < permissions.size(); i++) {
+            permissionIds.put(permissions.get(i).getName(), i);
+            permissionNames[i] = permissions.get(i).getName();
+        }
+
+        Map<String, BitSet> roleBits = new HashMap<>();
+        for (Role role : roleRepository.findAll()) {
+            BitSet bits = new BitSet(permissionNames.length);
+            for (Permission permission : role.getPermissions()) {
+                Integer id = permissionIds.get(permission.getName());
+                if (id != null) {
+                    bits.set(id);
+                }
+            }
+            roleBits.put(role.getName(), bits);
+        }
+
+        this.snapshot = new Snapshot(generations.incrementAndGet(), permissionIds, permissionNames, roleBits,
+                fingerprint(permissionNames));
+        logger.info("RBAC snapshot rebuilt: {} permissions, {} roles", permissionNames.length, roleBits.size());
+    }
+
+    public long getGeneration() {
+        return snapshot.generation;
+    }
+
+    public boolean isReady() {
+        return snapshot.generation > 0;
+    }
+
+    /**
+     * 권한 번호 사전의 지문 (권한 목록이 같으면 노드/재시작과 무관하게 동일)
+     */
+    public String getDictionaryFingerprint() {
+        return snapshot.fingerprint;
+    }
+
+    /**
+     * 직렬화된 비트맵을 현재 스냅샷 기준 권한 비트셋으로 복원 (사전 지문이 다르면 null)
+     */
+    public PermissionSet fromBitmap(String fingerprint, byte[] bitmap) {
+        Snapshot current = snapshot;
+        if (!current.fingerprint.equals(fingerprint)) {
+            return null;
+        }
+        return new PermissionSet(current.generation, BitSet.valueOf(bitmap), current.permissionNames);
+    }
+
+    public byte[] toBitmap(PermissionSet permissionSet) {
+        return permissionSet.bits().toByteArray();
+    }
+
+    /**
+     * 권한 이름의 정수 번호 (없으면 -1)
+     */
+    public int permissionId(String permissionName) {
+        return snapshot.permissionIds.getOrDefault(permissionName, -1);
+    }
+
+    /**
+     * 역할 비트셋의 OR로 사용자 유효 권한 계산
+     */
+    public PermissionSet compileRoles(Collection<String> roleNames) {
+        Snapshot current = snapshot;
+        BitSet bits = new BitSet(current.permissionNames.length);
+        for (String roleName : roleNames) {
+            BitSet roleSet = current.roleBits.get(roleName);
+            if (roleSet != null) {
+                bits.or(roleSet);
+            }
+        }
+        return new PermissionSet(current.generation, bits, current.permissionNames);
+    }
+
+    /**
+     * 권한 이름 목록(토큰 클레임 등)을 비트셋으로 컴파일
+     */
+    public PermissionSet compileAuthorities(Collection<String> authorityNames) {
+        Snapshot current = snapshot;
+        BitSet bits = new BitSet(current.permissionNames.length);
+        for (String authority : authorityNames) {
+            Integer id = current.permissionIds.get(authority);
+            if (id != null) {
+                bits.set(id);
+            }
+        }
+        return new PermissionSet(current.generation, bits, current.permissionNames);
+    }
+
+    /**
+     * 비트셋에 대응하는 권한 이름 목록
+     */
+    public List<String> toAuthorityNames(PermissionSet permissionSet) {
+        return toAuthorities(permissionSet).stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList();
+    }
+
+    /**
+     * 비트셋에 대응하는 불변 권한 컬렉션 (동일한 조합은 스냅샷 내에서 재사용)
+     * 재구성과 경합하여 세대가 다르면 비트셋이 만들어진 세대의 권한 이름으로 현재 스냅샷에 다시 컴파일합니다.
+     */
+    public Set<GrantedAuthority> toAuthorities(PermissionSet permissionSet) {
+        Snapshot current = snapshot;
+        BitSet compiled = permissionSet.getGeneration() == current.generation
+                ? permissionSet.bits()
+                : recompile(permissionSet, current);
+        return current.authorityCache.computeIfAbsent(compiled, bits -> {
+            Set<GrantedAuthority> authorities = new LinkedHashSet<>();
+            bits.stream().forEach(id -> authorities.add(new SimpleGrantedAuthority(current.permissionNames[id])));
+            return Collections.unmodifiableSet(authorities);
+        });
+    }
+
+    /**
+     * 인증 정보의 권한 보유 여부 검사
+     * 주체에 현재 세대의 비트셋이 있으면 비트 검사 한 번으로 판단합니다.
+     */
+    public boolean hasPermission(Authentication authentication, String permissionName) {
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return false;
+        }
+
+        Snapshot current = snapshot;
+        Integer id = current.permissionIds.get(permissionName);
+        if (id == null) {
+            // 스냅샷에 없는 권한은 기존 방식대로 이름 비교
+            return authentication.getAuthorities().stream()
+                    .anyMatch(authority -> permissionName.equals(authority.getAuthority()));
+        }
+
+        if (authentication.getPrincipal() instanceof AuthenticatedPrincipal principal
+                && principal.getPermissionSet() != null
+                && principal.getPermissionSet().getGeneration() == current.generation) {
+            return principal.getPermissionSet().has(id);
+        }
+
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            if (permissionName.equals(authority.getAuthority())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * SecurityConfig URL 규칙용 인가 관리자
+     */
+    public AuthorizationManager<RequestAuthorizationContext> requires(String permissionName) {
+        return (authentication, context) -> new AuthorizationDecision(hasPermission(authentication.get(), permissionName));
+    }
+
+    // 이전 세대 비트셋을 권한 이름 기준으로 현재 사전의 번호로 변환 (삭제된 권한은 제외)
+    private static BitSet recompile(PermissionSet permissionSet, Snapshot current) {
+        BitSet bits = new BitSet(current.permissionNames.length);
+        permissionSet.bits().stream().forEach(oldId -> {
+            Integer id = current.permissionIds.get(permissionSet.permissionName(oldId));
+            if (id != null) {
+                bits.set(id);
+            }
+        });
+        return bits;
+    }
+
+    private static String fingerprint(String[] permissionNames) {
+        CRC32 crc = new CRC32();
+        for (String name : permissionNames) {
+            crc.update(name.getBytes(StandardCharsets.UTF_8));
+            crc.update(',');
+        }
+        return Long.toHexString(crc.getValue());
+    }
+
+    private static final class Snapshot {
+        private final long generation;
+        private final Map<String, Integer> permissionIds;
+        private final String[] permissionNames;
+        private final Map<String, BitSet> roleBits;
+        private final String fingerprint;
+        private final ConcurrentHashMap<BitSet, Set<GrantedAuthority>> authorityCache = new ConcurrentHashMap<>();
+
+        private Snapshot(long generation, Map<String, Integer> permissionIds, String[] permissionNames,
+                         Map<String, BitSet> roleBits, String fingerprint) {
+            this.generation = generation;
+            this.permissionIds = permissionIds;
+            this.permissionNames = permissionNames;
+            this.roleBits = roleBits;
+            this.fingerprint = fingerprint;
+        }
+
+        private static Snapshot empty() {
+            return new Snapshot(0L, Map.of(), new String[0], Map.of(), "");
+        }
+    }
+}
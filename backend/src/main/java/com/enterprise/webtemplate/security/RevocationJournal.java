@@ -0,0 +1,33 @@
+package com.enterprise.webtemplate.security;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 토큰 폐기 기록의 영속화/복제 확장 지점
+ * 재시작 후 복원과 다중 노드 간 공유를 위해 구현체를 교체할 수 있습니다. (예: Redis, 메시지 브로커)
+ */
+public interface RevocationJournal {
+
+    /**
+     * 새 폐기 기록 저장 및 다른 노드로 전파
+     */
+    void append(RevocationRecord record);
+
+    /**
+     * 기동 시 아직 만료되지 않은 폐기 기록 로드
+     */
+    List<RevocationRecord> loadActive(long nowMillis);
+
+    /**
+     * 다른 노드에서 전파된 기록 수신 등록 (단일 노드 구현은 무시)
+     */
+    default void subscribe(Consumer<RevocationRecord> listener) {
+    }
+
+    /**
+     * 만료된 기록 정리
+     */
+    default void compact(List<RevocationRecord> activeRecords) {
+    }
+}
@@ -0,0 +1,53 @@
+package com.enterprise.webtemplate.security;
+
+/**
+ * 토큰 폐기 기록
+ * TOKEN은 jti 단위 폐기, USER는 해당 시각 이전에 발급된 사용자 토큰 전체 폐기를 뜻합니다.
+ */
+public class RevocationRecord {
+
+    public enum Type {
+        TOKEN,
+        USER
+    }
+
+    private final Type type;
+    private final String key;
+    private final long revokedAtMillis;
+    private final long expiresAtMillis;
+
+    public RevocationRecord(Type type, String key, long revokedAtMillis, long expiresAtMillis) {
+        this.type = type;
+        this.key = key;
+        this.revokedAtMillis = revokedAtMillis;
+        this.expiresAtMillis = expiresAtMillis;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public long getRevokedAtMillis() {
+        return revokedAtMillis;
+    }
+
+    public long getExpiresAtMillis() {
+        return expiresAtMillis;
+    }
+
+    public boolean isExpiredAt(long nowMillis) {
+        return expiresAtMillis <= nowMillis;
+    }
+
+    String bloomKey() {
+        return bloomKey(type, key);
+    }
+
+    static String bloomKey(Type type, String key) {
+        return (type == Type.TOKEN ? "t:" : "u:") + key;
+    }
+}
@@ -0,0 +1,46 @@
+package com.enterprise.webtemplate.security;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 보안 버전 테이블
+ * 비활성화, 역할 변경, 비밀번호 변경 등 인증 정보가 바뀌면 버전을 올려 이전에 발급된 토큰을 무효화합니다.
+ * 토큰의 "sv" 클레임이 현재 버전과 일치할 때만 DB 조회 없이 클레임으로 인증을 구성합니다.
+ */
+@Component
+public class SecurityVersionRegistry {
+
+    public static final String CLAIM_NAME = "sv";
+
+    // 재시작 이전에 발급된 토큰이 우연히 일치하지 않도록 기동 시각을 기본 버전으로 사용한다
+    private final long bootVersion = System.currentTimeMillis();
+
+    private final ConcurrentHashMap<String, Long> versions = new ConcurrentHashMap<>();
+
+    public long currentVersion(String email) {
+        return versions.getOrDefault(normalize(email), bootVersion);
+    }
+
+    public boolean isCurrent(String email, Object tokenVersion) {
+        if (email == null || !(tokenVersion instanceof Number)) {
+            return false;
+        }
+        return ((Number) tokenVersion).longValue() == currentVersion(email);
+    }
+
+    public long bump(String email) {
+        return versions.compute(normalize(email), (key, current) ->
+                Math.max((current != null ? current : bootVersion) + 1, System.currentTimeMillis()));
+    }
+
+    public void bumpAll(Collection<String> emails) {
+        emails.forEach(this::bump);
+    }
+
+    private String normalize(String email) {
+        return email.toLowerCase().trim();
+    }
+}
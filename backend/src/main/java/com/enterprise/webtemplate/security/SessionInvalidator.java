@@ -0,0 +1,72 @@
+package com.enterprise.webtemplate.security;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 인증 정보 변경 후 기존 토큰 무효화 (보안 버전 갱신, 강제 로그아웃 시 토큰 전체 폐기)
+ * 트랜잭션 안에서 호출되면 커밋 후에만 적용하고 롤백되면 버립니다.
+ * 커밋 전에 버전을 올리면 그 사이 로그인/토큰 갱신이 이전 역할과 활성 상태를 읽고도
+ * 새 버전이 찍힌 토큰을 받아, 만료될 때까지 DB 확인 없이 통과하게 됩니다.
+ */
+@Component
+public class SessionInvalidator {
+
+    @Autowired
+    private SecurityVersionRegistry securityVersionRegistry;
+
+    @Autowired
+    private TokenRevocationStore tokenRevocationStore;
+
+    /**
+     * 보안 버전만 갱신 (기존 토큰은 다음 요청에서 DB로 다시 확인됨)
+     */
+    public void bumpAfterCommit(String email) {
+        apply(List.of(email), false);
+    }
+
+    public void bumpAllAfterCommit(Collection<String> emails) {
+        apply(emails, false);
+    }
+
+    /**
+     * 보안 버전 갱신과 함께 사용자 토큰 전체 폐기 (비활성화, 삭제, 비밀번호 재설정)
+     */
+    public void signOutAfterCommit(String email) {
+        apply(List.of(email), true);
+    }
+
+    public void signOutAllAfterCommit(Collection<String> emails) {
+        apply(emails, true);
+    }
+
+    private void apply(Collection<String> emails, boolean revokeTokens) {
+        if (emails.isEmpty()) {
+            return;
+        }
+        // 커밋 전에 호출자가 목록을 재사용해도 영향이 없도록 복사
+        List<String> targets = List.copyOf(emails);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(targets, revokeTokens);
+                }
+            });
+        } else {
+            invalidate(targets, revokeTokens);
+        }
+    }
+
+    private void invalidate(List<String> emails, boolean revokeTokens) {
+        securityVersionRegistry.bumpAll(emails);
+        if (revokeTokens) {
+            emails.forEach(tokenRevocationStore::revokeAllForUser);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.enterprise.webtemplate.security;
+
+import com.enterprise.webtemplate.service.CustomUserDetailsService;
+import com.enterprise.webtemplate.service.DashboardLivePublisher;
+import com.enterprise.webtemplate.service.JwtService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+
+/**
+ * STOMP 인증/인가 인터셉터
+ * 핸드셰이크에는 Authorization 헤더를 실을 수 없으므로 CONNECT 프레임의 Bearer 토큰으로 세션 사용자를 설정하고
+ * (토큰이 없거나 유효하지 않으면 연결 거부), 대시보드 목적지 구독은 DASHBOARD_VIEW 권한이 있을 때만 허용합니다.
+ * 연결 이후의 SEND/SUBSCRIBE마다 토큰 만료/폐기와 보안 버전을 다시 확인하고, 실패한 세션은 닫습니다.
+ */
+@Component
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+
+    private static final String DASHBOARD_APP_DESTINATION = "/app/dashboard";
+
+    // simple broker와 같은 매처 (/topic/**, /topic/* 같은 패턴 구독도 대시보드 메시지를 받음)
+    private final AntPathMatcher brokerPathMatcher = new AntPathMatcher();
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
+
+    @Autowired
+    private TokenRevocationStore tokenRevocationStore;
+
+    @Autowired
+    private RbacEngine rbacEngine;
+
+    @Autowired
+    private SecurityVersionRegistry securityVersionRegistry;
+
+    @Autowired
+    private StompSessionRegistry stompSessionRegistry;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null) {
+            return message;
+        }
+
+        if (StompCommand.CONNECT.equals(accessor.getCommand())) {
+            String authHeader = accessor.getFirstNativeHeader("Authorization");
+            if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+                throw new AccessDeniedException("인증이 필요합니다.");
+            }
+            accessor.setUser(authenticate(accessor.getSessionId(), authHeader.substring(7)));
+            return message;
+        }
+
+        if (StompCommand.SEND.equals(accessor.getCommand()) || StompCommand.SUBSCRIBE.equals(accessor.getCommand())) {
+            if (!stompSessionRegistry.revalidate(accessor.getSessionId())) {
+                throw new AccessDeniedException("세션이 만료되었거나 인증 정보가 변경되었습니다.");
+            }
+        }
+
+        if (StompCommand.SUBSCRIBE.equals(accessor.getCommand())
+                && isDashboardDestination(accessor.getDestination())) {
+            if (!(accessor.getUser() instanceof Authentication authentication)
+                    || !rbacEngine.hasPermission(authentication, "DASHBOARD_VIEW")) {
+                throw new AccessDeniedException("대시보드 조회 권한이 없습니다.");
+            }
+        }
+        return message;
+    }
+
+    // 구독 목적지(패턴 포함)가 대시보드 토픽을 받게 되는지 여부
+    private boolean isDashboardDestination(String destination) {
+        if (destination == null) {
+            return false;
+        }
+        return DASHBOARD_APP_DESTINATION.equals(destination)
+                || brokerPathMatcher.match(destination, DashboardLivePublisher.TOPIC);
+    }
+
+    private Authentication authenticate(String sessionId, String jwt) {
+        try {
+            VerifiedToken verifiedToken = jwtService.verify(jwt);
+            if (tokenRevocationStore.isRevoked(verifiedToken)) {
+                throw new AccessDeniedException("유효하지 않은 토큰입니다.");
+            }
+            // DB 조회 전에 읽어야 조회와 검증 사이의 역할/활성 상태 변경도 다음 프레임에서 걸러짐
+            long securityVersion = securityVersionRegistry.currentVersion(verifiedToken.getSubject());
+            // 연결당 한 번이므로 항상 DB에서 사용자 활성 상태를 확인
+            UserDetails userDetails = userDetailsService.loadUserByUsername(verifiedToken.getSubject());
+            if (!userDetails.isEnabled() || !jwtService.isTokenValid(verifiedToken, userDetails)) {
+                throw new AccessDeniedException("유효하지 않은 토큰입니다.");
+            }
+            stompSessionRegistry.bind(sessionId, verifiedToken, securityVersion);
+            return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+        } catch (AccessDeniedException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new AccessDeniedException("유효하지 않은 토큰입니다.");
+        }
+    }
+}
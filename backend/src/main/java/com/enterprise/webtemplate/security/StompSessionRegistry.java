@@ -0,0 +1,103 @@
+package com.enterprise.webtemplate.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * STOMP 세션별 인증 정보
+ * CONNECT 때 검증한 토큰과 그 시점의 보안 버전을 기억해 두고, 이후 프레임 처리와 대시보드 발행 전에
+ * 토큰 만료/폐기와 보안 버전 변경(비활성화, 역할/권한 변경)을 다시 확인하여 통과하지 못한 세션은 서버에서 닫습니다.
+ * 세션을 닫을 수 있도록 WebSocket 핸들러를 감싸 열린 세션을 함께 추적합니다.
+ */
+@Component
+public class StompSessionRegistry implements WebSocketHandlerDecoratorFactory {
+
+    private static final Logger logger = LoggerFactory.getLogger(StompSessionRegistry.class);
+
+    // CONNECT 때 확인한 토큰과 보안 버전
+    private record Credentials(VerifiedToken token, long securityVersion) {
+    }
+
+    @Autowired
+    private SecurityVersionRegistry securityVersionRegistry;
+
+    @Autowired
+    private TokenRevocationStore tokenRevocationStore;
+
+    private final Map<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
+    private final Map<String, Credentials> credentials = new ConcurrentHashMap<>();
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                sessions.put(session.getId(), session);
+                super.afterConnectionEstablished(session);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                sessions.remove(session.getId());
+                credentials.remove(session.getId());
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    /**
+     * CONNECT 인증 결과 기록 (보안 버전은 사용자 조회 전에 읽은 값을 넘겨야 그 사이 변경을 놓치지 않음)
+     */
+    public void bind(String sessionId, VerifiedToken token, long securityVersion) {
+        credentials.put(sessionId, new Credentials(token, securityVersion));
+    }
+
+    /**
+     * 토큰이 만료/폐기되지 않았고 CONNECT 이후 보안 버전이 바뀌지 않았는지 확인
+     */
+    public boolean isValid(String sessionId) {
+        Credentials current = sessionId != null ? credentials.get(sessionId) : null;
+        return current != null
+                && !current.token().isExpired()
+                && !tokenRevocationStore.isRevoked(current.token())
+                && securityVersionRegistry.currentVersion(current.token().getSubject()) == current.securityVersion();
+    }
+
+    /**
+     * 확인에 실패한 세션은 닫고 false 반환
+     */
+    public boolean revalidate(String sessionId) {
+        if (isValid(sessionId)) {
+            return true;
+        }
+        close(sessionId);
+        return false;
+    }
+
+    private void close(String sessionId) {
+        if (sessionId == null) {
+            return;
+        }
+        credentials.remove(sessionId);
+        WebSocketSession session = sessions.remove(sessionId);
+        if (session == null) {
+            return;
+        }
+        try {
+            session.close(CloseStatus.POLICY_VIOLATION);
+        } catch (IOException e) {
+            logger.debug("Failed to close STOMP session {}: {}", sessionId, e.getMessage());
+        }
+    }
+}
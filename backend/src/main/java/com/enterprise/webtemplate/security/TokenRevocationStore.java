@@ -0,0 +1,150 @@
+package com.enterprise.webtemplate.security;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 토큰 폐기 저장소
+ * 폐기된 jti와 사용자별 폐기 시각을 만료 시각까지만 보관하며, 앞단의 Bloom 필터로
+ * 대부분의 (폐기되지 않은) 토큰을 I/O 없이 상수 시간에 통과시킵니다.
+ */
+@Component
+public class TokenRevocationStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenRevocationStore.class);
+
+    @Autowired
+    private RevocationJournal revocationJournal;
+
+    @Value("${app.jwt.revocation.expected-entries:100000}")
+    private int expectedEntries;
+
+    @Value("${app.jwt.revocation.false-positive-rate:0.001}")
+    private double falsePositiveRate;
+
+    @Value("${app.jwt.refresh-expiration}")
+    private long maxTokenLifetime;
+
+    private final ConcurrentHashMap<String, RevocationRecord> revokedTokens = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, RevocationRecord> revokedUsers = new ConcurrentHashMap<>();
+    private final Object writeLock = new Object();
+
+    private volatile BloomFilter bloomFilter;
+
+    @PostConstruct
+    void initialize() {
+        long now = System.currentTimeMillis();
+        synchronized (writeLock) {
+            bloomFilter = new BloomFilter(expectedEntries, falsePositiveRate);
+            for (RevocationRecord record : revocationJournal.loadActive(now)) {
+                apply(record);
+            }
+        }
+        revocationJournal.subscribe(this::applyReplicated);
+        logger.info("Token revocation store initialized with {} tokens and {} users",
+                revokedTokens.size(), revokedUsers.size());
+    }
+
+    /**
+     * 단일 토큰 폐기 (만료 시각까지 보관)
+     */
+    public void revokeToken(String tokenId, long expiresAtMillis) {
+        if (tokenId == null) {
+            return;
+        }
+        record(new RevocationRecord(RevocationRecord.Type.TOKEN, tokenId, System.currentTimeMillis(), expiresAtMillis));
+    }
+
+    /**
+     * 현재 시각 이전에 발급된 사용자 토큰 전체 폐기 (강제 로그아웃)
+     */
+    public void revokeAllForUser(String email) {
+        long now = System.currentTimeMillis();
+        record(new RevocationRecord(RevocationRecord.Type.USER, email.toLowerCase().trim(), now, now + maxTokenLifetime));
+    }
+
+    public boolean isRevoked(VerifiedToken token) {
+        Object tokenId = token.getClaim("jti");
+        return isRevoked(tokenId != null ? tokenId.toString() : null, token.getSubject(), token.getIssuedAtMillis());
+    }
+
+    public boolean isRevoked(String tokenId, String email, long issuedAtMillis) {
+        BloomFilter filter = bloomFilter;
+
+        if (tokenId != null && filter.mightContain(RevocationRecord.bloomKey(RevocationRecord.Type.TOKEN, tokenId))) {
+            RevocationRecord record = revokedTokens.get(tokenId);
+            if (record != null && !record.isExpiredAt(System.currentTimeMillis())) {
+                return true;
+            }
+        }
+
+        if (email != null) {
+            String key = email.toLowerCase().trim();
+            if (filter.mightContain(RevocationRecord.bloomKey(RevocationRecord.Type.USER, key))) {
+                RevocationRecord record = revokedUsers.get(key);
+                // 발급 시각은 밀리초 단위 (iatm 클레임이 없는 이전 토큰은 초 단위로 내림되어 더 이르게 비교됨)
+                return record != null && issuedAtMillis < record.getRevokedAtMillis();
+            }
+        }
+        return false;
+    }
+
+    public int size() {
+        return revokedTokens.size() + revokedUsers.size();
+    }
+
+    /**
+     * 만료된 기록을 제거하고 Bloom 필터를 다시 만든다 (Bloom 필터는 삭제를 지원하지 않으므로)
+     */
+    @Scheduled(fixedDelayString = "${app.jwt.revocation.purge-interval:600000}")
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        List<RevocationRecord> active = new ArrayList<>();
+        synchronized (writeLock) {
+            revokedTokens.values().removeIf(record -> record.isExpiredAt(now));
+            revokedUsers.values().removeIf(record -> record.isExpiredAt(now));
+
+            BloomFilter rebuilt = new BloomFilter(Math.max(expectedEntries, size() * 2), falsePositiveRate);
+            revokedTokens.values().forEach(record -> rebuilt.put(record.bloomKey()));
+            revokedUsers.values().forEach(record -> rebuilt.put(record.bloomKey()));
+            bloomFilter = rebuilt;
+
+            active.addAll(revokedTokens.values());
+            active.addAll(revokedUsers.values());
+        }
+        revocationJournal.compact(active);
+    }
+
+    private void record(RevocationRecord record) {
+        synchronized (writeLock) {
+            apply(record);
+        }
+        revocationJournal.append(record);
+    }
+
+    private void applyReplicated(RevocationRecord record) {
+        synchronized (writeLock) {
+            apply(record);
+        }
+    }
+
+    // 호출 측에서 writeLock을 잡고 있어야 한다 (Bloom 필터 교체와의 경합 방지)
+    private void apply(RevocationRecord record) {
+        if (record.getType() == RevocationRecord.Type.TOKEN) {
+            revokedTokens.put(record.getKey(), record);
+        } else {
+            revokedUsers.merge(record.getKey(), record, (existing, incoming) ->
+                    incoming.getRevokedAtMillis() >= existing.getRevokedAtMillis() ? incoming : existing);
+        }
+        bloomFilter.put(record.bloomKey());
+    }
+}
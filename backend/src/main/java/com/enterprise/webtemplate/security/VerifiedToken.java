@@ -0,0 +1,84 @@
+package com.enterprise.webtemplate.security;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 서명 검증이 끝난 JWT의 불변 표현
+ * 한 번 파싱한 결과를 필터와 서비스가 공유하여 재파싱/재검증을 피합니다.
+ */
+public final class VerifiedToken {
+
+    private final String subject;
+    private final List<String> authorities;
+    private final long issuedAtMillis;
+    private final long expiresAtMillis;
+    private final Map<String, Object> claims;
+    private final PermissionSet permissionSet;
+    private final boolean authoritiesResolved;
+
+    public VerifiedToken(String subject, List<String> authorities, Date issuedAt, Date expiration,
+                         Map<String, Object> claims) {
+        this(subject, authorities, issuedAt, expiration, claims, null, true);
+    }
+
+    public VerifiedToken(String subject, List<String> authorities, Date issuedAt, Date expiration,
+                         Map<String, Object> claims, PermissionSet permissionSet, boolean authoritiesResolved) {
+        this.subject = subject;
+        this.authorities = authorities != null ? List.copyOf(authorities) : List.of();
+        this.permissionSet = permissionSet;
+        this.authoritiesResolved = authoritiesResolved;
+        this.issuedAtMillis = issuedAt != null ? issuedAt.getTime() : 0L;
+        this.expiresAtMillis = expiration != null ? expiration.getTime() : Long.MAX_VALUE;
+        this.claims = Collections.unmodifiableMap(new HashMap<>(claims));
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public List<String> getAuthorities() {
+        return authorities;
+    }
+
+    /**
+     * 압축 권한 클레임에서 바로 복원한 비트셋 (압축 형식이 아니면 null)
+     */
+    public PermissionSet getPermissionSet() {
+        return permissionSet;
+    }
+
+    /**
+     * 권한 클레임을 해석할 수 있었는지 여부 (압축 사전이 바뀐 경우 false)
+     */
+    public boolean isAuthoritiesResolved() {
+        return authoritiesResolved;
+    }
+
+    public long getIssuedAtMillis() {
+        return issuedAtMillis;
+    }
+
+    public long getExpiresAtMillis() {
+        return expiresAtMillis;
+    }
+
+    public Object getClaim(String name) {
+        return claims.get(name);
+    }
+
+    public Map<String, Object> getClaims() {
+        return claims;
+    }
+
+    public boolean isExpired() {
+        return isExpiredAt(System.currentTimeMillis());
+    }
+
+    public boolean isExpiredAt(long nowMillis) {
+        return expiresAtMillis <= nowMillis;
+    }
+}
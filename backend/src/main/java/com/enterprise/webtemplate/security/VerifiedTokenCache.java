@@ -0,0 +1,104 @@
+package com.enterprise.webtemplate.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 검증된 JWT 캐시
+ * 토큰 원문 대신 SHA-256 다이제스트를 키로 사용하며, 크기 상한과 토큰 만료 시각을 함께 적용합니다.
+ * 동일한 Bearer 토큰이 반복해서 들어오면 서명 검증 없이 캐시된 결과를 반환합니다.
+ * 가득 차면 가장 오래 사용되지 않은 항목부터 하나씩 밀어내므로 자주 쓰이는 토큰은 재검증되지 않습니다.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    @Value("${app.jwt.verification-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.jwt.verification-cache.max-size:10000}")
+    private int maxSize;
+
+    // 다이제스트 충돌 시 다른 토큰의 검증 결과를 돌려주지 않도록 서명 부분을 함께 보관
+    private record Entry(String signature, VerifiedToken token) {
+    }
+
+    // 접근 순서 LinkedHashMap (LRU), 조회도 순서를 바꾸므로 항상 잠금 안에서 접근
+    private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > maxSize;
+        }
+    };
+
+    String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = messageDigest.digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 캐시 조회 (만료된 항목은 제거 후 그대로 반환하여 호출 측에서 만료 처리)
+     */
+    public VerifiedToken get(String token) {
+        if (!enabled) {
+            return null;
+        }
+        String digest = digest(token);
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(digest);
+            if (entry == null || !entry.signature().equals(signature(token))) {
+                return null;
+            }
+            if (entry.token().isExpired()) {
+                entries.remove(digest);
+            }
+        }
+        return entry.token();
+    }
+
+    public void put(String token, VerifiedToken verified) {
+        if (!enabled || verified.isExpired()) {
+            return;
+        }
+        String digest = digest(token);
+        Entry entry = new Entry(signature(token), verified);
+        synchronized (entries) {
+            entries.put(digest, entry);
+        }
+    }
+
+    public void invalidate(String token) {
+        String digest = digest(token);
+        synchronized (entries) {
+            entries.remove(digest);
+        }
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private String signature(String token) {
+        return token.substring(token.lastIndexOf('.') + 1);
+    }
+}
@@ -0,0 +1,314 @@
+package com.enterprise.webtemplate.service;
+
+import com.enterprise.webtemplate.entity.ActivityEvent;
+import com.enterprise.webtemplate.entity.ActivityEvent.ActivityType;
+import com.enterprise.webtemplate.repository.ActivityEventRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 활동 이벤트 로그
+ * 커밋된 활동을 메모리 링 버퍼(최근 ring-capacity건)에 바로 추가하고, activity_events 테이블에는 모아서 일괄 INSERT합니다.
+ * 최신 피드는 링 버퍼에서 쿼리 없이 제공하고, 버퍼보다 오래된 구간만 DB에서 id 역순으로 조회합니다.
+ * id는 기록 순서대로 이 인스턴스에서 부여하므로(기동 시 MAX(id)부터 시작) 단일 인스턴스 배포를 전제로 합니다.
+ * DB 기록이 계속 실패해도 메모리가 늘지 않도록 대기 건수는 max-pending건으로 제한하고, 넘치면 가장 오래된 이벤트부터 버립니다.
+ */
+@Component
+public class ActivityEventLog {
+
+    private static final Logger logger = LoggerFactory.getLogger(ActivityEventLog.class);
+
+    private static final String INSERT_SQL = "INSERT INTO activity_events " +
+            "(id, type, actor_id, target_id, message, created_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final int MAX_MESSAGE_LENGTH = 500;
+
+    @Autowired
+    private ActivityEventRepository activityEventRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${app.activity.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.activity.ring-capacity:1000}")
+    private int ringCapacity;
+
+    // 기록 대기 건수가 이 값만큼 쌓일 때마다 주기를 기다리지 않고 바로 기록
+    @Value("${app.activity.batch-size:200}")
+    private int batchSize;
+
+    // DB에 기록하지 못하고 쌓아 둘 수 있는 최대 건수
+    @Value("${app.activity.max-pending:10000}")
+    private int maxPending;
+
+    private final AtomicLong sequence = new AtomicLong();
+    // 앞쪽이 가장 오래된 이벤트 (실패한 묶음은 앞쪽으로 되돌림)
+    private final ConcurrentLinkedDeque<ActivityEvent> pending = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    // 링 버퍼 (head는 다음에 쓸 위치), 추가와 id 부여는 쓰기 잠금으로 직렬화하여 버퍼가 항상 id 순서를 유지
+    private final ReadWriteLock ringLock = new ReentrantReadWriteLock();
+    private ActivityEvent[] ring = new ActivityEvent[0];
+    private int head;
+    private int size;
+    // 버퍼가 지금까지의 모든 이벤트를 담고 있으면 true (버퍼보다 오래된 이벤트가 DB에 없음)
+    private boolean complete;
+    private volatile boolean ready;
+
+    @PostConstruct
+    void initialize() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Long maxId = activityEventRepository.findMaxId();
+            List<ActivityEvent> tail = activityEventRepository.findByIdLessThanOrderByIdDesc(
+                    Long.MAX_VALUE, PageRequest.of(0, ringCapacity));
+
+            ringLock.writeLock().lock();
+            try {
+                ring = new ActivityEvent[ringCapacity];
+                head = 0;
+                size = 0;
+                for (int i = tail.size() - 1; i >= 0; i--) {
+                    append(tail.get(i));
+                }
+                complete = tail.size() < ringCapacity;
+                sequence.set(maxId != null ? maxId : 0L);
+            } finally {
+                ringLock.writeLock().unlock();
+            }
+            ready = true;
+            logger.info("Activity event log initialized: {} recent event(s), last id {}", tail.size(), sequence.get());
+        } catch (RuntimeException e) {
+            // id를 이어서 부여할 수 없으면 기록하지 않음 (피드는 DB 조회로 동작)
+            logger.warn("Activity event log disabled, failed to load recent events: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 활동 기록 (트랜잭션 안이면 커밋 후에 반영)
+     */
+    public void record(ActivityType type, Long actorId, Long targetId, String message) {
+        if (!ready) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(type, actorId, targetId, message);
+                }
+            });
+        } else {
+            publish(type, actorId, targetId, message);
+        }
+    }
+
+    /**
+     * 사용자 일괄 처리는 대상 수와 관계없이 한 건으로 기록
+     */
+    @EventListener
+    public void onUserBulkUpdated(UserBulkUpdatedEvent event) {
+        record(ActivityType.USER_BULK_UPDATE, null, null, String.format("%s님이 사용자 %d명을 일괄 %s했습니다.",
+                event.getActorEmail(), event.getUserIds().size(), event.describe()));
+    }
+
+    /**
+     * 최신순 피드 (before보다 작은 id, types가 비어 있으면 전체 유형)
+     * 버퍼에서 limit건을 채우면 쿼리 없이 반환하고, 모자라면 버퍼보다 오래된 구간만 DB에서 이어서 조회합니다.
+     */
+    public List<ActivityEvent> feed(Long before, Set<ActivityType> types, int limit) {
+        long upper = before != null ? before : Long.MAX_VALUE;
+        List<ActivityEvent> page = new ArrayList<>(limit);
+        long oldestBuffered;
+        boolean coversAll;
+
+        ringLock.readLock().lock();
+        try {
+            for (int i = 1; i <= size && page.size() < limit; i++) {
+                ActivityEvent event = ring[Math.floorMod(head - i, ring.length)];
+                if (event.getId() < upper && (types.isEmpty() || types.contains(event.getType()))) {
+                    page.add(event);
+                }
+            }
+            oldestBuffered = size > 0 ? ring[Math.floorMod(head - size, ring.length)].getId() : upper;
+            coversAll = ready && complete;
+        } finally {
+            ringLock.readLock().unlock();
+        }
+
+        if (page.size() >= limit || coversAll) {
+            return page;
+        }
+        PageRequest remaining = PageRequest.of(0, limit - page.size());
+        long olderThan = Math.min(upper, oldestBuffered);
+        page.addAll(types.isEmpty()
+                ? activityEventRepository.findByIdLessThanOrderByIdDesc(olderThan, remaining)
+                : activityEventRepository.findByIdLessThanAndTypeInOrderByIdDesc(olderThan, types, remaining));
+        return page;
+    }
+
+    /**
+     * 마지막으로 부여된 id (피드 응답 버전 계산용)
+     */
+    public long latestId() {
+        return sequence.get();
+    }
+
+    public int pendingCount() {
+        return pendingCount.get();
+    }
+
+    /**
+     * 대기 건수 제한으로 기록하지 못하고 버린 이벤트 수 (기동 이후 누적)
+     */
+    public long droppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * 대기 중인 이벤트를 한 트랜잭션으로 일괄 INSERT (실패하면 다음 주기에 다시 시도)
+     */
+    @Scheduled(fixedDelayString = "${app.activity.flush-interval:2000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            drain();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+
+    private void publish(ActivityType type, Long actorId, Long targetId, String message) {
+        String text = message.length() > MAX_MESSAGE_LENGTH ? message.substring(0, MAX_MESSAGE_LENGTH) : message;
+        ActivityEvent event;
+        ringLock.writeLock().lock();
+        try {
+            event = new ActivityEvent(sequence.incrementAndGet(), type, actorId, targetId, text, LocalDateTime.now());
+            append(event);
+        } finally {
+            ringLock.writeLock().unlock();
+        }
+
+        pending.addLast(event);
+        int count = pendingCount.incrementAndGet();
+        if (count > maxPending) {
+            // 기록이 밀려 제한을 넘음 (다음 주기의 flush가 다시 시도)
+            trimPending();
+            return;
+        }
+        // batch-size건이 쌓일 때마다 호출 스레드에서 바로 기록 (이미 다른 스레드가 기록 중이면 생략)
+        if (count % batchSize == 0 && flushLock.tryLock()) {
+            try {
+                drain();
+            } finally {
+                flushLock.unlock();
+            }
+        }
+    }
+
+    // 쓰기 잠금 안에서 호출
+    private void append(ActivityEvent event) {
+        if (ring.length == 0) {
+            return;
+        }
+        ring[head] = event;
+        head = (head + 1) % ring.length;
+        if (size < ring.length) {
+            size++;
+        } else {
+            complete = false;
+        }
+    }
+
+    private void drain() {
+        List<ActivityEvent> batch = new ArrayList<>();
+        ActivityEvent event;
+        while ((event = pending.poll()) != null) {
+            batch.add(event);
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        pendingCount.addAndGet(-batch.size());
+
+        List<Object[]> rows = new ArrayList<>(batch.size());
+        for (ActivityEvent e : batch) {
+            rows.add(new Object[]{e.getId(), e.getType().name(), e.getActorId(), e.getTargetId(), e.getMessage(),
+                    Timestamp.valueOf(e.getCreatedAt())});
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_SQL, rows));
+        } catch (RuntimeException e) {
+            // 기록 순서를 유지하도록 그 사이 새로 쌓인 이벤트보다 앞에 되돌림
+            for (int i = batch.size() - 1; i >= 0; i--) {
+                pending.addFirst(batch.get(i));
+            }
+            pendingCount.addAndGet(batch.size());
+            int dropped = trimPending();
+            logger.warn("Failed to flush {} activity event(s), dropped {} oldest ({} in total): {}",
+                    batch.size(), dropped, droppedCount.get(), e.getMessage());
+        }
+    }
+
+    // 대기 건수가 제한을 넘으면 가장 오래된 이벤트부터 버림 (버린 건수 반환)
+    private int trimPending() {
+        int dropped = 0;
+        while (true) {
+            int current = pendingCount.get();
+            if (current <= maxPending) {
+                break;
+            }
+            if (!pendingCount.compareAndSet(current, current - 1)) {
+                continue;
+            }
+            if (pending.pollFirst() == null) {
+                // 다른 스레드가 먼저 꺼내 감
+                pendingCount.incrementAndGet();
+                break;
+            }
+            dropped++;
+        }
+        if (dropped > 0) {
+            droppedCount.addAndGet(dropped);
+        }
+        return dropped;
+    }
+}
@@ -2,8 +2,15 @@ package com.enterprise.webtemplate.service;
 
 import com.enterprise.webtemplate.dto.LoginRequest;
 import com.enterprise.webtemplate.dto.LoginResponse;
+import com.enterprise.webtemplate.entity.ActivityEvent.ActivityType;
 import com.enterprise.webtemplate.entity.User;
+import com.enterprise.webtemplate.repository.TouchCoalescer;
 import com.enterprise.webtemplate.repository.UserRepository;
+import com.enterprise.webtemplate.security.LockoutStateWriter;
+import com.enterprise.webtemplate.security.LoginAttemptThrottle;
+import com.enterprise.webtemplate.security.LoginThrottledException;
+import com.enterprise.webtemplate.security.TokenRevocationStore;
+import com.enterprise.webtemplate.security.VerifiedToken;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -12,9 +19,10 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 
 @Service
 public class AuthService {
@@ -34,16 +42,48 @@ public class AuthService {
     @Autowired
     private PasswordService passwordService;
 
-    private static final int MAX_FAILED_ATTEMPTS = 5;
-    private static final int LOCKOUT_DURATION_MINUTES = 30;
+    @Autowired
+    private TokenRevocationStore tokenRevocationStore;
+
+    @Autowired
+    private LoginAttemptThrottle loginAttemptThrottle;
+
+    @Autowired
+    private LockoutStateWriter lockoutStateWriter;
 
-    @Transactional
+    @Autowired
+    private TouchCoalescer touchCoalescer;
+
+    @Autowired
+    private ActivityEventLog activityEventLog;
+
+    // 비밀번호 검증(BCrypt)은 해싱 풀에서 수행되므로 트랜잭션으로 감싸지 않음
+    // (조회/갱신은 각각 짧은 트랜잭션으로 처리되어 해시 계산 동안 커넥션을 점유하지 않음)
     public LoginResponse login(LoginRequest loginRequest) {
+        return login(loginRequest, null);
+    }
+
+    public LoginResponse login(LoginRequest loginRequest, String clientIp) {
         String email = loginRequest.getEmail().toLowerCase().trim();
+
+        // 메모리 카운터로 차단 여부를 먼저 판단 (DB 조회/BCrypt 이전)
+        long retryAfterSeconds = loginAttemptThrottle.clientRetryAfterSeconds(clientIp);
+        if (retryAfterSeconds > 0) {
+            throw new LoginThrottledException("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.", retryAfterSeconds);
+        }
+        long lockedUntil = loginAttemptThrottle.accountLockedUntil(email);
+        if (lockedUntil > 0) {
+            throw new DisabledException(
+                String.format("계정이 잠겨있습니다. %s 이후에 다시 시도해주세요.", toLocalDateTime(lockedUntil))
+            );
+        }
         
         // 사용자 조회
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new BadCredentialsException("이메일 또는 비밀번호가 올바르지 않습니다."));
+        User user = userRepository.findByEmail(email).orElse(null);
+        if (user == null) {
+            loginAttemptThrottle.recordFailure(null, clientIp);
+            throw new BadCredentialsException("이메일 또는 비밀번호가 올바르지 않습니다.");
+        }
 
         // 계정 상태 검증
         validateUserAccount(user, loginRequest.getPassword());
@@ -71,7 +111,7 @@ public class AuthService {
 
         } catch (BadCredentialsException e) {
             // 로그인 실패 처리
-            handleFailedLogin(user);
+            handleFailedLogin(user, clientIp);
             throw new BadCredentialsException("이메일 또는 비밀번호가 올바르지 않습니다.");
         }
     }
@@ -92,8 +132,10 @@ public class AuthService {
             throw new DisabledException(message);
         }
 
-        // 계정 잠금 상태 확인
+        // 계정 잠금 상태 확인 (재시작 또는 다른 인스턴스에서 잠근 경우 메모리에도 반영)
         if (!user.isAccountNonLocked()) {
+            loginAttemptThrottle.seedLock(user.getEmail(),
+                    user.getAccountLockedUntil().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
             throw new DisabledException(
                 String.format("계정이 잠겨있습니다. %s 이후에 다시 시도해주세요.", 
                     user.getAccountLockedUntil())
@@ -114,37 +156,52 @@ public class AuthService {
         return user.getPasswordChangedAt().isBefore(LocalDateTime.now().minusDays(90));
     }
 
-    @Transactional
     private void handleSuccessfulLogin(User user) {
-        // 로그인 시간 업데이트
+        loginAttemptThrottle.recordSuccess(user.getEmail());
+
+        // 실패 카운트 초기화 (DB에 잠금 이력이 남아있을 때만 기록)
+        if (user.getFailedLoginAttempts() > 0 || user.getAccountLockedUntil() != null) {
+            lockoutStateWriter.enqueue(user.getEmail(), 0, null);
+            user.setFailedLoginAttempts(0);
+            user.setAccountLockedUntil(null);
+        } else {
+            lockoutStateWriter.cancel(user.getEmail());
+        }
+
+        // 로그인 시간은 모아서 주기적으로 일괄 반영 (사용자당 flush 주기마다 최대 1회 기록)
         user.setLastLoginAt(LocalDateTime.now());
-        
-        // 실패 카운트 초기화
-        user.setFailedLoginAttempts(0);
-        user.setAccountLockedUntil(null);
-        
-        userRepository.save(user);
+        touchCoalescer.touch(TouchCoalescer.USER_LAST_LOGIN, user.getId());
+        activityEventLog.record(ActivityType.LOGIN, user.getId(), user.getId(), user.getName() + "님이 로그인했습니다.");
     }
 
-    @Transactional
-    private void handleFailedLogin(User user) {
-        int failedAttempts = user.getFailedLoginAttempts() + 1;
-        user.setFailedLoginAttempts(failedAttempts);
-
-        if (failedAttempts >= MAX_FAILED_ATTEMPTS) {
-            // 계정 잠금
-            user.setAccountLockedUntil(LocalDateTime.now().plusMinutes(LOCKOUT_DURATION_MINUTES));
+    private void handleFailedLogin(User user, String clientIp) {
+        // 실패 횟수는 메모리에서만 집계하고, 계정이 새로 잠길 때만 DB에 기록
+        LoginAttemptThrottle.FailureResult result = loginAttemptThrottle.recordFailure(user.getEmail(), clientIp);
+        if (result.isLockTransition()) {
+            lockoutStateWriter.enqueue(user.getEmail(), result.getFailures(),
+                    toLocalDateTime(result.getLockedUntilMillis()));
         }
+    }
 
-        userRepository.save(user);
+    private LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
     }
 
     public LoginResponse refreshToken(String refreshToken) {
         try {
-            String username = jwtService.extractUsername(refreshToken);
+            // 로그아웃/강제 로그아웃/비밀번호 재설정으로 폐기된 리프레시 토큰은 새 토큰을 발급받을 수 없음
+            VerifiedToken verifiedToken = jwtService.verify(refreshToken);
+            if (tokenRevocationStore.isRevoked(verifiedToken)) {
+                throw new BadCredentialsException("폐기된 리프레시 토큰입니다.");
+            }
+
+            String username = verifiedToken.getSubject();
             UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+            if (!userDetails.isEnabled() || !userDetails.isAccountNonLocked()) {
+                throw new DisabledException("비활성화되었거나 잠긴 계정입니다.");
+            }
 
-            if (jwtService.isTokenValid(refreshToken, userDetails)) {
+            if (jwtService.isTokenValid(verifiedToken, userDetails)) {
                 String newAccessToken = jwtService.generateToken(userDetails);
                 String newRefreshToken = jwtService.generateRefreshToken(userDetails);
 
@@ -166,7 +223,39 @@ public class AuthService {
     }
 
     public void logout(String token) {
-        // 토큰 블랙리스트 처리 (필요시 Redis 등을 사용하여 구현)
-        // 현재는 클라이언트에서 토큰을 삭제하는 것으로 처리
+        logout(token, null);
+    }
+
+    /**
+     * 액세스 토큰과 (전달된 경우) 같은 사용자의 리프레시 토큰을 함께 폐기
+     */
+    public void logout(String token, String refreshToken) {
+        VerifiedToken verifiedToken = verifyQuietly(token);
+        if (verifiedToken == null) {
+            return;
+        }
+        revoke(verifiedToken);
+
+        VerifiedToken verifiedRefreshToken = refreshToken != null ? verifyQuietly(refreshToken) : null;
+        if (verifiedRefreshToken != null && verifiedToken.getSubject().equals(verifiedRefreshToken.getSubject())) {
+            revoke(verifiedRefreshToken);
+        }
+    }
+
+    // 이미 만료되었거나 유효하지 않은 토큰은 폐기할 필요가 없음
+    private VerifiedToken verifyQuietly(String token) {
+        try {
+            return jwtService.verify(token);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    // 토큰 만료 시각까지 폐기 목록에 보관
+    private void revoke(VerifiedToken verifiedToken) {
+        Object tokenId = verifiedToken.getClaim("jti");
+        if (tokenId != null) {
+            tokenRevocationStore.revokeToken(tokenId.toString(), verifiedToken.getExpiresAtMillis());
+        }
     }
 }
\ No newline at end of file
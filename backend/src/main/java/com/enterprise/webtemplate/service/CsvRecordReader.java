@@ -0,0 +1,99 @@
+package com.enterprise.webtemplate.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RFC 4180 CSV 레코드 읽기 (따옴표 안의 구분자/줄바꿈, "" 이스케이프, CRLF/LF 지원)
+ * 파일 앞의 BOM은 무시하고, 빈 줄은 건너뜁니다.
+ */
+class CsvRecordReader {
+
+    private final Reader reader;
+    private int pushedBack = -2;
+    private boolean started;
+
+    CsvRecordReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * 다음 레코드의 셀 목록 (더 이상 없으면 null)
+     */
+    List<String> next() throws IOException {
+        while (true) {
+            int c = read();
+            if (c == -1) {
+                return null;
+            }
+            if (c == '\r' || c == '\n') {
+                continue;
+            }
+            unread(c);
+            return readRecord();
+        }
+    }
+
+    private List<String> readRecord() throws IOException {
+        List<String> cells = new ArrayList<>();
+        StringBuilder cell = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            int c = read();
+            if (quoted) {
+                if (c == -1) {
+                    throw new IllegalArgumentException("CSV 형식이 올바르지 않습니다. (닫히지 않은 따옴표)");
+                }
+                if (c == '"') {
+                    int following = read();
+                    if (following == '"') {
+                        cell.append('"');
+                    } else {
+                        quoted = false;
+                        unread(following);
+                    }
+                } else {
+                    cell.append((char) c);
+                }
+            } else if (c == '"' && cell.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                cells.add(cell.toString());
+                cell.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r') {
+                    int following = read();
+                    if (following != '\n') {
+                        unread(following);
+                    }
+                }
+                cells.add(cell.toString());
+                return cells;
+            } else {
+                cell.append((char) c);
+            }
+        }
+    }
+
+    private int read() throws IOException {
+        if (pushedBack != -2) {
+            int c = pushedBack;
+            pushedBack = -2;
+            return c;
+        }
+        int c = reader.read();
+        if (!started) {
+            started = true;
+            if (c == '\uFEFF') {
+                c = reader.read();
+            }
+        }
+        return c;
+    }
+
+    private void unread(int c) {
+        pushedBack = c;
+    }
+}
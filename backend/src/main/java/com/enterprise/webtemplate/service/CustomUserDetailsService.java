@@ -1,31 +1,56 @@
 package com.enterprise.webtemplate.service;
 
 import com.enterprise.webtemplate.entity.User;
+import com.enterprise.webtemplate.entity.Role;
 import com.enterprise.webtemplate.repository.UserRepository;
+import com.enterprise.webtemplate.security.AuthenticatedPrincipal;
+import com.enterprise.webtemplate.security.PermissionSet;
+import com.enterprise.webtemplate.security.RbacEngine;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collection;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private RbacEngine rbacEngine;
+
     @Override
     @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + email));
 
+        if (rbacEngine.isReady()) {
+            // 역할 비트셋의 OR로 권한을 계산하고, 동일한 조합의 권한 컬렉션은 재사용
+            Set<String> roleNames = user.getRoles().stream().map(Role::getName).collect(Collectors.toSet());
+            PermissionSet permissionSet = rbacEngine.compileRoles(roleNames);
+            return new AuthenticatedPrincipal(
+                    user.getEmail(),
+                    user.getPassword(),
+                    user.getIsActive(),
+                    user.isAccountNonLocked(),
+                    rbacEngine.toAuthorities(permissionSet),
+                    permissionSet,
+                    user.getId(),
+                    roleNames
+            );
+        }
+
         return org.springframework.security.core.userdetails.User.builder()
                 .username(user.getEmail())
                 .password(user.getPassword())
@@ -43,4 +68,29 @@ public class CustomUserDetailsService implements UserDetailsService {
                 .map(permission -> new SimpleGrantedAuthority(permission.getName()))
                 .collect(Collectors.toSet());
     }
-}
\ No newline at end of file
+
+    /**
+     * 로그인 성공 시 cost가 낮은 기존 해시를 새 해시로 교체
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        userRepository.updatePasswordHash(user.getUsername(), newPassword);
+
+        if (user instanceof AuthenticatedPrincipal principal) {
+            return new AuthenticatedPrincipal(
+                    principal.getUsername(),
+                    newPassword,
+                    principal.isEnabled(),
+                    principal.isAccountNonLocked(),
+                    principal.getAuthorities(),
+                    principal.getPermissionSet(),
+                    principal.getUserId(),
+                    principal.getRoleNames()
+            );
+        }
+        return org.springframework.security.core.userdetails.User.withUserDetails(user)
+                .password(newPassword)
+                .build();
+    }
+}
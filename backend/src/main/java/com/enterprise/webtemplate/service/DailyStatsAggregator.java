@@ -0,0 +1,166 @@
+package com.enterprise.webtemplate.service;
+
+import com.enterprise.webtemplate.entity.DailyStats;
+import com.enterprise.webtemplate.repository.DailyStatsRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * daily_stats 일별 집계기
+ * 마지막 마감일 다음 날부터 오늘까지만 원본 테이블을 날짜별 GROUP BY로 집계하여 저장하므로,
+ * 평소에는 진행 중인 오늘 하루만 다시 계산합니다. 날짜 키로 덮어쓰므로 여러 번 실행해도 결과가 같습니다.
+ * 첫 실행 시에는 backfill-days만큼 과거를 한 번에 채웁니다.
+ */
+@Component
+public class DailyStatsAggregator {
+
+    private static final Logger logger = LoggerFactory.getLogger(DailyStatsAggregator.class);
+
+    /**
+     * 집계 항목 (원본 테이블과 날짜 컬럼)
+     * 승인은 승인 상태가 된 시각(approved_at) 기준이며, 다른 컬럼 수정으로 날짜가 바뀌지 않습니다.
+     * 로그인은 last_login_at 기준이므로 로그인 횟수가 아니라 그날이 마지막 로그인인 사용자 수입니다.
+     * 두 항목 모두 나중에 덮어써지는 컬럼이므로 다시 계산해도 저장된 값보다 작아지지 않게 합니다.
+     */
+    enum Metric {
+        REGISTRATIONS("users", "created_at", null, false),
+        APPROVALS("users", "approved_at", "approval_status = 'APPROVED'", true),
+        LOGINS("users", "last_login_at", null, true),
+        UPLOADS("files", "created_at", null, false),
+        NOTIFICATIONS("notifications", "created_at", null, false);
+
+        private final String sql;
+        private final boolean monotonic;
+
+        Metric(String table, String column, String condition, boolean monotonic) {
+            this.sql = "SELECT CAST(" + column + " AS DATE), COUNT(*) FROM " + table +
+                    " WHERE " + column + " >= ? AND " + column + " < ?" +
+                    (condition != null ? " AND " + condition : "") +
+                    " GROUP BY CAST(" + column + " AS DATE)";
+            this.monotonic = monotonic;
+        }
+
+        String sql() {
+            return sql;
+        }
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DailyStatsRepository dailyStatsRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${app.dashboard.rollup.enabled:true}")
+    private boolean enabled;
+
+    // 집계 테이블이 비어 있을 때 채울 과거 일수
+    @Value("${app.dashboard.rollup.backfill-days:400}")
+    private int backfillDays;
+
+    private volatile LocalDateTime lastAggregatedAt;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        aggregate();
+    }
+
+    /**
+     * 마감되지 않은 날짜(보통 오늘 하루, 자정 직후에는 어제 포함)를 다시 집계하고 지난 날짜는 마감
+     */
+    @Scheduled(fixedDelayString = "${app.dashboard.rollup.interval:300000}",
+            initialDelayString = "${app.dashboard.rollup.interval:300000}")
+    public synchronized void aggregate() {
+        if (!enabled) {
+            return;
+        }
+        long started = System.currentTimeMillis();
+        try {
+            LocalDate today = LocalDate.now();
+            LocalDate lastClosed = dailyStatsRepository.findLastClosedDate();
+            LocalDate from = lastClosed != null ? lastClosed.plusDays(1) : today.minusDays(backfillDays);
+            if (from.isAfter(today)) {
+                from = today;
+            }
+
+            Map<Metric, Map<LocalDate, Long>> counts = countByDay(from, today.plusDays(1));
+            LocalDate start = from;
+            int days = transactionTemplate.execute(status -> save(start, today, counts));
+            lastAggregatedAt = LocalDateTime.now();
+            logger.debug("Daily stats aggregated for {} day(s) from {} in {} ms",
+                    days, start, System.currentTimeMillis() - started);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to aggregate daily stats: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 마지막으로 집계를 저장한 시각 (응답 버전 계산용, 아직 없으면 null)
+     */
+    public LocalDateTime getLastAggregatedAt() {
+        return lastAggregatedAt;
+    }
+
+    // 항목별로 [from, to) 구간을 날짜별 건수로 집계 (구간 길이와 관계없이 항목당 쿼리 한 번)
+    private Map<Metric, Map<LocalDate, Long>> countByDay(LocalDate from, LocalDate to) {
+        Map<Metric, Map<LocalDate, Long>> counts = new EnumMap<>(Metric.class);
+        for (Metric metric : Metric.values()) {
+            Map<LocalDate, Long> byDay = new HashMap<>();
+            jdbcTemplate.query(metric.sql(), rs -> {
+                byDay.put(rs.getDate(1).toLocalDate(), rs.getLong(2));
+            }, from.atStartOfDay(), to.atStartOfDay());
+            counts.put(metric, byDay);
+        }
+        return counts;
+    }
+
+    private int save(LocalDate from, LocalDate today, Map<Metric, Map<LocalDate, Long>> counts) {
+        Map<LocalDate, DailyStats> existing = new HashMap<>();
+        for (DailyStats row : dailyStatsRepository.findByStatDateBetweenOrderByStatDate(from, today)) {
+            existing.put(row.getStatDate(), row);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<DailyStats> rows = new ArrayList<>();
+        for (LocalDate day = from; !day.isAfter(today); day = day.plusDays(1)) {
+            DailyStats row = existing.get(day);
+            if (row == null) {
+                row = new DailyStats(day);
+            }
+            row.setRegistrations(value(counts, Metric.REGISTRATIONS, day, row.getRegistrations()));
+            row.setApprovals(value(counts, Metric.APPROVALS, day, row.getApprovals()));
+            row.setLogins(value(counts, Metric.LOGINS, day, row.getLogins()));
+            row.setUploads(value(counts, Metric.UPLOADS, day, row.getUploads()));
+            row.setNotifications(value(counts, Metric.NOTIFICATIONS, day, row.getNotifications()));
+            row.setIsClosed(day.isBefore(today));
+            row.setAggregatedAt(now);
+            rows.add(row);
+        }
+        dailyStatsRepository.saveAll(rows);
+        return rows.size();
+    }
+
+    private long value(Map<Metric, Map<LocalDate, Long>> counts, Metric metric, LocalDate day, Long stored) {
+        long counted = counts.get(metric).getOrDefault(day, 0L);
+        return metric.monotonic && stored != null ? Math.max(stored, counted) : counted;
+    }
+}
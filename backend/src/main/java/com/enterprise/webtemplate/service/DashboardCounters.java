@@ -0,0 +1,203 @@
+package com.enterprise.webtemplate.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * 대시보드용 메모리 카운터 (역할/권한/파일 수, 일별 가입자 수)
+ * 기동 시 한 번 DB에서 채우고 이후에는 엔티티 저장/삭제를 커밋 후에 반영하므로 대시보드 조회 시 COUNT 쿼리가 없습니다.
+ * 사용자 상태/활성/역할별 인원은 UserFacetIndex가 같은 방식으로 관리합니다.
+ * 리스너를 거치지 않는 변경으로 생긴 오차는 주기적인 재조정에서 바로잡습니다.
+ * 재조정은 조회 결과로 카운터를 교체만 하고 조회 중 반영된 변경을 다시 적용하지 않습니다.
+ * 증감은 멱등이 아니어서, 조회 전에 커밋되어 이미 결과에 포함된 변경을 다시 적용하면 이중으로 집계되기 때문입니다.
+ * 조회와 교체 사이에 커밋된 변경은 이번 교체에서 빠질 수 있으며 다음 재조정에서 반영됩니다.
+ */
+@Component
+public class DashboardCounters {
+
+    private static final Logger logger = LoggerFactory.getLogger(DashboardCounters.class);
+
+    public enum Total {
+        ROLES,
+        PERMISSIONS,
+        FILES
+    }
+
+    // 카운터 묶음 (재조정 시 통째로 교체)
+    private static final class Counts {
+        private final Map<Total, LongAdder> totals = new EnumMap<>(Total.class);
+        private final Map<LocalDate, LongAdder> registrations = new ConcurrentHashMap<>();
+        private final LocalDate retainedFrom;
+
+        private Counts(LocalDate retainedFrom) {
+            this.retainedFrom = retainedFrom;
+            for (Total total : Total.values()) {
+                totals.put(total, new LongAdder());
+            }
+        }
+
+        private void addRegistrations(LocalDate day, long delta) {
+            if (!day.isBefore(retainedFrom)) {
+                registrations.computeIfAbsent(day, key -> new LongAdder()).add(delta);
+            }
+        }
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${app.dashboard.counters.enabled:true}")
+    private boolean enabled;
+
+    // 일별 가입자 수를 보관할 개월 수 (이번 달 포함)
+    @Value("${app.dashboard.counters.retained-months:12}")
+    private int retainedMonths;
+
+    private volatile Counts counts;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        reconcile();
+    }
+
+    /**
+     * DB에서 카운터를 다시 계산하여 교체하고, 메모리 값과 달랐던 항목을 기록
+     */
+    @Scheduled(fixedDelayString = "${app.dashboard.counters.reconcile-interval:600000}",
+            initialDelayString = "${app.dashboard.counters.reconcile-interval:600000}")
+    public synchronized void reconcile() {
+        if (!enabled) {
+            return;
+        }
+
+        long started = System.currentTimeMillis();
+        try {
+            LocalDate retainedFrom = LocalDate.now().minusMonths(retainedMonths - 1L).withDayOfMonth(1);
+            Counts next = new Counts(retainedFrom);
+            jdbcTemplate.query("SELECT (SELECT COUNT(*) FROM roles), (SELECT COUNT(*) FROM permissions), " +
+                    "(SELECT COUNT(*) FROM files)", rs -> {
+                next.totals.get(Total.ROLES).add(rs.getLong(1));
+                next.totals.get(Total.PERMISSIONS).add(rs.getLong(2));
+                next.totals.get(Total.FILES).add(rs.getLong(3));
+            });
+            jdbcTemplate.query("SELECT CAST(created_at AS DATE), COUNT(*) FROM users WHERE created_at >= ? " +
+                    "GROUP BY CAST(created_at AS DATE)", rs -> {
+                next.addRegistrations(rs.getDate(1).toLocalDate(), rs.getLong(2));
+            }, retainedFrom.atStartOfDay());
+
+            Counts previous = counts;
+            counts = next;
+            logDrift(previous, next);
+            logger.debug("Dashboard counters reconciled in {} ms", System.currentTimeMillis() - started);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to reconcile dashboard counters: {}", e.getMessage());
+        }
+    }
+
+    public void onCreated(Total total) {
+        afterCommit(target -> target.totals.get(total).increment());
+    }
+
+    public void onRemoved(Total total) {
+        afterCommit(target -> target.totals.get(total).decrement());
+    }
+
+    /**
+     * 가입 반영 (JdbcTemplate으로 일괄 INSERT한 경우 호출 측에서 건수를 넘김)
+     */
+    public void onUsersRegistered(LocalDateTime createdAt, int count) {
+        if (createdAt == null || count == 0) {
+            return;
+        }
+        LocalDate day = createdAt.toLocalDate();
+        afterCommit(target -> target.addRegistrations(day, count));
+    }
+
+    public void onUserRemoved(LocalDateTime createdAt) {
+        if (createdAt == null) {
+            return;
+        }
+        LocalDate day = createdAt.toLocalDate();
+        afterCommit(target -> target.addRegistrations(day, -1));
+    }
+
+    /**
+     * 전체 건수 (준비되기 전이면 비어 있으므로 호출 측이 DB 집계로 대체)
+     */
+    public OptionalLong total(Total total) {
+        Counts current = counts;
+        return current != null ? OptionalLong.of(current.totals.get(total).sum()) : OptionalLong.empty();
+    }
+
+    /**
+     * 기간(양 끝 포함) 가입자 수 (보관 기간을 벗어나면 비어 있음)
+     */
+    public OptionalLong registrationsBetween(LocalDate from, LocalDate to) {
+        Counts current = counts;
+        if (current == null || from.isBefore(current.retainedFrom)) {
+            return OptionalLong.empty();
+        }
+        long sum = 0;
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            LongAdder adder = current.registrations.get(day);
+            if (adder != null) {
+                sum += adder.sum();
+            }
+        }
+        return OptionalLong.of(sum);
+    }
+
+    private void logDrift(Counts previous, Counts next) {
+        if (previous == null) {
+            return;
+        }
+        for (Total total : Total.values()) {
+            long before = previous.totals.get(total).sum();
+            long after = next.totals.get(total).sum();
+            if (before != after) {
+                logger.info("Dashboard counter {} corrected: {} -> {}", total, before, after);
+            }
+        }
+    }
+
+    private void afterCommit(Consumer<Counts> change) {
+        if (!enabled) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(change);
+                }
+            });
+        } else {
+            apply(change);
+        }
+    }
+
+    private void apply(Consumer<Counts> change) {
+        Counts target = counts;
+        if (target != null) {
+            change.accept(target);
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.enterprise.webtemplate.service;
+
+import com.enterprise.webtemplate.security.StompSessionRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 대시보드 실시간 발행기
+ * 구독자가 있을 때만 주기(interval)마다 한 번 항목별 버전을 확인하고, 바뀐 항목만 모아 /topic/dashboard로 발행합니다.
+ * 주기 사이의 변경은 한 메시지로 합쳐지며, 구독 시 전체 스냅샷은 마지막으로 계산한 값을 재사용하므로
+ * 대시보드로 인한 DB 부하는 보고 있는 관리자 수와 관계없습니다.
+ * 발행 전에 구독 세션의 토큰 만료/폐기와 보안 버전을 다시 확인하여, 통과하지 못한 세션은 닫고 발행 대상에서 뺍니다.
+ */
+@Component
+public class DashboardLivePublisher {
+
+    private static final Logger logger = LoggerFactory.getLogger(DashboardLivePublisher.class);
+
+    public static final String TOPIC = "/topic/dashboard";
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Autowired
+    private ActivityEventLog activityEventLog;
+
+    @Autowired
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Autowired
+    private StompSessionRegistry stompSessionRegistry;
+
+    @Value("${app.dashboard.live.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.dashboard.live.interval:2000}")
+    private long interval;
+
+    // simple broker와 같은 매처 (/topic/**, /topic/* 같은 패턴 구독도 대시보드 메시지를 받음)
+    private final AntPathMatcher brokerPathMatcher = new AntPathMatcher();
+
+    // /topic/dashboard를 받는 구독 (세션 id → 구독 id)
+    private final Map<String, Set<String>> subscriptions = new ConcurrentHashMap<>();
+
+    // 항목별 마지막 계산 값과 버전, 아직 발행하지 않은 변경 항목 (모두 this로 동기화)
+    private final Map<String, Object> sections = new HashMap<>();
+    private final Map<String, Object> sectionVersions = new HashMap<>();
+    private final Map<String, Object> changed = new LinkedHashMap<>();
+    private long healthComputedAt;
+    private List<Object> healthFingerprint;
+    private long sequence;
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String destination = accessor.getDestination();
+        if (destination != null && brokerPathMatcher.match(destination, TOPIC) && accessor.getSessionId() != null) {
+            subscriptions.computeIfAbsent(accessor.getSessionId(), id -> ConcurrentHashMap.newKeySet())
+                    .add(accessor.getSubscriptionId());
+        }
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        if (accessor.getSessionId() == null) {
+            return;
+        }
+        subscriptions.computeIfPresent(accessor.getSessionId(), (id, subscriptionIds) -> {
+            subscriptionIds.remove(accessor.getSubscriptionId());
+            return subscriptionIds.isEmpty() ? null : subscriptionIds;
+        });
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        subscriptions.remove(event.getSessionId());
+    }
+
+    public int subscriberCount() {
+        return subscriptions.values().stream().mapToInt(Set::size).sum();
+    }
+
+    /**
+     * 구독 시 보낼 전체 스냅샷 (바뀐 항목만 다시 계산)
+     * sequence는 마지막으로 발행한 delta 번호이며, 클라이언트는 이보다 큰 delta만 적용하면 됩니다.
+     */
+    public synchronized Map<String, Object> snapshot() {
+        refresh();
+        Map<String, Object> message = message("snapshot", sequence);
+        message.putAll(sections);
+        return message;
+    }
+
+    /**
+     * 주기마다 바뀐 항목만 발행 (구독자가 없으면 계산하지 않음)
+     */
+    @Scheduled(fixedDelayString = "${app.dashboard.live.interval:2000}")
+    public void publish() {
+        if (!enabled || subscriptions.isEmpty()) {
+            return;
+        }
+        // 구독 이후 만료/폐기되었거나 권한이 바뀐 세션은 닫힘 (남은 구독은 disconnect 이벤트로도 정리됨)
+        subscriptions.keySet().removeIf(sessionId -> !stompSessionRegistry.revalidate(sessionId));
+        if (subscriptions.isEmpty()) {
+            return;
+        }
+        Map<String, Object> delta;
+        synchronized (this) {
+            try {
+                refresh();
+            } catch (RuntimeException e) {
+                logger.warn("Failed to refresh live dashboard: {}", e.getMessage());
+            }
+            if (changed.isEmpty()) {
+                return;
+            }
+            delta = message("delta", ++sequence);
+            delta.putAll(changed);
+            changed.clear();
+        }
+        messagingTemplate.convertAndSend(TOPIC, delta);
+    }
+
+    // 버전이 바뀐 항목만 다시 계산하여 changed에 누적 (스냅샷에서 계산한 변경도 다음 발행에 포함)
+    private void refresh() {
+        refreshSection("stats", dashboardService.dashboardStatsVersion(), dashboardService::buildDashboardStats);
+        refreshSection("userStats", dashboardService.userStatsVersion(), dashboardService::buildUserStats);
+        refreshSection("recentActivities", activityEventLog.latestId(), dashboardService::buildRecentActivities);
+
+        // 시스템 상태는 버전이 없으므로 주기당 한 번만 계산하고, 상태를 나타내는 값이 바뀐 경우에만 발행
+        long now = System.currentTimeMillis();
+        if (!sections.containsKey("systemHealth") || now - healthComputedAt >= interval) {
+            Map<String, Object> health = dashboardService.buildSystemHealth();
+            List<Object> fingerprint = healthFingerprint(health);
+            sections.put("systemHealth", health);
+            if (!fingerprint.equals(healthFingerprint)) {
+                changed.put("systemHealth", health);
+                healthFingerprint = fingerprint;
+            }
+            healthComputedAt = now;
+        }
+    }
+
+    // 매번 달라지는 시각/가동 시간과 바이트 단위 메모리는 빼고, 상태와 DB 정보, 메모리 사용률(% 단위)로 비교
+    private List<Object> healthFingerprint(Map<String, Object> health) {
+        Object usage = health.get("memory") instanceof Map<?, ?> memory ? memory.get("usagePercentage") : null;
+        return Arrays.asList(
+                health.get("systemStatus"),
+                health.get("database"),
+                usage instanceof Number number ? Math.round(number.doubleValue()) : null);
+    }
+
+    private void refreshSection(String name, Object version, Supplier<Map<String, Object>> builder) {
+        if (sections.containsKey(name) && version.equals(sectionVersions.get(name))) {
+            return;
+        }
+        Map<String, Object> value = builder.get();
+        sections.put(name, value);
+        changed.put(name, value);
+        // 일부 항목이 빠진 결과는 버전을 기록하지 않아 다음 주기에 다시 계산
+        if (Boolean.TRUE.equals(value.get("degraded"))) {
+            sectionVersions.remove(name);
+        } else {
+            sectionVersions.put(name, version);
+        }
+    }
+
+    private Map<String, Object> message(String type, long sequence) {
+        Map<String, Object> message = new LinkedHashMap<>();
+        message.put("type", type);
+        message.put("sequence", sequence);
+        message.put("timestamp", LocalDateTime.now());
+        return message;
+    }
+}
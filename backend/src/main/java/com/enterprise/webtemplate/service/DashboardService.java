@@ -1,10 +1,15 @@
 package com.enterprise.webtemplate.service;
 
-import com.enterprise.webtemplate.entity.User;
+import com.enterprise.webtemplate.entity.ActivityEvent;
+import com.enterprise.webtemplate.entity.ActivityEvent.ActivityType;
+import com.enterprise.webtemplate.entity.DailyStats;
+import com.enterprise.webtemplate.repository.DailyStatsRepository;
 import com.enterprise.webtemplate.repository.UserRepository;
 import com.enterprise.webtemplate.repository.RoleRepository;
 import com.enterprise.webtemplate.repository.PermissionRepository;
 import com.enterprise.webtemplate.repository.FileRepository;
+import com.enterprise.webtemplate.repository.ResourceVersionTracker;
+import com.enterprise.webtemplate.repository.ResourceVersionTracker.Resource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -14,13 +19,21 @@ import org.springframework.transaction.annotation.Transactional;
 import java.lang.management.ManagementFactory;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
 public class DashboardService {
 
+    private static final int MAX_DAILY_STATS_DAYS = 400;
+    private static final int MAX_MONTHLY_STATS_MONTHS = 24;
+    private static final int RECENT_ACTIVITY_LIMIT = 20;
+    private static final int MAX_ACTIVITY_PAGE_SIZE = 100;
+
     @Autowired
     private UserRepository userRepository;
 
@@ -33,155 +46,364 @@ public class DashboardService {
     @Autowired
     private FileRepository fileRepository;
 
-    @Transactional(readOnly = true)
+    @Autowired
+    private ResourceVersionTracker resourceVersionTracker;
+
+    @Autowired
+    private UserFacetIndex userFacetIndex;
+
+    @Autowired
+    private DashboardCounters dashboardCounters;
+
+    @Autowired
+    private DailyStatsRepository dailyStatsRepository;
+
+    @Autowired
+    private DailyStatsAggregator dailyStatsAggregator;
+
+    @Autowired
+    private ParallelQueryExecutor parallelQueryExecutor;
+
+    @Autowired
+    private ActivityEventLog activityEventLog;
+
+    // 일부 쿼리가 제한 시간을 넘긴 응답을 만들 때마다 증가
+    // (조건부 요청 검사에서 이미 내보낸 ETag가 바로 무효가 되어 다음 요청은 304 대신 다시 계산)
+    private final AtomicLong degradedBuilds = new AtomicLong();
+
+    // 통계 응답 버전 (오늘/이번 주/월별 구간이 날짜에 따라 바뀌므로 날짜를 함께 사용)
+    public String getDashboardStatsVersion() {
+        validateAccess();
+        return dashboardStatsVersion();
+    }
+
+    public String getUserStatsVersion() {
+        validateAccess();
+        return userStatsVersion();
+    }
+
+    // 권한 검사 없는 버전 계산 (실시간 발행기에서 사용)
+    String dashboardStatsVersion() {
+        return resourceVersionTracker.etag("dashboard-stats",
+                EnumSet.of(Resource.USERS, Resource.RBAC, Resource.FILES), LocalDate.now(), degradedBuilds.get());
+    }
+
+    String userStatsVersion() {
+        return resourceVersionTracker.etag("dashboard-user-stats",
+                EnumSet.of(Resource.USERS, Resource.RBAC), LocalDate.now(), degradedBuilds.get());
+    }
+
+    // 일별/월별 집계는 집계기가 저장할 때만 바뀜 (view: daily, monthly)
+    public String getRollupStatsVersion(String view, int range) {
+        validateAccess();
+        LocalDateTime aggregatedAt = dailyStatsAggregator.getLastAggregatedAt();
+        return resourceVersionTracker.etag("dashboard-" + view + "-stats", EnumSet.noneOf(Resource.class),
+                range, LocalDate.now(), aggregatedAt != null ? aggregatedAt.toString() : "none");
+    }
+
+    // 활동 로그에 새 이벤트가 기록될 때만 바뀜
+    public String getRecentActivitiesVersion() {
+        validateAccess();
+        return resourceVersionTracker.etag("dashboard-activities", EnumSet.noneOf(Resource.class),
+                activityEventLog.latestId());
+    }
+
+    // 커서 이후 페이지는 이미 기록된 이벤트만 담으므로 새 이벤트와 관계없이 고정
+    public String getActivityFeedVersion(String cursor, Collection<String> types, int size) {
+        validateAccess();
+        String typeKey = parseActivityTypes(types).toString();
+        return cursor != null
+                ? resourceVersionTracker.etag("dashboard-activity-feed", EnumSet.noneOf(Resource.class),
+                        cursor, typeKey, size)
+                : resourceVersionTracker.etag("dashboard-activity-feed", EnumSet.noneOf(Resource.class),
+                        activityEventLog.latestId(), typeKey, size);
+    }
+
+    /**
+     * 대시보드 요약 통계
+     * 인덱스/카운터로 채울 수 없는 항목의 COUNT 쿼리는 병렬로 실행하며,
+     * 각 쿼리가 자체 읽기 전용 트랜잭션을 사용하므로 여기서는 트랜잭션을 열지 않습니다.
+     */
     public Map<String, Object> getDashboardStats() {
         validateAccess();
+        return buildDashboardStats();
+    }
+
+    // 권한 검사 없이 계산 (실시간 발행기에서 사용)
+    Map<String, Object> buildDashboardStats() {
+        ParallelQueryExecutor.FanOut queries = parallelQueryExecutor.fanOut();
         
-        long totalUsers = userRepository.count();
-        long activeUsers = userRepository.countByIsActive(true);
-        long inactiveUsers = totalUsers - activeUsers;
-        long pendingUsers = userRepository.countByApprovalStatus("PENDING");
-        long approvedUsers = userRepository.countByApprovalStatus("APPROVED");
-        long rejectedUsers = userRepository.countByApprovalStatus("REJECTED");
+        // 패싯 인덱스가 준비되어 있으면 상태별 COUNT 쿼리 없이 비트맵으로 집계
+        Optional<Map<String, Object>> facets = userFacetIndex.overallFacets();
+        Supplier<Long> totalUsers;
+        Supplier<Long> activeUsers;
+        Supplier<Long> pendingUsers;
+        Supplier<Long> approvedUsers;
+        Supplier<Long> rejectedUsers;
+        if (facets.isPresent()) {
+            Map<String, Long> activeCounts = facetCounts(facets.get(), "isActive");
+            Map<String, Long> statusCounts = facetCounts(facets.get(), "approvalStatus");
+            Long facetTotal = (Long) facets.get().get("total");
+            totalUsers = () -> facetTotal;
+            activeUsers = () -> activeCounts.get("true");
+            pendingUsers = () -> statusCounts.get("PENDING");
+            approvedUsers = () -> statusCounts.get("APPROVED");
+            rejectedUsers = () -> statusCounts.get("REJECTED");
+        } else {
+            totalUsers = queries.fork("totalUsers", userRepository::count);
+            activeUsers = queries.fork("activeUsers", () -> userRepository.countByIsActive(true));
+            pendingUsers = queries.fork("pendingUsers", () -> userRepository.countByApprovalStatus("PENDING"));
+            approvedUsers = queries.fork("approvedUsers", () -> userRepository.countByApprovalStatus("APPROVED"));
+            rejectedUsers = queries.fork("rejectedUsers", () -> userRepository.countByApprovalStatus("REJECTED"));
+        }
         
-        long totalRoles = roleRepository.count();
-        long totalPermissions = permissionRepository.count();
-        long totalFiles = fileRepository.count();
+        // 카운터가 준비되어 있으면 COUNT 쿼리 없이 메모리 값 사용
+        Supplier<Long> totalRoles = countOrFork(queries, "totalRoles",
+                dashboardCounters.total(DashboardCounters.Total.ROLES), roleRepository::count);
+        Supplier<Long> totalPermissions = countOrFork(queries, "totalPermissions",
+                dashboardCounters.total(DashboardCounters.Total.PERMISSIONS), permissionRepository::count);
+        Supplier<Long> totalFiles = countOrFork(queries, "totalFiles",
+                dashboardCounters.total(DashboardCounters.Total.FILES), fileRepository::count);
         
         // 오늘 가입한 사용자 수
-        LocalDateTime startOfDay = LocalDate.now().atStartOfDay();
-        LocalDateTime endOfDay = LocalDate.now().atTime(23, 59, 59);
-        long todayRegistrations = userRepository.countByCreatedAtBetween(startOfDay, endOfDay);
+        LocalDate today = LocalDate.now();
+        Supplier<Long> todayRegistrations = countOrFork(queries, "todayRegistrations",
+                dashboardCounters.registrationsBetween(today, today),
+                () -> userRepository.countByCreatedAtBetween(today.atStartOfDay(), today.atTime(23, 59, 59)));
         
         // 이번 주 가입한 사용자 수
-        LocalDateTime startOfWeek = LocalDate.now().minusDays(7).atStartOfDay();
-        long weeklyRegistrations = userRepository.countByCreatedAtBetween(startOfWeek, LocalDateTime.now());
+        LocalDate startOfWeek = today.minusDays(7);
+        LocalDateTime now = LocalDateTime.now();
+        Supplier<Long> weeklyRegistrations = countOrFork(queries, "weeklyRegistrations",
+                dashboardCounters.registrationsBetween(startOfWeek, today),
+                () -> userRepository.countByCreatedAtBetween(startOfWeek.atStartOfDay(), now));
+        
+        queries.join();
+        Long total = totalUsers.get();
+        Long active = activeUsers.get();
         
         Map<String, Object> stats = new HashMap<>();
-        stats.put("totalUsers", totalUsers);
-        stats.put("activeUsers", activeUsers);
-        stats.put("inactiveUsers", inactiveUsers);
-        stats.put("pendingUsers", pendingUsers);
-        stats.put("approvedUsers", approvedUsers);
-        stats.put("rejectedUsers", rejectedUsers);
-        stats.put("totalRoles", totalRoles);
-        stats.put("totalPermissions", totalPermissions);
-        stats.put("totalFiles", totalFiles);
-        stats.put("todayRegistrations", todayRegistrations);
-        stats.put("weeklyRegistrations", weeklyRegistrations);
+        stats.put("totalUsers", total);
+        stats.put("activeUsers", active);
+        stats.put("inactiveUsers", total != null && active != null ? total - active : null);
+        stats.put("pendingUsers", pendingUsers.get());
+        stats.put("approvedUsers", approvedUsers.get());
+        stats.put("rejectedUsers", rejectedUsers.get());
+        stats.put("totalRoles", totalRoles.get());
+        stats.put("totalPermissions", totalPermissions.get());
+        stats.put("totalFiles", totalFiles.get());
+        stats.put("todayRegistrations", todayRegistrations.get());
+        stats.put("weeklyRegistrations", weeklyRegistrations.get());
+        if (queries.markDegraded(stats)) {
+            degradedBuilds.incrementAndGet();
+        }
         
         return stats;
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * 사용자 통계 (역할별, 최근 12개월 월별 가입, 승인 상태별)
+     * 인덱스/카운터/일별 집계로 채울 수 없는 항목의 쿼리는 병렬로 실행합니다.
+     */
     public Map<String, Object> getUserStats() {
         validateAccess();
+        return buildUserStats();
+    }
+
+    Map<String, Object> buildUserStats() {
+        ParallelQueryExecutor.FanOut queries = parallelQueryExecutor.fanOut();
         
-        // 역할별 사용자 수
-        Map<String, Long> usersByRole = roleRepository.findAll().stream()
-                .collect(Collectors.toMap(
-                        role -> role.getName(),
-                        role -> (long) role.getUsers().size()
-                ));
+        Optional<Map<String, Object>> facets = userFacetIndex.overallFacets();
+
+        // 역할별 사용자 수 (인덱스가 없으면 GROUP BY 집계)
+        Supplier<Map<String, Long>> usersByRole;
+        if (facets.isPresent()) {
+            Map<String, Long> roleCounts = facetCounts(facets.get(), "role");
+            usersByRole = () -> roleCounts;
+        } else {
+            usersByRole = queries.fork("usersByRole", () -> roleRepository.countUsersByRole().stream()
+                    .collect(Collectors.toMap(
+                            row -> (String) row[0],
+                            row -> (Long) row[1]
+                    )));
+        }
         
-        // 월별 가입 사용자 수 (최근 12개월)
-        List<Map<String, Object>> monthlyRegistrations = new ArrayList<>();
+        // 승인 상태별 사용자 수
+        Map<String, Supplier<Long>> usersByApprovalStatus = new LinkedHashMap<>();
+        for (String status : List.of("PENDING", "APPROVED", "REJECTED")) {
+            if (facets.isPresent()) {
+                Long count = facetCounts(facets.get(), "approvalStatus").get(status);
+                usersByApprovalStatus.put(status, () -> count);
+            } else {
+                usersByApprovalStatus.put(status, queries.fork("usersByApprovalStatus." + status,
+                        () -> userRepository.countByApprovalStatus(status)));
+            }
+        }
+        
+        // 월별 가입 사용자 수 (최근 12개월, 카운터 → 일별 집계 → 월별 COUNT 순으로 사용)
+        LocalDate firstMonth = LocalDate.now().minusMonths(11).withDayOfMonth(1);
+        Map<YearMonth, Long> rolledUp = null;
+        Map<LocalDate, Supplier<Long>> monthlyCounts = new LinkedHashMap<>();
         for (int i = 11; i >= 0; i--) {
             LocalDate date = LocalDate.now().minusMonths(i);
-            LocalDateTime startOfMonth = date.withDayOfMonth(1).atStartOfDay();
-            LocalDateTime endOfMonth = date.withDayOfMonth(date.lengthOfMonth()).atTime(23, 59, 59);
-            
-            long count = userRepository.countByCreatedAtBetween(startOfMonth, endOfMonth);
+            LocalDate firstDay = date.withDayOfMonth(1);
+            LocalDate lastDay = date.withDayOfMonth(date.lengthOfMonth());
             
+            OptionalLong counted = dashboardCounters.registrationsBetween(firstDay, lastDay);
+            Supplier<Long> count;
+            if (counted.isPresent()) {
+                long value = counted.getAsLong();
+                count = () -> value;
+            } else {
+                if (rolledUp == null) {
+                    rolledUp = monthlyRegistrationsFromRollup(firstMonth);
+                }
+                Long rolledUpCount = rolledUp.get(YearMonth.from(date));
+                count = rolledUpCount != null
+                        ? () -> rolledUpCount
+                        : queries.fork("monthlyRegistrations." + YearMonth.from(date),
+                                () -> userRepository.countByCreatedAtBetween(firstDay.atStartOfDay(), lastDay.atTime(23, 59, 59)));
+            }
+            monthlyCounts.put(date, count);
+        }
+        
+        queries.join();
+        List<Map<String, Object>> monthlyRegistrations = new ArrayList<>();
+        monthlyCounts.forEach((date, count) -> {
             Map<String, Object> monthData = new HashMap<>();
             monthData.put("month", date.format(DateTimeFormatter.ofPattern("yyyy-MM")));
             monthData.put("monthName", date.format(DateTimeFormatter.ofPattern("yyyy년 MM월")));
-            monthData.put("count", count);
+            monthData.put("count", count.get());
             monthlyRegistrations.add(monthData);
-        }
-        
-        // 승인 상태별 사용자 수
-        Map<String, Long> usersByApprovalStatus = Map.of(
-                "PENDING", userRepository.countByApprovalStatus("PENDING"),
-                "APPROVED", userRepository.countByApprovalStatus("APPROVED"),
-                "REJECTED", userRepository.countByApprovalStatus("REJECTED")
-        );
+        });
+        Map<String, Long> approvalStatusCounts = new HashMap<>();
+        usersByApprovalStatus.forEach((status, count) -> approvalStatusCounts.put(status, count.get()));
         
         Map<String, Object> userStats = new HashMap<>();
-        userStats.put("usersByRole", usersByRole);
+        userStats.put("usersByRole", usersByRole.get());
         userStats.put("monthlyRegistrations", monthlyRegistrations);
-        userStats.put("usersByApprovalStatus", usersByApprovalStatus);
+        userStats.put("usersByApprovalStatus", approvalStatusCounts);
+        if (queries.markDegraded(userStats)) {
+            degradedBuilds.incrementAndGet();
+        }
         
         return userStats;
     }
 
+    /**
+     * 최근 days일의 일별 집계 (오늘은 집계 주기만큼 늦을 수 있음)
+     */
     @Transactional(readOnly = true)
-    public Map<String, Object> getRecentActivities() {
+    public Map<String, Object> getDailyStats(int days) {
         validateAccess();
-        
-        // 최근 등록된 사용자 (10명)
-        List<User> recentUsers = userRepository.findTop10ByOrderByCreatedAtDesc();
-        List<Map<String, Object>> recentRegistrations = recentUsers.stream()
-                .map(user -> {
-                    Map<String, Object> activity = new HashMap<>();
-                    activity.put("type", "USER_REGISTRATION");
-                    activity.put("message", user.getName() + "님이 가입했습니다.");
-                    activity.put("timestamp", user.getCreatedAt());
-                    activity.put("user", Map.of(
-                            "id", user.getId(),
-                            "name", user.getName(),
-                            "email", user.getEmail(),
-                            "profileImageUrl", user.getProfileImageUrl()
-                    ));
-                    return activity;
-                })
-                .collect(Collectors.toList());
-        
-        // 최근 승인된 사용자 (10명)
-        List<User> recentApprovedUsers = userRepository.findTop10ByApprovalStatusOrderByUpdatedAtDesc("APPROVED");
-        List<Map<String, Object>> recentApprovals = recentApprovedUsers.stream()
-                .map(user -> {
-                    Map<String, Object> activity = new HashMap<>();
-                    activity.put("type", "USER_APPROVAL");
-                    activity.put("message", user.getName() + "님이 승인되었습니다.");
-                    activity.put("timestamp", user.getUpdatedAt());
-                    activity.put("user", Map.of(
-                            "id", user.getId(),
-                            "name", user.getName(),
-                            "email", user.getEmail(),
-                            "profileImageUrl", user.getProfileImageUrl()
-                    ));
-                    return activity;
+        if (days < 1 || days > MAX_DAILY_STATS_DAYS) {
+            throw new IllegalArgumentException("조회 기간은 1일 이상 " + MAX_DAILY_STATS_DAYS + "일 이하로 입력해주세요.");
+        }
+
+        LocalDate today = LocalDate.now();
+        List<Map<String, Object>> series = dailyStatsRepository
+                .findByStatDateBetweenOrderByStatDate(today.minusDays(days - 1L), today).stream()
+                .map(row -> {
+                    Map<String, Object> day = statsValues(row.getRegistrations(), row.getApprovals(), row.getLogins(),
+                            row.getUploads(), row.getNotifications());
+                    day.put("date", row.getStatDate());
+                    return day;
                 })
                 .collect(Collectors.toList());
-        
-        // 모든 활동을 합치고 시간순 정렬
-        List<Map<String, Object>> allActivities = new ArrayList<>();
-        allActivities.addAll(recentRegistrations);
-        allActivities.addAll(recentApprovals);
-        
-        allActivities.sort((a, b) -> {
-            LocalDateTime timeA = (LocalDateTime) a.get("timestamp");
-            LocalDateTime timeB = (LocalDateTime) b.get("timestamp");
-            return timeB.compareTo(timeA);
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("days", series);
+        result.put("aggregatedAt", dailyStatsAggregator.getLastAggregatedAt());
+        return result;
+    }
+
+    /**
+     * 최근 months개월의 월별 집계 (일별 집계 행을 월 단위로 합산)
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> getMonthlyStats(int months) {
+        validateAccess();
+        if (months < 1 || months > MAX_MONTHLY_STATS_MONTHS) {
+            throw new IllegalArgumentException("조회 기간은 1개월 이상 " + MAX_MONTHLY_STATS_MONTHS + "개월 이하로 입력해주세요.");
+        }
+
+        LocalDate firstMonth = LocalDate.now().minusMonths(months - 1L).withDayOfMonth(1);
+        Map<YearMonth, long[]> totals = new TreeMap<>();
+        for (int i = 0; i < months; i++) {
+            totals.put(YearMonth.from(firstMonth.plusMonths(i)), new long[5]);
+        }
+        for (DailyStats row : dailyStatsRepository.findByStatDateBetweenOrderByStatDate(firstMonth, LocalDate.now())) {
+            long[] month = totals.get(YearMonth.from(row.getStatDate()));
+            month[0] += row.getRegistrations();
+            month[1] += row.getApprovals();
+            month[2] += row.getLogins();
+            month[3] += row.getUploads();
+            month[4] += row.getNotifications();
+        }
+
+        List<Map<String, Object>> series = new ArrayList<>();
+        totals.forEach((month, values) -> {
+            Map<String, Object> monthData = statsValues(values[0], values[1], values[2], values[3], values[4]);
+            monthData.put("month", month.format(DateTimeFormatter.ofPattern("yyyy-MM")));
+            monthData.put("monthName", month.format(DateTimeFormatter.ofPattern("yyyy년 MM월")));
+            series.add(monthData);
         });
-        
-        // 최근 20개 활동만 반환
-        List<Map<String, Object>> recentActivities = allActivities.stream()
-                .limit(20)
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("months", series);
+        result.put("aggregatedAt", dailyStatsAggregator.getLastAggregatedAt());
+        return result;
+    }
+
+    /**
+     * 최근 활동 (활동 로그의 링 버퍼에서 제공하므로 쿼리 없음)
+     */
+    public Map<String, Object> getRecentActivities() {
+        validateAccess();
+        return buildRecentActivities();
+    }
+
+    Map<String, Object> buildRecentActivities() {
+        List<Map<String, Object>> recentActivities = activityEventLog
+                .feed(null, EnumSet.noneOf(ActivityType.class), RECENT_ACTIVITY_LIMIT).stream()
+                .map(this::activityValues)
                 .collect(Collectors.toList());
         
         Map<String, Object> activities = new HashMap<>();
         activities.put("recentActivities", recentActivities);
-        activities.put("totalActivities", allActivities.size());
+        activities.put("totalActivities", recentActivities.size());
         
         return activities;
     }
 
+    /**
+     * 활동 피드 (최신순, cursor는 이전 페이지의 nextCursor, types가 비어 있으면 전체 유형)
+     */
+    public Map<String, Object> getActivityFeed(String cursor, Collection<String> types, int size) {
+        validateAccess();
+        if (size < 1 || size > MAX_ACTIVITY_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상 " + MAX_ACTIVITY_PAGE_SIZE + " 이하로 입력해주세요.");
+        }
+        
+        // 한 건 더 읽어 다음 페이지 여부 판단
+        List<ActivityEvent> events = activityEventLog.feed(parseActivityCursor(cursor), parseActivityTypes(types), size + 1);
+        boolean hasMore = events.size() > size;
+        List<ActivityEvent> page = hasMore ? events.subList(0, size) : events;
+        
+        Map<String, Object> feed = new HashMap<>();
+        feed.put("events", page.stream().map(this::activityValues).collect(Collectors.toList()));
+        feed.put("nextCursor", hasMore ? String.valueOf(page.get(page.size() - 1).getId()) : null);
+        feed.put("hasMore", hasMore);
+        return feed;
+    }
+
     @Transactional(readOnly = true)
     public Map<String, Object> getSystemHealth() {
         validateAccess();
-        
+        return buildSystemHealth();
+    }
+
+    Map<String, Object> buildSystemHealth() {
         // 시스템 상태 정보
         Runtime runtime = Runtime.getRuntime();
         long totalMemory = runtime.totalMemory();
@@ -230,6 +452,82 @@ public class DashboardService {
         return health;
     }
 
+    // 일별 집계가 시작 월부터 있으면 월별 가입자 합계를 쿼리 한 번으로 계산 (없으면 빈 Map)
+    private Map<YearMonth, Long> monthlyRegistrationsFromRollup(LocalDate firstMonth) {
+        LocalDate firstDate = dailyStatsRepository.findFirstDate();
+        if (firstDate == null || firstDate.isAfter(firstMonth)) {
+            return Map.of();
+        }
+        Map<YearMonth, Long> totals = new HashMap<>();
+        for (DailyStats row : dailyStatsRepository.findByStatDateBetweenOrderByStatDate(firstMonth, LocalDate.now())) {
+            totals.merge(YearMonth.from(row.getStatDate()), row.getRegistrations(), Long::sum);
+        }
+        return totals;
+    }
+
+    // 카운터 값이 있으면 그대로, 없으면 COUNT 쿼리를 병렬 조회에 추가
+    private Supplier<Long> countOrFork(ParallelQueryExecutor.FanOut queries, String name, OptionalLong counted,
+                                       Supplier<Long> query) {
+        if (counted.isPresent()) {
+            long value = counted.getAsLong();
+            return () -> value;
+        }
+        return queries.fork(name, query);
+    }
+
+    private Map<String, Object> activityValues(ActivityEvent event) {
+        Map<String, Object> activity = new HashMap<>();
+        activity.put("id", event.getId());
+        activity.put("type", event.getType().name());
+        activity.put("message", event.getMessage());
+        activity.put("timestamp", event.getCreatedAt());
+        activity.put("actorId", event.getActorId());
+        activity.put("targetId", event.getTargetId());
+        return activity;
+    }
+
+    private Long parseActivityCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    private Set<ActivityType> parseActivityTypes(Collection<String> types) {
+        Set<ActivityType> parsed = EnumSet.noneOf(ActivityType.class);
+        if (types == null) {
+            return parsed;
+        }
+        for (String type : types) {
+            try {
+                parsed.add(ActivityType.valueOf(type.trim().toUpperCase()));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("지원하지 않는 활동 유형입니다: " + type);
+            }
+        }
+        return parsed;
+    }
+
+    private Map<String, Object> statsValues(long registrations, long approvals, long logins, long uploads,
+                                            long notifications) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("registrations", registrations);
+        values.put("approvals", approvals);
+        values.put("logins", logins);
+        values.put("uploads", uploads);
+        values.put("notifications", notifications);
+        return values;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Long> facetCounts(Map<String, Object> facets, String facet) {
+        return (Map<String, Long>) facets.get(facet);
+    }
+
     private void validateAccess() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication == null || !authentication.isAuthenticated()) {
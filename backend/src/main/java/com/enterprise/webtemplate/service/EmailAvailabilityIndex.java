@@ -0,0 +1,149 @@
+package com.enterprise.webtemplate.service;
+
+import com.enterprise.webtemplate.security.CountingBloomFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 가입된 이메일의 확률적 인덱스
+ * "없음" 판정은 확정이므로 사용 가능한 이메일 확인은 DB를 거치지 않고, "있을 수 있음"일 때만 DB로 확인합니다.
+ * 준비되기 전이나 재구성에 실패한 경우에는 항상 "있을 수 있음"으로 답해 DB 조회로 넘깁니다.
+ */
+@Component
+public class EmailAvailabilityIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmailAvailabilityIndex.class);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${app.user.email-index.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.user.email-index.min-capacity:100000}")
+    private int minCapacity;
+
+    @Value("${app.user.email-index.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    private volatile CountingBloomFilter filter;
+
+    // 재구성 중 추가된 이메일 (새 필터로 교체할 때 반영), 교체와 추가는 swapLock으로 직렬화
+    private Set<String> rebuildJournal;
+    private final Object swapLock = new Object();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+
+    /**
+     * users 테이블에서 필터를 다시 만들어 교체 (서비스 중에도 실행 가능)
+     * 카운터 포화나 누락으로 정확도가 떨어지는 것을 주기적으로 바로잡습니다.
+     */
+    @Scheduled(fixedDelayString = "${app.user.email-index.rebuild-interval:3600000}",
+            initialDelayString = "${app.user.email-index.rebuild-interval:3600000}")
+    public synchronized void rebuild() {
+        if (!enabled) {
+            return;
+        }
+
+        Set<String> journal = ConcurrentHashMap.newKeySet();
+        synchronized (swapLock) {
+            rebuildJournal = journal;
+        }
+        try {
+            Long userCount = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Long.class);
+            int capacity = (int) Math.min(Integer.MAX_VALUE / 2, Math.max(minCapacity, (userCount != null ? userCount : 0L) * 2));
+            CountingBloomFilter next = new CountingBloomFilter(capacity, falsePositiveRate);
+
+            jdbcTemplate.query("SELECT email FROM users", rs -> {
+                next.add(normalize(rs.getString(1)));
+            });
+            synchronized (swapLock) {
+                journal.forEach(next::add);
+                filter = next;
+                rebuildJournal = null;
+            }
+            logger.info("Email availability index rebuilt: {} users, {} slots", userCount, next.getSlotCount());
+        } catch (RuntimeException e) {
+            logger.warn("Failed to rebuild email availability index: {}", e.getMessage());
+            synchronized (swapLock) {
+                rebuildJournal = null;
+            }
+        }
+    }
+
+    /**
+     * 이메일이 사용 중이 아님이 확실하면 true
+     */
+    public boolean isDefinitelyAvailable(String email) {
+        CountingBloomFilter current = filter;
+        return current != null && !current.mightContain(normalize(email));
+    }
+
+    /**
+     * 가입 시 즉시 추가 (커밋 전에 추가되어도 거짓 양성일 뿐이므로 안전)
+     */
+    public void add(String email) {
+        String normalized = normalize(email);
+        synchronized (swapLock) {
+            if (rebuildJournal != null) {
+                rebuildJournal.add(normalized);
+            }
+            CountingBloomFilter current = filter;
+            if (current != null) {
+                current.add(normalized);
+            }
+        }
+    }
+
+    /**
+     * 삭제 시 제거 (트랜잭션 안이면 커밋 후에 제거하여 롤백 시 거짓 음성이 생기지 않도록 함)
+     * 제거는 호출 시점의 필터에만 적용합니다. 커밋 전에 재구성이 끝나 필터가 교체되었다면
+     * 새 필터는 삭제된 행을 읽지 않았을 수 있으므로, 새 필터의 카운터를 줄이면 다른 이메일의 거짓 음성이 생길 수 있습니다.
+     * 이때는 제거를 버려 거짓 양성(DB 확인)으로 남기고 다음 재구성에서 바로잡습니다.
+     */
+    public void remove(String email) {
+        String normalized = normalize(email);
+        CountingBloomFilter target = filter;
+        if (target == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    target.remove(normalized);
+                }
+            });
+        } else {
+            target.remove(normalized);
+        }
+    }
+
+    /**
+     * 이메일 변경 시 새 이메일 추가 후 이전 이메일 제거
+     */
+    public void rename(String oldEmail, String newEmail) {
+        add(newEmail);
+        remove(oldEmail);
+    }
+
+    private String normalize(String email) {
+        return email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -1,13 +1,15 @@
 package com.enterprise.webtemplate.service;
 
+import com.enterprise.webtemplate.entity.ActivityEvent.ActivityType;
 import com.enterprise.webtemplate.entity.FileEntity;
 import com.enterprise.webtemplate.entity.User;
 import com.enterprise.webtemplate.repository.FileRepository;
+import com.enterprise.webtemplate.repository.TouchCoalescer;
 import com.enterprise.webtemplate.repository.UserRepository;
+import com.enterprise.webtemplate.security.CurrentUser;
+import com.enterprise.webtemplate.security.CurrentUserProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -23,6 +25,8 @@ import java.util.List;
 import java.util.UUID;
 import java.util.Map;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import com.enterprise.webtemplate.dto.FileUploadResponse;
@@ -32,13 +36,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.util.StringUtils;
-import jakarta.persistence.criteria.Predicate;
-import jakarta.persistence.criteria.CriteriaBuilder;
-import jakarta.persistence.criteria.CriteriaQuery;
-import jakarta.persistence.criteria.Root;
-import java.util.ArrayList;
 
 @Service
 public class FileService {
@@ -49,6 +47,18 @@ public class FileService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private TouchCoalescer touchCoalescer;
+
+    @Autowired
+    private CurrentUserProvider currentUserProvider;
+
+    @Autowired
+    private ParallelQueryExecutor parallelQueryExecutor;
+
+    @Autowired
+    private ActivityEventLog activityEventLog;
+
     @Value("${app.file.upload-dir:uploads}")
     private String uploadDir;
 
@@ -136,7 +146,9 @@ public class FileService {
             throw new RuntimeException("파일이 존재하지 않습니다.");
         }
         
-        return Files.readAllBytes(filePath);
+        byte[] content = Files.readAllBytes(filePath);
+        touchCoalescer.touch(TouchCoalescer.FILE_ACCESS, fileEntity.getId());
+        return content;
     }
 
     private void validateFile(MultipartFile file) {
@@ -208,15 +220,12 @@ public class FileService {
     }
 
     private void validateFileAccess(FileEntity fileEntity) {
-        User currentUser = getCurrentAuthenticatedUser();
+        CurrentUser currentUser = currentUserProvider.get();
         
         // 공개 파일이거나 본인이 업로드한 파일인 경우 접근 허용
         if (!fileEntity.getIsPublic() && !fileEntity.getUploadedBy().getId().equals(currentUser.getId())) {
             // 관리자 권한 확인
-            boolean isAdmin = currentUser.getRoles().stream()
-                    .anyMatch(role -> role.getName().equals("ADMIN") || role.getName().equals("MASTER"));
-            
-            if (!isAdmin) {
+            if (!currentUser.isAdmin()) {
                 throw new RuntimeException("파일에 접근할 권한이 없습니다.");
             }
         }
@@ -231,8 +240,8 @@ public class FileService {
 
     @Transactional
     public FileEntity uploadFile(MultipartFile file, boolean isPublic, String description) throws IOException {
-        // 현재 사용자 확인
-        User currentUser = getCurrentAuthenticatedUser();
+        // 현재 사용자 확인 (업로더 연관관계용 참조)
+        User currentUser = currentUserProvider.getReference();
         
         // 파일 검증
         validateGeneralFile(file);
@@ -253,72 +262,32 @@ public class FileService {
         fileEntity.setDescription(description);
         fileEntity.setScanStatus(FileEntity.ScanStatus.PENDING);
         
-        return fileRepository.save(fileEntity);
+        FileEntity savedFile = fileRepository.save(fileEntity);
+        activityEventLog.record(ActivityType.FILE_UPLOAD, currentUser.getId(), savedFile.getId(),
+                "'" + savedFile.getOriginalFilename() + "' 파일이 업로드되었습니다.");
+        return savedFile;
     }
     
     @Transactional(readOnly = true)
     public Page<FileUploadResponse> getFiles(int page, int size, String fileType, String search, Boolean isPublic) {
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
         
-        Specification<FileEntity> spec = (root, query, criteriaBuilder) -> {
-            List<Predicate> predicates = new ArrayList<>();
-            
-            // 삭제되지 않은 파일만 조회
-            predicates.add(criteriaBuilder.isNull(root.get("deletedAt")));
-            
-            // 프로필 이미지 제외
-            predicates.add(criteriaBuilder.notEqual(root.get("fileType"), FileEntity.FileType.PROFILE_IMAGE));
-            
-            // 파일 타입 필터
-            if (StringUtils.hasText(fileType)) {
-                predicates.add(criteriaBuilder.equal(root.get("fileType"), FileEntity.FileType.valueOf(fileType.toUpperCase())));
-            }
-            
-            // 검색 조건
-            if (StringUtils.hasText(search)) {
-                Predicate searchPredicate = criteriaBuilder.or(
-                    criteriaBuilder.like(criteriaBuilder.lower(root.get("originalName")), "%" + search.toLowerCase() + "%"),
-                    criteriaBuilder.like(criteriaBuilder.lower(root.get("description")), "%" + search.toLowerCase() + "%")
-                );
-                predicates.add(searchPredicate);
-            }
-            
-            // 공개/비공개 필터
-            if (isPublic != null) {
-                predicates.add(criteriaBuilder.equal(root.get("isPublic"), isPublic));
-            }
-            
-            return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
-        };
-        
-        Page<FileEntity> fileEntities = fileRepository.findAll(spec, pageable);
-        return fileEntities.map(FileUploadResponse::new);
+        // 삭제된 파일과 프로필 이미지는 제외, 업로더 이름은 조인으로 함께 조회
+        return fileRepository.findFileList(null, parseFileType(fileType),
+                StringUtils.hasText(search) ? search : null, isPublic, true, pageable);
     }
     
     @Transactional(readOnly = true)
     public Page<FileUploadResponse> getMyFiles(int page, int size, String fileType) {
-        User currentUser = getCurrentAuthenticatedUser();
+        Long currentUserId = currentUserProvider.get().getId();
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
         
-        Specification<FileEntity> spec = (root, query, criteriaBuilder) -> {
-            List<Predicate> predicates = new ArrayList<>();
-            
-            // 삭제되지 않은 파일만 조회
-            predicates.add(criteriaBuilder.isNull(root.get("deletedAt")));
-            
-            // 현재 사용자가 업로드한 파일만
-            predicates.add(criteriaBuilder.equal(root.get("uploadedBy"), currentUser));
-            
-            // 파일 타입 필터
-            if (StringUtils.hasText(fileType)) {
-                predicates.add(criteriaBuilder.equal(root.get("fileType"), FileEntity.FileType.valueOf(fileType.toUpperCase())));
-            }
-            
-            return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
-        };
-        
-        Page<FileEntity> fileEntities = fileRepository.findAll(spec, pageable);
-        return fileEntities.map(FileUploadResponse::new);
+        // 현재 사용자가 업로드한 삭제되지 않은 파일만
+        return fileRepository.findFileList(currentUserId, parseFileType(fileType), null, null, false, pageable);
+    }
+    
+    private FileEntity.FileType parseFileType(String fileType) {
+        return StringUtils.hasText(fileType) ? FileEntity.FileType.valueOf(fileType.toUpperCase()) : null;
     }
     
     @Transactional(readOnly = true)
@@ -337,6 +306,8 @@ public class FileService {
         Resource resource = new UrlResource(filePath.toUri());
         
         if (resource.exists() && resource.isReadable()) {
+            // 다운로드 횟수/마지막 접근 시각은 모아서 주기적으로 일괄 반영
+            touchCoalescer.touch(TouchCoalescer.FILE_ACCESS, fileEntity.getId(), 1L);
             return resource;
         } else {
             throw new RuntimeException("파일을 읽을 수 없습니다.");
@@ -346,12 +317,10 @@ public class FileService {
     @Transactional
     public void deleteFile(Long fileId) {
         FileEntity fileEntity = getFileById(fileId);
-        User currentUser = getCurrentAuthenticatedUser();
+        CurrentUser currentUser = currentUserProvider.get();
         
         // 파일 삭제 권한 확인
-        boolean canDelete = fileEntity.getUploadedBy().getId().equals(currentUser.getId()) ||
-                           currentUser.getRoles().stream()
-                                   .anyMatch(role -> role.getName().equals("ADMIN") || role.getName().equals("MASTER"));
+        boolean canDelete = fileEntity.getUploadedBy().getId().equals(currentUser.getId()) || currentUser.isAdmin();
         
         if (!canDelete) {
             throw new RuntimeException("파일을 삭제할 권한이 없습니다.");
@@ -372,36 +341,48 @@ public class FileService {
         fileRepository.save(fileEntity);
     }
     
-    @Transactional(readOnly = true)
+    // 서로 독립적인 집계 쿼리를 각자의 읽기 전용 트랜잭션으로 병렬 실행
     public Map<String, Object> getFileStatistics() {
-        Map<String, Object> stats = new HashMap<>();
+        ParallelQueryExecutor.FanOut queries = parallelQueryExecutor.fanOut();
         
         // 총 파일 수
-        long totalFiles = fileRepository.countByDeletedAtIsNull();
-        stats.put("totalFiles", totalFiles);
+        Supplier<Long> totalFiles = queries.fork("totalFiles", fileRepository::countByDeletedAtIsNull);
         
         // 공개/비공개 파일 수
-        long publicFiles = fileRepository.countByIsPublicAndDeletedAtIsNull(true);
-        long privateFiles = fileRepository.countByIsPublicAndDeletedAtIsNull(false);
-        stats.put("publicFiles", publicFiles);
-        stats.put("privateFiles", privateFiles);
+        Supplier<Long> publicFiles = queries.fork("publicFiles",
+                () -> fileRepository.countByIsPublicAndDeletedAtIsNull(true));
+        Supplier<Long> privateFiles = queries.fork("privateFiles",
+                () -> fileRepository.countByIsPublicAndDeletedAtIsNull(false));
         
         // 파일 타입별 통계
-        Map<String, Long> fileTypeStats = new HashMap<>();
+        Map<String, Supplier<Long>> fileTypeCounts = new LinkedHashMap<>();
         for (FileEntity.FileType type : FileEntity.FileType.values()) {
-            long count = fileRepository.countByFileTypeAndDeletedAtIsNull(type);
-            fileTypeStats.put(type.name(), count);
+            fileTypeCounts.put(type.name(), queries.fork("fileTypeStats." + type.name(),
+                    () -> fileRepository.countByFileTypeAndDeletedAtIsNull(type)));
         }
-        stats.put("fileTypeStats", fileTypeStats);
         
         // 총 파일 크기
-        Long totalSize = fileRepository.sumFileSizeByDeletedAtIsNull();
-        stats.put("totalSize", totalSize != null ? totalSize : 0L);
+        Supplier<Long> totalSize = queries.fork("totalSize", () -> {
+            Long sum = fileRepository.sumFileSizeByDeletedAtIsNull();
+            return sum != null ? sum : 0L;
+        });
         
         // 최근 업로드된 파일 수 (7일 이내)
         LocalDateTime weekAgo = LocalDateTime.now().minusDays(7);
-        long recentFiles = fileRepository.countByCreatedAtAfterAndDeletedAtIsNull(weekAgo);
-        stats.put("recentFiles", recentFiles);
+        Supplier<Long> recentFiles = queries.fork("recentFiles",
+                () -> fileRepository.countByCreatedAtAfterAndDeletedAtIsNull(weekAgo));
+        
+        queries.join();
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("totalFiles", totalFiles.get());
+        stats.put("publicFiles", publicFiles.get());
+        stats.put("privateFiles", privateFiles.get());
+        Map<String, Long> fileTypeStats = new HashMap<>();
+        fileTypeCounts.forEach((type, count) -> fileTypeStats.put(type, count.get()));
+        stats.put("fileTypeStats", fileTypeStats);
+        stats.put("totalSize", totalSize.get());
+        stats.put("recentFiles", recentFiles.get());
+        queries.markDegraded(stats);
         
         return stats;
     }
@@ -451,13 +432,7 @@ public class FileService {
     }
 
     private User getCurrentAuthenticatedUser() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication == null || !authentication.isAuthenticated()) {
-            throw new RuntimeException("인증된 사용자를 찾을 수 없습니다.");
-        }
-        
-        String email = authentication.getName();
-        return userRepository.findByEmail(email)
+        return userRepository.findById(currentUserProvider.get().getId())
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
     }
 }
\ No newline at end of file
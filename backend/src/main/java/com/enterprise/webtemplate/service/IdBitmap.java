@@ -0,0 +1,359 @@
+package com.enterprise.webtemplate.service;
+
+import java.util.Arrays;
+
+/**
+ * 음이 아닌 int id 집합의 압축 비트맵 (Roaring 방식)
+ * id 상위 16비트로 컨테이너를 나누고, 컨테이너 안의 값이 4096개 이하면 정렬된 char 배열, 넘으면 8KB 비트맵으로 저장합니다.
+ * 교집합과 교집합 크기는 컨테이너 쌍 단위로 계산하며, 비트맵끼리는 long 단위 AND와 bitCount로 처리합니다.
+ * 스레드 안전하지 않으므로 소유 객체가 동기화해야 합니다.
+ */
+final class IdBitmap {
+
+    private static final int ARRAY_MAX = 4096;
+    private static final int BITMAP_WORDS = 1024;
+
+    private char[] keys = new char[4];
+    private Container[] containers = new Container[4];
+    private int containerCount;
+
+    void add(int id) {
+        char key = (char) (id >>> 16);
+        int index = indexOf(key);
+        if (index < 0) {
+            index = -index - 1;
+            insertContainer(index, key, new Container());
+        }
+        containers[index].add((char) id);
+    }
+
+    void remove(int id) {
+        int index = indexOf((char) (id >>> 16));
+        if (index < 0) {
+            return;
+        }
+        Container container = containers[index];
+        container.remove((char) id);
+        if (container.cardinality == 0) {
+            removeContainer(index);
+        }
+    }
+
+    boolean contains(int id) {
+        int index = indexOf((char) (id >>> 16));
+        return index >= 0 && containers[index].contains((char) id);
+    }
+
+    long cardinality() {
+        long cardinality = 0;
+        for (int i = 0; i < containerCount; i++) {
+            cardinality += containers[i].cardinality;
+        }
+        return cardinality;
+    }
+
+    IdBitmap and(IdBitmap other) {
+        IdBitmap result = new IdBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < containerCount && j < other.containerCount) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                Container intersection = containers[i].and(other.containers[j]);
+                if (intersection.cardinality > 0) {
+                    result.insertContainer(result.containerCount, keys[i], intersection);
+                }
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    IdBitmap andNot(IdBitmap other) {
+        IdBitmap result = new IdBitmap();
+        int j = 0;
+        for (int i = 0; i < containerCount; i++) {
+            while (j < other.containerCount && other.keys[j] < keys[i]) {
+                j++;
+            }
+            Container difference = j < other.containerCount && other.keys[j] == keys[i]
+                    ? containers[i].andNot(other.containers[j])
+                    : containers[i].copy();
+            if (difference.cardinality > 0) {
+                result.insertContainer(result.containerCount, keys[i], difference);
+            }
+        }
+        return result;
+    }
+
+    long andCardinality(IdBitmap other) {
+        long cardinality = 0;
+        int i = 0;
+        int j = 0;
+        while (i < containerCount && j < other.containerCount) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                cardinality += containers[i].andCardinality(other.containers[j]);
+                i++;
+                j++;
+            }
+        }
+        return cardinality;
+    }
+
+    int[] toArray() {
+        int[] result = new int[(int) cardinality()];
+        int offset = 0;
+        for (int i = 0; i < containerCount; i++) {
+            offset = containers[i].copyTo(result, offset, keys[i] << 16);
+        }
+        return result;
+    }
+
+    /**
+     * 대략적인 힙 사용량 (배열 헤더 16바이트 기준)
+     */
+    long estimatedBytes() {
+        long bytes = 32L + 16 + keys.length * 2L + 16 + containers.length * 8L;
+        for (int i = 0; i < containerCount; i++) {
+            bytes += containers[i].estimatedBytes();
+        }
+        return bytes;
+    }
+
+    static IdBitmap of(int... ids) {
+        IdBitmap bitmap = new IdBitmap();
+        for (int id : ids) {
+            bitmap.add(id);
+        }
+        return bitmap;
+    }
+
+    private int indexOf(char key) {
+        return Arrays.binarySearch(keys, 0, containerCount, key);
+    }
+
+    private void insertContainer(int index, char key, Container container) {
+        if (containerCount == keys.length) {
+            keys = Arrays.copyOf(keys, containerCount * 2);
+            containers = Arrays.copyOf(containers, containerCount * 2);
+        }
+        System.arraycopy(keys, index, keys, index + 1, containerCount - index);
+        System.arraycopy(containers, index, containers, index + 1, containerCount - index);
+        keys[index] = key;
+        containers[index] = container;
+        containerCount++;
+    }
+
+    private void removeContainer(int index) {
+        System.arraycopy(keys, index + 1, keys, index, containerCount - index - 1);
+        System.arraycopy(containers, index + 1, containers, index, containerCount - index - 1);
+        containerCount--;
+        containers[containerCount] = null;
+    }
+
+    /**
+     * 하위 16비트 값 집합 (values 또는 bits 중 하나만 사용)
+     */
+    private static final class Container {
+
+        private char[] values = new char[4];
+        private long[] bits;
+        private int cardinality;
+
+        void add(char value) {
+            if (bits != null) {
+                long mask = 1L << value;
+                if ((bits[value >>> 6] & mask) == 0) {
+                    bits[value >>> 6] |= mask;
+                    cardinality++;
+                }
+                return;
+            }
+            int position = Arrays.binarySearch(values, 0, cardinality, value);
+            if (position >= 0) {
+                return;
+            }
+            position = -position - 1;
+            if (cardinality == ARRAY_MAX) {
+                toBitmap();
+                add(value);
+                return;
+            }
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(ARRAY_MAX, Math.max(4, cardinality * 2)));
+            }
+            System.arraycopy(values, position, values, position + 1, cardinality - position);
+            values[position] = value;
+            cardinality++;
+        }
+
+        void remove(char value) {
+            if (bits != null) {
+                long mask = 1L << value;
+                if ((bits[value >>> 6] & mask) != 0) {
+                    bits[value >>> 6] &= ~mask;
+                    cardinality--;
+                    if (cardinality <= ARRAY_MAX / 2) {
+                        toArray();
+                    }
+                }
+                return;
+            }
+            int position = Arrays.binarySearch(values, 0, cardinality, value);
+            if (position >= 0) {
+                System.arraycopy(values, position + 1, values, position, cardinality - position - 1);
+                cardinality--;
+            }
+        }
+
+        boolean contains(char value) {
+            if (bits != null) {
+                return (bits[value >>> 6] & (1L << value)) != 0;
+            }
+            return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+        }
+
+        Container and(Container other) {
+            Container result = new Container();
+            if (bits != null && other.bits != null) {
+                long[] words = new long[BITMAP_WORDS];
+                int count = 0;
+                for (int i = 0; i < BITMAP_WORDS; i++) {
+                    words[i] = bits[i] & other.bits[i];
+                    count += Long.bitCount(words[i]);
+                }
+                result.values = null;
+                result.bits = words;
+                result.cardinality = count;
+                if (count <= ARRAY_MAX) {
+                    result.toArray();
+                }
+                return result;
+            }
+            Container small = bits == null ? this : other;
+            Container large = small == this ? other : this;
+            result.values = new char[Math.max(1, small.cardinality)];
+            for (int i = 0; i < small.cardinality; i++) {
+                if (large.contains(small.values[i])) {
+                    result.values[result.cardinality++] = small.values[i];
+                }
+            }
+            return result;
+        }
+
+        Container andNot(Container other) {
+            Container result = new Container();
+            if (bits != null) {
+                long[] words = bits.clone();
+                if (other.bits != null) {
+                    for (int i = 0; i < BITMAP_WORDS; i++) {
+                        words[i] &= ~other.bits[i];
+                    }
+                } else {
+                    for (int i = 0; i < other.cardinality; i++) {
+                        words[other.values[i] >>> 6] &= ~(1L << other.values[i]);
+                    }
+                }
+                int count = 0;
+                for (long word : words) {
+                    count += Long.bitCount(word);
+                }
+                result.values = null;
+                result.bits = words;
+                result.cardinality = count;
+                if (count <= ARRAY_MAX) {
+                    result.toArray();
+                }
+                return result;
+            }
+            result.values = new char[Math.max(1, cardinality)];
+            for (int i = 0; i < cardinality; i++) {
+                if (!other.contains(values[i])) {
+                    result.values[result.cardinality++] = values[i];
+                }
+            }
+            return result;
+        }
+
+        Container copy() {
+            Container result = new Container();
+            result.values = values != null ? values.clone() : null;
+            result.bits = bits != null ? bits.clone() : null;
+            result.cardinality = cardinality;
+            return result;
+        }
+
+        int andCardinality(Container other) {
+            int count = 0;
+            if (bits != null && other.bits != null) {
+                for (int i = 0; i < BITMAP_WORDS; i++) {
+                    count += Long.bitCount(bits[i] & other.bits[i]);
+                }
+                return count;
+            }
+            Container small = bits == null ? this : other;
+            Container large = small == this ? other : this;
+            for (int i = 0; i < small.cardinality; i++) {
+                if (large.contains(small.values[i])) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        int copyTo(int[] target, int offset, int high) {
+            if (bits == null) {
+                for (int i = 0; i < cardinality; i++) {
+                    target[offset++] = high | values[i];
+                }
+                return offset;
+            }
+            for (int word = 0; word < BITMAP_WORDS; word++) {
+                long remaining = bits[word];
+                while (remaining != 0) {
+                    target[offset++] = high | (word << 6) + Long.numberOfTrailingZeros(remaining);
+                    remaining &= remaining - 1;
+                }
+            }
+            return offset;
+        }
+
+        long estimatedBytes() {
+            return 32L + 16 + (bits != null ? bits.length * 8L : values.length * 2L);
+        }
+
+        private void toBitmap() {
+            bits = new long[BITMAP_WORDS];
+            for (int i = 0; i < cardinality; i++) {
+                bits[values[i] >>> 6] |= 1L << values[i];
+            }
+            values = null;
+        }
+
+        private void toArray() {
+            char[] sorted = new char[cardinality];
+            copyTo(sorted);
+            values = sorted;
+            bits = null;
+        }
+
+        private void copyTo(char[] target) {
+            int offset = 0;
+            for (int word = 0; word < BITMAP_WORDS; word++) {
+                long remaining = bits[word];
+                while (remaining != 0) {
+                    target[offset++] = (char) ((word << 6) + Long.numberOfTrailingZeros(remaining));
+                    remaining &= remaining - 1;
+                }
+            }
+        }
+    }
+}
@@ -1,8 +1,17 @@
 package com.enterprise.webtemplate.service;
 
+import com.enterprise.webtemplate.security.AuthenticatedPrincipal;
+import com.enterprise.webtemplate.security.CompactAuthorityCodec;
+import com.enterprise.webtemplate.security.PermissionSet;
+import com.enterprise.webtemplate.security.RbacEngine;
+import com.enterprise.webtemplate.security.SecurityVersionRegistry;
+import com.enterprise.webtemplate.security.VerifiedToken;
+import com.enterprise.webtemplate.security.VerifiedTokenCache;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -11,13 +20,20 @@ import org.springframework.stereotype.Service;
 import javax.crypto.SecretKey;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 public class JwtService {
 
+    public static final String USER_ID_CLAIM = "uid";
+    public static final String ROLES_CLAIM = "roles";
+    // iat는 초 단위로 잘리므로 사용자 단위 폐기 시각과 비교할 밀리초 발급 시각을 별도로 싣는다
+    public static final String ISSUED_AT_MILLIS_CLAIM = "iatm";
+
     @Value("${app.jwt.secret}")
     private String secretKey;
 
@@ -27,8 +43,91 @@ public class JwtService {
     @Value("${app.jwt.refresh-expiration}")
     private long refreshExpiration;
 
+    @Value("${app.jwt.compact-authorities:false}")
+    private boolean compactAuthorities;
+
+    @Autowired
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @Autowired
+    private SecurityVersionRegistry securityVersionRegistry;
+
+    @Autowired
+    private CompactAuthorityCodec compactAuthorityCodec;
+
+    @Autowired
+    private RbacEngine rbacEngine;
+
+    private SecretKey signInKey;
+    private JwtParser jwtParser;
+
+    @PostConstruct
+    void initSigningKey() {
+        // 서명 키와 파서는 불변이므로 요청마다 다시 만들지 않는다
+        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
+        this.signInKey = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts
+                .parserBuilder()
+                .setSigningKey(signInKey)
+                .build();
+    }
+
+    /**
+     * 토큰을 한 번만 파싱/검증하여 불변 객체로 반환
+     * 동일 토큰은 다이제스트 캐시에서 서명 검증 없이 반환됩니다.
+     */
+    public VerifiedToken verify(String token) {
+        VerifiedToken cached = verifiedTokenCache.get(token);
+        if (cached != null) {
+            if (cached.isExpired()) {
+                throw new RuntimeException("JWT token is expired");
+            }
+            return cached;
+        }
+
+        VerifiedToken verified = toVerifiedToken(extractAllClaims(token));
+        verifiedTokenCache.put(token, verified);
+        return verified;
+    }
+
+    @SuppressWarnings("unchecked")
+    private VerifiedToken toVerifiedToken(Claims claims) {
+        Object compact = claims.get(CompactAuthorityCodec.CLAIM_NAME);
+        if (compact != null) {
+            // 압축 형식: 사전이 일치하면 비트맵에서 바로 권한 비트셋을 복원
+            PermissionSet permissionSet = compactAuthorityCodec.decode(compact.toString());
+            return new VerifiedToken(
+                    claims.getSubject(),
+                    permissionSet != null ? rbacEngine.toAuthorityNames(permissionSet) : List.of(),
+                    issuedAt(claims),
+                    claims.getExpiration(),
+                    claims,
+                    permissionSet,
+                    permissionSet != null
+            );
+        }
+
+        Object authorities = claims.get("authorities");
+        List<String> authorityNames = authorities instanceof List
+                ? ((List<Object>) authorities).stream().map(String::valueOf).collect(Collectors.toList())
+                : List.of();
+        return new VerifiedToken(
+                claims.getSubject(),
+                authorityNames,
+                issuedAt(claims),
+                claims.getExpiration(),
+                claims
+        );
+    }
+
+    // 밀리초 발급 시각이 없는 (이전에 발급된) 토큰은 초 단위 iat 사용
+    private Date issuedAt(Claims claims) {
+        Object millis = claims.get(ISSUED_AT_MILLIS_CLAIM);
+        return millis instanceof Number number ? new Date(number.longValue()) : claims.getIssuedAt();
+    }
+
     public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+        return verify(token).getSubject();
     }
 
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
@@ -58,36 +157,51 @@ public class JwtService {
                 .map(GrantedAuthority::getAuthority)
                 .collect(Collectors.toList());
 
-        return Jwts
+        JwtBuilder builder = Jwts
                 .builder()
                 .setClaims(extraClaims)
-                .setSubject(userDetails.getUsername())
-                .claim("authorities", authorities)
-                .setIssuedAt(new Date(System.currentTimeMillis()))
-                .setExpiration(new Date(System.currentTimeMillis() + expiration))
+                .setSubject(userDetails.getUsername());
+
+        // 압축 형식을 쓸 수 없으면(엔진 미준비, 사전에 없는 권한) 기존 이름 목록으로 발급
+        String compact = compactAuthorities ? compactAuthorityCodec.encode(authorities) : null;
+        if (compact != null) {
+            builder.claim(CompactAuthorityCodec.CLAIM_NAME, compact);
+        } else {
+            builder.claim("authorities", authorities);
+        }
+
+        // 요청마다 사용자/역할을 다시 조회하지 않도록 ID와 역할 이름을 함께 발급 (역할 변경 시 보안 버전이 갱신됨)
+        if (userDetails instanceof AuthenticatedPrincipal principal && principal.getUserId() != null) {
+            builder.claim(USER_ID_CLAIM, principal.getUserId());
+            builder.claim(ROLES_CLAIM, List.copyOf(principal.getRoleNames()));
+        }
+
+        long now = System.currentTimeMillis();
+        return builder
+                .setId(UUID.randomUUID().toString())
+                .claim(SecurityVersionRegistry.CLAIM_NAME, securityVersionRegistry.currentVersion(userDetails.getUsername()))
+                .claim(ISSUED_AT_MILLIS_CLAIM, now)
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + expiration))
                 .signWith(getSignInKey(), SignatureAlgorithm.HS256)
                 .compact();
     }
 
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
+        return isTokenValid(verify(token), userDetails);
     }
 
-    public boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    public boolean isTokenValid(VerifiedToken verifiedToken, UserDetails userDetails) {
+        return verifiedToken.getSubject().equals(userDetails.getUsername()) && !verifiedToken.isExpired();
     }
 
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    public boolean isTokenExpired(String token) {
+        return verify(token).isExpired();
     }
 
     private Claims extractAllClaims(String token) {
         try {
-            return Jwts
-                    .parserBuilder()
-                    .setSigningKey(getSignInKey())
-                    .build()
+            return jwtParser
                     .parseClaimsJws(token)
                     .getBody();
         } catch (ExpiredJwtException e) {
@@ -104,8 +218,7 @@ public class JwtService {
     }
 
     private SecretKey getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+        return signInKey;
     }
 
     public long getExpirationTime() {
@@ -5,14 +5,16 @@ import com.enterprise.webtemplate.entity.Notification;
 import com.enterprise.webtemplate.entity.User;
 import com.enterprise.webtemplate.repository.NotificationRepository;
 import com.enterprise.webtemplate.repository.UserRepository;
+import com.enterprise.webtemplate.security.CurrentUserProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,6 +25,8 @@ import java.util.stream.Collectors;
 @Service
 public class NotificationService {
 
+    private static final Logger logger = LoggerFactory.getLogger(NotificationService.class);
+
     @Autowired
     private NotificationRepository notificationRepository;
 
@@ -32,6 +36,9 @@ public class NotificationService {
     @Autowired
     private SimpMessagingTemplate messagingTemplate;
 
+    @Autowired
+    private CurrentUserProvider currentUserProvider;
+
     @Transactional
     public void createNotification(String title, String message, String type, Long userId) {
         User user = userRepository.findById(userId)
@@ -124,15 +131,9 @@ public class NotificationService {
         notificationRepository.deleteAll(userNotifications);
     }
 
+    // 조회 조건용 참조만 필요하므로 사용자 엔티티를 로드하지 않음
     private User getCurrentUser() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication == null || !authentication.isAuthenticated()) {
-            throw new RuntimeException("인증된 사용자를 찾을 수 없습니다.");
-        }
-        
-        String email = authentication.getName();
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+        return currentUserProvider.getReference();
     }
 
     // 시스템 이벤트 알림 메서드들
@@ -152,6 +153,24 @@ public class NotificationService {
         );
     }
 
+    /**
+     * 사용자 일괄 처리는 대상 수와 관계없이 관리자 알림을 한 번만 생성
+     */
+    @EventListener
+    public void onUserBulkUpdated(UserBulkUpdatedEvent event) {
+        try {
+            createAdminNotification(
+                    "사용자 일괄 처리",
+                    String.format("%s님이 사용자 %d명을 일괄 %s했습니다.",
+                            event.getActorEmail(), event.getUserIds().size(), event.describe()),
+                    "USER_MANAGEMENT"
+            );
+        } catch (RuntimeException e) {
+            // 일괄 처리는 이미 커밋되었으므로 알림 실패로 요청을 실패시키지 않음
+            logger.warn("Failed to create bulk update notification: {}", e.getMessage());
+        }
+    }
+
     public void notifySystemUpdate(String updateInfo) {
         createBroadcastNotification(
                 "시스템 업데이트",
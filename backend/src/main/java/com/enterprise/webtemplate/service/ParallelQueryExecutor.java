@@ -0,0 +1,266 @@
+package com.enterprise.webtemplate.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 통계용 독립 조회 병렬 실행기
+ * 서로 의존하지 않는 읽기 쿼리를 전용 스레드 풀에서 각자의 읽기 전용 트랜잭션(별도 커넥션)으로 동시에 실행하여
+ * 응답 시간이 쿼리 시간의 합이 아니라 가장 느린 쿼리에 가까워지도록 합니다.
+ * 쿼리마다 제한 시간을 두고, 넘긴 쿼리는 결과를 null로 두어 나머지 결과만으로 응답합니다(degraded).
+ * 제한 시간은 쿼리가 실제로 실행을 시작한 시점부터 계산하며, 대기열에서 제한 시간 안에 시작하지 못한 쿼리도 초과로 처리합니다.
+ * 스레드 수가 커넥션 풀을 모두 차지하지 않도록 고정되어 있으며, 대기열이 가득 차면 호출 스레드에서 실행합니다.
+ * 호출 스레드에서 실행할 때도 같은 읽기 전용 트랜잭션과 제한 시간을 적용하며, 제한 시간을 넘겨 끝난 결과는 버립니다.
+ */
+@Component
+public class ParallelQueryExecutor {
+
+    private static final Logger logger = LoggerFactory.getLogger(ParallelQueryExecutor.class);
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${app.statistics.parallel-queries.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.statistics.parallel-queries.threads:4}")
+    private int threads;
+
+    @Value("${app.statistics.parallel-queries.queue-capacity:64}")
+    private int queueCapacity;
+
+    @Value("${app.statistics.parallel-queries.timeout-ms:3000}")
+    private long timeoutMillis;
+
+    // 비활성화되었거나 초기화 전(단위 테스트)이면 null, 이때는 호출 스레드에서 순서대로 실행
+    private ThreadPoolExecutor executor;
+    private TransactionTemplate readOnlyTransaction;
+
+    @PostConstruct
+    void initialize() {
+        if (!enabled) {
+            return;
+        }
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "stats-query-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        // 제한 시간을 넘긴 쿼리는 DB에서도 중단되도록 트랜잭션 타임아웃(초 단위)을 함께 설정
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.readOnlyTransaction.setTimeout((int) Math.max(1, (timeoutMillis + 999) / 1000));
+        logger.info("Parallel query executor initialized: threads={}, queueCapacity={}, timeoutMs={}",
+                threads, queueCapacity, timeoutMillis);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 하나의 응답을 구성할 조회 묶음 시작
+     */
+    public FanOut fanOut() {
+        return new FanOut();
+    }
+
+    /**
+     * 병렬 조회 묶음
+     * fork로 쿼리를 제출하고 반환된 Supplier에서 결과를 읽습니다(완료될 때까지 대기).
+     * 제한 시간을 넘긴 쿼리의 결과는 null이며, 쿼리에서 발생한 예외는 읽을 때마다 그대로 전달됩니다.
+     */
+    public class FanOut {
+
+        private final List<Task<?>> tasks = new ArrayList<>();
+        private final List<String> timedOut = new ArrayList<>();
+
+        public <T> Supplier<T> fork(String name, Supplier<T> query) {
+            Task<T> task = new Task<>(name);
+            task.future = submit(task::markStarted, query);
+            tasks.add(task);
+            return task;
+        }
+
+        /**
+         * 제출한 모든 쿼리가 끝나거나 제한 시간을 넘길 때까지 대기
+         */
+        public void join() {
+            for (Task<?> task : tasks) {
+                task.get();
+            }
+        }
+
+        public boolean isDegraded() {
+            join();
+            return !timedOut.isEmpty();
+        }
+
+        /**
+         * 제한 시간을 넘긴 쿼리가 있으면 응답에 degraded 표시와 해당 항목 이름을 추가 (degraded 여부 반환)
+         */
+        public boolean markDegraded(Map<String, Object> response) {
+            if (isDegraded()) {
+                response.put("degraded", true);
+                response.put("degradedQueries", List.copyOf(timedOut));
+                return true;
+            }
+            return false;
+        }
+
+        private class Task<T> implements Supplier<T> {
+
+            private final String name;
+            private final long submittedAt = System.nanoTime();
+            // 작업 스레드에서 실행을 시작한 시각 (0이면 아직 대기열에 있음)
+            private volatile long startedAt;
+            private Future<T> future;
+            private boolean resolved;
+            private T value;
+            // 첫 조회에서 발생한 예외 (이후 조회에서도 다시 던짐)
+            private RuntimeException failure;
+
+            Task(String name) {
+                this.name = name;
+            }
+
+            void markStarted() {
+                startedAt = System.nanoTime();
+            }
+
+            @Override
+            public T get() {
+                if (!resolved) {
+                    resolve();
+                }
+                if (failure != null) {
+                    throw failure;
+                }
+                return value;
+            }
+
+            private void resolve() {
+                try {
+                    value = await();
+                } catch (TimeoutException e) {
+                    markTimedOut();
+                } catch (InterruptedException e) {
+                    future.cancel(true);
+                    Thread.currentThread().interrupt();
+                    failure = new IllegalStateException("통계 조회 중 인터럽트가 발생했습니다.", e);
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    if (cause instanceof TimeoutException) {
+                        // 호출 스레드에서 실행했지만 제한 시간을 넘김
+                        markTimedOut();
+                    } else if (cause instanceof RuntimeException runtimeException) {
+                        failure = runtimeException;
+                    } else {
+                        failure = new IllegalStateException("통계 조회 중 오류가 발생했습니다.", cause);
+                    }
+                } finally {
+                    resolved = true;
+                }
+            }
+
+            private void markTimedOut() {
+                future.cancel(true);
+                timedOut.add(name);
+                logger.warn("Statistics query '{}' timed out after {} ms", name, timeoutMillis);
+            }
+
+            // 시작 전에는 제출 시점 기준으로, 시작한 뒤에는 시작 시점 기준으로 제한 시간만큼 대기
+            private T await() throws InterruptedException, ExecutionException, TimeoutException {
+                long timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+                while (true) {
+                    long started = startedAt;
+                    long deadline = (started != 0 ? started : submittedAt) + timeoutNanos;
+                    try {
+                        return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                    } catch (TimeoutException e) {
+                        if (started != 0 || startedAt == 0) {
+                            throw e;
+                        }
+                        // 기다리는 동안 실행이 시작됨: 시작 시점 기준으로 다시 대기
+                    }
+                }
+            }
+        }
+    }
+
+    private <T> Future<T> submit(Runnable onStart, Supplier<T> query) {
+        if (executor != null) {
+            try {
+                return executor.submit(() -> {
+                    onStart.run();
+                    return readOnlyTransaction.execute(status -> query.get());
+                });
+            } catch (RejectedExecutionException e) {
+                logger.debug("Parallel query queue full, running on caller thread");
+            }
+        }
+        // 호출 스레드에서 실행 (예외는 결과를 읽을 때 전달)
+        CompletableFuture<T> future = new CompletableFuture<>();
+        onStart.run();
+        if (readOnlyTransaction == null) {
+            // 비활성화 상태: 호출 측 트랜잭션에서 순서대로 실행
+            try {
+                future.complete(query.get());
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+            return future;
+        }
+        // 대기열이 가득 참: 풀과 같은 트랜잭션/제한 시간 적용 (DB 쿼리는 트랜잭션 타임아웃으로 중단됨)
+        long started = System.nanoTime();
+        try {
+            T result = readOnlyTransaction.execute(status -> query.get());
+            if (exceeded(started)) {
+                future.completeExceptionally(new TimeoutException());
+            } else {
+                future.complete(result);
+            }
+        } catch (RuntimeException e) {
+            future.completeExceptionally(exceeded(started) ? new TimeoutException() : e);
+        }
+        return future;
+    }
+
+    private boolean exceeded(long startedNanos) {
+        return System.nanoTime() - startedNanos > TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+    }
+}
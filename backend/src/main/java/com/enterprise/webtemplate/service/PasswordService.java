@@ -1,10 +1,17 @@
 package com.enterprise.webtemplate.service;
 
+import com.enterprise.webtemplate.security.BreachedPasswordIndex;
+import com.enterprise.webtemplate.security.PasswordHashingSaturatedException;
+import com.enterprise.webtemplate.security.PooledPasswordEncoder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
-import java.util.regex.Pattern;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 @Service
 public class PasswordService {
@@ -12,17 +19,84 @@ public class PasswordService {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private BreachedPasswordIndex breachedPasswordIndex;
+
     private static final int MIN_LENGTH = 8;
     private static final int MAX_LENGTH = 100;
-    private static final Pattern LOWERCASE_PATTERN = Pattern.compile(".*[a-z].*");
-    private static final Pattern UPPERCASE_PATTERN = Pattern.compile(".*[A-Z].*");
-    private static final Pattern DIGIT_PATTERN = Pattern.compile(".*\\d.*");
-    private static final Pattern SPECIAL_CHAR_PATTERN = Pattern.compile(".*[@$!%*?&].*");
+    private static final String SPECIAL_CHARS = "@$!%*?&";
+    private static final int HAS_LOWER = 1;
+    private static final int HAS_UPPER = 1 << 1;
+    private static final int HAS_DIGIT = 1 << 2;
+    private static final int HAS_SPECIAL = 1 << 3;
+
+    // 어디에 들어가 있어도 거부하는 흔한 단어 (사전 조회는 완전 일치만 확인하므로 별도로 유지)
+    private static final String[] COMMON_WORDS = {
+        "password", "123456", "qwerty", "admin", "letmein",
+        "welcome", "monkey", "dragon", "master", "secret"
+    };
 
     public String encodePassword(String rawPassword) {
         return passwordEncoder.encode(rawPassword);
     }
 
+    /**
+     * 여러 비밀번호를 해싱 풀에서 병렬로 해싱 (입력 순서대로 반환)
+     * 로그인 해싱이 밀리지 않도록 동시에 제출하는 작업을 maxInFlight개(0 이하면 풀 스레드의 절반)로 제한하고,
+     * 풀 대기열이 가득 차면 먼저 제출한 작업이 끝나기를 기다렸다가 다시 제출합니다.
+     */
+    public List<String> encodePasswords(List<String> rawPasswords, int maxInFlight) {
+        if (!(passwordEncoder instanceof PooledPasswordEncoder pooled)) {
+            return rawPasswords.stream().map(passwordEncoder::encode).toList();
+        }
+        int limit = maxInFlight > 0 ? maxInFlight : Math.max(1, pooled.getPoolSize() / 2);
+        List<Future<String>> futures = new ArrayList<>(rawPasswords.size());
+        List<String> encoded = new ArrayList<>(rawPasswords.size());
+        try {
+            for (String rawPassword : rawPasswords) {
+                while (futures.size() - encoded.size() >= limit) {
+                    encoded.add(await(futures.get(encoded.size())));
+                }
+                while (true) {
+                    try {
+                        futures.add(pooled.encodeAsync(rawPassword));
+                        break;
+                    } catch (PasswordHashingSaturatedException e) {
+                        // 기다릴 작업이 없으면 로그인 요청이 풀을 채운 상태이므로 포기
+                        if (futures.size() == encoded.size()) {
+                            throw e;
+                        }
+                        encoded.add(await(futures.get(encoded.size())));
+                    }
+                }
+            }
+            while (encoded.size() < futures.size()) {
+                encoded.add(await(futures.get(encoded.size())));
+            }
+            return encoded;
+        } finally {
+            // 실패 시 남은 작업이 풀을 계속 점유하지 않도록 취소
+            for (int i = encoded.size(); i < futures.size(); i++) {
+                futures.get(i).cancel(true);
+            }
+        }
+    }
+
+    private String await(Future<String> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 처리 중 인터럽트가 발생했습니다.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("비밀번호 처리 중 오류가 발생했습니다.", cause);
+        }
+    }
+
     public boolean matchesPassword(String rawPassword, String encodedPassword) {
         return passwordEncoder.matches(rawPassword, encodedPassword);
     }
@@ -43,64 +117,82 @@ public class PasswordService {
             result.addError("비밀번호는 최대 " + MAX_LENGTH + "자를 초과할 수 없습니다.");
         }
 
-        if (!LOWERCASE_PATTERN.matcher(password).matches()) {
+        // 문자 종류와 단순 패턴을 한 번의 순회로 검사
+        int classes = 0;
+        boolean simpleSequence = false;
+        char prev2 = 0;
+        char prev1 = 0;
+        for (int i = 0; i < password.length(); i++) {
+            char c = password.charAt(i);
+            if (c >= 'a' && c <= 'z') {
+                classes |= HAS_LOWER;
+            } else if (c >= 'A' && c <= 'Z') {
+                classes |= HAS_UPPER;
+            } else if (c >= '0' && c <= '9') {
+                classes |= HAS_DIGIT;
+            } else if (SPECIAL_CHARS.indexOf(c) >= 0) {
+                classes |= HAS_SPECIAL;
+            }
+
+            // 연속된 문자 (abc, 123) 또는 동일한 문자 (aaa, 111), 대소문자 무시
+            char lower = Character.toLowerCase(c);
+            if (i >= 2 && ((prev1 == prev2 + 1 && lower == prev1 + 1) || (prev2 == prev1 && prev1 == lower))) {
+                simpleSequence = true;
+            }
+            prev2 = prev1;
+            prev1 = lower;
+        }
+
+        if ((classes & HAS_LOWER) == 0) {
             result.addError("비밀번호는 소문자를 포함해야 합니다.");
         }
 
-        if (!UPPERCASE_PATTERN.matcher(password).matches()) {
+        if ((classes & HAS_UPPER) == 0) {
             result.addError("비밀번호는 대문자를 포함해야 합니다.");
         }
 
-        if (!DIGIT_PATTERN.matcher(password).matches()) {
+        if ((classes & HAS_DIGIT) == 0) {
             result.addError("비밀번호는 숫자를 포함해야 합니다.");
         }
 
-        if (!SPECIAL_CHAR_PATTERN.matcher(password).matches()) {
+        if ((classes & HAS_SPECIAL) == 0) {
             result.addError("비밀번호는 특수문자(@$!%*?&)를 포함해야 합니다.");
         }
 
-        if (hasCommonPattern(password)) {
+        if (simpleSequence || containsCommonWord(password)) {
             result.addError("너무 간단한 패턴의 비밀번호는 사용할 수 없습니다.");
+        } else if (isBreachedPassword(password)) {
+            result.addError("유출되었거나 널리 사용되는 비밀번호는 사용할 수 없습니다.");
         }
 
         return result;
     }
 
-    private boolean hasCommonPattern(String password) {
-        String lower = password.toLowerCase();
-        
-        // 연속된 문자나 숫자 패턴 검사
-        for (int i = 0; i < lower.length() - 2; i++) {
-            char first = lower.charAt(i);
-            char second = lower.charAt(i + 1);
-            char third = lower.charAt(i + 2);
-            
-            // 연속된 문자 (abc, 123)
-            if (second == first + 1 && third == second + 1) {
-                return true;
-            }
-            
-            // 동일한 문자 (aaa, 111)
-            if (first == second && second == third) {
+    private boolean containsCommonWord(String password) {
+        String lower = password.toLowerCase(Locale.ROOT);
+        for (String word : COMMON_WORDS) {
+            if (lower.contains(word)) {
                 return true;
             }
         }
-        
-        // 일반적인 패턴들
-        String[] commonPatterns = {
-            "password", "123456", "qwerty", "admin", "letmein",
-            "welcome", "monkey", "dragon", "master", "secret"
-        };
-        
-        for (String pattern : commonPatterns) {
-            if (lower.contains(pattern)) {
-                return true;
-            }
-        }
-        
         return false;
     }
 
+    /**
+     * 유출/흔한 비밀번호 사전 조회
+     * 전체 문자열과, 끝에 덧붙인 숫자/특수문자를 제거한 부분(Password123! -> password)을 함께 확인합니다.
+     */
+    private boolean isBreachedPassword(String password) {
+        if (breachedPasswordIndex.contains(password)) {
+            return true;
+        }
+        int end = password.length();
+        while (end > 0 && !Character.isLetter(password.charAt(end - 1))) {
+            end--;
+        }
+        return end > 0 && end < password.length() && breachedPasswordIndex.contains(password.substring(0, end));
+    }
+
     public static class PasswordValidationResult {
         private boolean valid = true;
         private java.util.List<String> errors = new java.util.ArrayList<>();
@@ -0,0 +1,202 @@
+package com.enterprise.webtemplate.service;
+
+import java.util.Arrays;
+
+/**
+ * 정렬된 int id 집합을 블록 단위 델타 + varint로 압축 저장하는 포스팅 리스트
+ * 블록마다 첫 id를 따로 두어 교집합 시 필요한 블록만 풀 수 있고, 추가/삭제는 해당 블록 하나만 다시 인코딩합니다.
+ * 스레드 안전하지 않으므로 소유 객체가 동기화해야 합니다.
+ */
+final class PostingList {
+
+    static final int NO_MORE = Integer.MAX_VALUE;
+
+    private static final int MAX_BLOCK_SIZE = 256;
+
+    private int[] firstIds = new int[1];
+    private int[] blockSizes = new int[1];
+    private byte[][] blocks = new byte[1][];
+    private int blockCount;
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    boolean add(int id) {
+        if (blockCount == 0) {
+            insertBlock(0, new int[]{id}, 1);
+            size = 1;
+            return true;
+        }
+
+        int block = Math.max(0, blockFor(id));
+        int[] ids = decode(block);
+        int count = blockSizes[block];
+        int position = Arrays.binarySearch(ids, 0, count, id);
+        if (position >= 0) {
+            return false;
+        }
+        position = -position - 1;
+
+        int[] updated = new int[count + 1];
+        System.arraycopy(ids, 0, updated, 0, position);
+        updated[position] = id;
+        System.arraycopy(ids, position, updated, position + 1, count - position);
+        size++;
+
+        if (updated.length > MAX_BLOCK_SIZE) {
+            int half = updated.length / 2;
+            setBlock(block, Arrays.copyOfRange(updated, 0, half), half);
+            insertBlock(block + 1, Arrays.copyOfRange(updated, half, updated.length), updated.length - half);
+        } else {
+            setBlock(block, updated, updated.length);
+        }
+        return true;
+    }
+
+    boolean remove(int id) {
+        int block = blockFor(id);
+        if (block < 0) {
+            return false;
+        }
+        int[] ids = decode(block);
+        int count = blockSizes[block];
+        int position = Arrays.binarySearch(ids, 0, count, id);
+        if (position < 0) {
+            return false;
+        }
+        size--;
+
+        if (count == 1) {
+            removeBlock(block);
+            return true;
+        }
+        int[] updated = new int[count - 1];
+        System.arraycopy(ids, 0, updated, 0, position);
+        System.arraycopy(ids, position + 1, updated, position, count - position - 1);
+        setBlock(block, updated, updated.length);
+        return true;
+    }
+
+    int[] toArray() {
+        int[] result = new int[size];
+        int offset = 0;
+        for (int block = 0; block < blockCount; block++) {
+            int[] ids = decode(block);
+            System.arraycopy(ids, 0, result, offset, blockSizes[block]);
+            offset += blockSizes[block];
+        }
+        return result;
+    }
+
+    /**
+     * 정렬된 후보 중 이 리스트에도 있는 id만 남김 (후보가 가리키는 블록만 풀어서 비교)
+     */
+    int[] retainAll(int[] candidates, int candidateCount) {
+        int[] result = new int[candidateCount];
+        int resultCount = 0;
+        int decodedBlock = -1;
+        int[] ids = null;
+        for (int i = 0; i < candidateCount; i++) {
+            int candidate = candidates[i];
+            int block = blockFor(candidate);
+            if (block < 0) {
+                continue;
+            }
+            if (block != decodedBlock) {
+                ids = decode(block);
+                decodedBlock = block;
+            }
+            if (Arrays.binarySearch(ids, 0, blockSizes[block], candidate) >= 0) {
+                result[resultCount++] = candidate;
+            }
+        }
+        return resultCount == result.length ? result : Arrays.copyOf(result, resultCount);
+    }
+
+    /**
+     * 대략적인 힙 사용량 (배열 헤더 16바이트 기준)
+     */
+    long estimatedBytes() {
+        long bytes = 40L + 3 * 16L + firstIds.length * 4L + blockSizes.length * 4L + blocks.length * 8L;
+        for (int block = 0; block < blockCount; block++) {
+            bytes += 16L + blocks[block].length;
+        }
+        return bytes;
+    }
+
+    // id가 속할 블록 (첫 id가 id 이하인 마지막 블록, 없으면 -1)
+    private int blockFor(int id) {
+        int position = Arrays.binarySearch(firstIds, 0, blockCount, id);
+        return position >= 0 ? position : -position - 2;
+    }
+
+    private int[] decode(int block) {
+        int count = blockSizes[block];
+        int[] ids = new int[count];
+        ids[0] = firstIds[block];
+        byte[] data = blocks[block];
+        int offset = 0;
+        for (int i = 1; i < count; i++) {
+            int delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[offset++];
+                delta |= (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            ids[i] = ids[i - 1] + delta;
+        }
+        return ids;
+    }
+
+    private static byte[] encode(int[] ids, int count) {
+        byte[] buffer = new byte[Math.max(0, (count - 1) * 5)];
+        int offset = 0;
+        for (int i = 1; i < count; i++) {
+            int delta = ids[i] - ids[i - 1];
+            while ((delta & ~0x7F) != 0) {
+                buffer[offset++] = (byte) ((delta & 0x7F) | 0x80);
+                delta >>>= 7;
+            }
+            buffer[offset++] = (byte) delta;
+        }
+        return Arrays.copyOf(buffer, offset);
+    }
+
+    private void setBlock(int block, int[] ids, int count) {
+        firstIds[block] = ids[0];
+        blockSizes[block] = count;
+        blocks[block] = encode(ids, count);
+    }
+
+    private void insertBlock(int block, int[] ids, int count) {
+        if (blockCount == firstIds.length) {
+            int capacity = firstIds.length * 2;
+            firstIds = Arrays.copyOf(firstIds, capacity);
+            blockSizes = Arrays.copyOf(blockSizes, capacity);
+            blocks = Arrays.copyOf(blocks, capacity);
+        }
+        int moved = blockCount - block;
+        System.arraycopy(firstIds, block, firstIds, block + 1, moved);
+        System.arraycopy(blockSizes, block, blockSizes, block + 1, moved);
+        System.arraycopy(blocks, block, blocks, block + 1, moved);
+        blockCount++;
+        setBlock(block, ids, count);
+    }
+
+    private void removeBlock(int block) {
+        int moved = blockCount - block - 1;
+        System.arraycopy(firstIds, block + 1, firstIds, block, moved);
+        System.arraycopy(blockSizes, block + 1, blockSizes, block, moved);
+        System.arraycopy(blocks, block + 1, blocks, block, moved);
+        blockCount--;
+        blocks[blockCount] = null;
+    }
+}
@@ -5,22 +5,30 @@ import com.enterprise.webtemplate.dto.RoleCreateRequest;
 import com.enterprise.webtemplate.dto.RoleUpdateRequest;
 import com.enterprise.webtemplate.dto.PermissionResponse;
 import com.enterprise.webtemplate.dto.UserRoleUpdateRequest;
+import com.enterprise.webtemplate.entity.ActivityEvent.ActivityType;
 import com.enterprise.webtemplate.entity.Role;
 import com.enterprise.webtemplate.entity.Permission;
 import com.enterprise.webtemplate.entity.User;
 import com.enterprise.webtemplate.repository.RoleRepository;
 import com.enterprise.webtemplate.repository.PermissionRepository;
+import com.enterprise.webtemplate.repository.ResourceVersionTracker;
+import com.enterprise.webtemplate.repository.ResourceVersionTracker.Resource;
 import com.enterprise.webtemplate.repository.UserRepository;
+import com.enterprise.webtemplate.security.CurrentUser;
+import com.enterprise.webtemplate.security.CurrentUserProvider;
+import com.enterprise.webtemplate.security.RbacChangedEvent;
+import com.enterprise.webtemplate.security.SessionInvalidator;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 @Service
@@ -35,6 +43,36 @@ public class RoleService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private SessionInvalidator sessionInvalidator;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private CurrentUserProvider currentUserProvider;
+
+    @Autowired
+    private ResourceVersionTracker resourceVersionTracker;
+
+    @Autowired
+    private UserFacetIndex userFacetIndex;
+
+    @Autowired
+    private ActivityEventLog activityEventLog;
+
+    // 역할 목록 버전 (역할별 사용자 수를 포함하므로 사용자 변경에도 갱신)
+    public String getRolesVersion() {
+        validateAdminAccess();
+        return resourceVersionTracker.etag("roles", EnumSet.of(Resource.RBAC, Resource.USERS));
+    }
+
+    // 권한 목록 버전
+    public String getPermissionsVersion() {
+        validateAdminAccess();
+        return resourceVersionTracker.etag("permissions", EnumSet.of(Resource.RBAC));
+    }
+
     // 모든 역할 조회
     @Transactional(readOnly = true)
     public List<RoleResponse> getAllRoles() {
@@ -56,7 +94,7 @@ public class RoleService {
     // 역할 생성
     @Transactional
     public RoleResponse createRole(RoleCreateRequest request) {
-        validateAdminAccess();
+        CurrentUser admin = validateAdminAccess();
         
         // 역할명 중복 검사
         if (roleRepository.existsByName(request.getName())) {
@@ -79,13 +117,16 @@ public class RoleService {
         }
         
         Role savedRole = roleRepository.save(role);
+        eventPublisher.publishEvent(new RbacChangedEvent("ROLE_CREATED"));
+        activityEventLog.record(ActivityType.ROLE_CHANGE, admin.getId(), savedRole.getId(),
+                "'" + savedRole.getName() + "' 역할이 생성되었습니다.");
         return new RoleResponse(savedRole);
     }
 
     // 역할 수정
     @Transactional
     public RoleResponse updateRole(Long roleId, RoleUpdateRequest request) {
-        validateAdminAccess();
+        CurrentUser admin = validateAdminAccess();
         
         Role role = roleRepository.findById(roleId)
                 .orElseThrow(() -> new RuntimeException("역할을 찾을 수 없습니다."));
@@ -119,13 +160,19 @@ public class RoleService {
         }
         
         Role updatedRole = roleRepository.save(role);
+
+        // 역할을 가진 사용자의 기존 토큰 권한은 커밋 후 더 이상 유효하지 않음
+        sessionInvalidator.bumpAllAfterCommit(userRepository.findEmailsByRoleId(roleId));
+        eventPublisher.publishEvent(new RbacChangedEvent("ROLE_UPDATED"));
+        activityEventLog.record(ActivityType.ROLE_CHANGE, admin.getId(), roleId,
+                "'" + updatedRole.getName() + "' 역할이 수정되었습니다.");
         return new RoleResponse(updatedRole);
     }
 
     // 역할 삭제
     @Transactional
     public void deleteRole(Long roleId) {
-        validateAdminAccess();
+        CurrentUser admin = validateAdminAccess();
         
         Role role = roleRepository.findById(roleId)
                 .orElseThrow(() -> new RuntimeException("역할을 찾을 수 없습니다."));
@@ -141,6 +188,9 @@ public class RoleService {
         }
         
         roleRepository.delete(role);
+        eventPublisher.publishEvent(new RbacChangedEvent("ROLE_DELETED"));
+        activityEventLog.record(ActivityType.ROLE_CHANGE, admin.getId(), roleId,
+                "'" + role.getName() + "' 역할이 삭제되었습니다.");
     }
 
     // 모든 권한 조회
@@ -164,7 +214,7 @@ public class RoleService {
     // 사용자 역할 업데이트
     @Transactional
     public void updateUserRoles(Long userId, Set<String> roleNames) {
-        validateAdminAccess();
+        CurrentUser admin = validateAdminAccess();
         
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
@@ -186,6 +236,12 @@ public class RoleService {
         
         user.setRoles(newRoles);
         userRepository.save(user);
+        sessionInvalidator.bumpAfterCommit(user.getEmail());
+        // 연관관계만 바뀌면 엔티티 리스너가 호출되지 않으므로 직접 기록
+        resourceVersionTracker.changed(Resource.USERS);
+        userFacetIndex.onUserSaved(user);
+        activityEventLog.record(ActivityType.ROLE_CHANGE, admin.getId(), user.getId(),
+                user.getName() + "님의 역할이 변경되었습니다: " + String.join(", ", new TreeSet<>(roleNames)));
     }
 
     // 역할별 사용자 조회
@@ -215,23 +271,8 @@ public class RoleService {
         return statistics;
     }
 
-    private void validateAdminAccess() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication == null || !authentication.isAuthenticated()) {
-            throw new RuntimeException("인증된 사용자를 찾을 수 없습니다.");
-        }
-        
-        // 현재 사용자의 역할 확인
-        String email = authentication.getName();
-        User currentUser = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
-        
-        boolean hasAdminAccess = currentUser.getRoles().stream()
-                .anyMatch(role -> role.getName().equals("ADMIN") || role.getName().equals("MASTER"));
-        
-        if (!hasAdminAccess) {
-            throw new RuntimeException("관리자 권한이 필요합니다.");
-        }
+    private CurrentUser validateAdminAccess() {
+        return currentUserProvider.requireAdmin();
     }
 
     private boolean isSystemRole(String roleName) {
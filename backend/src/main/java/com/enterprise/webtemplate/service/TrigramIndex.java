@@ -0,0 +1,184 @@
+package com.enterprise.webtemplate.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 필드별 3-gram 역색인
+ * 부분 문자열 검색어의 3-gram 포스팅 리스트를 작은 것부터 교집합한 뒤, 원문 포함 여부로 최종 확인하므로 결과는 정확합니다.
+ * 3자 미만 검색어는 3-gram이 없으므로 다른 조건의 후보(없으면 전체 문서)를 원문으로 확인합니다.
+ * 스레드 안전하지 않으므로 소유 객체가 동기화해야 합니다.
+ */
+final class TrigramIndex {
+
+    private static final int[] EMPTY = new int[0];
+
+    private final int fieldCount;
+    private final Map<Long, PostingList> postings = new HashMap<>();
+    private final Map<Integer, String[]> documents = new HashMap<>();
+
+    TrigramIndex(int fieldCount) {
+        this.fieldCount = fieldCount;
+    }
+
+    /**
+     * 문서 추가/갱신 (바뀐 3-gram만 포스팅 리스트에 반영)
+     */
+    void put(int id, String[] fields) {
+        String[] normalized = new String[fieldCount];
+        for (int field = 0; field < fieldCount; field++) {
+            normalized[field] = normalize(field < fields.length ? fields[field] : null);
+        }
+
+        String[] previous = documents.put(id, normalized);
+        for (int field = 0; field < fieldCount; field++) {
+            String before = previous != null ? previous[field] : "";
+            String after = normalized[field];
+            if (before.equals(after)) {
+                continue;
+            }
+            Set<Long> removed = trigrams(field, before);
+            Set<Long> added = trigrams(field, after);
+            Set<Long> unchanged = new HashSet<>(removed);
+            unchanged.retainAll(added);
+            removed.removeAll(unchanged);
+            added.removeAll(unchanged);
+
+            for (Long key : removed) {
+                removePosting(key, id);
+            }
+            for (Long key : added) {
+                postings.computeIfAbsent(key, ignored -> new PostingList()).add(id);
+            }
+        }
+    }
+
+    void remove(int id) {
+        String[] previous = documents.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (int field = 0; field < fieldCount; field++) {
+            for (Long key : trigrams(field, previous[field])) {
+                removePosting(key, id);
+            }
+        }
+    }
+
+    /**
+     * 필드별 부분 문자열 조건을 모두 만족하는 id (오름차순, null인 필드는 조건 없음)
+     */
+    int[] search(String[] queries) {
+        String[] normalized = new String[fieldCount];
+        List<PostingList> lists = new ArrayList<>();
+        boolean anyCondition = false;
+        for (int field = 0; field < fieldCount; field++) {
+            if (field >= queries.length || queries[field] == null || queries[field].isEmpty()) {
+                continue;
+            }
+            anyCondition = true;
+            normalized[field] = normalize(queries[field]);
+            for (Long key : trigrams(field, normalized[field])) {
+                PostingList list = postings.get(key);
+                if (list == null) {
+                    return EMPTY;
+                }
+                lists.add(list);
+            }
+        }
+        if (!anyCondition) {
+            return EMPTY;
+        }
+
+        int[] candidates;
+        int candidateCount;
+        if (lists.isEmpty()) {
+            candidates = documents.keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+            candidateCount = candidates.length;
+        } else {
+            lists.sort(Comparator.comparingInt(PostingList::size));
+            candidates = lists.get(0).toArray();
+            candidateCount = candidates.length;
+            for (int i = 1; i < lists.size() && candidateCount > 0; i++) {
+                candidates = lists.get(i).retainAll(candidates, candidateCount);
+                candidateCount = candidates.length;
+            }
+        }
+
+        // 3-gram이 모두 있어도 연속된 부분 문자열이 아닐 수 있으므로 원문으로 확인
+        int[] result = new int[candidateCount];
+        int resultCount = 0;
+        for (int i = 0; i < candidateCount; i++) {
+            if (matches(documents.get(candidates[i]), normalized)) {
+                result[resultCount++] = candidates[i];
+            }
+        }
+        return resultCount == result.length ? result : Arrays.copyOf(result, resultCount);
+    }
+
+    int documentCount() {
+        return documents.size();
+    }
+
+    int trigramCount() {
+        return postings.size();
+    }
+
+    /**
+     * 대략적인 힙 사용량 (HashMap 노드 32바이트, 박싱 키 16바이트, 문자열은 Latin-1 압축 전 기준으로 계산)
+     */
+    long estimatedBytes() {
+        long bytes = 0;
+        for (PostingList list : postings.values()) {
+            bytes += 32 + 16 + list.estimatedBytes();
+        }
+        for (String[] fields : documents.values()) {
+            bytes += 32 + 16 + 16 + fields.length * 8L;
+            for (String field : fields) {
+                bytes += 40 + field.length() * 2L;
+            }
+        }
+        return bytes;
+    }
+
+    private boolean matches(String[] document, String[] queries) {
+        if (document == null) {
+            return false;
+        }
+        for (int field = 0; field < fieldCount; field++) {
+            if (queries[field] != null && !document[field].contains(queries[field])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void removePosting(Long key, int id) {
+        PostingList list = postings.get(key);
+        if (list != null && list.remove(id) && list.isEmpty()) {
+            postings.remove(key);
+        }
+    }
+
+    private static Set<Long> trigrams(int field, String value) {
+        Set<Long> keys = new HashSet<>();
+        for (int i = 0; i + 3 <= value.length(); i++) {
+            keys.add(((long) field << 48)
+                    | ((long) value.charAt(i) << 32)
+                    | ((long) value.charAt(i + 1) << 16)
+                    | value.charAt(i + 2));
+        }
+        return keys;
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,334 @@
+package com.enterprise.webtemplate.service;
+
+import com.enterprise.webtemplate.dto.BulkUserActionRequest;
+import com.enterprise.webtemplate.dto.BulkUserActionResponse;
+import com.enterprise.webtemplate.dto.BulkUserActionResponse.Outcome;
+import com.enterprise.webtemplate.dto.BulkUserActionResponse.Result;
+import com.enterprise.webtemplate.entity.Role;
+import com.enterprise.webtemplate.entity.User;
+import com.enterprise.webtemplate.repository.ResourceVersionTracker;
+import com.enterprise.webtemplate.repository.ResourceVersionTracker.Resource;
+import com.enterprise.webtemplate.repository.RoleRepository;
+import com.enterprise.webtemplate.repository.UserRepository;
+import com.enterprise.webtemplate.security.AccountLockReleaser;
+import com.enterprise.webtemplate.security.CurrentUser;
+import com.enterprise.webtemplate.security.CurrentUserProvider;
+import com.enterprise.webtemplate.security.SessionInvalidator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+/**
+ * 관리자용 사용자 일괄 처리 (승인 상태, 활성화, 잠금 해제, 역할 추가)
+ * 대상을 묶음 단위로 나눠 묶음마다 한 트랜잭션에서 집합 UPDATE 또는 user_roles 배치 INSERT로 반영하고,
+ * 완료 후 대상 수와 관계없이 이벤트를 한 번만 발행합니다.
+ * 벌크 쿼리는 엔티티 리스너를 거치지 않으므로 자원 버전과 패싯 인덱스 갱신을 여기서 직접 합니다.
+ */
+@Service
+public class UserBulkService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserBulkService.class);
+
+    private static final String MASTER_ROLE = "MASTER";
+
+    // 일괄 처리 대상 행의 현재 상태
+    private record Target(Long id, String email, boolean active, User.ApprovalStatus approvalStatus,
+                          int failedLoginAttempts, LocalDateTime accountLockedUntil) {
+    }
+
+    // 묶음 처리 결과 (id별 결과, 변경된 id)
+    private record ChunkResult(List<Result> results, List<Long> updatedIds) {
+    }
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private SessionInvalidator sessionInvalidator;
+
+    @Autowired
+    private ResourceVersionTracker resourceVersionTracker;
+
+    @Autowired
+    private UserFacetIndex userFacetIndex;
+
+    @Autowired
+    private CurrentUserProvider currentUserProvider;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private AccountLockReleaser accountLockReleaser;
+
+    @Value("${app.user.bulk.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${app.user.bulk.max-targets:5000}")
+    private int maxTargets;
+
+    public BulkUserActionResponse updateApprovalStatus(BulkUserActionRequest request, User.ApprovalStatus status) {
+        return execute("APPROVAL", status.name(), request, chunk -> {
+            Map<Long, Target> targets = loadTargets(chunk);
+            // 승인 외 변경은 마스터 계정을 제외
+            Set<Long> protectedIds = status != User.ApprovalStatus.APPROVED ? masterIds(chunk) : Set.of();
+
+            List<Result> results = new ArrayList<>();
+            List<Long> changeIds = new ArrayList<>();
+            List<String> emails = new ArrayList<>();
+            for (Long id : chunk) {
+                Target target = targets.get(id);
+                Result skipped = precheck(id, target, protectedIds);
+                if (skipped != null) {
+                    results.add(skipped);
+                } else if (target.approvalStatus() == status) {
+                    results.add(new Result(id, Outcome.UNCHANGED, null));
+                } else {
+                    results.add(new Result(id, Outcome.UPDATED, null));
+                    changeIds.add(id);
+                    emails.add(target.email());
+                }
+            }
+
+            if (!changeIds.isEmpty()) {
+                LocalDateTime now = LocalDateTime.now();
+                userRepository.updateApprovalStatusByIds(changeIds, status,
+                        status == User.ApprovalStatus.APPROVED ? now : null, now);
+                // 이 묶음의 트랜잭션이 커밋된 뒤에만 버전을 올림 (롤백된 묶음은 세션을 건드리지 않음)
+                sessionInvalidator.bumpAllAfterCommit(emails);
+                userFacetIndex.onUsersPatched(changeIds, null, status, null);
+                resourceVersionTracker.changed(Resource.USERS);
+            }
+            return new ChunkResult(results, changeIds);
+        });
+    }
+
+    public BulkUserActionResponse updateActivation(BulkUserActionRequest request, boolean isActive) {
+        return execute("ACTIVATION", isActive ? "ACTIVATE" : "DEACTIVATE", request, chunk -> {
+            Map<Long, Target> targets = loadTargets(chunk);
+            Set<Long> protectedIds = !isActive ? masterIds(chunk) : Set.of();
+
+            List<Result> results = new ArrayList<>();
+            List<Long> changeIds = new ArrayList<>();
+            List<String> emails = new ArrayList<>();
+            for (Long id : chunk) {
+                Target target = targets.get(id);
+                Result skipped = precheck(id, target, protectedIds);
+                if (skipped != null) {
+                    results.add(skipped);
+                } else if (target.active() == isActive) {
+                    results.add(new Result(id, Outcome.UNCHANGED, null));
+                } else {
+                    results.add(new Result(id, Outcome.UPDATED, null));
+                    changeIds.add(id);
+                    emails.add(target.email());
+                }
+            }
+
+            if (!changeIds.isEmpty()) {
+                userRepository.updateActivationByIds(changeIds, isActive, LocalDateTime.now());
+                if (isActive) {
+                    sessionInvalidator.bumpAllAfterCommit(emails);
+                } else {
+                    // 비활성화된 사용자의 기존 토큰은 묶음 커밋 즉시 사용 불가
+                    sessionInvalidator.signOutAllAfterCommit(emails);
+                }
+                userFacetIndex.onUsersPatched(changeIds, isActive, null, null);
+                resourceVersionTracker.changed(Resource.USERS);
+            }
+            return new ChunkResult(results, changeIds);
+        });
+    }
+
+    public BulkUserActionResponse unlock(BulkUserActionRequest request) {
+        return execute("UNLOCK", null, request, chunk -> {
+            Map<Long, Target> targets = loadTargets(chunk);
+
+            List<Result> results = new ArrayList<>();
+            List<Long> changeIds = new ArrayList<>();
+            for (Long id : chunk) {
+                Target target = targets.get(id);
+                Result skipped = precheck(id, target, Set.of());
+                if (skipped != null) {
+                    results.add(skipped);
+                    continue;
+                }
+                // DB 컬럼이 비어 있어도 메모리 잠금이나 기록 대기 중인 잠금이 남아 있으면 해제 대상
+                boolean held = accountLockReleaser.isHeld(target.email());
+                accountLockReleaser.releaseAfterCommit(target.email());
+                if (!held && target.failedLoginAttempts() == 0 && target.accountLockedUntil() == null) {
+                    results.add(new Result(id, Outcome.UNCHANGED, null));
+                } else {
+                    results.add(new Result(id, Outcome.UPDATED, null));
+                    changeIds.add(id);
+                }
+            }
+
+            // 잠금 관련 컬럼은 검색/패싯 대상이 아니므로 인덱스 갱신 없음
+            if (!changeIds.isEmpty()) {
+                userRepository.unlockByIds(changeIds, LocalDateTime.now());
+                resourceVersionTracker.changed(Resource.USERS);
+            }
+            return new ChunkResult(results, changeIds);
+        });
+    }
+
+    /**
+     * 역할 추가 (기존 역할은 유지하고 없는 (사용자, 역할) 연결만 INSERT)
+     */
+    public BulkUserActionResponse assignRoles(BulkUserActionRequest request, Set<String> roleNames) {
+        if (roleNames == null || roleNames.isEmpty()) {
+            throw new IllegalArgumentException("역할을 선택해주세요.");
+        }
+        Map<Long, String> roles = new HashMap<>();
+        for (String roleName : roleNames) {
+            Role role = roleRepository.findByName(roleName)
+                    .orElseThrow(() -> new RuntimeException("역할을 찾을 수 없습니다: " + roleName));
+            if (MASTER_ROLE.equals(role.getName())) {
+                throw new IllegalArgumentException("마스터 역할은 일괄 부여할 수 없습니다.");
+            }
+            roles.put(role.getId(), role.getName());
+        }
+
+        return execute("ROLE_ASSIGN", String.join(",", new TreeSet<>(roles.values())), request, chunk -> {
+            Map<Long, Target> targets = loadTargets(chunk);
+            Set<Long> protectedIds = masterIds(chunk);
+            Map<Long, Set<Long>> existing = new HashMap<>();
+            for (Object[] row : userRepository.findRoleIdsByUserIds(chunk)) {
+                existing.computeIfAbsent((Long) row[0], ignored -> new HashSet<>()).add((Long) row[1]);
+            }
+
+            List<Result> results = new ArrayList<>();
+            List<Long> changeIds = new ArrayList<>();
+            List<String> emails = new ArrayList<>();
+            List<Object[]> inserts = new ArrayList<>();
+            for (Long id : chunk) {
+                Target target = targets.get(id);
+                Result skipped = precheck(id, target, protectedIds);
+                if (skipped != null) {
+                    results.add(skipped);
+                    continue;
+                }
+                Set<Long> current = existing.getOrDefault(id, Set.of());
+                int before = inserts.size();
+                for (Long roleId : roles.keySet()) {
+                    if (!current.contains(roleId)) {
+                        inserts.add(new Object[]{id, roleId});
+                    }
+                }
+                if (inserts.size() == before) {
+                    results.add(new Result(id, Outcome.UNCHANGED, null));
+                } else {
+                    results.add(new Result(id, Outcome.UPDATED, null));
+                    changeIds.add(id);
+                    emails.add(target.email());
+                }
+            }
+
+            if (!inserts.isEmpty()) {
+                jdbcTemplate.batchUpdate("INSERT INTO user_roles (user_id, role_id) VALUES (?, ?)", inserts);
+                sessionInvalidator.bumpAllAfterCommit(emails);
+                userFacetIndex.onUsersPatched(changeIds, null, null, roles.keySet());
+                resourceVersionTracker.changed(Resource.USERS);
+            }
+            return new ChunkResult(results, changeIds);
+        });
+    }
+
+    private BulkUserActionResponse execute(String action, String detail, BulkUserActionRequest request,
+                                           Function<List<Long>, ChunkResult> operation) {
+        CurrentUser admin = currentUserProvider.requireAdmin();
+        List<Long> ids = resolveTargets(request);
+
+        BulkUserActionResponse response = new BulkUserActionResponse(action);
+        List<Long> updatedIds = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            List<Long> chunk = ids.subList(from, Math.min(ids.size(), from + chunkSize));
+            try {
+                ChunkResult result = transactionTemplate.execute(status -> operation.apply(chunk));
+                result.results().forEach(response::add);
+                updatedIds.addAll(result.updatedIds());
+            } catch (RuntimeException e) {
+                // 실패한 묶음만 롤백되고 나머지 묶음은 계속 처리
+                logger.warn("Bulk user {} failed for {} users: {}", action, chunk.size(), e.getMessage());
+                for (Long id : chunk) {
+                    response.add(new Result(id, Outcome.FAILED, "일괄 처리 중 오류가 발생했습니다."));
+                }
+            }
+        }
+
+        if (!updatedIds.isEmpty()) {
+            eventPublisher.publishEvent(new UserBulkUpdatedEvent(action, detail, updatedIds, admin.getEmail()));
+        }
+        return response;
+    }
+
+    // 명시한 id(중복 제거, 요청 순서 유지) 또는 검색 조건에 맞는 id
+    private List<Long> resolveTargets(BulkUserActionRequest request) {
+        boolean hasIds = request.getUserIds() != null && !request.getUserIds().isEmpty();
+        if (hasIds == (request.getFilter() != null)) {
+            throw new IllegalArgumentException("대상 사용자 ID 목록 또는 검색 조건 중 하나를 지정해주세요.");
+        }
+
+        List<Long> ids = new ArrayList<>(hasIds
+                ? new LinkedHashSet<>(request.getUserIds())
+                : userService.findMatchingUserIds(request.getFilter()));
+        ids.removeIf(Objects::isNull);
+        if (ids.size() > maxTargets) {
+            throw new IllegalArgumentException("한 번에 처리할 수 있는 사용자는 최대 " + maxTargets + "명입니다.");
+        }
+        return ids;
+    }
+
+    private Map<Long, Target> loadTargets(List<Long> ids) {
+        Map<Long, Target> targets = new HashMap<>();
+        for (Object[] row : userRepository.findBulkTargetsByIds(ids)) {
+            targets.put((Long) row[0], new Target((Long) row[0], (String) row[1], Boolean.TRUE.equals(row[2]),
+                    (User.ApprovalStatus) row[3], row[4] != null ? (Integer) row[4] : 0, (LocalDateTime) row[5]));
+        }
+        return targets;
+    }
+
+    private Set<Long> masterIds(List<Long> ids) {
+        return new HashSet<>(userRepository.findIdsWithRole(ids, MASTER_ROLE));
+    }
+
+    private Result precheck(Long id, Target target, Set<Long> protectedIds) {
+        if (target == null) {
+            return new Result(id, Outcome.NOT_FOUND, "사용자를 찾을 수 없습니다.");
+        }
+        if (protectedIds.contains(id)) {
+            return new Result(id, Outcome.SKIPPED, "마스터 계정은 일괄 변경할 수 없습니다.");
+        }
+        return null;
+    }
+}
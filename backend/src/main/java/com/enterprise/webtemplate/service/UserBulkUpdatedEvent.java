@@ -0,0 +1,51 @@
+package com.enterprise.webtemplate.service;
+
+import java.util.List;
+
+/**
+ * 사용자 일괄 처리 완료 이벤트 (대상 수와 관계없이 요청당 한 번 발행)
+ */
+public class UserBulkUpdatedEvent {
+
+    private final String action;
+    private final String detail;
+    private final List<Long> userIds;
+    private final String actorEmail;
+
+    public UserBulkUpdatedEvent(String action, String detail, List<Long> userIds, String actorEmail) {
+        this.action = action;
+        this.detail = detail;
+        this.userIds = List.copyOf(userIds);
+        this.actorEmail = actorEmail;
+    }
+
+    public String getAction() {
+        return action;
+    }
+
+    public String getDetail() {
+        return detail;
+    }
+
+    public List<Long> getUserIds() {
+        return userIds;
+    }
+
+    public String getActorEmail() {
+        return actorEmail;
+    }
+
+    /**
+     * 알림/활동 메시지용 작업 설명 ("사용자 N명을 일괄 ~했습니다")
+     */
+    public String describe() {
+        return switch (action) {
+            case "APPROVAL" -> "승인 상태 변경(" + detail + ")";
+            case "ACTIVATION" -> "ACTIVATE".equals(detail) ? "활성화" : "비활성화";
+            case "UNLOCK" -> "계정 잠금 해제";
+            case "ROLE_ASSIGN" -> "역할 부여(" + detail + ")";
+            case "IMPORT" -> "등록";
+            default -> action;
+        };
+    }
+}
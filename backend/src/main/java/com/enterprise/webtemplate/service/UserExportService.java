@@ -0,0 +1,226 @@
+package com.enterprise.webtemplate.service;
+
+import com.enterprise.webtemplate.dto.UserListResponse;
+import com.enterprise.webtemplate.dto.UserSearchRequest;
+import com.enterprise.webtemplate.repository.ExportConnectionPool;
+import com.enterprise.webtemplate.repository.UserRepository;
+import com.enterprise.webtemplate.repository.UserSearchFilter;
+import com.enterprise.webtemplate.security.CurrentUserProvider;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+/**
+ * 관리자용 사용자 내보내기 (CSV, NDJSON)
+ * 전진 전용 커서에서 fetch-size만큼씩 읽어 batch-size 단위로 역할 이름을 붙인 뒤 바로 응답에 쓰므로,
+ * 사용자 수와 관계없이 메모리에는 한 묶음만 남습니다.
+ */
+@Service
+public class UserExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserExportService.class);
+
+    public enum Format {
+        CSV("text/csv;charset=UTF-8", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+    }
+
+    static final String[] CSV_HEADER = {
+            "id", "email", "name", "phone", "department", "position", "roles", "isActive", "isEmailVerified",
+            "approvalStatus", "lastLoginAt", "createdAt", "updatedAt", "failedLoginAttempts"
+    };
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private CurrentUserProvider currentUserProvider;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ExportConnectionPool exportConnectionPool;
+
+    @Value("${app.user.export.fetch-size:1000}")
+    private int fetchSize;
+
+    @Value("${app.user.export.batch-size:500}")
+    private int batchSize;
+
+    /**
+     * 내보내기 응답 본문 (권한 확인과 검색 조건 해석은 요청 스레드에서 미리 수행)
+     */
+    public StreamingResponseBody export(UserSearchRequest request, Format format) {
+        currentUserProvider.requireAdmin();
+        UserSearchFilter filter = userService.resolveSearchFilter(request);
+
+        return outputStream -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), 64 * 1024);
+            if (format == Format.CSV) {
+                // 엑셀에서 한글이 깨지지 않도록 BOM 추가
+                writer.write('\uFEFF');
+                writeCsvRow(writer, CSV_HEADER);
+            }
+
+            long started = System.currentTimeMillis();
+            long rows;
+            try {
+                if (exportConnectionPool.isAvailable()) {
+                    // 행은 전용 커넥션에서 읽고 역할 조회만 기본 풀을 잠깐씩 쓰므로, 내보내는 동안 기본 풀 커넥션을 잡아두지 않음
+                    rows = streamAll(filter, writer, format);
+                } else {
+                    TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+                    readOnly.setReadOnly(true);
+                    rows = readOnly.execute(status -> streamAll(filter, writer, format));
+                }
+            } catch (UncheckedIOException e) {
+                // 클라이언트가 다운로드를 중단한 경우 등
+                logger.debug("User export aborted: {}", e.getMessage());
+                throw e.getCause();
+            }
+            writer.flush();
+            logger.info("Exported {} users as {} in {} ms", rows, format, System.currentTimeMillis() - started);
+        };
+    }
+
+    private long streamAll(UserSearchFilter filter, Writer writer, Format format) {
+        try (Stream<UserListResponse> users = userRepository.streamMatching(filter, fetchSize)) {
+            return writeAll(users.iterator(), writer, format);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private long writeAll(Iterator<UserListResponse> users, Writer writer, Format format) throws IOException {
+        long rows = 0;
+        List<UserListResponse> batch = new ArrayList<>(batchSize);
+        while (users.hasNext()) {
+            batch.add(users.next());
+            if (batch.size() == batchSize) {
+                rows += writeBatch(batch, writer, format);
+            }
+        }
+        return rows + writeBatch(batch, writer, format);
+    }
+
+    // 묶음의 역할 이름을 쿼리 한 번으로 채운 뒤 쓰고 비움
+    private int writeBatch(List<UserListResponse> batch, Writer writer, Format format) throws IOException {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        Map<Long, UserListResponse> byId = new HashMap<>();
+        for (UserListResponse user : batch) {
+            byId.put(user.getId(), user);
+        }
+        for (Object[] row : userRepository.findRoleNamesByUserIds(byId.keySet())) {
+            byId.get((Long) row[0]).getRoleNames().add((String) row[1]);
+        }
+
+        for (UserListResponse user : batch) {
+            if (format == Format.CSV) {
+                writeCsvRow(writer, toCsvRow(user));
+            } else {
+                writer.write(objectMapper.writeValueAsString(user));
+                writer.write('\n');
+            }
+        }
+        int written = batch.size();
+        batch.clear();
+        return written;
+    }
+
+    static String[] toCsvRow(UserListResponse user) {
+        return new String[]{
+                String.valueOf(user.getId()),
+                user.getEmail(),
+                user.getName(),
+                user.getPhone(),
+                user.getDepartment(),
+                user.getPosition(),
+                String.join(";", new TreeSet<>(user.getRoleNames())),
+                String.valueOf(user.getIsActive()),
+                String.valueOf(user.getIsEmailVerified()),
+                user.getApprovalStatus() != null ? user.getApprovalStatus().name() : null,
+                format(user.getLastLoginAt()),
+                format(user.getCreatedAt()),
+                format(user.getUpdatedAt()),
+                user.getFailedLoginAttempts() != null ? String.valueOf(user.getFailedLoginAttempts()) : null
+        };
+    }
+
+    static void writeCsvRow(Writer writer, String[] cells) throws IOException {
+        for (int i = 0; i < cells.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csvCell(cells[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * RFC 4180 셀 (구분자/따옴표/줄바꿈이 있으면 따옴표로 감쌈)
+     * 스프레드시트에서 수식으로 실행되지 않도록 =, +, -, @ 등으로 시작하는 값은 작은따옴표를 붙입니다.
+     */
+    static String csvCell(String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+        char first = value.charAt(0);
+        if (first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r') {
+            value = "'" + value;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private static String format(LocalDateTime value) {
+        return value != null ? value.toString() : null;
+    }
+}
@@ -0,0 +1,261 @@
+package com.enterprise.webtemplate.service;
+
+import com.enterprise.webtemplate.entity.User;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 사용자 속성값별 id 비트맵 (활성, 이메일 인증, 승인 상태, 부서, 역할)
+ * 사용자별 현재 속성을 함께 보관하여 변경 시 바뀐 값의 비트맵만 갱신합니다.
+ * 스레드 안전하지 않으므로 소유 객체가 동기화해야 합니다.
+ */
+final class UserFacetBitmaps {
+
+    private record Attributes(boolean active, boolean emailVerified, User.ApprovalStatus approvalStatus,
+                              String department, Set<Long> roleIds) {
+    }
+
+    private final Map<Integer, Attributes> users = new HashMap<>();
+    private final IdBitmap all = new IdBitmap();
+    private final IdBitmap active = new IdBitmap();
+    private final IdBitmap emailVerified = new IdBitmap();
+    private final Map<User.ApprovalStatus, IdBitmap> approvalStatuses = new EnumMap<>(User.ApprovalStatus.class);
+    private final Map<String, IdBitmap> departments = new HashMap<>();
+    private final Map<Long, IdBitmap> roles = new HashMap<>();
+    private final Map<Long, String> roleNames = new HashMap<>();
+
+    /**
+     * 사용자 추가/갱신 (roleIds가 null이면 기존 역할 유지)
+     */
+    void putUser(int id, boolean isActive, boolean isEmailVerified, User.ApprovalStatus approvalStatus,
+                 String department, Set<Long> roleIds) {
+        Attributes previous = users.get(id);
+        Set<Long> nextRoles = roleIds != null ? Set.copyOf(roleIds)
+                : previous != null ? previous.roleIds() : Set.of();
+        Attributes next = new Attributes(isActive, isEmailVerified, approvalStatus, department, nextRoles);
+        users.put(id, next);
+        all.add(id);
+
+        update(active, id, next.active());
+        update(emailVerified, id, next.emailVerified());
+        if (previous == null || previous.approvalStatus() != next.approvalStatus()) {
+            if (previous != null) {
+                removeFrom(approvalStatuses, previous.approvalStatus(), id);
+            }
+            addTo(approvalStatuses, next.approvalStatus(), id);
+        }
+        if (previous == null || !Objects.equals(previous.department(), next.department())) {
+            if (previous != null) {
+                removeFrom(departments, previous.department(), id);
+            }
+            addTo(departments, next.department(), id);
+        }
+
+        Set<Long> previousRoles = previous != null ? previous.roleIds() : Set.of();
+        for (Long roleId : previousRoles) {
+            if (!nextRoles.contains(roleId)) {
+                removeFrom(roles, roleId, id);
+            }
+        }
+        for (Long roleId : nextRoles) {
+            if (!previousRoles.contains(roleId)) {
+                addTo(roles, roleId, id);
+            }
+        }
+    }
+
+    /**
+     * 초기 구성 시 역할 연결 추가 (사용자를 먼저 넣은 뒤 호출)
+     */
+    void addRoleMember(int userId, long roleId) {
+        Attributes current = users.get(userId);
+        if (current == null || current.roleIds().contains(roleId)) {
+            return;
+        }
+        Set<Long> roleIds = new HashSet<>(current.roleIds());
+        roleIds.add(roleId);
+        users.put(userId, new Attributes(current.active(), current.emailVerified(), current.approvalStatus(),
+                current.department(), Set.copyOf(roleIds)));
+        addTo(roles, roleId, userId);
+    }
+
+    /**
+     * 일부 속성만 변경 (null인 값은 유지, addedRoleIds는 기존 역할에 추가, 없는 사용자는 무시)
+     */
+    void patchUser(int id, Boolean isActive, User.ApprovalStatus approvalStatus, Set<Long> addedRoleIds) {
+        Attributes current = users.get(id);
+        if (current == null) {
+            return;
+        }
+        Set<Long> roleIds = current.roleIds();
+        if (addedRoleIds != null && !roleIds.containsAll(addedRoleIds)) {
+            roleIds = new HashSet<>(roleIds);
+            roleIds.addAll(addedRoleIds);
+        }
+        putUser(id,
+                isActive != null ? isActive : current.active(),
+                current.emailVerified(),
+                approvalStatus != null ? approvalStatus : current.approvalStatus(),
+                current.department(),
+                roleIds);
+    }
+
+    void removeUser(int id) {
+        Attributes previous = users.remove(id);
+        if (previous == null) {
+            return;
+        }
+        all.remove(id);
+        active.remove(id);
+        emailVerified.remove(id);
+        removeFrom(approvalStatuses, previous.approvalStatus(), id);
+        removeFrom(departments, previous.department(), id);
+        for (Long roleId : previous.roleIds()) {
+            removeFrom(roles, roleId, id);
+        }
+    }
+
+    void putRole(long roleId, String name) {
+        roleNames.put(roleId, name);
+    }
+
+    /**
+     * 역할 삭제 (DB에서 user_roles가 함께 삭제되므로 보유자 목록에서도 제거)
+     */
+    void removeRole(long roleId) {
+        roleNames.remove(roleId);
+        IdBitmap members = roles.remove(roleId);
+        if (members == null) {
+            return;
+        }
+        for (int userId : members.toArray()) {
+            Attributes current = users.get(userId);
+            Set<Long> roleIds = new HashSet<>(current.roleIds());
+            roleIds.remove(roleId);
+            users.put(userId, new Attributes(current.active(), current.emailVerified(), current.approvalStatus(),
+                    current.department(), Set.copyOf(roleIds)));
+        }
+    }
+
+    /**
+     * 속성 조건을 모두 만족하는 사용자 (null인 조건은 제외, 없는 역할명이면 빈 결과)
+     */
+    IdBitmap matching(Boolean isActive, Boolean isEmailVerified, User.ApprovalStatus approvalStatus, String roleName) {
+        IdBitmap result = all;
+        if (isActive != null) {
+            result = isActive ? result.and(active) : result.andNot(active);
+        }
+        if (isEmailVerified != null) {
+            result = isEmailVerified ? result.and(emailVerified) : result.andNot(emailVerified);
+        }
+        if (approvalStatus != null) {
+            result = result.and(approvalStatuses.getOrDefault(approvalStatus, new IdBitmap()));
+        }
+        if (roleName != null) {
+            IdBitmap members = new IdBitmap();
+            for (Map.Entry<Long, String> role : roleNames.entrySet()) {
+                if (role.getValue().equals(roleName)) {
+                    members = roles.getOrDefault(role.getKey(), members);
+                }
+            }
+            result = result.and(members);
+        }
+        return result;
+    }
+
+    /**
+     * 대상 사용자 중 속성값별 인원 (부서는 인원이 있는 값만, 역할은 모든 역할을 이름순으로)
+     */
+    Map<String, Object> facetCounts(IdBitmap candidates) {
+        Map<String, Object> facets = new LinkedHashMap<>();
+        long total = candidates.andCardinality(all);
+        long activeCount = candidates.andCardinality(active);
+        long verifiedCount = candidates.andCardinality(emailVerified);
+        facets.put("total", total);
+        facets.put("isActive", Map.of("true", activeCount, "false", total - activeCount));
+        facets.put("isEmailVerified", Map.of("true", verifiedCount, "false", total - verifiedCount));
+
+        Map<String, Long> statusCounts = new LinkedHashMap<>();
+        for (User.ApprovalStatus status : User.ApprovalStatus.values()) {
+            IdBitmap bitmap = approvalStatuses.get(status);
+            statusCounts.put(status.name(), bitmap != null ? candidates.andCardinality(bitmap) : 0L);
+        }
+        facets.put("approvalStatus", statusCounts);
+
+        Map<String, Long> departmentCounts = new TreeMap<>();
+        for (Map.Entry<String, IdBitmap> department : departments.entrySet()) {
+            long count = candidates.andCardinality(department.getValue());
+            if (count > 0) {
+                departmentCounts.put(department.getKey(), count);
+            }
+        }
+        facets.put("department", departmentCounts);
+
+        Map<String, Long> roleCounts = new TreeMap<>();
+        for (Map.Entry<Long, String> role : roleNames.entrySet()) {
+            IdBitmap members = roles.get(role.getKey());
+            roleCounts.put(role.getValue(), members != null ? candidates.andCardinality(members) : 0L);
+        }
+        facets.put("role", roleCounts);
+        return facets;
+    }
+
+    IdBitmap all() {
+        return all;
+    }
+
+    int userCount() {
+        return users.size();
+    }
+
+    /**
+     * 대략적인 힙 사용량 (사용자별 속성 레코드 포함)
+     */
+    long estimatedBytes() {
+        long bytes = all.estimatedBytes() + active.estimatedBytes() + emailVerified.estimatedBytes();
+        for (IdBitmap bitmap : approvalStatuses.values()) {
+            bytes += bitmap.estimatedBytes();
+        }
+        for (IdBitmap bitmap : departments.values()) {
+            bytes += 48 + bitmap.estimatedBytes();
+        }
+        for (IdBitmap bitmap : roles.values()) {
+            bytes += 48 + bitmap.estimatedBytes();
+        }
+        return bytes + users.size() * (32L + 16 + 40);
+    }
+
+    private static void update(IdBitmap bitmap, int id, boolean member) {
+        if (member) {
+            bitmap.add(id);
+        } else {
+            bitmap.remove(id);
+        }
+    }
+
+    private static <K> void addTo(Map<K, IdBitmap> bitmaps, K key, int id) {
+        if (key != null) {
+            bitmaps.computeIfAbsent(key, ignored -> new IdBitmap()).add(id);
+        }
+    }
+
+    private static <K> void removeFrom(Map<K, IdBitmap> bitmaps, K key, int id) {
+        if (key == null) {
+            return;
+        }
+        IdBitmap bitmap = bitmaps.get(key);
+        if (bitmap != null) {
+            bitmap.remove(id);
+            if (bitmap.cardinality() == 0) {
+                bitmaps.remove(key);
+            }
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.enterprise.webtemplate.service;
+
+import com.enterprise.webtemplate.entity.Role;
+import com.enterprise.webtemplate.entity.User;
+import com.enterprise.webtemplate.repository.UserSearchFilter;
+import org.hibernate.Hibernate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자 목록 패싯 집계용 메모리 비트맵 인덱스
+ * 활성/이메일 인증/승인 상태/부서/역할별 인원을 속성별 GROUP BY 대신 비트맵 교집합 크기로 계산합니다.
+ * 준비되기 전에는 비어 있는 Optional을 돌려주므로 호출 측이 DB 집계로 대체해야 합니다.
+ */
+@Component
+public class UserFacetIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserFacetIndex.class);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${app.user.facet-index.enabled:true}")
+    private boolean enabled;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 아래 필드는 lock으로 보호
+    private UserFacetBitmaps bitmaps;
+    private List<Consumer<UserFacetBitmaps>> rebuildJournal;
+    private long lastBuildMillis;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+
+    /**
+     * users/roles/user_roles 테이블에서 비트맵을 다시 만들어 교체 (재구성 중 변경은 교체 시 반영)
+     */
+    public synchronized void rebuild() {
+        if (!enabled) {
+            return;
+        }
+
+        List<Consumer<UserFacetBitmaps>> journal = new ArrayList<>();
+        lock.writeLock().lock();
+        try {
+            rebuildJournal = journal;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        long started = System.currentTimeMillis();
+        try {
+            UserFacetBitmaps next = new UserFacetBitmaps();
+            jdbcTemplate.query("SELECT id, name FROM roles", rs -> {
+                next.putRole(rs.getLong(1), rs.getString(2));
+            });
+            jdbcTemplate.query("SELECT id, is_active, is_email_verified, approval_status, department FROM users", rs -> {
+                String approvalStatus = rs.getString(4);
+                next.putUser(Math.toIntExact(rs.getLong(1)), rs.getBoolean(2), rs.getBoolean(3),
+                        approvalStatus != null ? User.ApprovalStatus.valueOf(approvalStatus) : null,
+                        rs.getString(5), Set.of());
+            });
+            jdbcTemplate.query("SELECT user_id, role_id FROM user_roles", rs -> {
+                next.addRoleMember(Math.toIntExact(rs.getLong(1)), rs.getLong(2));
+            });
+
+            lock.writeLock().lock();
+            try {
+                journal.forEach(change -> change.accept(next));
+                bitmaps = next;
+                rebuildJournal = null;
+                lastBuildMillis = System.currentTimeMillis() - started;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            logger.info("User facet index rebuilt: {} users, ~{} KB in {} ms",
+                    next.userCount(), next.estimatedBytes() / 1024, lastBuildMillis);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to rebuild user facet index: {}", e.getMessage());
+            lock.writeLock().lock();
+            try {
+                rebuildJournal = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * 사용자 저장 시 반영 (역할 컬렉션이 로딩되지 않았으면 기존 역할 유지, 커밋 후 적용)
+     * 역할 연관관계만 바꾸면 엔티티 리스너가 호출되지 않으므로 역할 변경 후에는 직접 호출해야 합니다.
+     */
+    public void onUserSaved(User user) {
+        if (!enabled || user.getId() == null) {
+            return;
+        }
+        int id = Math.toIntExact(user.getId());
+        boolean isActive = Boolean.TRUE.equals(user.getIsActive());
+        boolean isEmailVerified = Boolean.TRUE.equals(user.getIsEmailVerified());
+        User.ApprovalStatus approvalStatus = user.getApprovalStatus();
+        String department = user.getDepartment();
+        Set<Long> roleIds = Hibernate.isInitialized(user.getRoles())
+                ? user.getRoles().stream().map(Role::getId).collect(Collectors.toSet())
+                : null;
+        afterCommit(target -> target.putUser(id, isActive, isEmailVerified, approvalStatus, department, roleIds));
+    }
+
+    /**
+     * 일괄 UPDATE/INSERT 반영 (엔티티 리스너를 거치지 않는 변경용, null인 값은 유지, 커밋 후 적용)
+     */
+    public void onUsersPatched(Collection<Long> userIds, Boolean isActive, User.ApprovalStatus approvalStatus,
+                               Set<Long> addedRoleIds) {
+        if (!enabled || userIds.isEmpty()) {
+            return;
+        }
+        int[] ids = userIds.stream().mapToInt(Math::toIntExact).toArray();
+        Set<Long> roleIds = addedRoleIds != null ? Set.copyOf(addedRoleIds) : null;
+        afterCommit(target -> {
+            for (int id : ids) {
+                target.patchUser(id, isActive, approvalStatus, roleIds);
+            }
+        });
+    }
+
+    public void onUserRemoved(Long userId) {
+        if (!enabled || userId == null) {
+            return;
+        }
+        int id = Math.toIntExact(userId);
+        afterCommit(target -> target.removeUser(id));
+    }
+
+    public void onRoleSaved(Role role) {
+        if (!enabled || role.getId() == null) {
+            return;
+        }
+        long roleId = role.getId();
+        String name = role.getName();
+        afterCommit(target -> target.putRole(roleId, name));
+    }
+
+    public void onRoleRemoved(Long roleId) {
+        if (!enabled || roleId == null) {
+            return;
+        }
+        afterCommit(target -> target.removeRole(roleId));
+    }
+
+    /**
+     * 필터에 맞는 사용자의 속성값별 인원
+     * 활성/인증/승인 상태/역할 조건과 ids만 반영하므로, 문자열 조건은 호출 측에서 미리 ids로 바꿔야 합니다.
+     */
+    public Optional<Map<String, Object>> facets(UserSearchFilter filter) {
+        IdBitmap restriction = null;
+        if (filter.ids() != null) {
+            restriction = new IdBitmap();
+            for (Long id : filter.ids()) {
+                restriction.add(Math.toIntExact(id));
+            }
+        }
+
+        lock.readLock().lock();
+        try {
+            if (bitmaps == null) {
+                return Optional.empty();
+            }
+            IdBitmap candidates = bitmaps.matching(filter.isActive(), filter.isEmailVerified(),
+                    filter.approvalStatus(), filter.roleName());
+            if (restriction != null) {
+                candidates = candidates.and(restriction);
+            }
+            return Optional.of(bitmaps.facetCounts(candidates));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 사용자 기준 속성값별 인원
+     */
+    public Optional<Map<String, Object>> overallFacets() {
+        return facets(UserSearchFilter.of(null, null, null, null, null, null, null, null));
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        lock.readLock().lock();
+        try {
+            stats.put("enabled", enabled);
+            stats.put("ready", bitmaps != null);
+            stats.put("rebuilding", rebuildJournal != null);
+            stats.put("users", bitmaps != null ? bitmaps.userCount() : 0);
+            stats.put("estimatedBytes", bitmaps != null ? bitmaps.estimatedBytes() : 0L);
+            stats.put("lastBuildMillis", lastBuildMillis);
+        } finally {
+            lock.readLock().unlock();
+        }
+        return stats;
+    }
+
+    private void afterCommit(Consumer<UserFacetBitmaps> change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(change);
+                }
+            });
+        } else {
+            apply(change);
+        }
+    }
+
+    private void apply(Consumer<UserFacetBitmaps> change) {
+        lock.writeLock().lock();
+        try {
+            if (rebuildJournal != null) {
+                rebuildJournal.add(change);
+            }
+            if (bitmaps != null) {
+                change.accept(bitmaps);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,393 @@
+package com.enterprise.webtemplate.service;
+
+import com.enterprise.webtemplate.dto.RegisterRequest;
+import com.enterprise.webtemplate.dto.UserImportResponse;
+import com.enterprise.webtemplate.dto.UserImportResponse.BatchResult;
+import com.enterprise.webtemplate.dto.UserImportResponse.BatchStatus;
+import com.enterprise.webtemplate.dto.UserImportResponse.RowError;
+import com.enterprise.webtemplate.entity.Role;
+import com.enterprise.webtemplate.entity.User;
+import com.enterprise.webtemplate.repository.ResourceVersionTracker;
+import com.enterprise.webtemplate.repository.ResourceVersionTracker.Resource;
+import com.enterprise.webtemplate.repository.RoleRepository;
+import com.enterprise.webtemplate.repository.UserRepository;
+import com.enterprise.webtemplate.security.CurrentUser;
+import com.enterprise.webtemplate.security.CurrentUserProvider;
+import com.enterprise.webtemplate.security.PasswordHashingSaturatedException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 관리자용 사용자 일괄 등록 (CSV, NDJSON)
+ * 파일 전체를 읽어 검증한 뒤 batch-size 단위로 나눠, 묶음마다
+ * 기존 가입 여부를 한 번에 조회하고 비밀번호를 해싱 풀에서 병렬로 해싱한 다음
+ * 한 트랜잭션에서 users, user_roles에 JDBC 배치 INSERT로 반영합니다.
+ * 묶음은 각각 커밋되므로 실패한 묶음 번호부터 같은 파일로 다시 요청하면 이어서 등록되고,
+ * 이미 등록된 행은 ALREADY_EXISTS로 보고됩니다.
+ */
+@Service
+public class UserImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserImportService.class);
+
+    private static final String DEFAULT_ROLE = "USER";
+
+    private static final String INSERT_USER_SQL =
+            "INSERT INTO users (email, password, name, phone, department, position, is_active, is_email_verified, " +
+            "approval_status, approved_at, failed_login_attempts, password_changed_at, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_USER_ROLE_SQL = "INSERT INTO user_roles (user_id, role_id) VALUES (?, ?)";
+
+    static final List<String> REQUIRED_COLUMNS = List.of("email", "name", "password");
+
+    // 파일의 한 행 (행 번호는 헤더를 제외하고 1부터)
+    record ImportRow(int row, String email, String password, String name, String phone, String department,
+                     String position) {
+    }
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private PasswordService passwordService;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EmailAvailabilityIndex emailAvailabilityIndex;
+
+    @Autowired
+    private UserSubstringIndex userSubstringIndex;
+
+    @Autowired
+    private UserFacetIndex userFacetIndex;
+
+    @Autowired
+    private ResourceVersionTracker resourceVersionTracker;
+
+    @Autowired
+    private DashboardCounters dashboardCounters;
+
+    @Autowired
+    private CurrentUserProvider currentUserProvider;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${app.user.import.batch-size:200}")
+    private int batchSize;
+
+    @Value("${app.user.import.max-rows:10000}")
+    private int maxRows;
+
+    // 동시에 해싱할 비밀번호 수 (0이면 해싱 풀 스레드의 절반, 나머지는 로그인용)
+    @Value("${app.user.import.hash-concurrency:0}")
+    private int hashConcurrency;
+
+    /**
+     * 일괄 등록 (startBatch보다 앞선 묶음은 이전 요청에서 처리된 것으로 보고 건너뜀)
+     */
+    public UserImportResponse importUsers(InputStream input, UserExportService.Format format, int startBatch,
+                                          User.ApprovalStatus approvalStatus) throws IOException {
+        CurrentUser actor = currentUserProvider.requireAdmin();
+        if (startBatch < 0) {
+            throw new IllegalArgumentException("시작 묶음 번호는 0 이상이어야 합니다.");
+        }
+        List<ImportRow> rows = parse(input, format);
+        Role userRole = roleRepository.findByName(DEFAULT_ROLE)
+                .orElseThrow(() -> new RuntimeException("기본 사용자 역할을 찾을 수 없습니다."));
+
+        long started = System.currentTimeMillis();
+        UserImportResponse response = new UserImportResponse(rows.size(), batchSize, startBatch);
+        Set<String> seenEmails = new HashSet<>();
+        List<Long> importedIds = new ArrayList<>();
+        for (int from = 0, batch = 0; from < rows.size(); from += batchSize, batch++) {
+            List<ImportRow> chunk = rows.subList(from, Math.min(from + batchSize, rows.size()));
+            if (batch < startBatch) {
+                response.addSkippedRows(chunk.size());
+                continue;
+            }
+            importedIds.addAll(importBatch(batch, chunk, userRole, approvalStatus, seenEmails, response));
+        }
+        response.setElapsedMillis(System.currentTimeMillis() - started);
+
+        if (!importedIds.isEmpty()) {
+            eventPublisher.publishEvent(new UserBulkUpdatedEvent("IMPORT", approvalStatus.name(), importedIds,
+                    actor.getEmail()));
+        }
+        logger.info("Imported {}/{} users ({} errors) in {} ms (hash {} ms, insert {} ms)",
+                response.getImported(), rows.size(), response.getFailed(), response.getElapsedMillis(),
+                response.getHashMillis(), response.getInsertMillis());
+        return response;
+    }
+
+    // 묶음 하나를 검증/해싱/INSERT하고 등록된 사용자 id를 반환
+    private List<Long> importBatch(int batch, List<ImportRow> rows, Role userRole, User.ApprovalStatus approvalStatus,
+                                   Set<String> seenEmails, UserImportResponse response) {
+        long started = System.currentTimeMillis();
+        int firstRow = rows.get(0).row();
+        int lastRow = rows.get(rows.size() - 1).row();
+
+        List<ImportRow> valid = new ArrayList<>();
+        for (ImportRow row : rows) {
+            String error = validate(row);
+            if (error != null) {
+                response.addError(new RowError(row.row(), row.email(), "INVALID", error));
+            } else if (!seenEmails.add(row.email())) {
+                response.addError(new RowError(row.row(), row.email(), "DUPLICATE_IN_FILE", "파일 안에서 중복된 이메일입니다."));
+            } else {
+                valid.add(row);
+            }
+        }
+
+        // 블룸 필터상 확실히 없는 이메일은 제외하고 나머지만 한 번에 조회
+        List<String> candidates = valid.stream()
+                .map(ImportRow::email)
+                .filter(email -> !emailAvailabilityIndex.isDefinitelyAvailable(email))
+                .toList();
+        if (!candidates.isEmpty()) {
+            Set<String> existing = new HashSet<>(userRepository.findExistingEmails(candidates));
+            valid.removeIf(row -> {
+                if (!existing.contains(row.email())) {
+                    return false;
+                }
+                response.addError(new RowError(row.row(), row.email(), "ALREADY_EXISTS", "이미 사용 중인 이메일입니다."));
+                return true;
+            });
+        }
+        if (valid.isEmpty()) {
+            response.addBatch(new BatchResult(batch, firstRow, lastRow, 0, BatchStatus.COMMITTED,
+                    System.currentTimeMillis() - started));
+            return List.of();
+        }
+
+        try {
+            long hashStarted = System.currentTimeMillis();
+            List<String> hashes = passwordService.encodePasswords(
+                    valid.stream().map(ImportRow::password).toList(), hashConcurrency);
+            response.addHashMillis(System.currentTimeMillis() - hashStarted);
+
+            long insertStarted = System.currentTimeMillis();
+            List<User> users = transactionTemplate.execute(status -> insertBatch(valid, hashes, userRole, approvalStatus));
+            response.addInsertMillis(System.currentTimeMillis() - insertStarted);
+
+            users.forEach(user -> emailAvailabilityIndex.add(user.getEmail()));
+            response.addBatch(new BatchResult(batch, firstRow, lastRow, users.size(), BatchStatus.COMMITTED,
+                    System.currentTimeMillis() - started));
+            return users.stream().map(User::getId).toList();
+        } catch (RuntimeException e) {
+            logger.warn("User import batch {} (rows {}-{}) failed: {}", batch, firstRow, lastRow, e.getMessage());
+            String message = e instanceof PasswordHashingSaturatedException
+                    ? e.getMessage()
+                    : "묶음 처리 중 오류가 발생했습니다.";
+            for (ImportRow row : valid) {
+                response.addError(new RowError(row.row(), row.email(), "BATCH_FAILED", message));
+            }
+            response.addBatch(new BatchResult(batch, firstRow, lastRow, 0, BatchStatus.FAILED,
+                    System.currentTimeMillis() - started));
+            return List.of();
+        }
+    }
+
+    // 트랜잭션 안에서 호출 (JDBC 배치는 엔티티 리스너를 거치지 않으므로 인덱스와 자원 버전을 직접 갱신)
+    private List<User> insertBatch(List<ImportRow> rows, List<String> hashes, Role userRole,
+                                   User.ApprovalStatus approvalStatus) {
+        LocalDateTime now = LocalDateTime.now();
+        List<User> users = new ArrayList<>(rows.size());
+        List<Object[]> userParams = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            ImportRow row = rows.get(i);
+            User user = new User(row.email(), hashes.get(i), row.name());
+            user.setPhone(row.phone());
+            user.setDepartment(row.department());
+            user.setPosition(row.position());
+            user.setApprovalStatus(approvalStatus);
+            user.setApprovedAt(approvalStatus == User.ApprovalStatus.APPROVED ? now : null);
+            user.setPasswordChangedAt(now);
+            user.setCreatedAt(now);
+            user.setUpdatedAt(now);
+            users.add(user);
+            userParams.add(new Object[]{
+                    user.getEmail(), user.getPassword(), user.getName(), user.getPhone(), user.getDepartment(),
+                    user.getPosition(), true, false, approvalStatus.name(), user.getApprovedAt(), 0, now, now, now
+            });
+        }
+        jdbcTemplate.batchUpdate(INSERT_USER_SQL, userParams);
+
+        Map<String, Long> ids = new HashMap<>();
+        for (Object[] row : userRepository.findIdsByEmails(users.stream().map(User::getEmail).toList())) {
+            ids.put((String) row[0], (Long) row[1]);
+        }
+        List<Object[]> roleParams = new ArrayList<>(users.size());
+        for (User user : users) {
+            user.setId(ids.get(user.getEmail()));
+            // addRole은 역할 쪽 사용자 컬렉션을 로딩하므로 한쪽만 설정
+            user.getRoles().add(userRole);
+            roleParams.add(new Object[]{user.getId(), userRole.getId()});
+        }
+        jdbcTemplate.batchUpdate(INSERT_USER_ROLE_SQL, roleParams);
+
+        for (User user : users) {
+            userSubstringIndex.onUserSaved(user);
+            userFacetIndex.onUserSaved(user);
+        }
+        dashboardCounters.onUsersRegistered(now, users.size());
+        resourceVersionTracker.changed(Resource.USERS);
+        return users;
+    }
+
+    // 가입 요청과 같은 형식 규칙과 비밀번호 정책으로 검증 (오류가 없으면 null)
+    private String validate(ImportRow row) {
+        RegisterRequest request = new RegisterRequest(row.email(), row.password(), row.password(), row.name());
+        request.setPhone(row.phone());
+        request.setDepartment(row.department());
+        request.setPosition(row.position());
+        List<String> errors = validator.validate(request).stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .toList();
+        if (!errors.isEmpty()) {
+            return String.join(" ", errors);
+        }
+        PasswordService.PasswordValidationResult result = passwordService.validatePassword(row.password());
+        return result.isValid() ? null : result.getErrorMessage();
+    }
+
+    List<ImportRow> parse(InputStream input, UserExportService.Format format) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        return format == UserExportService.Format.CSV ? parseCsv(reader) : parseNdjson(reader);
+    }
+
+    private List<ImportRow> parseCsv(BufferedReader reader) throws IOException {
+        CsvRecordReader csv = new CsvRecordReader(reader);
+        List<String> header = csv.next();
+        if (header == null) {
+            return List.of();
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        if (!columns.keySet().containsAll(REQUIRED_COLUMNS)) {
+            throw new IllegalArgumentException("CSV 첫 줄에 email, name, password 열이 필요합니다.");
+        }
+
+        List<ImportRow> rows = new ArrayList<>();
+        List<String> cells;
+        while ((cells = csv.next()) != null) {
+            int rowNumber = checkLimit(rows.size() + 1);
+            rows.add(toRow(rowNumber,
+                    cell(cells, columns, "email"),
+                    cell(cells, columns, "password"),
+                    cell(cells, columns, "name"),
+                    cell(cells, columns, "phone"),
+                    cell(cells, columns, "department"),
+                    cell(cells, columns, "position")));
+        }
+        return rows;
+    }
+
+    private List<ImportRow> parseNdjson(BufferedReader reader) throws IOException {
+        List<ImportRow> rows = new ArrayList<>();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            int rowNumber = checkLimit(rows.size() + 1);
+            JsonNode node;
+            try {
+                node = objectMapper.readTree(line);
+            } catch (JsonProcessingException e) {
+                node = null;
+            }
+            if (node == null || !node.isObject()) {
+                throw new IllegalArgumentException(rowNumber + "번째 행의 JSON 형식이 올바르지 않습니다.");
+            }
+            rows.add(toRow(rowNumber,
+                    text(node, "email"),
+                    text(node, "password"),
+                    text(node, "name"),
+                    text(node, "phone"),
+                    text(node, "department"),
+                    text(node, "position")));
+        }
+        return rows;
+    }
+
+    private int checkLimit(int rowNumber) {
+        if (rowNumber > maxRows) {
+            throw new IllegalArgumentException(String.format("한 번에 등록할 수 있는 사용자는 최대 %d명입니다.", maxRows));
+        }
+        return rowNumber;
+    }
+
+    // 가입과 같이 이메일은 소문자로, 나머지는 앞뒤 공백 제거 (비밀번호는 그대로)
+    private ImportRow toRow(int rowNumber, String email, String password, String name, String phone,
+                            String department, String position) {
+        return new ImportRow(rowNumber,
+                email != null ? email.trim().toLowerCase(Locale.ROOT) : null,
+                password,
+                trimToNull(name),
+                trimToNull(phone),
+                trimToNull(department),
+                trimToNull(position));
+    }
+
+    private static String cell(List<String> cells, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        return index != null && index < cells.size() ? cells.get(index) : null;
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value != null && !value.isNull() ? value.asText() : null;
+    }
+
+    private static String trimToNull(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+}
@@ -0,0 +1,54 @@
+package com.enterprise.webtemplate.service;
+
+import com.enterprise.webtemplate.repository.ResourceVersionTracker;
+import com.enterprise.webtemplate.repository.ResourceVersionTracker.Resource;
+import com.enterprise.webtemplate.repository.UserRepository;
+import com.enterprise.webtemplate.repository.UserSearchFilter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 필터별 사용자 검색 전체 건수 캐시
+ * 사용자 자원 버전이 바뀌지 않았으면 이전에 센 값이 그대로 정확하므로 COUNT(*)를 다시 실행하지 않습니다.
+ */
+@Component
+public class UserSearchCountCache {
+
+    private record CachedCount(long usersVersion, long count) {
+    }
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ResourceVersionTracker resourceVersionTracker;
+
+    @Value("${app.user.search.count-cache-size:1000}")
+    private int maxEntries;
+
+    private final ConcurrentHashMap<UserSearchFilter, CachedCount> counts = new ConcurrentHashMap<>();
+
+    public long count(UserSearchFilter filter) {
+        // 인덱스 후보 id가 들어간 필터는 다시 나올 가능성이 낮으므로 캐시하지 않음
+        if (filter.ids() != null) {
+            return userRepository.countMatching(filter);
+        }
+
+        // 버전을 먼저 읽어야 세는 도중 변경이 커밋되어도 다음 요청에서 다시 센다
+        long usersVersion = resourceVersionTracker.currentVersion(Resource.USERS);
+        CachedCount cached = counts.get(filter);
+        if (cached != null && cached.usersVersion() == usersVersion) {
+            return cached.count();
+        }
+
+        long count = userRepository.countMatching(filter);
+        if (counts.size() >= maxEntries) {
+            counts.clear();
+        }
+        counts.put(filter, new CachedCount(usersVersion, count));
+        return count;
+    }
+}
@@ -0,0 +1,108 @@
+package com.enterprise.webtemplate.service;
+
+import com.enterprise.webtemplate.dto.UserListResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 사용자 검색 키셋 페이지네이션의 연속 토큰
+ * 마지막 행의 (정렬 키, id)를 담아 다음 페이지를 OFFSET 없이 그 다음 행부터 조회합니다.
+ */
+public record UserSearchCursor(SortKey sortKey, boolean descending, String lastValue, long lastId) {
+
+    private static final String VERSION = "1";
+
+    /**
+     * 키셋 정렬을 허용하는 컬럼 (NOT NULL 컬럼만 허용)
+     */
+    public enum SortKey {
+        ID("id"),
+        CREATED_AT("createdAt"),
+        UPDATED_AT("updatedAt"),
+        EMAIL("email"),
+        NAME("name");
+
+        private final String property;
+
+        SortKey(String property) {
+            this.property = property;
+        }
+
+        public String getProperty() {
+            return property;
+        }
+
+        public boolean isTimestamp() {
+            return this == CREATED_AT || this == UPDATED_AT;
+        }
+
+        public static SortKey fromProperty(String property) {
+            for (SortKey sortKey : values()) {
+                if (sortKey.property.equals(property)) {
+                    return sortKey;
+                }
+            }
+            throw new IllegalArgumentException("커서 페이지네이션에서 지원하지 않는 정렬 기준입니다: " + property);
+        }
+
+        String valueOf(UserListResponse user) {
+            return switch (this) {
+                case ID -> String.valueOf(user.getId());
+                case CREATED_AT -> user.getCreatedAt().toString();
+                case UPDATED_AT -> user.getUpdatedAt().toString();
+                case EMAIL -> user.getEmail();
+                case NAME -> user.getName();
+            };
+        }
+    }
+
+    /**
+     * 페이지의 마지막 사용자 다음부터 조회하는 커서
+     */
+    public static UserSearchCursor after(SortKey sortKey, boolean descending, UserListResponse lastUser) {
+        return new UserSearchCursor(sortKey, descending, sortKey.valueOf(lastUser), lastUser.getId());
+    }
+
+    public LocalDateTime lastTimestamp() {
+        return LocalDateTime.parse(lastValue);
+    }
+
+    /**
+     * 정렬 컬럼 타입에 맞춘 마지막 값 (id 정렬이면 id)
+     */
+    public Object seekValue() {
+        if (sortKey == SortKey.ID) {
+            return lastId;
+        }
+        return sortKey.isTimestamp() ? lastTimestamp() : lastValue;
+    }
+
+    /**
+     * URL에 그대로 넣을 수 있는 불투명 토큰으로 인코딩 (값에 구분자가 있어도 되도록 마지막에 배치)
+     */
+    public String encode() {
+        String raw = VERSION + "|" + sortKey.name() + "|" + (descending ? "d" : "a") + "|" + lastId + "|" + lastValue;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static UserSearchCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 5);
+            if (parts.length != 5 || !VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            UserSearchCursor cursor = new UserSearchCursor(
+                    SortKey.valueOf(parts[1]), "d".equals(parts[2]), parts[4], Long.parseLong(parts[3]));
+            if (cursor.sortKey.isTimestamp()) {
+                cursor.lastTimestamp();
+            }
+            return cursor;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+}
@@ -7,25 +7,39 @@ import com.enterprise.webtemplate.dto.UserProfileUpdateRequest;
 import com.enterprise.webtemplate.dto.PasswordChangeRequest;
 import com.enterprise.webtemplate.dto.UserListResponse;
 import com.enterprise.webtemplate.dto.UserSearchRequest;
+import com.enterprise.webtemplate.entity.ActivityEvent.ActivityType;
 import com.enterprise.webtemplate.entity.Role;
 import com.enterprise.webtemplate.entity.User;
+import com.enterprise.webtemplate.repository.ResourceVersionTracker;
+import com.enterprise.webtemplate.repository.ResourceVersionTracker.Resource;
 import com.enterprise.webtemplate.repository.RoleRepository;
 import com.enterprise.webtemplate.repository.UserRepository;
+import com.enterprise.webtemplate.repository.UserSearchFilter;
+import com.enterprise.webtemplate.security.AccountLockReleaser;
+import com.enterprise.webtemplate.security.CurrentUser;
+import com.enterprise.webtemplate.security.CurrentUserProvider;
+import com.enterprise.webtemplate.security.SecurityVersionRegistry;
+import com.enterprise.webtemplate.security.SessionInvalidator;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 @Service
 public class UserService {
@@ -42,15 +56,52 @@ public class UserService {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
-    @Transactional
+    @Autowired
+    private SecurityVersionRegistry securityVersionRegistry;
+
+    @Autowired
+    private SessionInvalidator sessionInvalidator;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EmailAvailabilityIndex emailAvailabilityIndex;
+
+    @Autowired
+    private CurrentUserProvider currentUserProvider;
+
+    @Autowired
+    private ResourceVersionTracker resourceVersionTracker;
+
+    @Autowired
+    private UserSearchCountCache userSearchCountCache;
+
+    @Autowired
+    private UserSubstringIndex userSubstringIndex;
+
+    @Autowired
+    private UserFacetIndex userFacetIndex;
+
+    @Autowired
+    private ParallelQueryExecutor parallelQueryExecutor;
+
+    @Autowired
+    private ActivityEventLog activityEventLog;
+
+    @Autowired
+    private AccountLockReleaser accountLockReleaser;
+
+    @Value("${app.user.search.max-scroll-size:100}")
+    private int maxScrollSize;
+
+    // 비밀번호 해싱은 트랜잭션 밖(해싱 풀)에서 수행하고 저장만 트랜잭션으로 처리
     public RegisterResponse registerUser(RegisterRequest request) {
         // 입력값 검증
         validateRegistrationRequest(request);
 
         // 이메일 중복 검사
-        if (userRepository.existsByEmail(request.getEmail().toLowerCase().trim())) {
-            throw new IllegalArgumentException("이미 사용 중인 이메일입니다.");
-        }
+        checkEmailAvailability(request.getEmail());
 
         // 비밀번호 정책 검증
         PasswordService.PasswordValidationResult passwordValidation = 
@@ -59,19 +110,34 @@ public class UserService {
             throw new IllegalArgumentException(passwordValidation.getErrorMessage());
         }
 
-        // 사용자 생성
-        User user = createUser(request);
-
-        // 기본 역할 할당 (USER)
-        Role userRole = roleRepository.findByName("USER")
-                .orElseThrow(() -> new RuntimeException("기본 사용자 역할을 찾을 수 없습니다."));
-        user.addRole(userRole);
-
-        // 저장
-        User savedUser = userRepository.save(user);
+        String encodedPassword = passwordService.encodePassword(request.getPassword());
+
+        RegisterResponse response;
+        try {
+            response = transactionTemplate.execute(status -> {
+                // 사용자 생성
+                User user = createUser(request, encodedPassword);
+
+                // 기본 역할 할당 (USER)
+                Role userRole = roleRepository.findByName("USER")
+                        .orElseThrow(() -> new RuntimeException("기본 사용자 역할을 찾을 수 없습니다."));
+                user.addRole(userRole);
+
+                // 저장
+                User savedUser = userRepository.save(user);
+                activityEventLog.record(ActivityType.USER_REGISTRATION, savedUser.getId(), savedUser.getId(),
+                        savedUser.getName() + "님이 가입했습니다.");
+
+                String message = "회원가입이 완료되었습니다. 관리자의 승인을 기다려주세요.";
+                return new RegisterResponse(savedUser, message);
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 동시 가입으로 중복 검사 이후에 같은 이메일이 등록된 경우 (이메일 유니크 제약)
+            throw new IllegalArgumentException("이미 사용 중인 이메일입니다.");
+        }
 
-        String message = "회원가입이 완료되었습니다. 관리자의 승인을 기다려주세요.";
-        return new RegisterResponse(savedUser, message);
+        emailAvailabilityIndex.add(request.getEmail());
+        return response;
     }
 
     private void validateRegistrationRequest(RegisterRequest request) {
@@ -101,10 +167,10 @@ public class UserService {
         }
     }
 
-    private User createUser(RegisterRequest request) {
+    private User createUser(RegisterRequest request, String encodedPassword) {
         User user = new User();
         user.setEmail(request.getEmail().toLowerCase().trim());
-        user.setPassword(passwordService.encodePassword(request.getPassword()));
+        user.setPassword(encodedPassword);
         user.setName(request.getName().trim());
         
         if (request.getPhone() != null && !request.getPhone().trim().isEmpty()) {
@@ -132,6 +198,10 @@ public class UserService {
         if (email == null || email.trim().isEmpty()) {
             return false;
         }
+        // 인덱스에 없으면 확실히 사용 가능하므로 DB를 조회하지 않음
+        if (emailAvailabilityIndex.isDefinitelyAvailable(email)) {
+            return true;
+        }
         return !userRepository.existsByEmail(email.toLowerCase().trim());
     }
 
@@ -157,6 +227,7 @@ public class UserService {
     public User updateApprovalStatus(Long userId, User.ApprovalStatus status) {
         User user = findById(userId);
         user.setApprovalStatus(status);
+        sessionInvalidator.bumpAfterCommit(user.getEmail());
         return userRepository.save(user);
     }
 
@@ -164,10 +235,33 @@ public class UserService {
     public User toggleUserActivation(Long userId) {
         User user = findById(userId);
         user.setIsActive(!user.getIsActive());
+        if (user.getIsActive()) {
+            sessionInvalidator.bumpAfterCommit(user.getEmail());
+        } else {
+            // 비활성화된 사용자의 기존 토큰은 커밋 즉시 사용 불가
+            sessionInvalidator.signOutAfterCommit(user.getEmail());
+        }
         return userRepository.save(user);
     }
 
     // 개인정보 관리 관련 메서드
+
+    /**
+     * 현재 사용자 프로필 버전 (수정/마지막 로그인 시각만 조회하고 역할 변경은 보안 버전으로 반영)
+     */
+    @Transactional(readOnly = true)
+    public String getCurrentUserProfileVersion() {
+        CurrentUser currentUser = currentUserProvider.get();
+        Object[] timestamps = userRepository.findProfileTimestampsById(currentUser.getId()).stream()
+                .findFirst()
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+        return resourceVersionTracker.etag("profile", EnumSet.of(Resource.RBAC),
+                currentUser.getId(),
+                Long.toHexString(securityVersionRegistry.currentVersion(currentUser.getEmail())),
+                toVersionPart((LocalDateTime) timestamps[0]),
+                toVersionPart((LocalDateTime) timestamps[1]));
+    }
+
     @Transactional(readOnly = true)
     public UserProfileResponse getCurrentUserProfile() {
         User currentUser = getCurrentAuthenticatedUser();
@@ -202,7 +296,7 @@ public class UserService {
         return new UserProfileResponse(updatedUser);
     }
 
-    @Transactional
+    // 해시 검증/생성 동안 트랜잭션을 열어두지 않음
     public void changePassword(PasswordChangeRequest request) {
         User currentUser = getCurrentAuthenticatedUser();
         
@@ -228,10 +322,13 @@ public class UserService {
         }
         
         // 비밀번호 변경
-        currentUser.setPassword(passwordService.encodePassword(request.getNewPassword()));
-        currentUser.setPasswordChangedAt(LocalDateTime.now());
-        
-        userRepository.save(currentUser);
+        String encodedPassword = passwordService.encodePassword(request.getNewPassword());
+        transactionTemplate.executeWithoutResult(status -> {
+            currentUser.setPassword(encodedPassword);
+            currentUser.setPasswordChangedAt(LocalDateTime.now());
+            userRepository.save(currentUser);
+            sessionInvalidator.bumpAfterCommit(currentUser.getEmail());
+        });
     }
 
     @Transactional
@@ -241,14 +338,12 @@ public class UserService {
         userRepository.save(currentUser);
     }
 
+    private String toVersionPart(LocalDateTime timestamp) {
+        return timestamp != null ? Long.toHexString(timestamp.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + timestamp.getNano()) : "0";
+    }
+
     private User getCurrentAuthenticatedUser() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication == null || !authentication.isAuthenticated()) {
-            throw new RuntimeException("인증된 사용자를 찾을 수 없습니다.");
-        }
-        
-        String email = authentication.getName();
-        return findByEmail(email);
+        return findById(currentUserProvider.get().getId());
     }
 
     // 관리자용 사용자 관리 메서드
@@ -262,26 +357,107 @@ public class UserService {
         
         Pageable pageable = PageRequest.of(request.getPage(), request.getSize(), sort);
         
-        Page<User> userPage;
+        // 역할 조건도 다른 필터와 함께 적용
+        Page<UserListResponse> userPage = userRepository.search(resolveSubstringMatches(toSearchFilter(request)), pageable);
+        attachRoleNames(userPage.getContent());
         
-        // 역할별 검색이 있는 경우
-        if (request.getRoleName() != null && !request.getRoleName().trim().isEmpty()) {
-            userPage = userRepository.findByRoleName(request.getRoleName(), pageable);
+        return new UserListResponse.PageResponse(userPage);
+    }
+
+    /**
+     * 키셋 페이지네이션 검색 (OFFSET 없이 커서 다음 행부터 조회, 전체 건수는 요청 시에만 캐시에서 제공)
+     */
+    @Transactional(readOnly = true)
+    public UserListResponse.CursorResponse scrollUsers(UserSearchRequest request) {
+        UserSearchFilter filter = resolveSubstringMatches(toSearchFilter(request));
+
+        UserSearchCursor cursor = null;
+        UserSearchCursor.SortKey sortKey;
+        boolean descending;
+        if (request.getCursor() != null && !request.getCursor().isBlank()) {
+            cursor = UserSearchCursor.decode(request.getCursor());
+            sortKey = cursor.sortKey();
+            descending = cursor.descending();
         } else {
-            // 일반 필터 검색
-            userPage = userRepository.findUsersWithFilters(
-                    request.getEmail(),
-                    request.getName(),
-                    request.getDepartment(),
-                    request.getPosition(),
-                    request.getIsActive(),
-                    request.getIsEmailVerified(),
-                    request.getApprovalStatus(),
-                    pageable
-            );
+            sortKey = UserSearchCursor.SortKey.fromProperty(request.getSortBy());
+            descending = "desc".equalsIgnoreCase(request.getSortDirection());
         }
-        
-        return new UserListResponse.PageResponse(userPage);
+        int size = Math.max(1, Math.min(request.getSize() != null ? request.getSize() : 20, maxScrollSize));
+
+        // 다음 페이지 존재 여부는 한 행 더 읽어서 판단 (별도 COUNT 없음)
+        List<UserListResponse> users = userRepository.scroll(filter, sortKey.getProperty(), descending,
+                cursor != null ? cursor.seekValue() : null,
+                cursor != null ? cursor.lastId() : null,
+                size + 1);
+        String nextCursor = null;
+        if (users.size() > size) {
+            users = users.subList(0, size);
+            nextCursor = UserSearchCursor.after(sortKey, descending, users.get(size - 1)).encode();
+        }
+        attachRoleNames(users);
+
+        Long totalElements = request.isIncludeTotal() ? userSearchCountCache.count(filter) : null;
+        return new UserListResponse.CursorResponse(users, nextCursor, totalElements);
+    }
+
+    /**
+     * 검색 결과의 속성값별 인원 (패싯 인덱스가 준비되지 않았으면 비어 있는 Optional)
+     * 문자열 조건이 남아 있으면 DB에서 id만 조회한 뒤 비트맵으로 집계합니다.
+     */
+    @Transactional(readOnly = true)
+    public Optional<Map<String, Object>> getUserFacets(UserSearchRequest request) {
+        UserSearchFilter filter = resolveSubstringMatches(toSearchFilter(request));
+        if (filter.hasTextMatch()) {
+            filter = UserSearchFilter.forIds(userRepository.findMatchingIds(filter));
+        }
+        return userFacetIndex.facets(filter);
+    }
+
+    /**
+     * 검색 조건에 맞는 사용자 id 전체 (일괄 처리 대상 지정용)
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findMatchingUserIds(UserSearchRequest request) {
+        return userRepository.findMatchingIds(resolveSearchFilter(request));
+    }
+
+    /**
+     * 검색 요청을 쿼리용 필터로 변환 (부분 일치 조건은 가능하면 메모리 인덱스의 id 목록으로 대체)
+     */
+    public UserSearchFilter resolveSearchFilter(UserSearchRequest request) {
+        return resolveSubstringMatches(toSearchFilter(request));
+    }
+
+    // 페이지 전체의 역할 이름을 쿼리 한 번으로 채움 (행마다 user.getRoles()를 로딩하지 않음)
+    private void attachRoleNames(List<UserListResponse> users) {
+        if (users.isEmpty()) {
+            return;
+        }
+        Map<Long, UserListResponse> byId = new HashMap<>();
+        for (UserListResponse user : users) {
+            byId.put(user.getId(), user);
+        }
+        for (Object[] row : userRepository.findRoleNamesByUserIds(byId.keySet())) {
+            byId.get((Long) row[0]).getRoleNames().add((String) row[1]);
+        }
+    }
+
+    // 부분 일치 조건은 가능하면 메모리 인덱스에서 id로 바꿔 전체 스캔 LIKE를 피함
+    private UserSearchFilter resolveSubstringMatches(UserSearchFilter filter) {
+        return userSubstringIndex.findIds(filter).map(filter::restrictToIds).orElse(filter);
+    }
+
+    private UserSearchFilter toSearchFilter(UserSearchRequest request) {
+        return UserSearchFilter.of(
+                request.getEmail(),
+                request.getName(),
+                request.getDepartment(),
+                request.getPosition(),
+                request.getIsActive(),
+                request.getIsEmailVerified(),
+                request.getApprovalStatus(),
+                request.getRoleName()
+        );
     }
 
     @Transactional(readOnly = true)
@@ -329,8 +505,16 @@ public class UserService {
 
     @Transactional
     public User updateUserApprovalStatus(Long userId, User.ApprovalStatus status) {
-        validateAdminAccess();
-        return updateApprovalStatus(userId, status);
+        CurrentUser admin = validateAdminAccess();
+        User user = updateApprovalStatus(userId, status);
+        if (status == User.ApprovalStatus.APPROVED) {
+            activityEventLog.record(ActivityType.USER_APPROVAL, admin.getId(), user.getId(),
+                    user.getName() + "님이 승인되었습니다.");
+        } else if (status == User.ApprovalStatus.REJECTED) {
+            activityEventLog.record(ActivityType.USER_REJECTION, admin.getId(), user.getId(),
+                    user.getName() + "님이 거부되었습니다.");
+        }
+        return user;
     }
 
     @Transactional
@@ -346,6 +530,8 @@ public class UserService {
         }
         
         userRepository.delete(user);
+        emailAvailabilityIndex.remove(user.getEmail());
+        sessionInvalidator.signOutAfterCommit(user.getEmail());
     }
 
     @Transactional(readOnly = true)
@@ -360,43 +546,67 @@ public class UserService {
         return userRepository.findInactiveUsers();
     }
 
-    @Transactional(readOnly = true)
+    // 인덱스가 없을 때의 COUNT/GROUP BY 쿼리는 각자의 읽기 전용 트랜잭션으로 병렬 실행
     public Map<String, Object> getUserStatistics() {
         validateAdminAccess();
         
         Map<String, Object> statistics = new HashMap<>();
+
+        // 패싯 인덱스가 준비되어 있으면 속성별 COUNT/GROUP BY 없이 비트맵으로 집계
+        Optional<Map<String, Object>> facets = userFacetIndex.overallFacets();
+        if (facets.isPresent()) {
+            @SuppressWarnings("unchecked")
+            Map<String, Long> statusCounts = (Map<String, Long>) facets.get().get("approvalStatus");
+            statistics.put("totalUsers", facets.get().get("total"));
+            statistics.put("activeUsers", statusCounts.get(User.ApprovalStatus.APPROVED.name()));
+            statistics.put("pendingUsers", statusCounts.get(User.ApprovalStatus.PENDING.name()));
+            statistics.put("rejectedUsers", statusCounts.get(User.ApprovalStatus.REJECTED.name()));
+            statistics.put("departmentStats", facets.get().get("department"));
+            statistics.put("roleStats", facets.get().get("role"));
+            return statistics;
+        }
         
-        // 기본 통계
-        long totalUsers = userRepository.count();
-        long activeUsers = userRepository.countByApprovalStatus(User.ApprovalStatus.APPROVED);
-        long pendingUsers = userRepository.countByApprovalStatus(User.ApprovalStatus.PENDING);
-        long rejectedUsers = userRepository.countByApprovalStatus(User.ApprovalStatus.REJECTED);
+        ParallelQueryExecutor.FanOut queries = parallelQueryExecutor.fanOut();
+        Supplier<Long> totalUsers = queries.fork("totalUsers", userRepository::count);
+        Supplier<Long> activeUsers = queries.fork("activeUsers",
+                () -> userRepository.countByApprovalStatus(User.ApprovalStatus.APPROVED));
+        Supplier<Long> pendingUsers = queries.fork("pendingUsers",
+                () -> userRepository.countByApprovalStatus(User.ApprovalStatus.PENDING));
+        Supplier<Long> rejectedUsers = queries.fork("rejectedUsers",
+                () -> userRepository.countByApprovalStatus(User.ApprovalStatus.REJECTED));
+        Supplier<List<Object[]>> departmentStats = queries.fork("departmentStats", userRepository::countUsersByDepartment);
+        Supplier<List<Object[]>> roleStats = queries.fork("roleStats", userRepository::countUsersByRole);
+        queries.join();
         
-        statistics.put("totalUsers", totalUsers);
-        statistics.put("activeUsers", activeUsers);
-        statistics.put("pendingUsers", pendingUsers);
-        statistics.put("rejectedUsers", rejectedUsers);
+        // 기본 통계
+        statistics.put("totalUsers", totalUsers.get());
+        statistics.put("activeUsers", activeUsers.get());
+        statistics.put("pendingUsers", pendingUsers.get());
+        statistics.put("rejectedUsers", rejectedUsers.get());
         
         // 부서별 통계
-        List<Object[]> departmentStats = userRepository.countUsersByDepartment();
-        Map<String, Long> departmentCounts = new HashMap<>();
-        for (Object[] stat : departmentStats) {
-            departmentCounts.put((String) stat[0], (Long) stat[1]);
-        }
-        statistics.put("departmentStats", departmentCounts);
+        statistics.put("departmentStats", groupCounts(departmentStats.get()));
         
         // 역할별 통계
-        List<Object[]> roleStats = userRepository.countUsersByRole();
-        Map<String, Long> roleCounts = new HashMap<>();
-        for (Object[] stat : roleStats) {
-            roleCounts.put((String) stat[0], (Long) stat[1]);
-        }
-        statistics.put("roleStats", roleCounts);
+        statistics.put("roleStats", groupCounts(roleStats.get()));
+        queries.markDegraded(statistics);
         
         return statistics;
     }
 
-    @Transactional
+    // GROUP BY 결과 (이름, 건수)를 Map으로 변환 (제한 시간을 넘겨 결과가 없으면 null)
+    private Map<String, Long> groupCounts(List<Object[]> rows) {
+        if (rows == null) {
+            return null;
+        }
+        Map<String, Long> counts = new HashMap<>();
+        for (Object[] row : rows) {
+            counts.put((String) row[0], (Long) row[1]);
+        }
+        return counts;
+    }
+
+    // 해시 생성 동안 트랜잭션을 열어두지 않음
     public void resetUserPassword(Long userId, String newPassword) {
         validateAdminAccess();
         User user = findById(userId);
@@ -408,12 +618,23 @@ public class UserService {
             throw new IllegalArgumentException(passwordValidation.getErrorMessage());
         }
         
-        user.setPassword(passwordService.encodePassword(newPassword));
-        user.setPasswordChangedAt(LocalDateTime.now());
-        user.setFailedLoginAttempts(0);
-        user.setAccountLockedUntil(null);
-        
-        userRepository.save(user);
+        String encodedPassword = passwordService.encodePassword(newPassword);
+        transactionTemplate.executeWithoutResult(status -> {
+            user.setPassword(encodedPassword);
+            user.setPasswordChangedAt(LocalDateTime.now());
+            user.setFailedLoginAttempts(0);
+            user.setAccountLockedUntil(null);
+            userRepository.save(user);
+            accountLockReleaser.releaseAfterCommit(user.getEmail());
+            sessionInvalidator.signOutAfterCommit(user.getEmail());
+        });
+    }
+
+    @Transactional(readOnly = true)
+    public void forceSignOut(Long userId) {
+        validateAdminAccess();
+        User user = findById(userId);
+        sessionInvalidator.signOutAfterCommit(user.getEmail());
     }
 
     @Transactional
@@ -425,15 +646,10 @@ public class UserService {
         user.setAccountLockedUntil(null);
         
         userRepository.save(user);
+        accountLockReleaser.releaseAfterCommit(user.getEmail());
     }
 
-    private void validateAdminAccess() {
-        User currentUser = getCurrentAuthenticatedUser();
-        boolean hasAdminAccess = currentUser.getRoles().stream()
-                .anyMatch(role -> role.getName().equals("ADMIN") || role.getName().equals("MASTER"));
-        
-        if (!hasAdminAccess) {
-            throw new RuntimeException("관리자 권한이 필요합니다.");
-        }
+    private CurrentUser validateAdminAccess() {
+        return currentUserProvider.requireAdmin();
     }
 }
\ No newline at end of file
@@ -0,0 +1,208 @@
+package com.enterprise.webtemplate.service;
+
+import com.enterprise.webtemplate.entity.User;
+import com.enterprise.webtemplate.repository.UserSearchFilter;
+import com.enterprise.webtemplate.repository.UserSearchFilter.TextMatch;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * 사용자 이메일/이름/부서/직급 부분 문자열 검색용 메모리 3-gram 인덱스
+ * 부분 일치 조건을 인덱스에서 id 목록으로 바꾸고, DB는 그 id 중 요청한 페이지만 읽습니다.
+ * 준비되기 전이거나 일치 건수가 너무 많으면 기존 LIKE 검색으로 넘깁니다.
+ */
+@Component
+public class UserSubstringIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserSubstringIndex.class);
+
+    private static final int FIELD_COUNT = 4;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${app.user.substring-index.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.user.substring-index.max-ids:1000}")
+    private int maxIds;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 아래 필드는 lock으로 보호
+    private TrigramIndex index;
+    private List<Consumer<TrigramIndex>> rebuildJournal;
+    private long lastBuildMillis;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+
+    /**
+     * users 테이블에서 인덱스를 다시 만들어 교체 (서비스 중에도 실행 가능, 재구성 중 변경은 교체 시 반영)
+     */
+    public synchronized void rebuild() {
+        if (!enabled) {
+            return;
+        }
+
+        List<Consumer<TrigramIndex>> journal = new ArrayList<>();
+        lock.writeLock().lock();
+        try {
+            rebuildJournal = journal;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        long started = System.currentTimeMillis();
+        try {
+            TrigramIndex next = new TrigramIndex(FIELD_COUNT);
+            jdbcTemplate.query("SELECT id, email, name, department, position FROM users", rs -> {
+                next.put(Math.toIntExact(rs.getLong(1)),
+                        new String[]{rs.getString(2), rs.getString(3), rs.getString(4), rs.getString(5)});
+            });
+
+            lock.writeLock().lock();
+            try {
+                journal.forEach(change -> change.accept(next));
+                index = next;
+                rebuildJournal = null;
+                lastBuildMillis = System.currentTimeMillis() - started;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            logger.info("User substring index rebuilt: {} users, {} trigrams, ~{} KB in {} ms",
+                    next.documentCount(), next.trigramCount(), next.estimatedBytes() / 1024, lastBuildMillis);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to rebuild user substring index: {}", e.getMessage());
+            lock.writeLock().lock();
+            try {
+                rebuildJournal = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * 사용자 저장 시 반영 (트랜잭션 안이면 커밋 후에 반영하여 롤백된 값이 검색되지 않도록 함)
+     */
+    public void onUserSaved(User user) {
+        if (!enabled || user.getId() == null) {
+            return;
+        }
+        int id = Math.toIntExact(user.getId());
+        String[] fields = {user.getEmail(), user.getName(), user.getDepartment(), user.getPosition()};
+        afterCommit(target -> target.put(id, fields));
+    }
+
+    public void onUserRemoved(Long userId) {
+        if (!enabled || userId == null) {
+            return;
+        }
+        int id = Math.toIntExact(userId);
+        afterCommit(target -> target.remove(id));
+    }
+
+    /**
+     * 필터의 부분 일치 조건을 만족하는 사용자 id
+     * 부분 일치 조건이 없거나, 준비되지 않았거나, 일치 건수가 max-ids를 넘으면 비어 있는 Optional (DB LIKE 사용)
+     */
+    public Optional<List<Long>> findIds(UserSearchFilter filter) {
+        if (!enabled || !filter.hasContainsMatch()) {
+            return Optional.empty();
+        }
+        String[] queries = {
+                containsValue(filter.email()), containsValue(filter.name()),
+                containsValue(filter.department()), containsValue(filter.position())
+        };
+
+        int[] matched;
+        lock.readLock().lock();
+        try {
+            if (index == null) {
+                return Optional.empty();
+            }
+            matched = index.search(queries);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        // id가 너무 많으면 IN 목록보다 LIKE 스캔이 낫다
+        if (matched.length > maxIds) {
+            return Optional.empty();
+        }
+        List<Long> ids = new ArrayList<>(matched.length);
+        for (int id : matched) {
+            ids.add((long) id);
+        }
+        return Optional.of(ids);
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        lock.readLock().lock();
+        try {
+            stats.put("enabled", enabled);
+            stats.put("ready", index != null);
+            stats.put("rebuilding", rebuildJournal != null);
+            stats.put("users", index != null ? index.documentCount() : 0);
+            stats.put("trigrams", index != null ? index.trigramCount() : 0);
+            stats.put("estimatedBytes", index != null ? index.estimatedBytes() : 0L);
+            stats.put("lastBuildMillis", lastBuildMillis);
+            stats.put("maxIds", maxIds);
+        } finally {
+            lock.readLock().unlock();
+        }
+        return stats;
+    }
+
+    private void afterCommit(Consumer<TrigramIndex> change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(change);
+                }
+            });
+        } else {
+            apply(change);
+        }
+    }
+
+    private void apply(Consumer<TrigramIndex> change) {
+        lock.writeLock().lock();
+        try {
+            if (rebuildJournal != null) {
+                rebuildJournal.add(change);
+            }
+            if (index != null) {
+                change.accept(index);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private String containsValue(TextMatch match) {
+        return match != null && match.mode() == TextMatch.Mode.CONTAINS ? match.value() : null;
+    }
+}
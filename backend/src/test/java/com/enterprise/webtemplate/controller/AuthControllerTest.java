@@ -76,7 +76,7 @@ class AuthControllerTest {
     @Test
     void testLogin_Success() throws Exception {
         // Given
-        when(authService.login(any(LoginRequest.class))).thenReturn(loginResponse);
+        when(authService.login(any(LoginRequest.class), any())).thenReturn(loginResponse);
 
         // When & Then
         mockMvc.perform(post("/api/auth/login")
@@ -94,7 +94,7 @@ class AuthControllerTest {
     @Test
     void testLogin_InvalidCredentials() throws Exception {
         // Given
-        when(authService.login(any(LoginRequest.class)))
+        when(authService.login(any(LoginRequest.class), any()))
                 .thenThrow(new BadCredentialsException("Invalid credentials"));
 
         // When & Then
@@ -112,7 +112,7 @@ class AuthControllerTest {
     @Test
     void testLogin_AccountDisabled() throws Exception {
         // Given
-        when(authService.login(any(LoginRequest.class)))
+        when(authService.login(any(LoginRequest.class), any()))
                 .thenThrow(new DisabledException("Account is disabled"));
 
         // When & Then
@@ -130,7 +130,7 @@ class AuthControllerTest {
     @Test
     void testLogin_InternalError() throws Exception {
         // Given
-        when(authService.login(any(LoginRequest.class)))
+        when(authService.login(any(LoginRequest.class), any()))
                 .thenThrow(new RuntimeException("Internal server error"));
 
         // When & Then
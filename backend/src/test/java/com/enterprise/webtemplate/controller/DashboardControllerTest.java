@@ -1,5 +1,6 @@
 package com.enterprise.webtemplate.controller;
 
+import com.enterprise.webtemplate.service.DashboardLivePublisher;
 import com.enterprise.webtemplate.service.DashboardService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,6 +13,7 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.Map;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -26,6 +28,9 @@ class DashboardControllerTest {
     @MockBean
     private DashboardService dashboardService;
 
+    @MockBean
+    private DashboardLivePublisher dashboardLivePublisher;
+
     private Map<String, Object> mockStats;
 
     @BeforeEach
@@ -35,6 +40,9 @@ class DashboardControllerTest {
                 "activeUsers", 80L,
                 "totalFiles", 500L
         );
+        when(dashboardService.getDashboardStatsVersion()).thenReturn("\"dashboard-stats-1\"");
+        when(dashboardService.getUserStatsVersion()).thenReturn("\"dashboard-user-stats-1\"");
+        when(dashboardService.getRecentActivitiesVersion()).thenReturn("\"dashboard-activities-1\"");
     }
 
     @Test
@@ -53,6 +61,42 @@ class DashboardControllerTest {
         verify(dashboardService).getDashboardStats();
     }
 
+    @Test
+    @WithMockUser(authorities = "DASHBOARD_VIEW")
+    void testGetDashboardStats_SetsETag() throws Exception {
+        // Given
+        when(dashboardService.getDashboardStats()).thenReturn(mockStats);
+
+        // When & Then
+        mockMvc.perform(get("/api/dashboard/stats"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"dashboard-stats-1\""))
+                .andExpect(header().string("Cache-Control", containsString("no-cache")));
+    }
+
+    @Test
+    @WithMockUser(authorities = "DASHBOARD_VIEW")
+    void testGetDashboardStats_DegradedNotStored() throws Exception {
+        // Given
+        when(dashboardService.getDashboardStats()).thenReturn(Map.of("totalUsers", 100L, "degraded", true));
+
+        // When & Then
+        mockMvc.perform(get("/api/dashboard/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.degraded").value(true))
+                .andExpect(header().string("Cache-Control", containsString("no-store")));
+    }
+
+    @Test
+    @WithMockUser(authorities = "DASHBOARD_VIEW")
+    void testGetDashboardStats_NotModified() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/dashboard/stats").header("If-None-Match", "\"dashboard-stats-1\""))
+                .andExpect(status().isNotModified());
+
+        verify(dashboardService, never()).getDashboardStats();
+    }
+
     @Test
     @WithMockUser(authorities = "DASHBOARD_VIEW")
     void testGetDashboardStats_Error() throws Exception {
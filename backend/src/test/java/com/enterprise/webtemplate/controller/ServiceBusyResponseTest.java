@@ -0,0 +1,27 @@
+package com.enterprise.webtemplate.controller;
+
+import com.enterprise.webtemplate.security.PasswordHashingSaturatedException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ServiceBusyResponseTest {
+
+    @Test
+    void testOf_ServiceUnavailableWithRetryAfter() {
+        // When
+        ResponseEntity<Map<String, String>> response =
+                ServiceBusyResponse.of(new PasswordHashingSaturatedException("요청이 많아 잠시 후 다시 시도해주세요."));
+
+        // Then
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("1", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertEquals("SERVICE_BUSY", response.getBody().get("error"));
+        assertEquals("요청이 많아 잠시 후 다시 시도해주세요.", response.getBody().get("message"));
+    }
+}
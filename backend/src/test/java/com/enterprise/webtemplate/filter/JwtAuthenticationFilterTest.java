@@ -0,0 +1,141 @@
+package com.enterprise.webtemplate.filter;
+
+import com.enterprise.webtemplate.security.RbacEngine;
+import com.enterprise.webtemplate.security.SecurityVersionRegistry;
+import com.enterprise.webtemplate.security.TokenRevocationStore;
+import com.enterprise.webtemplate.security.VerifiedToken;
+import com.enterprise.webtemplate.service.CustomUserDetailsService;
+import com.enterprise.webtemplate.service.JwtService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+
+    private static final String EMAIL = "user@example.com";
+    private static final String JWT = "header.payload.signature";
+
+    @Mock
+    private JwtService jwtService;
+
+    @Mock
+    private CustomUserDetailsService userDetailsService;
+
+    @Mock
+    private RbacEngine rbacEngine;
+
+    @Mock
+    private TokenRevocationStore tokenRevocationStore;
+
+    @InjectMocks
+    private JwtAuthenticationFilter filter;
+
+    private final SecurityVersionRegistry securityVersionRegistry = new SecurityVersionRegistry();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(filter, "securityVersionRegistry", securityVersionRegistry);
+        ReflectionTestUtils.setField(filter, "statelessAuthEnabled", true);
+        lenient().when(jwtService.isTokenValid(any(VerifiedToken.class), any())).thenReturn(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testStateless_CurrentVersionAuthenticatesFromClaims() throws Exception {
+        // Given
+        when(jwtService.verify(JWT)).thenReturn(token(securityVersionRegistry.currentVersion(EMAIL)));
+
+        // When
+        Authentication authentication = doFilter();
+
+        // Then: DB 조회 없이 토큰 클레임의 권한으로 인증
+        assertNotNull(authentication);
+        assertTrue(authentication.getAuthorities().stream().anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN")));
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    void testStateless_StaleVersionReloadsUserFromDatabase() throws Exception {
+        // Given: 토큰 발급 후 역할이 바뀜
+        when(jwtService.verify(JWT)).thenReturn(token(securityVersionRegistry.currentVersion(EMAIL)));
+        securityVersionRegistry.bump(EMAIL);
+        when(userDetailsService.loadUserByUsername(EMAIL)).thenReturn(
+                User.withUsername(EMAIL).password("").authorities("ROLE_USER").build());
+
+        // When
+        Authentication authentication = doFilter();
+
+        // Then: 토큰의 이전 권한이 아니라 DB의 현재 권한을 사용
+        assertNotNull(authentication);
+        assertTrue(authentication.getAuthorities().stream().noneMatch(a -> a.getAuthority().equals("ROLE_ADMIN")));
+        verify(userDetailsService).loadUserByUsername(EMAIL);
+    }
+
+    @Test
+    void testStateless_StaleVersionOfDisabledUserIsNotAuthenticated() throws Exception {
+        // Given: 토큰 발급 후 비활성화됨
+        when(jwtService.verify(JWT)).thenReturn(token(securityVersionRegistry.currentVersion(EMAIL)));
+        securityVersionRegistry.bump(EMAIL);
+        when(userDetailsService.loadUserByUsername(EMAIL)).thenReturn(
+                User.withUsername(EMAIL).password("").authorities("ROLE_ADMIN").disabled(true).build());
+
+        // When & Then
+        assertNull(doFilter());
+    }
+
+    @Test
+    void testStateless_MissingVersionClaimIsNotTrusted() throws Exception {
+        // Given
+        when(jwtService.verify(JWT)).thenReturn(token(null));
+        when(userDetailsService.loadUserByUsername(anyString())).thenReturn(
+                User.withUsername(EMAIL).password("").authorities("ROLE_USER").build());
+
+        // When
+        doFilter();
+
+        // Then
+        verify(userDetailsService).loadUserByUsername(EMAIL);
+    }
+
+    private Authentication doFilter() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users/me");
+        request.addHeader("Authorization", "Bearer " + JWT);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        assertEquals(200, response.getStatus());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    private VerifiedToken token(Long securityVersion) {
+        long now = System.currentTimeMillis();
+        Map<String, Object> claims = securityVersion != null
+                ? Map.of(SecurityVersionRegistry.CLAIM_NAME, securityVersion)
+                : Map.of();
+        return new VerifiedToken(EMAIL, List.of("ROLE_ADMIN"), new Date(now), new Date(now + 60_000L), claims);
+    }
+}
@@ -0,0 +1,74 @@
+package com.enterprise.webtemplate.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExportConnectionPoolTest {
+
+    private final ExportConnectionPool pool = new ExportConnectionPool();
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    void testInitialize_NonMySqlUrlFallsBackToMainPool() {
+        // Given
+        configure("jdbc:h2:mem:testdb", true);
+
+        // When
+        pool.initialize();
+
+        // Then
+        assertFalse(pool.isAvailable());
+        assertThrows(IllegalStateException.class, pool::getConnection);
+    }
+
+    @Test
+    void testInitialize_DisabledCreatesNoPool() {
+        // Given
+        configure("jdbc:mysql://localhost:3306/test", false);
+
+        // When
+        pool.initialize();
+
+        // Then
+        assertFalse(pool.isAvailable());
+    }
+
+    @Test
+    void testInitialize_MySqlOverridesExistingCursorSetting() {
+        // Given: 기본 URL에서 꺼져 있어도 전용 풀에서는 켬 (연결은 첫 사용 때)
+        configure("jdbc:mysql://localhost:3306/test?useCursorFetch=false&useSSL=false", true);
+
+        // When
+        pool.initialize();
+
+        // Then
+        assertTrue(pool.isAvailable());
+    }
+
+    @Test
+    void testWithCursorFetch_ReplacesExistingSetting() {
+        assertEquals("jdbc:mysql://h/db?useCursorFetch=true",
+                ExportConnectionPool.withCursorFetch("jdbc:mysql://h/db"));
+        assertEquals("jdbc:mysql://h/db?a=1&useCursorFetch=true",
+                ExportConnectionPool.withCursorFetch("jdbc:mysql://h/db?a=1"));
+        assertEquals("jdbc:mysql://h/db?a=1&b=2&useCursorFetch=true",
+                ExportConnectionPool.withCursorFetch("jdbc:mysql://h/db?a=1&useCursorFetch=false&b=2"));
+        assertEquals("jdbc:mysql://h/db?b=2&useCursorFetch=true",
+                ExportConnectionPool.withCursorFetch("jdbc:mysql://h/db?useCursorFetch=false&b=2"));
+    }
+
+    private void configure(String url, boolean cursorFetch) {
+        ReflectionTestUtils.setField(pool, "url", url);
+        ReflectionTestUtils.setField(pool, "username", "root");
+        ReflectionTestUtils.setField(pool, "password", "");
+        ReflectionTestUtils.setField(pool, "cursorFetch", cursorFetch);
+        ReflectionTestUtils.setField(pool, "poolSize", 2);
+    }
+}
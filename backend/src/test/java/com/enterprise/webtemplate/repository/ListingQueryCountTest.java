@@ -0,0 +1,166 @@
+package com.enterprise.webtemplate.repository;
+
+import com.enterprise.webtemplate.dto.FileUploadResponse;
+import com.enterprise.webtemplate.dto.UserListResponse;
+import com.enterprise.webtemplate.entity.FileEntity;
+import com.enterprise.webtemplate.entity.Permission;
+import com.enterprise.webtemplate.entity.Role;
+import com.enterprise.webtemplate.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 목록 조회 쿼리 수가 페이지 크기와 무관한지 확인 (N+1 회귀 방지)
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class ListingQueryCountTest {
+
+    private static final int USER_COUNT = 30;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private FileRepository fileRepository;
+
+    @BeforeEach
+    void setUp() {
+        // 역할마다 권한을 붙여 Role을 로딩하면 EAGER 권한 조회가 일어나도록 구성
+        Permission permission = entityManager.persist(new Permission("USER_READ", "사용자 조회", "USER", "READ"));
+        Role userRole = new Role("USER", "기본 사용자");
+        userRole.addPermission(permission);
+        Role managerRole = new Role("MANAGER", "관리자");
+        managerRole.addPermission(permission);
+        entityManager.persist(userRole);
+        entityManager.persist(managerRole);
+
+        for (int i = 0; i < USER_COUNT; i++) {
+            User user = new User("user" + i + "@example.com", "encoded", "사용자" + i);
+            user.addRole(userRole);
+            if (i % 2 == 0) {
+                user.addRole(managerRole);
+            }
+            entityManager.persist(user);
+
+            FileEntity file = new FileEntity("report" + i + ".pdf", "stored" + i + ".pdf", "/files/stored" + i + ".pdf",
+                    1024L, "application/pdf", user);
+            entityManager.persist(file);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void testUserSearch_ConstantQueriesRegardlessOfPageSize() {
+        // When
+        long smallPage = countStatements(() -> searchUsersWithRoles(5));
+        long largePage = countStatements(() -> searchUsersWithRoles(25));
+
+        // Then: 목록 + COUNT + 역할 이름 일괄 조회
+        assertEquals(3, smallPage);
+        assertEquals(smallPage, largePage);
+    }
+
+    @Test
+    void testUserSearch_RoleNamesAttachedFromBatchQuery() {
+        // Given
+        Page<UserListResponse> page = userRepository.search(
+                UserSearchFilter.of("=user0@example.com", null, null, null, null, null, null, null),
+                PageRequest.of(0, 10, Sort.by("id")));
+
+        // When
+        Map<Long, UserListResponse> byId = page.getContent().stream()
+                .collect(Collectors.toMap(UserListResponse::getId, Function.identity()));
+        for (Object[] row : userRepository.findRoleNamesByUserIds(byId.keySet())) {
+            byId.get((Long) row[0]).getRoleNames().add((String) row[1]);
+        }
+
+        // Then
+        assertEquals(1, page.getTotalElements());
+        assertEquals(Set.of("USER", "MANAGER"), page.getContent().get(0).getRoleNames());
+    }
+
+    @Test
+    void testUserSearch_CaseInsensitiveInEveryMode() {
+        // When: 값의 대소문자만 다르게 하여 일치/접두사/부분 일치로 검색
+        long equals = userRepository.countMatching(
+                UserSearchFilter.of("=USER1@Example.com", null, null, null, null, null, null, null));
+        long prefix = userRepository.countMatching(
+                UserSearchFilter.of("USER1*", null, null, null, null, null, null, null));
+        long contains = userRepository.countMatching(
+                UserSearchFilter.of("USER1", null, null, null, null, null, null, null));
+
+        // Then: user1, user10 ~ user19
+        assertEquals(1, equals);
+        assertEquals(11, prefix);
+        assertEquals(prefix, contains);
+        assertEquals(prefix, userRepository.countMatching(
+                UserSearchFilter.of("user1*", null, null, null, null, null, null, null)));
+    }
+
+    @Test
+    void testFileList_ConstantQueriesRegardlessOfPageSize() {
+        // When
+        long smallPage = countStatements(() -> fileRepository.findFileList(null, null, null, null, true,
+                PageRequest.of(0, 5, Sort.by("createdAt").descending())));
+        long largePage = countStatements(() -> fileRepository.findFileList(null, null, null, null, true,
+                PageRequest.of(0, 25, Sort.by("createdAt").descending())));
+
+        // Then: 목록 + COUNT (업로더 이름은 조인으로 함께 조회)
+        assertEquals(2, smallPage);
+        assertEquals(smallPage, largePage);
+    }
+
+    @Test
+    void testFileList_SearchAndUploaderName() {
+        // When
+        Page<FileUploadResponse> page = fileRepository.findFileList(null, null, "REPORT1", null, true,
+                PageRequest.of(0, 20, Sort.by("createdAt").descending()));
+
+        // Then: report1, report10 ~ report19
+        assertEquals(11, page.getTotalElements());
+        List<String> uploaders = page.getContent().stream().map(FileUploadResponse::getUploadedBy).toList();
+        assertTrue(uploaders.contains("사용자1"));
+    }
+
+    private void searchUsersWithRoles(int size) {
+        Page<UserListResponse> page = userRepository.search(
+                UserSearchFilter.of(null, null, null, null, null, null, null, null),
+                PageRequest.of(0, size, Sort.by("id")));
+        userRepository.findRoleNamesByUserIds(page.getContent().stream().map(UserListResponse::getId).toList());
+        entityManager.clear();
+    }
+
+    private long countStatements(Runnable action) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+}
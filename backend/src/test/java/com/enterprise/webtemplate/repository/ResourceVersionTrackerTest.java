@@ -0,0 +1,80 @@
+package com.enterprise.webtemplate.repository;
+
+import com.enterprise.webtemplate.repository.ResourceVersionTracker.Resource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResourceVersionTrackerTest {
+
+    private final ResourceVersionTracker tracker = new ResourceVersionTracker();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.unbindResourceIfPossible(tracker);
+    }
+
+    @Test
+    void testChanged_OutsideTransaction_ChangesETag() {
+        // Given
+        String before = tracker.etag("roles", EnumSet.of(Resource.RBAC));
+
+        // When
+        tracker.changed(Resource.RBAC);
+
+        // Then
+        assertNotEquals(before, tracker.etag("roles", EnumSet.of(Resource.RBAC)));
+    }
+
+    @Test
+    void testChanged_OtherResource_KeepsETag() {
+        // Given
+        String before = tracker.etag("roles", EnumSet.of(Resource.RBAC));
+
+        // When
+        tracker.changed(Resource.FILES);
+
+        // Then
+        assertEquals(before, tracker.etag("roles", EnumSet.of(Resource.RBAC)));
+    }
+
+    @Test
+    void testChanged_InTransaction_AppliedOnceAfterCommit() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        tracker.changed(Resource.USERS);
+        tracker.changed(Resource.USERS);
+
+        // Then
+        assertEquals(0, tracker.currentVersion(Resource.USERS));
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        }
+        assertEquals(1, tracker.currentVersion(Resource.USERS));
+    }
+
+    @Test
+    void testChanged_InTransaction_IgnoredOnRollback() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        tracker.changed(Resource.USERS);
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+        }
+
+        // Then
+        assertEquals(0, tracker.currentVersion(Resource.USERS));
+    }
+}
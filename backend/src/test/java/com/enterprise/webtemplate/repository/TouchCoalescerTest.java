@@ -0,0 +1,85 @@
+package com.enterprise.webtemplate.repository;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TouchCoalescerTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private TouchCoalescer touchCoalescer;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testFlush_CoalescesTouchesPerRowIntoSingleBatch() {
+        // Given
+        touchCoalescer.touch(TouchCoalescer.FILE_ACCESS, 1L, 1L);
+        touchCoalescer.touch(TouchCoalescer.FILE_ACCESS, 1L, 1L);
+        touchCoalescer.touch(TouchCoalescer.FILE_ACCESS, 1L);
+        touchCoalescer.touch(TouchCoalescer.FILE_ACCESS, 2L, 1L);
+
+        // When
+        touchCoalescer.flush();
+
+        // Then
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(1)).batchUpdate(
+                eq("UPDATE files SET last_accessed_at = ?, download_count = download_count + ? WHERE id = ?"),
+                captor.capture());
+        List<Object[]> rows = captor.getValue();
+        assertEquals(2, rows.size());
+        Object[] firstFile = rows.stream().filter(row -> row[2].equals(1L)).findFirst().orElseThrow();
+        assertEquals(2L, firstFile[1]);
+        assertEquals(0, touchCoalescer.pendingCount());
+    }
+
+    @Test
+    void testFlush_TimestampOnlyTarget() {
+        // Given
+        touchCoalescer.touch(TouchCoalescer.USER_LAST_LOGIN, 10L);
+
+        // When
+        touchCoalescer.flush();
+
+        // Then
+        verify(jdbcTemplate).batchUpdate(eq("UPDATE users SET last_login_at = ? WHERE id = ?"), anyList());
+    }
+
+    @Test
+    void testFlush_KeepsTouchesWhenBatchFails() {
+        // Given
+        touchCoalescer.touch(TouchCoalescer.USER_LAST_LOGIN, 10L);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenThrow(new RuntimeException("db down"));
+
+        // When
+        touchCoalescer.flush();
+
+        // Then
+        assertEquals(1, touchCoalescer.pendingCount());
+    }
+
+    @Test
+    void testFlush_NothingPending() {
+        // When
+        touchCoalescer.flush();
+
+        // Then
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
@@ -0,0 +1,66 @@
+package com.enterprise.webtemplate.repository;
+
+import com.enterprise.webtemplate.entity.User;
+import com.enterprise.webtemplate.repository.UserSearchFilter.TextMatch;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserSearchFilterTest {
+
+    @Test
+    void testParse_MatchModes() {
+        // When & Then
+        assertNull(TextMatch.parse("  "));
+        assertEquals(new TextMatch(TextMatch.Mode.EQUALS, "dev@example.com"), TextMatch.parse("=dev@example.com"));
+        assertEquals(new TextMatch(TextMatch.Mode.PREFIX, "kim"), TextMatch.parse("kim*"));
+        assertEquals(new TextMatch(TextMatch.Mode.CONTAINS, "kim"), TextMatch.parse(" kim "));
+        assertEquals(new TextMatch(TextMatch.Mode.CONTAINS, "*"), TextMatch.parse("*"));
+    }
+
+    @Test
+    void testShape_SameForDifferentValues() {
+        // Given
+        UserSearchFilter first = UserSearchFilter.of("kim*", null, "개발", null, true, null, null, "ADMIN");
+        UserSearchFilter second = UserSearchFilter.of("lee*", null, "영업", null, false, null, null, "USER");
+
+        // When & Then
+        assertEquals(first.shape(), second.shape());
+        assertNotEquals(first, second);
+    }
+
+    @Test
+    void testShape_DiffersByModeAndPresence() {
+        // Given
+        UserSearchFilter prefix = UserSearchFilter.of("kim*", null, null, null, null, null, null, null);
+        UserSearchFilter contains = UserSearchFilter.of("kim", null, null, null, null, null, null, null);
+        UserSearchFilter withStatus = UserSearchFilter.of("kim", null, null, null, null, null,
+                User.ApprovalStatus.PENDING, null);
+        UserSearchFilter empty = UserSearchFilter.of(null, null, null, null, null, null, null, " ");
+
+        // When & Then
+        assertNotEquals(prefix.shape(), contains.shape());
+        assertNotEquals(contains.shape(), withStatus.shape());
+        assertEquals(0, empty.shape());
+    }
+
+    @Test
+    void testRestrictToIds_ReplacesOnlyContainsMatches() {
+        // Given
+        UserSearchFilter filter = UserSearchFilter.of("kim*", "길동", "개발", null, true, null, null, null);
+
+        // When
+        UserSearchFilter restricted = filter.restrictToIds(List.of(3L, 7L));
+
+        // Then
+        assertTrue(filter.hasContainsMatch());
+        assertFalse(restricted.hasContainsMatch());
+        assertEquals(filter.email(), restricted.email());
+        assertNull(restricted.name());
+        assertNull(restricted.department());
+        assertEquals(List.of(3L, 7L), restricted.ids());
+        assertNotEquals(filter.shape(), restricted.shape());
+    }
+}
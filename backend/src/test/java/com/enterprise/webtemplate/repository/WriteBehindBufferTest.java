@@ -0,0 +1,84 @@
+package com.enterprise.webtemplate.repository;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WriteBehindBufferTest {
+
+    private static final String UPDATE_SQL = "UPDATE users SET name = ? WHERE email = ?";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    // 마지막 값 우선 (실패한 값은 그 사이 들어온 값이 없을 때만 되돌림)
+    private final WriteBehindBuffer<String, String> buffer = new WriteBehindBuffer<>(
+            "name", UPDATE_SQL, (email, name) -> new Object[]{name, email}, (newer, failed) -> newer);
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testFlush_WritesLatestValuePerKey() {
+        // Given
+        buffer.put("a@example.com", "first");
+        buffer.put("a@example.com", "second");
+        buffer.put("b@example.com", "other");
+
+        // When
+        int written = buffer.flush(jdbcTemplate);
+
+        // Then
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(eq(UPDATE_SQL), captor.capture());
+        assertEquals(2, written);
+        assertArrayEquals(new Object[]{"second", "a@example.com"}, captor.getValue().get(0));
+        assertEquals(0, buffer.size());
+    }
+
+    @Test
+    void testFlush_RequeuesFailedValuesBehindNewerOnes() {
+        // Given: 기록 중 같은 키에 새 값이 들어옴
+        buffer.put("a@example.com", "stale");
+        buffer.put("b@example.com", "kept");
+        when(jdbcTemplate.batchUpdate(eq(UPDATE_SQL), anyList())).thenAnswer(invocation -> {
+            buffer.put("a@example.com", "fresh");
+            throw new RuntimeException("db down");
+        });
+
+        // When
+        int written = buffer.flush(jdbcTemplate);
+
+        // Then
+        assertEquals(0, written);
+        assertEquals(2, buffer.size());
+        reset(jdbcTemplate);
+        buffer.flush(jdbcTemplate);
+        verify(jdbcTemplate).batchUpdate(eq(UPDATE_SQL), argThat((List<Object[]> rows) ->
+                rows.stream().anyMatch(row -> row[0].equals("fresh"))
+                        && rows.stream().noneMatch(row -> row[0].equals("stale"))));
+    }
+
+    @Test
+    void testRemove_CancelsPendingValue() {
+        // Given
+        buffer.put("a@example.com", "value");
+
+        // When
+        buffer.remove("a@example.com");
+
+        // Then
+        assertFalse(buffer.contains("a@example.com"));
+        assertEquals(0, buffer.flush(jdbcTemplate));
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
@@ -0,0 +1,51 @@
+package com.enterprise.webtemplate.security;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BreachedPasswordIndexTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testCompileAndLookup_CaseInsensitiveExactMatch() throws IOException {
+        // Given
+        Path dictionary = tempDir.resolve("passwords.txt");
+        Files.write(dictionary, List.of("# comment", "password", "qwerty123", "", "Password", "letmein"));
+        Path indexFile = tempDir.resolve("passwords.idx");
+
+        // When
+        int count = BreachedPasswordIndexCompiler.compile(dictionary, indexFile);
+        BreachedPasswordIndex index = BreachedPasswordIndex.open(indexFile);
+
+        // Then
+        assertEquals(3, count);
+        assertEquals(3, index.size());
+        assertTrue(index.contains("password"));
+        assertTrue(index.contains("PASSWORD"));
+        assertTrue(index.contains("QWERTY123"));
+        assertTrue(index.contains("letmein"));
+        assertFalse(index.contains("password1"));
+        assertFalse(index.contains("Str0ng&Unique!"));
+        assertFalse(index.contains(""));
+        assertFalse(index.contains(null));
+    }
+
+    @Test
+    void testOpen_RejectsInvalidFile() throws IOException {
+        // Given
+        Path invalid = tempDir.resolve("invalid.idx");
+        Files.write(invalid, new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16});
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> BreachedPasswordIndex.open(invalid));
+    }
+}
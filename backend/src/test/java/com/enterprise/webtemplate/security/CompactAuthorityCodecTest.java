@@ -0,0 +1,156 @@
+package com.enterprise.webtemplate.security;
+
+import com.enterprise.webtemplate.entity.Permission;
+import com.enterprise.webtemplate.entity.Role;
+import com.enterprise.webtemplate.repository.PermissionRepository;
+import com.enterprise.webtemplate.repository.RoleRepository;
+import com.enterprise.webtemplate.service.JwtService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CompactAuthorityCodecTest {
+
+    private static final String SECRET =
+            "bXktc2VjcmV0LWtleS1mb3ItZGV2ZWxvcG1lbnQtb25seS1jaGFuZ2UtaW4tcHJvZHVjdGlvbi1lbnRlcnByaXNlLXdlYi10ZW1wbGF0ZQ==";
+
+    @Mock
+    private PermissionRepository permissionRepository;
+
+    @Mock
+    private RoleRepository roleRepository;
+
+    @Mock
+    private SecurityVersionRegistry securityVersionRegistry;
+
+    @InjectMocks
+    private RbacEngine rbacEngine;
+
+    private CompactAuthorityCodec codec;
+
+    private Permission userManagement;
+    private Permission dashboardView;
+    private Permission fileUpload;
+
+    @BeforeEach
+    void setUp() {
+        userManagement = permission(1L, "USER_MANAGEMENT");
+        dashboardView = permission(2L, "DASHBOARD_VIEW");
+        fileUpload = permission(3L, "FILE_UPLOAD");
+
+        Role userRole = new Role("USER", "일반 사용자", true);
+        userRole.setPermissions(Set.of(dashboardView, fileUpload));
+
+        lenient().when(permissionRepository.findAll())
+                .thenReturn(new ArrayList<>(List.of(userManagement, dashboardView, fileUpload)));
+        lenient().when(roleRepository.findAll()).thenReturn(List.of(userRole));
+        rbacEngine.rebuild();
+
+        codec = new CompactAuthorityCodec();
+        ReflectionTestUtils.setField(codec, "rbacEngine", rbacEngine);
+    }
+
+    @Test
+    void testEncodeDecode_RoundTrip() {
+        // When
+        String encoded = codec.encode(List.of("DASHBOARD_VIEW", "FILE_UPLOAD"));
+        PermissionSet decoded = codec.decode(encoded);
+
+        // Then
+        assertNotNull(encoded);
+        assertTrue(encoded.startsWith("1." + rbacEngine.getDictionaryFingerprint() + "."));
+        assertNotNull(decoded);
+        assertEquals(List.of("DASHBOARD_VIEW", "FILE_UPLOAD"), rbacEngine.toAuthorityNames(decoded));
+    }
+
+    @Test
+    void testEncode_UnknownAuthorityNotCompressed() {
+        // When & Then
+        assertNull(codec.encode(List.of("DASHBOARD_VIEW", "ROLE_UNKNOWN")));
+    }
+
+    @Test
+    void testDecode_FingerprintMismatchAfterCatalogueChange() {
+        // Given: 발급 이후 권한 목록이 바뀜
+        String encoded = codec.encode(List.of("DASHBOARD_VIEW"));
+        when(permissionRepository.findAll()).thenReturn(new ArrayList<>(List.of(
+                userManagement, dashboardView, fileUpload, permission(4L, "AUDIT_VIEW"))));
+        rbacEngine.rebuild();
+
+        // When & Then
+        assertNotEquals(encoded.split("\\.")[1], rbacEngine.getDictionaryFingerprint());
+        assertNull(codec.decode(encoded));
+    }
+
+    @Test
+    void testDecode_MalformedInput() {
+        // When & Then
+        assertNull(codec.decode(null));
+        assertNull(codec.decode("2." + rbacEngine.getDictionaryFingerprint() + ".AA"));
+        assertNull(codec.decode("1." + rbacEngine.getDictionaryFingerprint()));
+        assertNull(codec.decode("1." + rbacEngine.getDictionaryFingerprint() + ".!!"));
+    }
+
+    @Test
+    void testVerify_CompactAndLegacyTokensAccepted() {
+        // Given
+        when(securityVersionRegistry.currentVersion(anyString())).thenReturn(0L);
+        UserDetails user = User.withUsername("user@example.com").password("")
+                .authorities(new SimpleGrantedAuthority("DASHBOARD_VIEW"), new SimpleGrantedAuthority("FILE_UPLOAD"))
+                .build();
+
+        JwtService compactIssuer = jwtService(true);
+        JwtService legacyIssuer = jwtService(false);
+
+        // When: 압축 형식 도입 이전에 발급된 authorities 클레임 토큰도 함께 검증
+        VerifiedToken compact = compactIssuer.verify(compactIssuer.generateToken(user));
+        VerifiedToken legacy = compactIssuer.verify(legacyIssuer.generateToken(user));
+
+        // Then
+        assertNotNull(compact.getClaim(CompactAuthorityCodec.CLAIM_NAME));
+        assertNotNull(compact.getPermissionSet());
+        assertTrue(compact.isAuthoritiesResolved());
+        assertEquals(List.of("DASHBOARD_VIEW", "FILE_UPLOAD"), compact.getAuthorities());
+
+        assertNull(legacy.getClaim(CompactAuthorityCodec.CLAIM_NAME));
+        assertNull(legacy.getPermissionSet());
+        assertTrue(legacy.isAuthoritiesResolved());
+        assertEquals(List.of("DASHBOARD_VIEW", "FILE_UPLOAD"), legacy.getAuthorities());
+    }
+
+    private JwtService jwtService(boolean compactAuthorities) {
+        JwtService jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "secretKey", SECRET);
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", 60000L);
+        ReflectionTestUtils.setField(jwtService, "refreshExpiration", 120000L);
+        ReflectionTestUtils.setField(jwtService, "compactAuthorities", compactAuthorities);
+        ReflectionTestUtils.setField(jwtService, "verifiedTokenCache", new VerifiedTokenCache());
+        ReflectionTestUtils.setField(jwtService, "securityVersionRegistry", securityVersionRegistry);
+        ReflectionTestUtils.setField(jwtService, "compactAuthorityCodec", codec);
+        ReflectionTestUtils.setField(jwtService, "rbacEngine", rbacEngine);
+        ReflectionTestUtils.invokeMethod(jwtService, "initSigningKey");
+        return jwtService;
+    }
+
+    private Permission permission(Long id, String name) {
+        Permission permission = new Permission(name, name, "TEST", "TEST", true);
+        permission.setId(id);
+        return permission;
+    }
+}
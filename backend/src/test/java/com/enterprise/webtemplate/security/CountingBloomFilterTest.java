@@ -0,0 +1,60 @@
+package com.enterprise.webtemplate.security;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CountingBloomFilterTest {
+
+    @Test
+    void testAddAndRemove_NoFalseNegatives() {
+        // Given
+        CountingBloomFilter filter = new CountingBloomFilter(1000, 0.01);
+        for (int i = 0; i < 1000; i++) {
+            filter.add("user" + i + "@example.com");
+        }
+
+        // When
+        for (int i = 0; i < 500; i++) {
+            filter.remove("user" + i + "@example.com");
+        }
+
+        // Then
+        for (int i = 500; i < 1000; i++) {
+            assertTrue(filter.mightContain("user" + i + "@example.com"));
+        }
+    }
+
+    @Test
+    void testMightContain_FalsePositiveRateWithinBound() {
+        // Given
+        CountingBloomFilter filter = new CountingBloomFilter(1000, 0.01);
+        for (int i = 0; i < 1000; i++) {
+            filter.add("user" + i + "@example.com");
+        }
+
+        // When
+        int falsePositives = 0;
+        for (int i = 0; i < 10000; i++) {
+            if (filter.mightContain("other" + i + "@example.com")) {
+                falsePositives++;
+            }
+        }
+
+        // Then
+        assertTrue(falsePositives < 300, "false positives: " + falsePositives);
+    }
+
+    @Test
+    void testRemove_ClearsSingleEntry() {
+        // Given
+        CountingBloomFilter filter = new CountingBloomFilter(100, 0.01);
+        filter.add("user@example.com");
+
+        // When
+        filter.remove("user@example.com");
+
+        // Then
+        assertFalse(filter.mightContain("user@example.com"));
+    }
+}
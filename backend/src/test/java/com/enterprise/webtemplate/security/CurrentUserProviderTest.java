@@ -0,0 +1,141 @@
+package com.enterprise.webtemplate.security;
+
+import com.enterprise.webtemplate.entity.Role;
+import com.enterprise.webtemplate.entity.User;
+import com.enterprise.webtemplate.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CurrentUserProviderTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private RbacEngine rbacEngine;
+
+    @InjectMocks
+    private CurrentUserProvider currentUserProvider;
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void testGet_PrincipalClaimsWithoutDatabase() {
+        // Given: uid/roles 클레임으로 만든 인증 주체
+        authenticate(new AuthenticatedPrincipal("admin@example.com", "", true, true, List.of(), null,
+                7L, Set.of("ADMIN")));
+
+        // When
+        CurrentUser currentUser = currentUserProvider.get();
+
+        // Then
+        assertEquals(7L, currentUser.getId());
+        assertEquals("admin@example.com", currentUser.getEmail());
+        assertTrue(currentUser.isAdmin());
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void testGet_NoAuthentication() {
+        // When & Then
+        RuntimeException e = assertThrows(RuntimeException.class, currentUserProvider::get);
+        assertEquals("인증된 사용자를 찾을 수 없습니다.", e.getMessage());
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void testGet_AnonymousAuthentication() {
+        // Given
+        SecurityContextHolder.getContext().setAuthentication(new AnonymousAuthenticationToken("key", "anonymousUser",
+                AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS")));
+
+        // When & Then: 익명 사용자 이름으로 DB를 조회하지 않음
+        RuntimeException e = assertThrows(RuntimeException.class, currentUserProvider::get);
+        assertEquals("인증된 사용자를 찾을 수 없습니다.", e.getMessage());
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void testGet_ReusedWithinRequest() {
+        // Given: 클레임이 없는 예전 토큰 (DB 조회 필요)
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        authenticate(new AuthenticatedPrincipal("user@example.com", "", true, true, List.of(), null));
+        when(userRepository.findByEmailWithRoles("user@example.com")).thenReturn(Optional.of(user(3L, "user@example.com")));
+
+        // When
+        CurrentUser first = currentUserProvider.get();
+        CurrentUser second = currentUserProvider.get();
+
+        // Then
+        assertSame(first, second);
+        assertEquals(Set.of("USER"), first.getRoleNames());
+        verify(userRepository, times(1)).findByEmailWithRoles("user@example.com");
+    }
+
+    @Test
+    void testGet_ResolvesAgainWhenAuthenticationChangesInRequest() {
+        // Given
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        authenticate(new AuthenticatedPrincipal("user@example.com", "", true, true, List.of(), null,
+                3L, Set.of("USER")));
+        CurrentUser first = currentUserProvider.get();
+
+        // When: 같은 요청에서 다른 사용자로 인증이 바뀜
+        authenticate(new AuthenticatedPrincipal("other@example.com", "", true, true, List.of(), null,
+                4L, Set.of("USER")));
+        CurrentUser second = currentUserProvider.get();
+
+        // Then
+        assertEquals(3L, first.getId());
+        assertEquals(4L, second.getId());
+    }
+
+    @Test
+    void testGet_WithoutRequestResolvesEachTime() {
+        // Given: 요청 밖(스케줄러 등)에서는 캐시할 곳이 없음
+        authenticate(new AuthenticatedPrincipal("user@example.com", "", true, true, List.of(), null));
+        when(userRepository.findByEmailWithRoles("user@example.com")).thenReturn(Optional.of(user(3L, "user@example.com")));
+
+        // When
+        currentUserProvider.get();
+        currentUserProvider.get();
+
+        // Then
+        verify(userRepository, times(2)).findByEmailWithRoles("user@example.com");
+    }
+
+    private void authenticate(AuthenticatedPrincipal principal) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    private User user(Long id, String email) {
+        User user = new User(email, "encoded", "사용자");
+        user.setId(id);
+        user.addRole(new Role("USER", "일반 사용자", true));
+        return user;
+    }
+}
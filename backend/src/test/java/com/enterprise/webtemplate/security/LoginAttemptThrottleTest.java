@@ -0,0 +1,91 @@
+package com.enterprise.webtemplate.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoginAttemptThrottleTest {
+
+    private LoginAttemptThrottle loginAttemptThrottle;
+
+    @BeforeEach
+    void setUp() {
+        loginAttemptThrottle = new LoginAttemptThrottle();
+        ReflectionTestUtils.setField(loginAttemptThrottle, "accountMaxFailures", 3);
+        ReflectionTestUtils.setField(loginAttemptThrottle, "accountWindowMillis", 60_000L);
+        ReflectionTestUtils.setField(loginAttemptThrottle, "accountLockoutMillis", 120_000L);
+        ReflectionTestUtils.setField(loginAttemptThrottle, "ipMaxFailures", 5);
+        ReflectionTestUtils.setField(loginAttemptThrottle, "ipWindowMillis", 60_000L);
+    }
+
+    @Test
+    void testRecordFailure_LocksOnlyOnThresholdTransition() {
+        // When
+        LoginAttemptThrottle.FailureResult first = loginAttemptThrottle.recordFailure("user@example.com", "10.0.0.1");
+        LoginAttemptThrottle.FailureResult second = loginAttemptThrottle.recordFailure("user@example.com", "10.0.0.1");
+        LoginAttemptThrottle.FailureResult third = loginAttemptThrottle.recordFailure("user@example.com", "10.0.0.1");
+        LoginAttemptThrottle.FailureResult fourth = loginAttemptThrottle.recordFailure("user@example.com", "10.0.0.1");
+
+        // Then
+        assertFalse(first.isLockTransition());
+        assertFalse(second.isLockTransition());
+        assertTrue(third.isLockTransition());
+        assertEquals(3, third.getFailures());
+        assertFalse(fourth.isLockTransition());
+        assertTrue(loginAttemptThrottle.accountLockedUntil("user@example.com") > System.currentTimeMillis());
+        assertEquals(0L, loginAttemptThrottle.accountLockedUntil("other@example.com"));
+    }
+
+    @Test
+    void testRecordSuccess_ClearsAccountState() {
+        // Given
+        loginAttemptThrottle.recordFailure("user@example.com", null);
+        loginAttemptThrottle.recordFailure("user@example.com", null);
+
+        // When
+        loginAttemptThrottle.recordSuccess("user@example.com");
+        LoginAttemptThrottle.FailureResult result = loginAttemptThrottle.recordFailure("user@example.com", null);
+
+        // Then
+        assertEquals(1, result.getFailures());
+        assertFalse(result.isLockTransition());
+    }
+
+    @Test
+    void testClientRetryAfter_ThrottlesIpAcrossAccounts() {
+        // Given
+        for (int i = 0; i < 5; i++) {
+            loginAttemptThrottle.recordFailure(null, "10.0.0.2");
+        }
+
+        // Then
+        assertTrue(loginAttemptThrottle.clientRetryAfterSeconds("10.0.0.2") > 0);
+        assertEquals(0L, loginAttemptThrottle.clientRetryAfterSeconds("10.0.0.3"));
+    }
+
+    @Test
+    void testSeedLock_AppliesPersistedLockout() {
+        // Given
+        long lockedUntil = System.currentTimeMillis() + 60_000L;
+
+        // When
+        loginAttemptThrottle.seedLock("user@example.com", lockedUntil);
+
+        // Then
+        assertEquals(lockedUntil, loginAttemptThrottle.accountLockedUntil("user@example.com"));
+    }
+
+    @Test
+    void testEvictIdle_KeepsActiveEntries() {
+        // Given
+        loginAttemptThrottle.recordFailure("user@example.com", "10.0.0.1");
+
+        // When
+        loginAttemptThrottle.evictIdle();
+
+        // Then
+        assertEquals(2, loginAttemptThrottle.trackedEntries());
+    }
+}
@@ -0,0 +1,115 @@
+package com.enterprise.webtemplate.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PasswordHashingExecutorTest {
+
+    private PasswordHashingExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        if (executor != null) {
+            ReflectionTestUtils.invokeMethod(executor, "shutdown");
+        }
+    }
+
+    @Test
+    void testSubmit_RejectsWhenQueueFull() throws Exception {
+        // Given: 스레드 1개, 대기열 1개를 모두 점유
+        executor = executor(1, 1, 5000L, 10);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        executor.submit(() -> {
+            started.countDown();
+            return release.await(5, TimeUnit.SECONDS);
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        executor.submit(() -> true);
+
+        // When & Then
+        try {
+            assertThrows(PasswordHashingSaturatedException.class, () -> executor.submit(() -> true));
+            assertEquals(1L, executor.getMetrics().get("rejected"));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void testExecute_TimesOutAsSaturated() {
+        // Given
+        executor = executor(1, 4, 50L, 10);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // When & Then
+        try {
+            assertThrows(PasswordHashingSaturatedException.class,
+                    () -> executor.execute(() -> release.await(5, TimeUnit.SECONDS)));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void testCalibrate_ClampedToMinimum() {
+        // Given: 목표 지연 시간이 기준 cost보다 훨씬 짧음
+        executor = calibratingExecutor(1L, 8, 9);
+
+        // Then
+        assertEquals(8, executor.getStrength());
+    }
+
+    @Test
+    void testCalibrate_ClampedToMaximum() {
+        // Given: 목표 지연 시간이 매우 김
+        executor = calibratingExecutor(1_000_000_000L, 8, 9);
+
+        // Then
+        assertEquals(9, executor.getStrength());
+    }
+
+    @Test
+    void testUpgradeEncoding_OnlyWhenStoredCostIsLower() {
+        // Given
+        PasswordHashingExecutor hashingExecutor = mock(PasswordHashingExecutor.class);
+        when(hashingExecutor.getStrength()).thenReturn(12);
+        PooledPasswordEncoder encoder = new PooledPasswordEncoder(hashingExecutor);
+
+        // When & Then
+        assertTrue(encoder.upgradeEncoding("$2a$10$abcdefghijklmnopqrstuu"));
+        assertFalse(encoder.upgradeEncoding("$2a$12$abcdefghijklmnopqrstuu"));
+        // 보정값이 낮아져도 더 강한 기존 해시는 낮추지 않음
+        assertFalse(encoder.upgradeEncoding("$2a$13$abcdefghijklmnopqrstuu"));
+        assertFalse(encoder.upgradeEncoding("{noop}plain"));
+        assertFalse(encoder.upgradeEncoding(null));
+    }
+
+    private PasswordHashingExecutor executor(int threads, int queueCapacity, long waitTimeoutMillis, int strength) {
+        PasswordHashingExecutor hashingExecutor = new PasswordHashingExecutor();
+        ReflectionTestUtils.setField(hashingExecutor, "threads", threads);
+        ReflectionTestUtils.setField(hashingExecutor, "queueCapacity", queueCapacity);
+        ReflectionTestUtils.setField(hashingExecutor, "waitTimeoutMillis", waitTimeoutMillis);
+        ReflectionTestUtils.setField(hashingExecutor, "fixedStrength", strength);
+        ReflectionTestUtils.invokeMethod(hashingExecutor, "initialize");
+        return hashingExecutor;
+    }
+
+    private PasswordHashingExecutor calibratingExecutor(long targetMillis, int minStrength, int maxStrength) {
+        PasswordHashingExecutor hashingExecutor = new PasswordHashingExecutor();
+        ReflectionTestUtils.setField(hashingExecutor, "threads", 1);
+        ReflectionTestUtils.setField(hashingExecutor, "queueCapacity", 1);
+        ReflectionTestUtils.setField(hashingExecutor, "targetMillis", targetMillis);
+        ReflectionTestUtils.setField(hashingExecutor, "minStrength", minStrength);
+        ReflectionTestUtils.setField(hashingExecutor, "maxStrength", maxStrength);
+        ReflectionTestUtils.invokeMethod(hashingExecutor, "initialize");
+        return hashingExecutor;
+    }
+}
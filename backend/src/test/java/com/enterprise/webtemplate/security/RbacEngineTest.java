@@ -0,0 +1,128 @@
+package com.enterprise.webtemplate.security;
+
+import com.enterprise.webtemplate.entity.Permission;
+import com.enterprise.webtemplate.entity.Role;
+import com.enterprise.webtemplate.repository.PermissionRepository;
+import com.enterprise.webtemplate.repository.RoleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RbacEngineTest {
+
+    @Mock
+    private PermissionRepository permissionRepository;
+
+    @Mock
+    private RoleRepository roleRepository;
+
+    @InjectMocks
+    private RbacEngine rbacEngine;
+
+    private Permission userManagement;
+    private Permission dashboardView;
+    private Permission fileUpload;
+
+    @BeforeEach
+    void setUp() {
+        userManagement = permission(1L, "USER_MANAGEMENT");
+        dashboardView = permission(2L, "DASHBOARD_VIEW");
+        fileUpload = permission(3L, "FILE_UPLOAD");
+
+        Role adminRole = new Role("ADMIN", "관리자", true);
+        adminRole.setPermissions(Set.of(userManagement, dashboardView));
+        Role userRole = new Role("USER", "일반 사용자", true);
+        userRole.setPermissions(Set.of(dashboardView, fileUpload));
+
+        when(permissionRepository.findAll())
+                .thenReturn(new ArrayList<>(List.of(fileUpload, userManagement, dashboardView)));
+        when(roleRepository.findAll()).thenReturn(List.of(adminRole, userRole));
+
+        rbacEngine.rebuild();
+    }
+
+    @Test
+    void testCompileRoles_UnionOfRoleBits() {
+        // When
+        PermissionSet permissionSet = rbacEngine.compileRoles(List.of("ADMIN", "USER"));
+
+        // Then
+        assertEquals(3, permissionSet.size());
+        assertTrue(permissionSet.has(rbacEngine.permissionId("USER_MANAGEMENT")));
+        assertTrue(permissionSet.has(rbacEngine.permissionId("FILE_UPLOAD")));
+        assertEquals(Set.of("USER_MANAGEMENT", "DASHBOARD_VIEW", "FILE_UPLOAD"),
+                rbacEngine.toAuthorities(permissionSet).stream()
+                        .map(GrantedAuthority::getAuthority)
+                        .collect(java.util.stream.Collectors.toSet()));
+    }
+
+    @Test
+    void testHasPermission_UsesPrincipalBitset() {
+        // Given
+        PermissionSet permissionSet = rbacEngine.compileRoles(List.of("USER"));
+        AuthenticatedPrincipal principal = new AuthenticatedPrincipal("user@example.com", "", true, true,
+                rbacEngine.toAuthorities(permissionSet), permissionSet);
+        Authentication authentication = new UsernamePasswordAuthenticationToken(
+                principal, null, principal.getAuthorities());
+
+        // When & Then
+        assertTrue(rbacEngine.hasPermission(authentication, "FILE_UPLOAD"));
+        assertFalse(rbacEngine.hasPermission(authentication, "USER_MANAGEMENT"));
+    }
+
+    @Test
+    void testHasPermission_StaleGenerationFallsBackToAuthorities() {
+        // Given
+        PermissionSet stale = rbacEngine.compileRoles(List.of("USER"));
+        AuthenticatedPrincipal principal = new AuthenticatedPrincipal("user@example.com", "", true, true,
+                List.of(new SimpleGrantedAuthority("USER_MANAGEMENT")), stale);
+        Authentication authentication = new UsernamePasswordAuthenticationToken(
+                principal, null, principal.getAuthorities());
+
+        // When
+        rbacEngine.rebuild();
+
+        // Then
+        assertTrue(rbacEngine.hasPermission(authentication, "USER_MANAGEMENT"));
+        assertFalse(rbacEngine.hasPermission(authentication, "FILE_UPLOAD"));
+    }
+
+    @Test
+    void testToAuthorities_StaleGenerationRecompiledByName() {
+        // Given: 권한 번호가 밀리도록 앞쪽 id의 권한을 추가하고 재구성
+        PermissionSet stale = rbacEngine.compileRoles(List.of("USER"));
+        Permission auditView = permission(0L, "AUDIT_VIEW");
+        when(permissionRepository.findAll())
+                .thenReturn(new ArrayList<>(List.of(fileUpload, auditView, userManagement, dashboardView)));
+        rbacEngine.rebuild();
+
+        // When
+        Set<String> authorities = rbacEngine.toAuthorities(stale).stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(java.util.stream.Collectors.toSet());
+
+        // Then
+        assertEquals(Set.of("DASHBOARD_VIEW", "FILE_UPLOAD"), authorities);
+    }
+
+    private Permission permission(Long id, String name) {
+        Permission permission = new Permission(name, name, "TEST", "TEST", true);
+        permission.setId(id);
+        return permission;
+    }
+}
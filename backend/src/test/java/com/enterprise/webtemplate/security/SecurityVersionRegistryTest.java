@@ -0,0 +1,60 @@
+package com.enterprise.webtemplate.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SecurityVersionRegistryTest {
+
+    private final SecurityVersionRegistry registry = new SecurityVersionRegistry();
+
+    @Test
+    void testBump_IsMonotonicAndNotBehindClock() {
+        // Given
+        long before = registry.currentVersion("test@example.com");
+        long now = System.currentTimeMillis();
+
+        // When: 같은 밀리초 안에서 연달아 올려도 버전이 겹치지 않음
+        long first = registry.bump("test@example.com");
+        long second = registry.bump("test@example.com");
+
+        // Then
+        assertTrue(first > before);
+        assertTrue(first >= now);
+        assertTrue(second > first);
+        assertEquals(second, registry.currentVersion("test@example.com"));
+    }
+
+    @Test
+    void testIsCurrent_OnlyMatchesLatestVersion() {
+        // Given
+        long issued = registry.currentVersion("Test@Example.com");
+
+        // When
+        registry.bump("test@example.com");
+
+        // Then: 이메일은 대소문자를 구분하지 않고, 숫자가 아닌 클레임은 일치하지 않음
+        assertFalse(registry.isCurrent("test@example.com", issued));
+        assertTrue(registry.isCurrent("TEST@example.com", registry.currentVersion("test@example.com")));
+        assertFalse(registry.isCurrent("test@example.com", String.valueOf(registry.currentVersion("test@example.com"))));
+        assertFalse(registry.isCurrent("test@example.com", null));
+    }
+
+    @Test
+    void testBumpAll_ChangesOnlyListedUsers() {
+        // Given
+        long a = registry.currentVersion("a@example.com");
+        long b = registry.currentVersion("b@example.com");
+        long other = registry.currentVersion("other@example.com");
+
+        // When
+        registry.bumpAll(List.of("a@example.com", "b@example.com"));
+
+        // Then
+        assertTrue(registry.currentVersion("a@example.com") > a);
+        assertTrue(registry.currentVersion("b@example.com") > b);
+        assertEquals(other, registry.currentVersion("other@example.com"));
+    }
+}
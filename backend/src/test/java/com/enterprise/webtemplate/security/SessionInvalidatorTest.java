@@ -0,0 +1,87 @@
+package com.enterprise.webtemplate.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SessionInvalidatorTest {
+
+    @Mock
+    private SecurityVersionRegistry securityVersionRegistry;
+
+    @Mock
+    private TokenRevocationStore tokenRevocationStore;
+
+    @InjectMocks
+    private SessionInvalidator sessionInvalidator;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void testSignOut_InTransaction_AppliedOnlyAfterCommit() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        List<String> emails = new ArrayList<>(List.of("a@example.com", "b@example.com"));
+
+        // When
+        sessionInvalidator.signOutAllAfterCommit(emails);
+        emails.clear();
+
+        // Then: 커밋 전에는 버전도 폐기 기록도 바뀌지 않음
+        verifyNoInteractions(securityVersionRegistry, tokenRevocationStore);
+        completeTransaction(true);
+        verify(securityVersionRegistry).bumpAll(List.of("a@example.com", "b@example.com"));
+        verify(tokenRevocationStore).revokeAllForUser("a@example.com");
+        verify(tokenRevocationStore).revokeAllForUser("b@example.com");
+    }
+
+    @Test
+    void testBump_InTransaction_DroppedOnRollback() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        sessionInvalidator.bumpAfterCommit("a@example.com");
+        sessionInvalidator.signOutAfterCommit("b@example.com");
+        completeTransaction(false);
+
+        // Then
+        verifyNoInteractions(securityVersionRegistry, tokenRevocationStore);
+    }
+
+    @Test
+    void testBump_OutsideTransaction_AppliedImmediatelyWithoutRevoking() {
+        // When
+        sessionInvalidator.bumpAfterCommit("a@example.com");
+
+        // Then
+        verify(securityVersionRegistry).bumpAll(List.of("a@example.com"));
+        verifyNoInteractions(tokenRevocationStore);
+    }
+
+    private void completeTransaction(boolean committed) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        if (committed) {
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        }
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(committed
+                ? TransactionSynchronization.STATUS_COMMITTED : TransactionSynchronization.STATUS_ROLLED_BACK));
+    }
+}
@@ -0,0 +1,163 @@
+package com.enterprise.webtemplate.security;
+
+import com.enterprise.webtemplate.service.CustomUserDetailsService;
+import com.enterprise.webtemplate.service.JwtService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StompAuthChannelInterceptorTest {
+
+    @Mock
+    private JwtService jwtService;
+
+    @Mock
+    private CustomUserDetailsService userDetailsService;
+
+    @Mock
+    private TokenRevocationStore tokenRevocationStore;
+
+    @Mock
+    private RbacEngine rbacEngine;
+
+    @Mock
+    private SecurityVersionRegistry securityVersionRegistry;
+
+    @Mock
+    private StompSessionRegistry stompSessionRegistry;
+
+    @Mock
+    private MessageChannel channel;
+
+    @InjectMocks
+    private StompAuthChannelInterceptor interceptor;
+
+    @Test
+    void testConnect_RejectedWithoutBearerToken() {
+        // Given
+        StompHeaderAccessor withoutHeader = StompHeaderAccessor.create(StompCommand.CONNECT);
+        StompHeaderAccessor basicHeader = StompHeaderAccessor.create(StompCommand.CONNECT);
+        basicHeader.addNativeHeader("Authorization", "Basic dXNlcjpwYXNz");
+
+        // When & Then
+        assertThrows(AccessDeniedException.class, () -> interceptor.preSend(message(withoutHeader), channel));
+        assertThrows(AccessDeniedException.class, () -> interceptor.preSend(message(basicHeader), channel));
+        verifyNoInteractions(jwtService, userDetailsService);
+    }
+
+    @Test
+    void testConnect_RejectedWithInvalidToken() {
+        // Given
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+        accessor.addNativeHeader("Authorization", "Bearer broken");
+        when(jwtService.verify("broken")).thenThrow(new IllegalArgumentException("invalid"));
+
+        // When & Then
+        assertThrows(AccessDeniedException.class, () -> interceptor.preSend(message(accessor), channel));
+    }
+
+    @Test
+    void testConnect_BindsTokenWithVersionReadBeforeUserLookup() {
+        // Given
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+        accessor.setSessionId("session-1");
+        accessor.addNativeHeader("Authorization", "Bearer valid");
+        long now = System.currentTimeMillis();
+        VerifiedToken token = new VerifiedToken("admin@example.com", List.of(), new Date(now), new Date(now + 60_000L), Map.of());
+        UserDetails admin = User.withUsername("admin@example.com").password("").authorities("DASHBOARD_VIEW").build();
+        when(jwtService.verify("valid")).thenReturn(token);
+        when(securityVersionRegistry.currentVersion("admin@example.com")).thenReturn(7L);
+        when(userDetailsService.loadUserByUsername("admin@example.com")).thenReturn(admin);
+        when(jwtService.isTokenValid(token, admin)).thenReturn(true);
+
+        // When
+        interceptor.preSend(message(accessor), channel);
+
+        // Then
+        verify(stompSessionRegistry).bind("session-1", token, 7L);
+        assertNotNull(accessor.getUser());
+    }
+
+    @Test
+    void testSendAndSubscribe_RejectedWhenSessionNoLongerValid() {
+        // Given: 연결 이후 토큰이 폐기되었거나 보안 버전이 바뀜
+        Authentication admin = new UsernamePasswordAuthenticationToken("admin@example.com", null, List.of());
+        when(stompSessionRegistry.revalidate("session-1")).thenReturn(false);
+        StompHeaderAccessor send = StompHeaderAccessor.create(StompCommand.SEND);
+        send.setSessionId("session-1");
+        send.setDestination("/app/notifications");
+
+        // When & Then
+        assertThrows(AccessDeniedException.class, () -> interceptor.preSend(message(send), channel));
+        assertThrows(AccessDeniedException.class,
+                () -> interceptor.preSend(subscribe("/topic/notifications", admin), channel));
+        verifyNoInteractions(rbacEngine);
+    }
+
+    @Test
+    void testSubscribe_PatternCoveringDashboardRequiresPermission() {
+        // Given
+        when(stompSessionRegistry.revalidate(any())).thenReturn(true);
+        Authentication viewer = new UsernamePasswordAuthenticationToken("viewer@example.com", null, List.of());
+        when(rbacEngine.hasPermission(viewer, "DASHBOARD_VIEW")).thenReturn(false);
+
+        // When & Then
+        for (String destination : List.of("/topic/dashboard", "/topic/**", "/topic/*", "/topic/dash*", "/app/dashboard")) {
+            assertThrows(AccessDeniedException.class,
+                    () -> interceptor.preSend(subscribe(destination, viewer), channel), destination);
+        }
+        assertThrows(AccessDeniedException.class,
+                () -> interceptor.preSend(subscribe("/topic/**", null), channel));
+    }
+
+    @Test
+    void testSubscribe_AllowedWithPermissionOrUnrelatedDestination() {
+        // Given
+        Authentication admin = new UsernamePasswordAuthenticationToken("admin@example.com", null, List.of());
+        when(stompSessionRegistry.revalidate(any())).thenReturn(true);
+        when(rbacEngine.hasPermission(admin, "DASHBOARD_VIEW")).thenReturn(true);
+
+        // When & Then
+        assertDoesNotThrow(() -> interceptor.preSend(subscribe("/topic/**", admin), channel));
+        assertDoesNotThrow(() -> interceptor.preSend(subscribe("/topic/dashboard", admin), channel));
+        assertDoesNotThrow(() -> interceptor.preSend(subscribe("/topic/notifications", null), channel));
+        assertDoesNotThrow(() -> interceptor.preSend(subscribe("/queue/*", null), channel));
+        // 대시보드와 무관한 목적지는 권한을 확인하지 않음
+        verify(rbacEngine, times(2)).hasPermission(admin, "DASHBOARD_VIEW");
+        verifyNoMoreInteractions(rbacEngine);
+    }
+
+    private Message<byte[]> subscribe(String destination, Authentication user) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setSessionId("session-1");
+        accessor.setDestination(destination);
+        accessor.setUser(user);
+        return message(accessor);
+    }
+
+    private Message<byte[]> message(StompHeaderAccessor accessor) {
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
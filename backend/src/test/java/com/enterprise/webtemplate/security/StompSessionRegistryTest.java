@@ -0,0 +1,116 @@
+package com.enterprise.webtemplate.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StompSessionRegistryTest {
+
+    private static final String EMAIL = "admin@example.com";
+
+    @Mock
+    private TokenRevocationStore tokenRevocationStore;
+
+    @Mock
+    private WebSocketHandler delegate;
+
+    @Mock
+    private WebSocketSession session;
+
+    @InjectMocks
+    private StompSessionRegistry stompSessionRegistry;
+
+    private final SecurityVersionRegistry securityVersionRegistry = new SecurityVersionRegistry();
+
+    private WebSocketHandler handler;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ReflectionTestUtils.setField(stompSessionRegistry, "securityVersionRegistry", securityVersionRegistry);
+        when(session.getId()).thenReturn("session-1");
+        handler = stompSessionRegistry.decorate(delegate);
+        handler.afterConnectionEstablished(session);
+    }
+
+    @Test
+    void testRevalidate_ValidSessionStaysOpen() throws Exception {
+        // Given
+        stompSessionRegistry.bind("session-1", token(60_000L), securityVersionRegistry.currentVersion(EMAIL));
+
+        // When & Then
+        assertTrue(stompSessionRegistry.revalidate("session-1"));
+        verify(session, never()).close(any(CloseStatus.class));
+    }
+
+    @Test
+    void testRevalidate_ClosesSessionAfterSecurityVersionBump() throws Exception {
+        // Given: 연결 이후 역할 변경/비활성화
+        stompSessionRegistry.bind("session-1", token(60_000L), securityVersionRegistry.currentVersion(EMAIL));
+        securityVersionRegistry.bump(EMAIL);
+
+        // When & Then
+        assertFalse(stompSessionRegistry.revalidate("session-1"));
+        verify(session).close(CloseStatus.POLICY_VIOLATION);
+        assertFalse(stompSessionRegistry.isValid("session-1"));
+    }
+
+    @Test
+    void testRevalidate_ClosesSessionWithRevokedToken() throws Exception {
+        // Given
+        VerifiedToken token = token(60_000L);
+        stompSessionRegistry.bind("session-1", token, securityVersionRegistry.currentVersion(EMAIL));
+        when(tokenRevocationStore.isRevoked(token)).thenReturn(true);
+
+        // When & Then
+        assertFalse(stompSessionRegistry.revalidate("session-1"));
+        verify(session).close(CloseStatus.POLICY_VIOLATION);
+    }
+
+    @Test
+    void testIsValid_ExpiredTokenOrUnknownSession() throws InterruptedException {
+        // Given
+        stompSessionRegistry.bind("session-1", token(30L), securityVersionRegistry.currentVersion(EMAIL));
+
+        // When
+        Thread.sleep(50L);
+
+        // Then
+        assertFalse(stompSessionRegistry.isValid("session-1"));
+        assertFalse(stompSessionRegistry.isValid("unknown"));
+        assertFalse(stompSessionRegistry.isValid(null));
+    }
+
+    @Test
+    void testConnectionClosed_ForgetsCredentials() throws Exception {
+        // Given
+        stompSessionRegistry.bind("session-1", token(60_000L), securityVersionRegistry.currentVersion(EMAIL));
+
+        // When
+        handler.afterConnectionClosed(session, CloseStatus.NORMAL);
+
+        // Then
+        assertFalse(stompSessionRegistry.isValid("session-1"));
+        verify(delegate).afterConnectionClosed(session, CloseStatus.NORMAL);
+    }
+
+    private VerifiedToken token(long ttlMillis) {
+        long now = System.currentTimeMillis();
+        return new VerifiedToken(EMAIL, List.of(), new Date(now), new Date(now + ttlMillis), Map.of());
+    }
+}
@@ -0,0 +1,85 @@
+package com.enterprise.webtemplate.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationStoreTest {
+
+    @Mock
+    private RevocationJournal revocationJournal;
+
+    @InjectMocks
+    private TokenRevocationStore tokenRevocationStore;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(tokenRevocationStore, "expectedEntries", 1000);
+        ReflectionTestUtils.setField(tokenRevocationStore, "falsePositiveRate", 0.01);
+        ReflectionTestUtils.setField(tokenRevocationStore, "maxTokenLifetime", 60_000L);
+        when(revocationJournal.loadActive(anyLong())).thenReturn(List.of());
+        tokenRevocationStore.initialize();
+    }
+
+    @Test
+    void testRevokeToken_OnlyThatTokenIsRejected() {
+        // Given
+        long now = System.currentTimeMillis();
+        tokenRevocationStore.revokeToken("jti-1", now + 60_000L);
+
+        // When & Then
+        assertTrue(tokenRevocationStore.isRevoked("jti-1", "test@example.com", now));
+        assertFalse(tokenRevocationStore.isRevoked("jti-2", "test@example.com", now));
+        verify(revocationJournal).append(any(RevocationRecord.class));
+    }
+
+    @Test
+    void testRevokeAllForUser_RejectsTokensIssuedBefore() {
+        // Given
+        long issuedBefore = System.currentTimeMillis() - 5_000L;
+        tokenRevocationStore.revokeAllForUser("Test@Example.com");
+
+        // When & Then
+        assertTrue(tokenRevocationStore.isRevoked("jti-1", "test@example.com", issuedBefore));
+        assertFalse(tokenRevocationStore.isRevoked("jti-1", "other@example.com", issuedBefore));
+        assertFalse(tokenRevocationStore.isRevoked("jti-3", "test@example.com", System.currentTimeMillis() + 2_000L));
+    }
+
+    @Test
+    void testRevokeAllForUser_RejectsTokenIssuedEarlierInSameSecond() {
+        // Given: 폐기 직전(같은 초 안)에 발급된 토큰
+        long issuedAt = System.currentTimeMillis() - 1L;
+        tokenRevocationStore.revokeAllForUser("test@example.com");
+
+        // When & Then
+        assertTrue(tokenRevocationStore.isRevoked("jti-1", "test@example.com", issuedAt));
+    }
+
+    @Test
+    void testPurgeExpired_DropsExpiredEntries() {
+        // Given
+        long now = System.currentTimeMillis();
+        tokenRevocationStore.revokeToken("expired", now - 1L);
+        tokenRevocationStore.revokeToken("active", now + 60_000L);
+
+        // When
+        tokenRevocationStore.purgeExpired();
+
+        // Then
+        assertEquals(1, tokenRevocationStore.size());
+        assertFalse(tokenRevocationStore.isRevoked("expired", null, now));
+        assertTrue(tokenRevocationStore.isRevoked("active", null, now));
+    }
+}
@@ -0,0 +1,142 @@
+package com.enterprise.webtemplate.security;
+
+import com.enterprise.webtemplate.service.JwtService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VerifiedTokenCacheTest {
+
+    private static final String SECRET =
+            "bXktc2VjcmV0LWtleS1mb3ItZGV2ZWxvcG1lbnQtb25seS1jaGFuZ2UtaW4tcHJvZHVjdGlvbi1lbnRlcnByaXNlLXdlYi10ZW1wbGF0ZQ==";
+
+    private final VerifiedTokenCache cache = new VerifiedTokenCache();
+
+    @BeforeEach
+    void setUp() {
+        configure(cache, 100);
+    }
+
+    @Test
+    void testGet_HitReturnsCachedResult() {
+        // Given
+        VerifiedToken verified = token(60_000L);
+        cache.put("header.payload.signature", verified);
+
+        // When & Then
+        assertSame(verified, cache.get("header.payload.signature"));
+        assertNull(cache.get("header.payload.other"));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void testGet_ExpiredEntryIsReturnedAsExpiredAndRemoved() throws InterruptedException {
+        // Given
+        cache.put("header.payload.signature", token(50L));
+
+        // When
+        Thread.sleep(80L);
+        VerifiedToken cached = cache.get("header.payload.signature");
+
+        // Then: 호출 측이 만료로 거부할 수 있도록 반환하고 캐시에서는 제거
+        assertTrue(cached.isExpired());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testPut_EvictsLeastRecentlyUsedBeyondMaxSize() {
+        // Given
+        configure(cache, 2);
+        VerifiedToken first = token(60_000L);
+        cache.put("h.p.first", first);
+        cache.put("h.p.second", token(60_000L));
+
+        // When: first를 다시 사용한 뒤 새 항목 추가
+        cache.get("h.p.first");
+        cache.put("h.p.third", token(60_000L));
+
+        // Then: 가장 오래 사용되지 않은 항목 하나만 밀려나고 나머지는 유지
+        assertEquals(2, cache.size());
+        assertSame(first, cache.get("h.p.first"));
+        assertNull(cache.get("h.p.second"));
+        assertNotNull(cache.get("h.p.third"));
+    }
+
+    @Test
+    void testGet_DigestCollisionWithDifferentSignatureIsMiss() {
+        // Given: 모든 토큰의 다이제스트가 같다고 가정
+        VerifiedTokenCache colliding = new VerifiedTokenCache() {
+            @Override
+            String digest(String token) {
+                return "same";
+            }
+        };
+        configure(colliding, 100);
+        colliding.put("header.payload.signature", token(60_000L));
+
+        // When & Then
+        assertNull(colliding.get("header.forged.tampered"));
+    }
+
+    @Test
+    void testVerify_TamperedSignatureIsNotServedFromCache() {
+        // Given
+        JwtService jwtService = jwtService();
+        String token = jwtService.generateToken(User.withUsername("user@example.com").password("")
+                .authorities("DASHBOARD_VIEW").build());
+        jwtService.verify(token);
+        int signatureStart = token.lastIndexOf('.') + 1;
+        int position = signatureStart + 5;
+        char replacement = token.charAt(position) == 'A' ? 'B' : 'A';
+        String tampered = token.substring(0, position) + replacement + token.substring(position + 1);
+
+        // When & Then
+        assertSame(jwtService.verify(token), jwtService.verify(token));
+        assertThrows(RuntimeException.class, () -> jwtService.verify(tampered));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void testVerify_ExpiredCacheHitIsRejected() throws InterruptedException {
+        // Given
+        JwtService jwtService = jwtService();
+        cache.put("header.payload.signature", token(50L));
+
+        // When
+        Thread.sleep(80L);
+
+        // Then
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> jwtService.verify("header.payload.signature"));
+        assertEquals("JWT token is expired", exception.getMessage());
+    }
+
+    private void configure(VerifiedTokenCache target, int maxSize) {
+        ReflectionTestUtils.setField(target, "enabled", true);
+        ReflectionTestUtils.setField(target, "maxSize", maxSize);
+    }
+
+    private JwtService jwtService() {
+        JwtService jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "secretKey", SECRET);
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", 60000L);
+        ReflectionTestUtils.setField(jwtService, "refreshExpiration", 120000L);
+        ReflectionTestUtils.setField(jwtService, "verifiedTokenCache", cache);
+        ReflectionTestUtils.setField(jwtService, "securityVersionRegistry", new SecurityVersionRegistry());
+        ReflectionTestUtils.invokeMethod(jwtService, "initSigningKey");
+        return jwtService;
+    }
+
+    private VerifiedToken token(long ttlMillis) {
+        long now = System.currentTimeMillis();
+        return new VerifiedToken("user@example.com", List.of("DASHBOARD_VIEW"), new Date(now),
+                new Date(now + ttlMillis), Map.of());
+    }
+}
@@ -0,0 +1,204 @@
+package com.enterprise.webtemplate.service;
+
+import com.enterprise.webtemplate.entity.ActivityEvent;
+import com.enterprise.webtemplate.entity.ActivityEvent.ActivityType;
+import com.enterprise.webtemplate.repository.ActivityEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ActivityEventLogTest {
+
+    @Mock
+    private ActivityEventRepository activityEventRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private ActivityEventLog activityEventLog;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(activityEventLog, "enabled", true);
+        ReflectionTestUtils.setField(activityEventLog, "ringCapacity", 3);
+        ReflectionTestUtils.setField(activityEventLog, "batchSize", 100);
+        ReflectionTestUtils.setField(activityEventLog, "maxPending", 1000);
+
+        lenient().doAnswer(invocation -> {
+            Consumer<TransactionStatus> action = invocation.getArgument(0);
+            action.accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    void testFeed_ServedFromRingWithoutQuery() {
+        // Given
+        when(activityEventRepository.findMaxId()).thenReturn(null);
+        when(activityEventRepository.findByIdLessThanOrderByIdDesc(eq(Long.MAX_VALUE), any(Pageable.class)))
+                .thenReturn(List.of());
+        activityEventLog.initialize();
+        activityEventLog.record(ActivityType.LOGIN, 1L, 1L, "로그인 1");
+        activityEventLog.record(ActivityType.FILE_UPLOAD, 1L, 2L, "업로드");
+        activityEventLog.record(ActivityType.LOGIN, 2L, 2L, "로그인 2");
+
+        // When
+        List<ActivityEvent> all = activityEventLog.feed(null, EnumSet.noneOf(ActivityType.class), 10);
+        List<ActivityEvent> logins = activityEventLog.feed(3L, EnumSet.of(ActivityType.LOGIN), 10);
+
+        // Then
+        assertEquals(List.of(3L, 2L, 1L), all.stream().map(ActivityEvent::getId).toList());
+        assertEquals(List.of(1L), logins.stream().map(ActivityEvent::getId).toList());
+        assertEquals(3L, activityEventLog.latestId());
+        // 기동 시 한 번 외에는 조회하지 않음
+        verify(activityEventRepository, times(1)).findByIdLessThanOrderByIdDesc(anyLong(), any(Pageable.class));
+        verify(activityEventRepository, never()).findByIdLessThanAndTypeInOrderByIdDesc(anyLong(), any(), any());
+    }
+
+    @Test
+    void testFeed_FallsBackToDatabaseBelowOldestBuffered() {
+        // Given: DB에 10건, 최근 3건(8~10)만 버퍼에 적재
+        when(activityEventRepository.findMaxId()).thenReturn(10L);
+        when(activityEventRepository.findByIdLessThanOrderByIdDesc(eq(Long.MAX_VALUE), any(Pageable.class)))
+                .thenReturn(List.of(event(10L), event(9L), event(8L)));
+        when(activityEventRepository.findByIdLessThanOrderByIdDesc(eq(8L), any(Pageable.class)))
+                .thenReturn(List.of(event(7L), event(6L)));
+        activityEventLog.initialize();
+
+        // When
+        List<ActivityEvent> page = activityEventLog.feed(null, Set.of(), 5);
+
+        // Then
+        assertEquals(List.of(10L, 9L, 8L, 7L, 6L), page.stream().map(ActivityEvent::getId).toList());
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        verify(activityEventRepository).findByIdLessThanOrderByIdDesc(eq(8L), pageable.capture());
+        assertEquals(2, pageable.getValue().getPageSize());
+    }
+
+    @Test
+    void testFlush_BatchInsertsPendingEvents() {
+        // Given
+        when(activityEventRepository.findMaxId()).thenReturn(5L);
+        when(activityEventRepository.findByIdLessThanOrderByIdDesc(eq(Long.MAX_VALUE), any(Pageable.class)))
+                .thenReturn(List.of());
+        activityEventLog.initialize();
+        activityEventLog.record(ActivityType.USER_REGISTRATION, null, 7L, "가입");
+        activityEventLog.record(ActivityType.USER_APPROVAL, 1L, 7L, "승인");
+
+        // When
+        activityEventLog.flush();
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), rows.capture());
+        assertEquals(2, rows.getValue().size());
+        assertEquals(6L, rows.getValue().get(0)[0]);
+        assertEquals("USER_APPROVAL", rows.getValue().get(1)[1]);
+        assertEquals(0, activityEventLog.pendingCount());
+    }
+
+    @Test
+    void testFlush_RequeuesOnFailure() {
+        // Given
+        when(activityEventRepository.findMaxId()).thenReturn(null);
+        when(activityEventRepository.findByIdLessThanOrderByIdDesc(eq(Long.MAX_VALUE), any(Pageable.class)))
+                .thenReturn(List.of());
+        activityEventLog.initialize();
+        activityEventLog.record(ActivityType.LOGIN, 1L, 1L, "로그인");
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new RuntimeException("DB 연결 실패"))
+                .thenReturn(new int[]{1});
+
+        // When
+        activityEventLog.flush();
+
+        // Then
+        assertEquals(1, activityEventLog.pendingCount());
+
+        activityEventLog.flush();
+        assertEquals(0, activityEventLog.pendingCount());
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    void testFlush_DropsOldestWhenPendingExceedsLimit() {
+        // Given: 대기 건수 3건 제한, DB 기록은 계속 실패
+        ReflectionTestUtils.setField(activityEventLog, "maxPending", 3);
+        when(activityEventRepository.findMaxId()).thenReturn(null);
+        when(activityEventRepository.findByIdLessThanOrderByIdDesc(eq(Long.MAX_VALUE), any(Pageable.class)))
+                .thenReturn(List.of());
+        activityEventLog.initialize();
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenThrow(new RuntimeException("DB 연결 실패"));
+
+        // When
+        for (int i = 1; i <= 5; i++) {
+            activityEventLog.record(ActivityType.LOGIN, 1L, 1L, "로그인 " + i);
+            activityEventLog.flush();
+        }
+
+        // Then: 가장 오래된 1, 2번을 버리고 최근 3건만 유지
+        assertEquals(3, activityEventLog.pendingCount());
+        assertEquals(2, activityEventLog.droppedCount());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        reset(jdbcTemplate);
+        activityEventLog.flush();
+        verify(jdbcTemplate).batchUpdate(anyString(), rows.capture());
+        assertEquals(List.of(3L, 4L, 5L), rows.getValue().stream().map(row -> (Long) row[0]).toList());
+        assertEquals(0, activityEventLog.pendingCount());
+    }
+
+    @Test
+    void testRecord_DropsOldestWithoutFlush() {
+        // Given
+        ReflectionTestUtils.setField(activityEventLog, "maxPending", 2);
+        when(activityEventRepository.findMaxId()).thenReturn(null);
+        when(activityEventRepository.findByIdLessThanOrderByIdDesc(eq(Long.MAX_VALUE), any(Pageable.class)))
+                .thenReturn(List.of());
+        activityEventLog.initialize();
+
+        // When
+        for (int i = 1; i <= 4; i++) {
+            activityEventLog.record(ActivityType.LOGIN, 1L, 1L, "로그인 " + i);
+        }
+
+        // Then: 피드(링 버퍼)에는 그대로 남음
+        assertEquals(2, activityEventLog.pendingCount());
+        assertEquals(2, activityEventLog.droppedCount());
+        assertEquals(3, activityEventLog.feed(null, EnumSet.noneOf(ActivityType.class), 10).size());
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    private ActivityEvent event(long id) {
+        return new ActivityEvent(id, ActivityType.LOGIN, 1L, 1L, "이벤트 " + id, LocalDateTime.now());
+    }
+}
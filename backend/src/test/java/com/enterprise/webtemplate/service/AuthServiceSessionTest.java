@@ -0,0 +1,173 @@
+package com.enterprise.webtemplate.service;
+
+import com.enterprise.webtemplate.dto.LoginRequest;
+import com.enterprise.webtemplate.dto.LoginResponse;
+import com.enterprise.webtemplate.entity.User;
+import com.enterprise.webtemplate.repository.TouchCoalescer;
+import com.enterprise.webtemplate.repository.UserRepository;
+import com.enterprise.webtemplate.security.AccountLockReleaser;
+import com.enterprise.webtemplate.security.LockoutStateWriter;
+import com.enterprise.webtemplate.security.LoginAttemptThrottle;
+import com.enterprise.webtemplate.security.RevocationJournal;
+import com.enterprise.webtemplate.security.TokenRevocationStore;
+import com.enterprise.webtemplate.security.VerifiedToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.DisabledException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * 토큰 재발급/로그아웃과 폐기 저장소 연동 검증 (폐기 저장소는 실제 구현 사용)
+ */
+@ExtendWith(MockitoExtension.class)
+class AuthServiceSessionTest {
+
+    private static final String EMAIL = "test@example.com";
+
+    @Mock
+    private JwtService jwtService;
+
+    @Mock
+    private CustomUserDetailsService userDetailsService;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private RevocationJournal revocationJournal;
+
+    @Mock
+    private AuthenticationManager authenticationManager;
+
+    @Mock
+    private TouchCoalescer touchCoalescer;
+
+    @Mock
+    private ActivityEventLog activityEventLog;
+
+    @InjectMocks
+    private AuthService authService;
+
+    private TokenRevocationStore tokenRevocationStore;
+
+    @BeforeEach
+    void setUp() {
+        tokenRevocationStore = new TokenRevocationStore();
+        ReflectionTestUtils.setField(tokenRevocationStore, "revocationJournal", revocationJournal);
+        ReflectionTestUtils.setField(tokenRevocationStore, "expectedEntries", 1000);
+        ReflectionTestUtils.setField(tokenRevocationStore, "falsePositiveRate", 0.01);
+        ReflectionTestUtils.setField(tokenRevocationStore, "maxTokenLifetime", 60_000L);
+        when(revocationJournal.loadActive(anyLong())).thenReturn(List.of());
+        ReflectionTestUtils.invokeMethod(tokenRevocationStore, "initialize");
+        ReflectionTestUtils.setField(authService, "tokenRevocationStore", tokenRevocationStore);
+    }
+
+    @Test
+    void testRefreshToken_RejectedAfterForceSignOut() {
+        // Given
+        String refreshToken = "refresh-token";
+        when(jwtService.verify(refreshToken)).thenReturn(token("refresh-jti", System.currentTimeMillis() - 1L));
+        tokenRevocationStore.revokeAllForUser(EMAIL);
+
+        // When & Then
+        assertThrows(BadCredentialsException.class, () -> authService.refreshToken(refreshToken));
+        verify(jwtService, never()).generateToken(any(UserDetails.class));
+        verify(jwtService, never()).generateRefreshToken(any(UserDetails.class));
+    }
+
+    @Test
+    void testRefreshToken_RejectedAfterLogout() {
+        // Given
+        long now = System.currentTimeMillis();
+        when(jwtService.verify("access-token")).thenReturn(token("access-jti", now));
+        when(jwtService.verify("refresh-token")).thenReturn(token("refresh-jti", now));
+        authService.logout("access-token", "refresh-token");
+
+        // When & Then
+        assertThrows(BadCredentialsException.class, () -> authService.refreshToken("refresh-token"));
+        verify(jwtService, never()).generateToken(any(UserDetails.class));
+    }
+
+    @Test
+    void testRefreshToken_RejectedForDisabledUser() {
+        // Given
+        when(jwtService.verify("refresh-token")).thenReturn(token("refresh-jti", System.currentTimeMillis()));
+        when(userDetailsService.loadUserByUsername(EMAIL)).thenReturn(userDetails(true));
+
+        // When & Then
+        assertThrows(BadCredentialsException.class, () -> authService.refreshToken("refresh-token"));
+        verify(jwtService, never()).generateToken(any(UserDetails.class));
+    }
+
+    @Test
+    void testLogin_SucceedsImmediatelyAfterAdminUnlock() {
+        // Given: 실패 누적으로 메모리에서 잠기고, 잠금 상태가 아직 DB에 기록되지 않은 계정
+        LoginAttemptThrottle loginAttemptThrottle = new LoginAttemptThrottle();
+        ReflectionTestUtils.setField(loginAttemptThrottle, "accountMaxFailures", 3);
+        ReflectionTestUtils.setField(loginAttemptThrottle, "accountWindowMillis", 60_000L);
+        ReflectionTestUtils.setField(loginAttemptThrottle, "accountLockoutMillis", 120_000L);
+        ReflectionTestUtils.setField(loginAttemptThrottle, "ipMaxFailures", 50);
+        ReflectionTestUtils.setField(loginAttemptThrottle, "ipWindowMillis", 60_000L);
+        LockoutStateWriter lockoutStateWriter = new LockoutStateWriter();
+        AccountLockReleaser accountLockReleaser = new AccountLockReleaser();
+        ReflectionTestUtils.setField(accountLockReleaser, "loginAttemptThrottle", loginAttemptThrottle);
+        ReflectionTestUtils.setField(accountLockReleaser, "lockoutStateWriter", lockoutStateWriter);
+        ReflectionTestUtils.setField(authService, "loginAttemptThrottle", loginAttemptThrottle);
+        ReflectionTestUtils.setField(authService, "lockoutStateWriter", lockoutStateWriter);
+
+        for (int i = 0; i < 3; i++) {
+            loginAttemptThrottle.recordFailure(EMAIL, null);
+        }
+        lockoutStateWriter.enqueue(EMAIL, 3, LocalDateTime.now().plusMinutes(2));
+        LoginRequest loginRequest = new LoginRequest(EMAIL, "password", false);
+        assertThrows(DisabledException.class, () -> authService.login(loginRequest));
+
+        User user = new User(EMAIL, "encoded", "테스트");
+        user.setId(1L);
+        user.setApprovalStatus(User.ApprovalStatus.APPROVED);
+        user.setPasswordChangedAt(LocalDateTime.now());
+        UserDetails userDetails = userDetails(false);
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+        when(authenticationManager.authenticate(any()))
+                .thenReturn(new UsernamePasswordAuthenticationToken(userDetails, null, List.of()));
+        when(jwtService.generateToken(userDetails)).thenReturn("access-token");
+
+        // When: 관리자가 잠금 해제 (DB 컬럼은 이미 초기화된 상태)
+        accountLockReleaser.releaseAfterCommit(EMAIL);
+        LoginResponse response = authService.login(loginRequest);
+
+        // Then
+        assertEquals("access-token", response.getAccessToken());
+        assertEquals(0, lockoutStateWriter.pendingCount());
+        assertEquals(0L, loginAttemptThrottle.accountLockedUntil(EMAIL));
+    }
+
+    private UserDetails userDetails(boolean disabled) {
+        return org.springframework.security.core.userdetails.User.withUsername(EMAIL)
+                .password("").authorities(List.of()).disabled(disabled).build();
+    }
+
+    private VerifiedToken token(String tokenId, long issuedAtMillis) {
+        return new VerifiedToken(EMAIL, List.of(), new Date(issuedAtMillis),
+                new Date(issuedAtMillis + 60_000L), Map.of("jti", tokenId));
+    }
+}
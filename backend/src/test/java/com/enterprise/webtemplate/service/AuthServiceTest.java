@@ -43,6 +43,9 @@ class AuthServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private ActivityEventLog activityEventLog;
+
     @InjectMocks
     private AuthService authService;
 
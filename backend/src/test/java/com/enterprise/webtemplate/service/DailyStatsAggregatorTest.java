@@ -0,0 +1,168 @@
+package com.enterprise.webtemplate.service;
+
+import com.enterprise.webtemplate.entity.DailyStats;
+import com.enterprise.webtemplate.repository.DailyStatsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DailyStatsAggregatorTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private DailyStatsRepository dailyStatsRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private DailyStatsAggregator dailyStatsAggregator;
+
+    private final LocalDate today = LocalDate.now();
+
+    // 항목별 (날짜 → 건수), 조회 구간과 관계없이 그대로 돌려줌
+    private final Map<DailyStatsAggregator.Metric, Map<LocalDate, Long>> source = new HashMap<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ReflectionTestUtils.setField(dailyStatsAggregator, "enabled", true);
+        ReflectionTestUtils.setField(dailyStatsAggregator, "backfillDays", 3);
+        for (DailyStatsAggregator.Metric metric : DailyStatsAggregator.Metric.values()) {
+            source.put(metric, new HashMap<>());
+        }
+
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        lenient().doAnswer(invocation -> {
+            String sql = invocation.getArgument(0);
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (DailyStatsAggregator.Metric metric : DailyStatsAggregator.Metric.values()) {
+                if (metric.sql().equals(sql)) {
+                    for (Map.Entry<LocalDate, Long> entry : source.get(metric).entrySet()) {
+                        ResultSet rs = mock(ResultSet.class);
+                        when(rs.getDate(1)).thenReturn(Date.valueOf(entry.getKey()));
+                        when(rs.getLong(2)).thenReturn(entry.getValue());
+                        handler.processRow(rs);
+                    }
+                }
+            }
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), any(Object[].class));
+    }
+
+    @Test
+    void testAggregate_BackfillsWhenEmpty() {
+        // Given
+        source.get(DailyStatsAggregator.Metric.REGISTRATIONS).put(today.minusDays(2), 4L);
+        source.get(DailyStatsAggregator.Metric.REGISTRATIONS).put(today, 1L);
+        source.get(DailyStatsAggregator.Metric.UPLOADS).put(today.minusDays(1), 9L);
+        when(dailyStatsRepository.findLastClosedDate()).thenReturn(null);
+        when(dailyStatsRepository.findByStatDateBetweenOrderByStatDate(today.minusDays(3), today)).thenReturn(List.of());
+
+        // When
+        dailyStatsAggregator.aggregate();
+
+        // Then: 오늘 포함 4일, 항목마다 쿼리 한 번
+        List<DailyStats> saved = captureSaved();
+        assertEquals(4, saved.size());
+        assertEquals(today.minusDays(3), saved.get(0).getStatDate());
+        assertEquals(0L, saved.get(0).getRegistrations());
+        assertEquals(4L, saved.get(1).getRegistrations());
+        assertEquals(9L, saved.get(2).getUploads());
+        assertTrue(saved.get(2).getIsClosed());
+        assertFalse(saved.get(3).getIsClosed());
+        verify(jdbcTemplate, times(DailyStatsAggregator.Metric.values().length))
+                .query(anyString(), any(RowCallbackHandler.class), any(Object[].class));
+        assertNotNull(dailyStatsAggregator.getLastAggregatedAt());
+    }
+
+    @Test
+    void testAggregate_OnlyRecomputesOpenDay() {
+        // Given: 어제까지 마감, 오늘 행은 이전 실행에서 저장됨
+        DailyStats stored = new DailyStats(today);
+        stored.setRegistrations(3L);
+        stored.setLogins(7L);
+        stored.setAggregatedAt(LocalDateTime.now().minusMinutes(5));
+        source.get(DailyStatsAggregator.Metric.REGISTRATIONS).put(today, 5L);
+        // last_login_at이 덮어써져 줄어든 로그인 수는 저장된 값보다 작아지지 않음
+        source.get(DailyStatsAggregator.Metric.LOGINS).put(today, 6L);
+        when(dailyStatsRepository.findLastClosedDate()).thenReturn(today.minusDays(1));
+        when(dailyStatsRepository.findByStatDateBetweenOrderByStatDate(today, today)).thenReturn(List.of(stored));
+
+        // When
+        dailyStatsAggregator.aggregate();
+
+        // Then
+        List<DailyStats> saved = captureSaved();
+        assertEquals(1, saved.size());
+        assertSame(stored, saved.get(0));
+        assertEquals(5L, stored.getRegistrations());
+        assertEquals(7L, stored.getLogins());
+        assertFalse(stored.getIsClosed());
+    }
+
+    @Test
+    void testAggregate_ClosesPreviousDayAfterMidnight() {
+        // Given: 어제 행이 아직 열려 있음
+        LocalDate yesterday = today.minusDays(1);
+        DailyStats open = new DailyStats(yesterday);
+        open.setLogins(10L);
+        source.get(DailyStatsAggregator.Metric.LOGINS).put(yesterday, 8L);
+        when(dailyStatsRepository.findLastClosedDate()).thenReturn(today.minusDays(2));
+        when(dailyStatsRepository.findByStatDateBetweenOrderByStatDate(yesterday, today)).thenReturn(List.of(open));
+
+        // When
+        dailyStatsAggregator.aggregate();
+
+        // Then
+        List<DailyStats> saved = captureSaved();
+        assertEquals(2, saved.size());
+        assertTrue(open.getIsClosed());
+        assertEquals(10L, open.getLogins());
+        assertEquals(today, saved.get(1).getStatDate());
+    }
+
+    @Test
+    void testAggregate_FailureIsLoggedNotThrown() {
+        // Given
+        when(dailyStatsRepository.findLastClosedDate()).thenThrow(new RuntimeException("table missing"));
+
+        // When & Then
+        assertDoesNotThrow(() -> dailyStatsAggregator.aggregate());
+        assertNull(dailyStatsAggregator.getLastAggregatedAt());
+        verify(dailyStatsRepository, never()).saveAll(any());
+    }
+
+    private List<DailyStats> captureSaved() {
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<DailyStats>> saved = ArgumentCaptor.forClass(List.class);
+        verify(dailyStatsRepository).saveAll(saved.capture());
+        return new ArrayList<>(saved.getValue());
+    }
+}
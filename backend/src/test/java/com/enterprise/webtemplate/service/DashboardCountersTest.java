@@ -0,0 +1,160 @@
+package com.enterprise.webtemplate.service;
+
+import com.enterprise.webtemplate.service.DashboardCounters.Total;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DashboardCountersTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private DashboardCounters dashboardCounters;
+
+    private final LocalDate today = LocalDate.now();
+
+    // DB의 파일 수 (재조정 시 읽음)
+    private final AtomicLong filesInDatabase = new AtomicLong(500);
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ReflectionTestUtils.setField(dashboardCounters, "enabled", true);
+        ReflectionTestUtils.setField(dashboardCounters, "retainedMonths", 12);
+
+        lenient().doAnswer(invocation -> {
+            ResultSet rs = mock(ResultSet.class);
+            when(rs.getLong(1)).thenReturn(5L);
+            when(rs.getLong(2)).thenReturn(20L);
+            when(rs.getLong(3)).thenReturn(filesInDatabase.get());
+            invocation.<RowCallbackHandler>getArgument(1).processRow(rs);
+            return null;
+        }).when(jdbcTemplate).query(startsWith("SELECT (SELECT COUNT(*) FROM roles)"), any(RowCallbackHandler.class));
+
+        lenient().doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            ResultSet rs = mock(ResultSet.class);
+            when(rs.getDate(1)).thenReturn(Date.valueOf(today), Date.valueOf(today.minusDays(3)));
+            when(rs.getLong(2)).thenReturn(4L, 6L);
+            handler.processRow(rs);
+            handler.processRow(rs);
+            return null;
+        }).when(jdbcTemplate).query(startsWith("SELECT CAST(created_at AS DATE)"), any(RowCallbackHandler.class), any(Object[].class));
+    }
+
+    @Test
+    void testNotReadyBeforeReconcile() {
+        // Then: 호출 측이 DB 집계로 대체하도록 비어 있음
+        assertEquals(OptionalLong.empty(), dashboardCounters.total(Total.ROLES));
+        assertEquals(OptionalLong.empty(), dashboardCounters.registrationsBetween(today, today));
+    }
+
+    @Test
+    void testReconcile_SeedsTotalsAndDailyRegistrations() {
+        // When
+        dashboardCounters.reconcile();
+
+        // Then
+        assertEquals(OptionalLong.of(5L), dashboardCounters.total(Total.ROLES));
+        assertEquals(OptionalLong.of(20L), dashboardCounters.total(Total.PERMISSIONS));
+        assertEquals(OptionalLong.of(500L), dashboardCounters.total(Total.FILES));
+        assertEquals(OptionalLong.of(4L), dashboardCounters.registrationsBetween(today, today));
+        assertEquals(OptionalLong.of(10L), dashboardCounters.registrationsBetween(today.minusDays(7), today));
+        // 보관 기간(12개월)을 벗어난 구간은 DB로 대체
+        assertEquals(OptionalLong.empty(),
+                dashboardCounters.registrationsBetween(today.minusMonths(13), today));
+    }
+
+    @Test
+    void testMutations_UpdateCountersWithoutQueries() {
+        // Given
+        dashboardCounters.reconcile();
+        clearInvocations(jdbcTemplate);
+
+        // When: 트랜잭션 밖이므로 즉시 반영
+        dashboardCounters.onCreated(Total.FILES);
+        dashboardCounters.onCreated(Total.FILES);
+        dashboardCounters.onRemoved(Total.ROLES);
+        dashboardCounters.onUsersRegistered(LocalDateTime.now(), 3);
+        dashboardCounters.onUserRemoved(today.minusDays(3).atTime(10, 0));
+
+        // Then
+        assertEquals(OptionalLong.of(502L), dashboardCounters.total(Total.FILES));
+        assertEquals(OptionalLong.of(4L), dashboardCounters.total(Total.ROLES));
+        assertEquals(OptionalLong.of(7L), dashboardCounters.registrationsBetween(today, today));
+        assertEquals(OptionalLong.of(12L), dashboardCounters.registrationsBetween(today.minusDays(7), today));
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void testReconcile_CorrectsDrift() {
+        // Given: 리스너를 거치지 않고 파일이 삭제되어 메모리 값이 어긋남
+        dashboardCounters.reconcile();
+        filesInDatabase.set(498);
+        assertEquals(OptionalLong.of(500L), dashboardCounters.total(Total.FILES));
+
+        // When
+        dashboardCounters.reconcile();
+
+        // Then
+        assertEquals(OptionalLong.of(498L), dashboardCounters.total(Total.FILES));
+    }
+
+    @Test
+    void testReconcile_DoesNotDoubleCountChangesDuringSnapshot() {
+        // Given: 재조정 조회 직전에 커밋된 파일 업로드 (조회 결과에 이미 포함되고 커밋 후 반영도 조회 중에 도착)
+        dashboardCounters.reconcile();
+        doAnswer(invocation -> {
+            filesInDatabase.incrementAndGet();
+            dashboardCounters.onCreated(Total.FILES);
+            ResultSet rs = mock(ResultSet.class);
+            when(rs.getLong(1)).thenReturn(5L);
+            when(rs.getLong(2)).thenReturn(20L);
+            when(rs.getLong(3)).thenReturn(filesInDatabase.get());
+            invocation.<RowCallbackHandler>getArgument(1).processRow(rs);
+            return null;
+        }).when(jdbcTemplate).query(startsWith("SELECT (SELECT COUNT(*) FROM roles)"), any(RowCallbackHandler.class));
+
+        // When
+        dashboardCounters.reconcile();
+
+        // Then: DB 값 그대로 (다시 적용하지 않음)
+        assertEquals(OptionalLong.of(501L), dashboardCounters.total(Total.FILES));
+    }
+
+    @Test
+    void testReconcile_FailureKeepsPreviousCounters() {
+        // Given
+        dashboardCounters.reconcile();
+        doThrow(new RuntimeException("connection refused"))
+                .when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class));
+
+        // When
+        dashboardCounters.reconcile();
+        dashboardCounters.onCreated(Total.PERMISSIONS);
+
+        // Then
+        assertEquals(OptionalLong.of(21L), dashboardCounters.total(Total.PERMISSIONS));
+    }
+}
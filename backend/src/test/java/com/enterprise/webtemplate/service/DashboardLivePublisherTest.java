@@ -0,0 +1,243 @@
+package com.enterprise.webtemplate.service;
+
+import com.enterprise.webtemplate.security.StompSessionRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DashboardLivePublisherTest {
+
+    @Mock
+    private DashboardService dashboardService;
+
+    @Mock
+    private ActivityEventLog activityEventLog;
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Mock
+    private StompSessionRegistry stompSessionRegistry;
+
+    @InjectMocks
+    private DashboardLivePublisher dashboardLivePublisher;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(dashboardLivePublisher, "enabled", true);
+        // 테스트 중에는 시스템 상태를 다시 계산하지 않도록 주기를 길게 설정
+        ReflectionTestUtils.setField(dashboardLivePublisher, "interval", 60000L);
+
+        lenient().when(dashboardService.dashboardStatsVersion()).thenReturn("stats-v1");
+        lenient().when(dashboardService.userStatsVersion()).thenReturn("user-stats-v1");
+        lenient().when(activityEventLog.latestId()).thenReturn(5L);
+        lenient().when(dashboardService.buildDashboardStats()).thenReturn(Map.of("totalUsers", 10L));
+        lenient().when(dashboardService.buildUserStats()).thenReturn(Map.of("usersByRole", Map.of()));
+        lenient().when(dashboardService.buildRecentActivities()).thenReturn(Map.of("totalActivities", 0));
+        lenient().when(dashboardService.buildSystemHealth()).thenReturn(Map.of("systemStatus", "HEALTHY"));
+        lenient().when(stompSessionRegistry.revalidate(anyString())).thenReturn(true);
+    }
+
+    @Test
+    void testPublish_SkipsWithoutSubscribers() {
+        // When
+        dashboardLivePublisher.publish();
+
+        // Then
+        verifyNoInteractions(dashboardService, messagingTemplate);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testPublish_SendsOnlyChangedSections() {
+        // Given
+        subscribe("session-1", "sub-1");
+        dashboardLivePublisher.publish();
+
+        // When: 활동 로그만 바뀜
+        when(activityEventLog.latestId()).thenReturn(6L);
+        dashboardLivePublisher.publish();
+
+        // Then
+        ArgumentCaptor<Map<String, Object>> messages = ArgumentCaptor.forClass(Map.class);
+        verify(messagingTemplate, times(2)).convertAndSend(eq(DashboardLivePublisher.TOPIC), messages.capture());
+        Map<String, Object> first = messages.getAllValues().get(0);
+        Map<String, Object> second = messages.getAllValues().get(1);
+        assertTrue(first.keySet().containsAll(List.of("stats", "userStats", "recentActivities", "systemHealth")));
+        assertEquals("delta", second.get("type"));
+        assertTrue(second.containsKey("recentActivities"));
+        assertFalse(second.containsKey("stats"));
+        assertEquals(2L, second.get("sequence"));
+        verify(dashboardService, times(1)).buildDashboardStats();
+        verify(dashboardService, times(2)).buildRecentActivities();
+    }
+
+    @Test
+    void testPublish_NothingChanged() {
+        // Given
+        subscribe("session-1", "sub-1");
+        dashboardLivePublisher.publish();
+
+        // When
+        dashboardLivePublisher.publish();
+
+        // Then
+        verify(messagingTemplate, times(1)).convertAndSend(eq(DashboardLivePublisher.TOPIC), any(Object.class));
+    }
+
+    @Test
+    void testPublish_RecomputesDegradedSection() {
+        // Given: 첫 계산에서 일부 쿼리가 제한 시간을 넘김
+        when(dashboardService.buildDashboardStats())
+                .thenReturn(Map.of("totalUsers", 10L, "degraded", true))
+                .thenReturn(Map.of("totalUsers", 10L));
+        subscribe("session-1", "sub-1");
+        dashboardLivePublisher.publish();
+
+        // When: 버전은 그대로
+        dashboardLivePublisher.publish();
+        dashboardLivePublisher.publish();
+
+        // Then: 다음 주기에 한 번 더 계산하고, 정상 결과 이후에는 다시 계산하지 않음
+        verify(dashboardService, times(2)).buildDashboardStats();
+        verify(messagingTemplate, times(2)).convertAndSend(eq(DashboardLivePublisher.TOPIC), any(Object.class));
+    }
+
+    @Test
+    void testSnapshot_ReusesComputedSections() {
+        // Given
+        subscribe("session-1", "sub-1");
+        dashboardLivePublisher.publish();
+
+        // When
+        Map<String, Object> first = dashboardLivePublisher.snapshot();
+        Map<String, Object> second = dashboardLivePublisher.snapshot();
+
+        // Then
+        assertEquals("snapshot", first.get("type"));
+        assertEquals(1L, first.get("sequence"));
+        assertEquals(Map.of("totalUsers", 10L), second.get("stats"));
+        verify(dashboardService, times(1)).buildDashboardStats();
+        verify(dashboardService, times(1)).buildUserStats();
+        verify(dashboardService, times(1)).buildSystemHealth();
+    }
+
+    @Test
+    void testDisconnect_RemovesSubscriptions() {
+        // Given
+        subscribe("session-1", "sub-1");
+        subscribe("session-1", "sub-2");
+        subscribe("session-2", "sub-1");
+        assertEquals(3, dashboardLivePublisher.subscriberCount());
+
+        // When
+        Message<byte[]> disconnect = MessageBuilder.createMessage(new byte[0],
+                StompHeaderAccessor.create(StompCommand.DISCONNECT).getMessageHeaders());
+        dashboardLivePublisher.onDisconnect(new SessionDisconnectEvent(this, disconnect, "session-1", CloseStatus.NORMAL));
+
+        // Then
+        assertEquals(1, dashboardLivePublisher.subscriberCount());
+    }
+
+    @Test
+    void testSubscribe_PatternDestinationCountsAsSubscriber() {
+        // When
+        subscribe("session-1", "sub-1", "/topic/**");
+        subscribe("session-2", "sub-1", "/topic/notifications");
+
+        // Then: 패턴 구독자만 있어도 발행
+        assertEquals(1, dashboardLivePublisher.subscriberCount());
+        dashboardLivePublisher.publish();
+        verify(messagingTemplate).convertAndSend(eq(DashboardLivePublisher.TOPIC), any(Object.class));
+    }
+
+    @Test
+    void testPublish_ClosesInvalidSessionsBeforePush() {
+        // Given: session-2의 토큰이 폐기되었거나 보안 버전이 바뀜
+        subscribe("session-1", "sub-1");
+        subscribe("session-2", "sub-1");
+        when(stompSessionRegistry.revalidate("session-2")).thenReturn(false);
+
+        // When
+        dashboardLivePublisher.publish();
+
+        // Then
+        assertEquals(1, dashboardLivePublisher.subscriberCount());
+        verify(messagingTemplate).convertAndSend(eq(DashboardLivePublisher.TOPIC), any(Object.class));
+    }
+
+    @Test
+    void testPublish_SkipsWhenOnlyInvalidSessionsRemain() {
+        // Given
+        subscribe("session-1", "sub-1");
+        when(stompSessionRegistry.revalidate("session-1")).thenReturn(false);
+
+        // When
+        dashboardLivePublisher.publish();
+
+        // Then
+        assertEquals(0, dashboardLivePublisher.subscriberCount());
+        verifyNoInteractions(dashboardService, messagingTemplate);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testPublish_SystemHealthOnlyWhenChanged() {
+        // Given: 주기마다 시스템 상태를 다시 계산 (시각/가동 시간은 매번 다름)
+        ReflectionTestUtils.setField(dashboardLivePublisher, "interval", 0L);
+        when(dashboardService.buildSystemHealth())
+                .thenReturn(Map.of("systemStatus", "HEALTHY", "uptime", 1L, "memory", Map.of("usagePercentage", 40.1)))
+                .thenReturn(Map.of("systemStatus", "HEALTHY", "uptime", 2L, "memory", Map.of("usagePercentage", 40.2)))
+                .thenReturn(Map.of("systemStatus", "WARNING", "uptime", 3L, "memory", Map.of("usagePercentage", 91.0)));
+        subscribe("session-1", "sub-1");
+        dashboardLivePublisher.publish();
+
+        // When
+        dashboardLivePublisher.publish();
+        when(activityEventLog.latestId()).thenReturn(6L);
+        dashboardLivePublisher.publish();
+
+        // Then: 두 번째 계산은 같은 상태라 발행하지 않고, 세 번째는 다음 delta에 포함
+        ArgumentCaptor<Map<String, Object>> messages = ArgumentCaptor.forClass(Map.class);
+        verify(messagingTemplate, times(2)).convertAndSend(eq(DashboardLivePublisher.TOPIC), messages.capture());
+        Map<String, Object> last = messages.getAllValues().get(1);
+        assertEquals("WARNING", ((Map<String, Object>) last.get("systemHealth")).get("systemStatus"));
+        verify(dashboardService, times(3)).buildSystemHealth();
+    }
+
+    private void subscribe(String sessionId, String subscriptionId) {
+        subscribe(sessionId, subscriptionId, DashboardLivePublisher.TOPIC);
+    }
+
+    private void subscribe(String sessionId, String subscriptionId, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setDestination(destination);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        Message<byte[]> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+        dashboardLivePublisher.onSubscribe(new SessionSubscribeEvent(this, message));
+    }
+}
@@ -1,7 +1,10 @@
 package com.enterprise.webtemplate.service;
 
+import com.enterprise.webtemplate.entity.ActivityEvent;
+import com.enterprise.webtemplate.entity.DailyStats;
 import com.enterprise.webtemplate.entity.Role;
 import com.enterprise.webtemplate.entity.User;
+import com.enterprise.webtemplate.repository.DailyStatsRepository;
 import com.enterprise.webtemplate.repository.FileRepository;
 import com.enterprise.webtemplate.repository.PermissionRepository;
 import com.enterprise.webtemplate.repository.RoleRepository;
@@ -15,15 +18,24 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -47,6 +59,21 @@ class DashboardServiceTest {
     @Mock
     private Authentication authentication;
 
+    @Mock
+    private UserFacetIndex userFacetIndex;
+
+    @Mock
+    private DashboardCounters dashboardCounters;
+
+    @Mock
+    private DailyStatsRepository dailyStatsRepository;
+
+    @Mock
+    private DailyStatsAggregator dailyStatsAggregator;
+
+    @Mock
+    private ActivityEventLog activityEventLog;
+
     @InjectMocks
     private DashboardService dashboardService;
 
@@ -72,6 +99,9 @@ class DashboardServiceTest {
 
         testRole.setUsers(Set.of(testUser));
 
+        // 병렬 조회기는 초기화하지 않으면 호출 스레드에서 순서대로 실행
+        ReflectionTestUtils.setField(dashboardService, "parallelQueryExecutor", new ParallelQueryExecutor());
+
         // SecurityContext 설정
         SecurityContextHolder.setContext(securityContext);
         when(securityContext.getAuthentication()).thenReturn(authentication);
@@ -119,6 +149,63 @@ class DashboardServiceTest {
         verify(userRepository, times(2)).countByCreatedAtBetween(any(LocalDateTime.class), any(LocalDateTime.class));
     }
 
+    @Test
+    void testGetDashboardStats_FromFacetIndex() {
+        // Given
+        when(userFacetIndex.overallFacets()).thenReturn(Optional.of(Map.of(
+                "total", 100L,
+                "isActive", Map.of("true", 80L, "false", 20L),
+                "approvalStatus", Map.of("PENDING", 10L, "APPROVED", 85L, "REJECTED", 5L)
+        )));
+        when(roleRepository.count()).thenReturn(5L);
+        when(permissionRepository.count()).thenReturn(20L);
+        when(fileRepository.count()).thenReturn(500L);
+        when(userRepository.countByCreatedAtBetween(any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(5L)
+                .thenReturn(25L);
+
+        // When
+        Map<String, Object> result = dashboardService.getDashboardStats();
+
+        // Then
+        assertEquals(100L, result.get("totalUsers"));
+        assertEquals(80L, result.get("activeUsers"));
+        assertEquals(20L, result.get("inactiveUsers"));
+        assertEquals(85L, result.get("approvedUsers"));
+
+        verify(userRepository, never()).count();
+        verify(userRepository, never()).countByIsActive(anyBoolean());
+        verify(userRepository, never()).countByApprovalStatus(anyString());
+    }
+
+    @Test
+    void testGetDashboardStats_FromCounters() {
+        // Given
+        LocalDate today = LocalDate.now();
+        when(dashboardCounters.total(DashboardCounters.Total.ROLES)).thenReturn(OptionalLong.of(5L));
+        when(dashboardCounters.total(DashboardCounters.Total.PERMISSIONS)).thenReturn(OptionalLong.of(20L));
+        when(dashboardCounters.total(DashboardCounters.Total.FILES)).thenReturn(OptionalLong.of(500L));
+        when(dashboardCounters.registrationsBetween(today, today)).thenReturn(OptionalLong.of(5L));
+        when(dashboardCounters.registrationsBetween(today.minusDays(7), today)).thenReturn(OptionalLong.of(25L));
+        when(userRepository.count()).thenReturn(100L);
+        when(userRepository.countByIsActive(true)).thenReturn(80L);
+
+        // When
+        Map<String, Object> result = dashboardService.getDashboardStats();
+
+        // Then
+        assertEquals(5L, result.get("totalRoles"));
+        assertEquals(20L, result.get("totalPermissions"));
+        assertEquals(500L, result.get("totalFiles"));
+        assertEquals(5L, result.get("todayRegistrations"));
+        assertEquals(25L, result.get("weeklyRegistrations"));
+
+        verify(roleRepository, never()).count();
+        verify(permissionRepository, never()).count();
+        verify(fileRepository, never()).count();
+        verify(userRepository, never()).countByCreatedAtBetween(any(LocalDateTime.class), any(LocalDateTime.class));
+    }
+
     @Test
     void testGetDashboardStats_Unauthorized() {
         // Given
@@ -133,7 +220,9 @@ class DashboardServiceTest {
     @Test
     void testGetUserStats_Success() {
         // Given
-        when(roleRepository.findAll()).thenReturn(List.of(testRole));
+        List<Object[]> roleCounts = new ArrayList<>();
+        roleCounts.add(new Object[]{"USER", 1L});
+        when(roleRepository.countUsersByRole()).thenReturn(roleCounts);
         when(userRepository.countByCreatedAtBetween(any(LocalDateTime.class), any(LocalDateTime.class)))
                 .thenReturn(5L, 3L, 8L, 2L, 6L, 4L, 9L, 1L, 7L, 2L, 5L, 3L);
         when(userRepository.countByApprovalStatus("PENDING")).thenReturn(10L);
@@ -163,40 +252,135 @@ class DashboardServiceTest {
         assertEquals(85L, usersByApprovalStatus.get("APPROVED"));
         assertEquals(5L, usersByApprovalStatus.get("REJECTED"));
 
-        verify(roleRepository).findAll();
+        // 보유자 컬렉션을 로딩하지 않음
+        verify(roleRepository).countUsersByRole();
+        verify(roleRepository, never()).findAll();
         verify(userRepository, times(12)).countByCreatedAtBetween(any(LocalDateTime.class), any(LocalDateTime.class));
         verify(userRepository, times(3)).countByApprovalStatus(anyString());
     }
 
+    @Test
+    void testGetUserStats_MonthlyFromRollup() {
+        // Given: 집계 테이블이 12개월 전부터 채워져 있음
+        LocalDate firstMonth = LocalDate.now().minusMonths(11).withDayOfMonth(1);
+        DailyStats first = new DailyStats(firstMonth);
+        first.setRegistrations(4L);
+        DailyStats today = new DailyStats(LocalDate.now());
+        today.setRegistrations(2L);
+        when(roleRepository.countUsersByRole()).thenReturn(new ArrayList<>());
+        when(dailyStatsRepository.findFirstDate()).thenReturn(firstMonth.minusDays(30));
+        when(dailyStatsRepository.findByStatDateBetweenOrderByStatDate(firstMonth, LocalDate.now()))
+                .thenReturn(List.of(first, today));
+
+        // When
+        Map<String, Object> result = dashboardService.getUserStats();
+
+        // Then: 월별 COUNT 쿼리 없이 집계 행 합산
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> monthlyRegistrations = (List<Map<String, Object>>) result.get("monthlyRegistrations");
+        assertEquals(12, monthlyRegistrations.size());
+        assertEquals(4L, monthlyRegistrations.get(0).get("count"));
+        assertEquals(2L, monthlyRegistrations.get(11).get("count"));
+        verify(userRepository, never()).countByCreatedAtBetween(any(LocalDateTime.class), any(LocalDateTime.class));
+    }
+
+    @Test
+    void testGetMonthlyStats_SumsDailyRows() {
+        // Given
+        LocalDate thisMonth = LocalDate.now().withDayOfMonth(1);
+        DailyStats lastMonthDay = new DailyStats(thisMonth.minusMonths(1));
+        lastMonthDay.setUploads(3L);
+        DailyStats day1 = new DailyStats(thisMonth);
+        day1.setLogins(5L);
+        day1.setRegistrations(1L);
+        DailyStats day2 = new DailyStats(LocalDate.now());
+        day2.setLogins(2L);
+        when(dailyStatsRepository.findByStatDateBetweenOrderByStatDate(thisMonth.minusMonths(1), LocalDate.now()))
+                .thenReturn(List.of(lastMonthDay, day1, day2));
+
+        // When
+        Map<String, Object> result = dashboardService.getMonthlyStats(2);
+
+        // Then
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> months = (List<Map<String, Object>>) result.get("months");
+        assertEquals(2, months.size());
+        assertEquals(3L, months.get(0).get("uploads"));
+        assertEquals(0L, months.get(0).get("logins"));
+        assertEquals(7L, months.get(1).get("logins"));
+        assertEquals(1L, months.get(1).get("registrations"));
+    }
+
+    @Test
+    void testGetDailyStats_RejectsInvalidRange() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> dashboardService.getDailyStats(0));
+        assertThrows(IllegalArgumentException.class, () -> dashboardService.getDailyStats(401));
+        verifyNoInteractions(dailyStatsRepository);
+    }
+
     @Test
     void testGetRecentActivities_Success() {
         // Given
-        List<User> recentUsers = List.of(testUser);
-        List<User> recentApprovedUsers = List.of(testUser);
-        
-        when(userRepository.findTop10ByOrderByCreatedAtDesc()).thenReturn(recentUsers);
-        when(userRepository.findTop10ByApprovalStatusOrderByUpdatedAtDesc("APPROVED")).thenReturn(recentApprovedUsers);
+        LocalDateTime now = LocalDateTime.now();
+        List<ActivityEvent> events = List.of(
+                new ActivityEvent(2L, ActivityEvent.ActivityType.LOGIN, 1L, 1L, "테스트 사용자님이 로그인했습니다.", now),
+                new ActivityEvent(1L, ActivityEvent.ActivityType.USER_REGISTRATION, 1L, 1L,
+                        "테스트 사용자님이 가입했습니다.", now.minusMinutes(1)));
+        when(activityEventLog.feed(isNull(), eq(Set.of()), eq(20))).thenReturn(events);
 
         // When
         Map<String, Object> result = dashboardService.getRecentActivities();
 
         // Then
         assertNotNull(result);
-        assertTrue(result.containsKey("recentActivities"));
-        assertTrue(result.containsKey("totalActivities"));
+        assertEquals(2, result.get("totalActivities"));
 
         @SuppressWarnings("unchecked")
         List<Map<String, Object>> recentActivities = (List<Map<String, Object>>) result.get("recentActivities");
         assertEquals(2, recentActivities.size());
 
         Map<String, Object> activity = recentActivities.get(0);
-        assertTrue(activity.containsKey("type"));
-        assertTrue(activity.containsKey("message"));
-        assertTrue(activity.containsKey("timestamp"));
-        assertTrue(activity.containsKey("user"));
+        assertEquals(2L, activity.get("id"));
+        assertEquals("LOGIN", activity.get("type"));
+        assertEquals("테스트 사용자님이 로그인했습니다.", activity.get("message"));
+        assertEquals(now, activity.get("timestamp"));
+
+        // 사용자 테이블을 조회하지 않음
+        verifyNoInteractions(userRepository);
+    }
 
-        verify(userRepository).findTop10ByOrderByCreatedAtDesc();
-        verify(userRepository).findTop10ByApprovalStatusOrderByUpdatedAtDesc("APPROVED");
+    @Test
+    void testGetActivityFeed_ReturnsNextCursor() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        List<ActivityEvent> events = List.of(
+                new ActivityEvent(9L, ActivityEvent.ActivityType.FILE_UPLOAD, 1L, 5L, "'a.pdf' 파일이 업로드되었습니다.", now),
+                new ActivityEvent(7L, ActivityEvent.ActivityType.FILE_UPLOAD, 1L, 4L, "'b.pdf' 파일이 업로드되었습니다.", now),
+                new ActivityEvent(3L, ActivityEvent.ActivityType.FILE_UPLOAD, 1L, 3L, "'c.pdf' 파일이 업로드되었습니다.", now));
+        when(activityEventLog.feed(10L, EnumSet.of(ActivityEvent.ActivityType.FILE_UPLOAD), 3)).thenReturn(events);
+
+        // When: 2건 요청 (다음 페이지 확인용으로 3건 조회)
+        Map<String, Object> result = dashboardService.getActivityFeed("10", List.of("file_upload"), 2);
+
+        // Then
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> page = (List<Map<String, Object>>) result.get("events");
+        assertEquals(2, page.size());
+        assertEquals(true, result.get("hasMore"));
+        assertEquals("7", result.get("nextCursor"));
+    }
+
+    @Test
+    void testGetActivityFeed_InvalidParameters() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+                () -> dashboardService.getActivityFeed(null, List.of(), 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> dashboardService.getActivityFeed("abc", List.of(), 20));
+        assertThrows(IllegalArgumentException.class,
+                () -> dashboardService.getActivityFeed(null, List.of("UNKNOWN"), 20));
+        verifyNoInteractions(activityEventLog);
     }
 
     @Test
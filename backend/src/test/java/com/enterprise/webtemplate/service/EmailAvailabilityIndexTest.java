@@ -0,0 +1,99 @@
+package com.enterprise.webtemplate.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmailAvailabilityIndexTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private EmailAvailabilityIndex emailAvailabilityIndex;
+
+    // 재구성 시 users 테이블에서 읽을 이메일
+    private final List<String> emailsInDatabase = new ArrayList<>(List.of("user@example.com"));
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ReflectionTestUtils.setField(emailAvailabilityIndex, "enabled", true);
+        ReflectionTestUtils.setField(emailAvailabilityIndex, "minCapacity", 1000);
+        ReflectionTestUtils.setField(emailAvailabilityIndex, "falsePositiveRate", 0.01);
+
+        lenient().when(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Long.class))
+                .thenAnswer(invocation -> (long) emailsInDatabase.size());
+        lenient().doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (String email : emailsInDatabase) {
+                ResultSet rs = mock(ResultSet.class);
+                when(rs.getString(1)).thenReturn(email);
+                handler.processRow(rs);
+            }
+            return null;
+        }).when(jdbcTemplate).query(eq("SELECT email FROM users"), any(RowCallbackHandler.class));
+        emailAvailabilityIndex.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void testRemove_AfterCommit() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        emailAvailabilityIndex.remove("user@example.com");
+        assertFalse(emailAvailabilityIndex.isDefinitelyAvailable("user@example.com"));
+
+        // When
+        commit();
+
+        // Then
+        assertTrue(emailAvailabilityIndex.isDefinitelyAvailable("user@example.com"));
+    }
+
+    @Test
+    void testRemove_DroppedWhenFilterRebuiltBeforeCommit() {
+        // Given: 삭제 트랜잭션이 커밋되기 전에 재구성이 끝남 (새 필터는 아직 삭제되지 않은 행을 읽음)
+        emailsInDatabase.add("other@example.com");
+        TransactionSynchronizationManager.initSynchronization();
+        emailAvailabilityIndex.remove("user@example.com");
+        emailAvailabilityIndex.rebuild();
+
+        // When
+        commit();
+
+        // Then: 새 필터의 카운터는 줄이지 않음 (DB 확인으로 넘어가는 거짓 양성만 남음)
+        assertFalse(emailAvailabilityIndex.isDefinitelyAvailable("user@example.com"));
+        assertFalse(emailAvailabilityIndex.isDefinitelyAvailable("other@example.com"));
+    }
+
+    private void commit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+    }
+}
@@ -4,6 +4,8 @@ import com.enterprise.webtemplate.entity.FileEntity;
 import com.enterprise.webtemplate.entity.User;
 import com.enterprise.webtemplate.repository.FileRepository;
 import com.enterprise.webtemplate.repository.UserRepository;
+import com.enterprise.webtemplate.security.CurrentUserProvider;
+import com.enterprise.webtemplate.security.RbacEngine;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -40,6 +42,12 @@ class FileServiceTest {
     @Mock
     private Authentication authentication;
 
+    @Mock
+    private RbacEngine rbacEngine;
+
+    @Mock
+    private ActivityEventLog activityEventLog;
+
     @InjectMocks
     private FileService fileService;
 
@@ -80,6 +88,14 @@ class FileServiceTest {
         when(authentication.getName()).thenReturn("test@example.com");
         when(authentication.isAuthenticated()).thenReturn(true);
 
+        // 현재 사용자 해석은 실제 구현 사용 (토큰 클레임이 없으므로 저장소에서 한 번 조회)
+        CurrentUserProvider currentUserProvider = new CurrentUserProvider();
+        ReflectionTestUtils.setField(currentUserProvider, "userRepository", userRepository);
+        ReflectionTestUtils.setField(currentUserProvider, "rbacEngine", rbacEngine);
+        ReflectionTestUtils.setField(fileService, "currentUserProvider", currentUserProvider);
+        lenient().when(userRepository.getReferenceById(1L)).thenReturn(testUser);
+        lenient().when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+
         // 필드 값 설정
         ReflectionTestUtils.setField(fileService, "uploadDir", "uploads");
         ReflectionTestUtils.setField(fileService, "maxFileSize", 10485760L);
@@ -89,7 +105,7 @@ class FileServiceTest {
     @Test
     void testUploadFile_Success() throws IOException {
         // Given
-        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+        when(userRepository.findByEmailWithRoles("test@example.com")).thenReturn(Optional.of(testUser));
         when(fileRepository.save(any(FileEntity.class))).thenReturn(testFile);
 
         // When
@@ -105,7 +121,7 @@ class FileServiceTest {
         assertEquals(FileEntity.FileType.IMAGE, result.getFileType());
         assertFalse(result.getIsPublic());
 
-        verify(userRepository).findByEmail("test@example.com");
+        verify(userRepository).findByEmailWithRoles("test@example.com");
         verify(fileRepository).save(any(FileEntity.class));
     }
 
@@ -196,7 +212,7 @@ class FileServiceTest {
     void testDeleteFile_Success() {
         // Given
         when(fileRepository.findById(1L)).thenReturn(Optional.of(testFile));
-        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+        when(userRepository.findByEmailWithRoles("test@example.com")).thenReturn(Optional.of(testUser));
         when(fileRepository.save(any(FileEntity.class))).thenReturn(testFile);
 
         // When
@@ -205,7 +221,7 @@ class FileServiceTest {
         // Then
         assertNotNull(testFile.getDeletedAt());
         verify(fileRepository).findById(1L);
-        verify(userRepository).findByEmail("test@example.com");
+        verify(userRepository).findByEmailWithRoles("test@example.com");
         verify(fileRepository).save(testFile);
     }
 
@@ -233,7 +249,7 @@ class FileServiceTest {
         testFile.setUploadedBy(anotherUser);
         
         when(fileRepository.findById(1L)).thenReturn(Optional.of(testFile));
-        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+        when(userRepository.findByEmailWithRoles("test@example.com")).thenReturn(Optional.of(testUser));
 
         // When & Then
         assertThrows(RuntimeException.class, () -> {
@@ -241,14 +257,14 @@ class FileServiceTest {
         });
 
         verify(fileRepository).findById(1L);
-        verify(userRepository).findByEmail("test@example.com");
+        verify(userRepository).findByEmailWithRoles("test@example.com");
         verify(fileRepository, never()).save(any(FileEntity.class));
     }
 
     @Test
     void testUploadProfileImage_Success() throws IOException {
         // Given
-        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+        when(userRepository.findByEmailWithRoles("test@example.com")).thenReturn(Optional.of(testUser));
         when(fileRepository.save(any(FileEntity.class))).thenReturn(testFile);
         when(userRepository.save(any(User.class))).thenReturn(testUser);
 
@@ -260,7 +276,7 @@ class FileServiceTest {
         assertEquals(FileEntity.FileType.PROFILE_IMAGE, result.getFileType());
         assertFalse(result.getIsPublic());
 
-        verify(userRepository).findByEmail("test@example.com");
+        verify(userRepository).findByEmailWithRoles("test@example.com");
         verify(fileRepository).save(any(FileEntity.class));
         verify(userRepository).save(testUser);
     }
@@ -268,7 +284,7 @@ class FileServiceTest {
     @Test
     void testDeleteProfileImage_Success() {
         // Given
-        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+        when(userRepository.findByEmailWithRoles("test@example.com")).thenReturn(Optional.of(testUser));
         when(fileRepository.findByUploadedByAndFileTypeAndDeletedAtIsNull(testUser, FileEntity.FileType.PROFILE_IMAGE))
             .thenReturn(java.util.List.of(testFile));
         when(fileRepository.save(any(FileEntity.class))).thenReturn(testFile);
@@ -281,7 +297,7 @@ class FileServiceTest {
         assertNotNull(testFile.getDeletedAt());
         assertNull(testUser.getProfileImageUrl());
 
-        verify(userRepository).findByEmail("test@example.com");
+        verify(userRepository).findByEmailWithRoles("test@example.com");
         verify(fileRepository).findByUploadedByAndFileTypeAndDeletedAtIsNull(testUser, FileEntity.FileType.PROFILE_IMAGE);
         verify(fileRepository).save(testFile);
         verify(userRepository).save(testUser);
@@ -303,7 +319,7 @@ class FileServiceTest {
         // Given
         testFile.setIsPublic(false);
         testFile.setUploadedBy(testUser);
-        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+        when(userRepository.findByEmailWithRoles("test@example.com")).thenReturn(Optional.of(testUser));
 
         // When & Then
         assertDoesNotThrow(() -> {
@@ -320,7 +336,7 @@ class FileServiceTest {
         
         testFile.setIsPublic(false);
         testFile.setUploadedBy(anotherUser);
-        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+        when(userRepository.findByEmailWithRoles("test@example.com")).thenReturn(Optional.of(testUser));
 
         // When & Then
         assertThrows(RuntimeException.class, () -> {
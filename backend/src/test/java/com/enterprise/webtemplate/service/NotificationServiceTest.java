@@ -5,6 +5,8 @@ import com.enterprise.webtemplate.entity.Notification;
 import com.enterprise.webtemplate.entity.User;
 import com.enterprise.webtemplate.repository.NotificationRepository;
 import com.enterprise.webtemplate.repository.UserRepository;
+import com.enterprise.webtemplate.security.CurrentUserProvider;
+import com.enterprise.webtemplate.security.RbacEngine;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -19,6 +21,7 @@ import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -46,6 +49,9 @@ class NotificationServiceTest {
     @Mock
     private Authentication authentication;
 
+    @Mock
+    private RbacEngine rbacEngine;
+
     @InjectMocks
     private NotificationService notificationService;
 
@@ -74,6 +80,13 @@ class NotificationServiceTest {
         when(securityContext.getAuthentication()).thenReturn(authentication);
         when(authentication.isAuthenticated()).thenReturn(true);
         when(authentication.getName()).thenReturn("test@example.com");
+
+        // 현재 사용자 해석은 실제 구현 사용 (토큰 클레임이 없으므로 저장소에서 한 번 조회)
+        CurrentUserProvider currentUserProvider = new CurrentUserProvider();
+        ReflectionTestUtils.setField(currentUserProvider, "userRepository", userRepository);
+        ReflectionTestUtils.setField(currentUserProvider, "rbacEngine", rbacEngine);
+        ReflectionTestUtils.setField(notificationService, "currentUserProvider", currentUserProvider);
+        lenient().when(userRepository.getReferenceById(1L)).thenReturn(testUser);
     }
 
     @Test
@@ -157,7 +170,7 @@ class NotificationServiceTest {
     @Test
     void testGetNotifications_Success() {
         // Given
-        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+        when(userRepository.findByEmailWithRoles("test@example.com")).thenReturn(Optional.of(testUser));
         Page<Notification> notificationPage = new PageImpl<>(List.of(testNotification));
         when(notificationRepository.findByUser(eq(testUser), any(Pageable.class))).thenReturn(notificationPage);
 
@@ -169,14 +182,14 @@ class NotificationServiceTest {
         assertEquals(1, result.getContent().size());
         assertEquals("테스트 알림", result.getContent().get(0).getTitle());
 
-        verify(userRepository).findByEmail("test@example.com");
+        verify(userRepository).findByEmailWithRoles("test@example.com");
         verify(notificationRepository).findByUser(eq(testUser), any(Pageable.class));
     }
 
     @Test
     void testGetUnreadCount_Success() {
         // Given
-        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+        when(userRepository.findByEmailWithRoles("test@example.com")).thenReturn(Optional.of(testUser));
         when(notificationRepository.countByUserAndIsRead(testUser, false)).thenReturn(5L);
 
         // When
@@ -185,14 +198,14 @@ class NotificationServiceTest {
         // Then
         assertEquals(5L, result);
 
-        verify(userRepository).findByEmail("test@example.com");
+        verify(userRepository).findByEmailWithRoles("test@example.com");
         verify(notificationRepository).countByUserAndIsRead(testUser, false);
     }
 
     @Test
     void testMarkAsRead_Success() {
         // Given
-        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+        when(userRepository.findByEmailWithRoles("test@example.com")).thenReturn(Optional.of(testUser));
         when(notificationRepository.findByIdAndUser(1L, testUser)).thenReturn(Optional.of(testNotification));
         when(notificationRepository.save(any(Notification.class))).thenReturn(testNotification);
 
@@ -202,7 +215,7 @@ class NotificationServiceTest {
         // Then
         assertTrue(testNotification.getIsRead());
 
-        verify(userRepository).findByEmail("test@example.com");
+        verify(userRepository).findByEmailWithRoles("test@example.com");
         verify(notificationRepository).findByIdAndUser(1L, testUser);
         verify(notificationRepository).save(testNotification);
     }
@@ -210,7 +223,7 @@ class NotificationServiceTest {
     @Test
     void testMarkAsRead_NotificationNotFound() {
         // Given
-        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+        when(userRepository.findByEmailWithRoles("test@example.com")).thenReturn(Optional.of(testUser));
         when(notificationRepository.findByIdAndUser(1L, testUser)).thenReturn(Optional.empty());
 
         // When & Then
@@ -218,7 +231,7 @@ class NotificationServiceTest {
             notificationService.markAsRead(1L);
         });
 
-        verify(userRepository).findByEmail("test@example.com");
+        verify(userRepository).findByEmailWithRoles("test@example.com");
         verify(notificationRepository).findByIdAndUser(1L, testUser);
         verify(notificationRepository, never()).save(any(Notification.class));
     }
@@ -226,7 +239,7 @@ class NotificationServiceTest {
     @Test
     void testMarkAllAsRead_Success() {
         // Given
-        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+        when(userRepository.findByEmailWithRoles("test@example.com")).thenReturn(Optional.of(testUser));
         List<Notification> unreadNotifications = List.of(testNotification);
         when(notificationRepository.findByUserAndIsRead(testUser, false)).thenReturn(unreadNotifications);
         when(notificationRepository.saveAll(anyList())).thenReturn(unreadNotifications);
@@ -237,7 +250,7 @@ class NotificationServiceTest {
         // Then
         assertTrue(testNotification.getIsRead());
 
-        verify(userRepository).findByEmail("test@example.com");
+        verify(userRepository).findByEmailWithRoles("test@example.com");
         verify(notificationRepository).findByUserAndIsRead(testUser, false);
         verify(notificationRepository).saveAll(unreadNotifications);
     }
@@ -245,14 +258,14 @@ class NotificationServiceTest {
     @Test
     void testDeleteNotification_Success() {
         // Given
-        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+        when(userRepository.findByEmailWithRoles("test@example.com")).thenReturn(Optional.of(testUser));
         when(notificationRepository.findByIdAndUser(1L, testUser)).thenReturn(Optional.of(testNotification));
 
         // When
         notificationService.deleteNotification(1L);
 
         // Then
-        verify(userRepository).findByEmail("test@example.com");
+        verify(userRepository).findByEmailWithRoles("test@example.com");
         verify(notificationRepository).findByIdAndUser(1L, testUser);
         verify(notificationRepository).delete(testNotification);
     }
@@ -260,7 +273,7 @@ class NotificationServiceTest {
     @Test
     void testDeleteAllNotifications_Success() {
         // Given
-        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+        when(userRepository.findByEmailWithRoles("test@example.com")).thenReturn(Optional.of(testUser));
         List<Notification> userNotifications = List.of(testNotification);
         when(notificationRepository.findByUser(testUser)).thenReturn(userNotifications);
 
@@ -268,7 +281,7 @@ class NotificationServiceTest {
         notificationService.deleteAllNotifications();
 
         // Then
-        verify(userRepository).findByEmail("test@example.com");
+        verify(userRepository).findByEmailWithRoles("test@example.com");
         verify(notificationRepository).findByUser(testUser);
         verify(notificationRepository).deleteAll(userNotifications);
     }
@@ -287,14 +300,14 @@ class NotificationServiceTest {
     @Test
     void testGetCurrentUser_UserNotFound() {
         // Given
-        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.empty());
+        when(userRepository.findByEmailWithRoles("test@example.com")).thenReturn(Optional.empty());
 
         // When & Then
         assertThrows(RuntimeException.class, () -> {
             notificationService.getUnreadCount();
         });
 
-        verify(userRepository).findByEmail("test@example.com");
+        verify(userRepository).findByEmailWithRoles("test@example.com");
     }
 
     @Test
@@ -0,0 +1,222 @@
+package com.enterprise.webtemplate.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ParallelQueryExecutorTest {
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private ParallelQueryExecutor parallelQueryExecutor;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(parallelQueryExecutor, "enabled", true);
+        ReflectionTestUtils.setField(parallelQueryExecutor, "threads", 4);
+        ReflectionTestUtils.setField(parallelQueryExecutor, "queueCapacity", 16);
+        ReflectionTestUtils.setField(parallelQueryExecutor, "timeoutMillis", 1000L);
+        parallelQueryExecutor.initialize();
+    }
+
+    @AfterEach
+    void tearDown() {
+        parallelQueryExecutor.shutdown();
+    }
+
+    @Test
+    void testFork_RunsQueriesConcurrently() {
+        // Given
+        ParallelQueryExecutor.FanOut queries = parallelQueryExecutor.fanOut();
+        long started = System.nanoTime();
+
+        // When: 300ms 쿼리 3개
+        Supplier<Long> first = queries.fork("first", () -> slowCount(300, 1L));
+        Supplier<Long> second = queries.fork("second", () -> slowCount(300, 2L));
+        Supplier<Long> third = queries.fork("third", () -> slowCount(300, 3L));
+        queries.join();
+
+        // Then: 합(900ms)이 아니라 가장 느린 쿼리에 가까운 시간
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+        assertEquals(1L, first.get());
+        assertEquals(2L, second.get());
+        assertEquals(3L, third.get());
+        assertTrue(elapsedMillis < 800, "elapsed " + elapsedMillis + "ms");
+        assertFalse(queries.isDegraded());
+    }
+
+    @Test
+    void testFork_RunsInReadOnlyTransaction() {
+        // Given
+        ParallelQueryExecutor.FanOut queries = parallelQueryExecutor.fanOut();
+
+        // When
+        queries.fork("count", () -> 1L).get();
+
+        // Then
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager).getTransaction(definition.capture());
+        assertTrue(definition.getValue().isReadOnly());
+        assertEquals(1, definition.getValue().getTimeout());
+    }
+
+    @Test
+    void testFork_TimedOutQueryMarksResponseDegraded() {
+        // Given
+        ReflectionTestUtils.setField(parallelQueryExecutor, "timeoutMillis", 100L);
+        ParallelQueryExecutor.FanOut queries = parallelQueryExecutor.fanOut();
+
+        // When
+        Supplier<Long> fast = queries.fork("fast", () -> 5L);
+        Supplier<Long> slow = queries.fork("slow", () -> slowCount(2000, 7L));
+        Map<String, Object> response = new HashMap<>();
+        response.put("fast", fast.get());
+        response.put("slow", slow.get());
+        queries.markDegraded(response);
+
+        // Then: 나머지 결과는 유지하고 초과한 항목만 null
+        assertEquals(5L, response.get("fast"));
+        assertNull(response.get("slow"));
+        assertEquals(true, response.get("degraded"));
+        assertEquals(List.of("slow"), response.get("degradedQueries"));
+    }
+
+    @Test
+    void testFork_TimeoutStartsWhenQueryBeginsRunning() {
+        // Given: 스레드 1개, 제한 시간 300ms
+        parallelQueryExecutor.shutdown();
+        ReflectionTestUtils.setField(parallelQueryExecutor, "threads", 1);
+        ReflectionTestUtils.setField(parallelQueryExecutor, "timeoutMillis", 300L);
+        parallelQueryExecutor.initialize();
+        ParallelQueryExecutor.FanOut queries = parallelQueryExecutor.fanOut();
+
+        // When: 두 번째 쿼리는 첫 번째가 끝날 때까지 대기열에 있다가 실행됨 (제출 후 약 400ms에 완료)
+        Supplier<Long> first = queries.fork("first", () -> slowCount(200, 1L));
+        Supplier<Long> second = queries.fork("second", () -> slowCount(200, 2L));
+
+        // Then
+        assertEquals(1L, first.get());
+        assertEquals(2L, second.get());
+        assertFalse(queries.isDegraded());
+    }
+
+    @Test
+    void testFork_PropagatesQueryFailure() {
+        // Given
+        ParallelQueryExecutor.FanOut queries = parallelQueryExecutor.fanOut();
+
+        // When
+        Supplier<Long> failing = queries.fork("failing", () -> {
+            throw new IllegalStateException("db down");
+        });
+
+        // Then
+        IllegalStateException e = assertThrows(IllegalStateException.class, failing::get);
+        assertEquals("db down", e.getMessage());
+    }
+
+    @Test
+    void testFork_FailureRethrownOnEveryGet() {
+        // Given
+        ParallelQueryExecutor.FanOut queries = parallelQueryExecutor.fanOut();
+        Supplier<Long> failing = queries.fork("failing", () -> {
+            throw new IllegalStateException("db down");
+        });
+
+        // When
+        IllegalStateException first = assertThrows(IllegalStateException.class, failing::get);
+
+        // Then: join 이후에도 실패가 사라지지 않음
+        assertThrows(IllegalStateException.class, queries::join);
+        assertSame(first, assertThrows(IllegalStateException.class, failing::get));
+    }
+
+    @Test
+    void testFork_RejectedQueryRunsInReadOnlyTransactionOnCallerThread() {
+        // Given: 스레드 1개, 대기열 1개
+        useSingleSlotPool(1000L);
+        ParallelQueryExecutor.FanOut queries = parallelQueryExecutor.fanOut();
+        Thread caller = Thread.currentThread();
+
+        // When: 세 번째 쿼리는 대기열이 가득 차 호출 스레드에서 실행됨
+        queries.fork("first", () -> slowCount(300, 1L));
+        queries.fork("second", () -> slowCount(10, 2L));
+        Supplier<Thread> third = queries.fork("third", Thread::currentThread);
+        queries.join();
+
+        // Then
+        assertSame(caller, third.get());
+        verify(transactionManager, times(3)).getTransaction(
+                argThat(definition -> definition.isReadOnly() && definition.getTimeout() == 1));
+        assertFalse(queries.isDegraded());
+    }
+
+    @Test
+    void testFork_RejectedQueryOverTimeoutMarksDegraded() {
+        // Given
+        useSingleSlotPool(100L);
+        ParallelQueryExecutor.FanOut queries = parallelQueryExecutor.fanOut();
+        queries.fork("first", () -> slowCount(50, 1L));
+        queries.fork("second", () -> slowCount(50, 2L));
+
+        // When: 호출 스레드에서 제한 시간보다 오래 실행
+        Supplier<Long> third = queries.fork("third", () -> slowCount(250, 3L));
+        Map<String, Object> response = new HashMap<>();
+        response.put("third", third.get());
+        queries.markDegraded(response);
+
+        // Then
+        assertNull(response.get("third"));
+        assertEquals(List.of("third"), response.get("degradedQueries"));
+    }
+
+    @Test
+    void testFork_WithoutPoolRunsOnCallerThread() {
+        // Given: 초기화되지 않은 실행기
+        ParallelQueryExecutor inline = new ParallelQueryExecutor();
+        Thread caller = Thread.currentThread();
+
+        // When
+        Supplier<Thread> thread = inline.fanOut().fork("thread", Thread::currentThread);
+
+        // Then
+        assertSame(caller, thread.get());
+        verifyNoInteractions(transactionManager);
+    }
+
+    private void useSingleSlotPool(long timeoutMillis) {
+        parallelQueryExecutor.shutdown();
+        ReflectionTestUtils.setField(parallelQueryExecutor, "threads", 1);
+        ReflectionTestUtils.setField(parallelQueryExecutor, "queueCapacity", 1);
+        ReflectionTestUtils.setField(parallelQueryExecutor, "timeoutMillis", timeoutMillis);
+        parallelQueryExecutor.initialize();
+    }
+
+    private long slowCount(long millis, long value) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return value;
+    }
+}
@@ -0,0 +1,85 @@
+package com.enterprise.webtemplate.service;
+
+import com.enterprise.webtemplate.security.BreachedPasswordIndex;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PasswordServiceTest {
+
+    private static final String SIMPLE_PATTERN = "너무 간단한 패턴의 비밀번호는 사용할 수 없습니다.";
+    private static final String BREACHED = "유출되었거나 널리 사용되는 비밀번호는 사용할 수 없습니다.";
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private BreachedPasswordIndex breachedPasswordIndex;
+
+    @InjectMocks
+    private PasswordService passwordService;
+
+    @Test
+    void testValidatePassword_Valid() {
+        // When
+        PasswordService.PasswordValidationResult result = passwordService.validatePassword("Xk9@mRt2q");
+
+        // Then
+        assertTrue(result.isValid(), result.getErrorMessage());
+    }
+
+    @Test
+    void testValidatePassword_ReportsEachMissingCharacterClass() {
+        // When
+        List<String> lowerOnly = passwordService.validatePassword("qzxvbnmk").getErrors();
+        // '#'은 허용된 특수문자가 아님
+        List<String> noSpecial = passwordService.validatePassword("Xk9#mRt2q").getErrors();
+        List<String> shortPassword = passwordService.validatePassword("Xk9@m").getErrors();
+
+        // Then
+        assertEquals(List.of(
+                "비밀번호는 대문자를 포함해야 합니다.",
+                "비밀번호는 숫자를 포함해야 합니다.",
+                "비밀번호는 특수문자(@$!%*?&)를 포함해야 합니다."), lowerOnly);
+        assertEquals(List.of("비밀번호는 특수문자(@$!%*?&)를 포함해야 합니다."), noSpecial);
+        assertEquals(List.of("비밀번호는 최소 8자 이상이어야 합니다."), shortPassword);
+    }
+
+    @Test
+    void testValidatePassword_RejectsSequencesAndRepeats() {
+        // When & Then: 대소문자를 무시하고 세 글자 연속/반복을 찾음
+        for (String password : List.of("Xk9@aBcRt", "Xk9@mMmRt", "Xk9@m789t")) {
+            assertTrue(passwordService.validatePassword(password).getErrors().contains(SIMPLE_PATTERN), password);
+        }
+    }
+
+    @Test
+    void testValidatePassword_RejectsCommonWordAnywhere() {
+        // When & Then: 사전에 없는 조합이어도 흔한 단어를 포함하면 거부
+        for (String password : List.of("1Password!", "SuperAdmin9!", "MyQwerty#2024", "Xk9@DRAGONz")) {
+            assertTrue(passwordService.validatePassword(password).getErrors().contains(SIMPLE_PATTERN), password);
+        }
+    }
+
+    @Test
+    void testValidatePassword_RejectsBreachedPassword() {
+        // Given
+        when(breachedPasswordIndex.contains(anyString())).thenAnswer(invocation ->
+                List.of("tr0ub4dor&3", "zebracorn").contains(invocation.<String>getArgument(0).toLowerCase()));
+
+        // When & Then: 전체 일치, 끝의 숫자/특수문자를 뗀 일치
+        assertEquals(List.of(BREACHED), passwordService.validatePassword("Tr0ub4dor&3").getErrors());
+        assertEquals(List.of(BREACHED), passwordService.validatePassword("Zebracorn77!").getErrors());
+        assertTrue(passwordService.validatePassword("Zebracorn7!x").isValid());
+    }
+}
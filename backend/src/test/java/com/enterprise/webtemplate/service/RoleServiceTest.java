@@ -4,21 +4,28 @@ import com.enterprise.webtemplate.dto.RoleCreateRequest;
 import com.enterprise.webtemplate.dto.RoleResponse;
 import com.enterprise.webtemplate.dto.RoleUpdateRequest;
 import com.enterprise.webtemplate.dto.PermissionResponse;
+import com.enterprise.webtemplate.entity.ActivityEvent;
 import com.enterprise.webtemplate.entity.Permission;
 import com.enterprise.webtemplate.entity.Role;
 import com.enterprise.webtemplate.entity.User;
 import com.enterprise.webtemplate.repository.PermissionRepository;
 import com.enterprise.webtemplate.repository.RoleRepository;
+import com.enterprise.webtemplate.repository.ResourceVersionTracker;
 import com.enterprise.webtemplate.repository.UserRepository;
+import com.enterprise.webtemplate.security.CurrentUserProvider;
+import com.enterprise.webtemplate.security.RbacEngine;
+import com.enterprise.webtemplate.security.SessionInvalidator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.HashSet;
 import java.util.List;
@@ -29,6 +36,8 @@ import java.util.Set;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -49,6 +58,24 @@ class RoleServiceTest {
     @Mock
     private Authentication authentication;
 
+    @Mock
+    private RbacEngine rbacEngine;
+
+    @Mock
+    private ResourceVersionTracker resourceVersionTracker;
+
+    @Mock
+    private UserFacetIndex userFacetIndex;
+
+    @Mock
+    private ActivityEventLog activityEventLog;
+
+    @Mock
+    private SessionInvalidator sessionInvalidator;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private RoleService roleService;
 
@@ -100,12 +127,18 @@ class RoleServiceTest {
         when(securityContext.getAuthentication()).thenReturn(authentication);
         when(authentication.isAuthenticated()).thenReturn(true);
         when(authentication.getName()).thenReturn("admin@example.com");
+
+        // 현재 사용자 해석은 실제 구현 사용 (토큰 클레임이 없으므로 저장소에서 한 번 조회)
+        CurrentUserProvider currentUserProvider = new CurrentUserProvider();
+        ReflectionTestUtils.setField(currentUserProvider, "userRepository", userRepository);
+        ReflectionTestUtils.setField(currentUserProvider, "rbacEngine", rbacEngine);
+        ReflectionTestUtils.setField(roleService, "currentUserProvider", currentUserProvider);
     }
 
     @Test
     void testGetAllRoles_Success() {
         // Given
-        when(userRepository.findByEmail("admin@example.com")).thenReturn(Optional.of(adminUser));
+        when(userRepository.findByEmailWithRoles("admin@example.com")).thenReturn(Optional.of(adminUser));
         when(roleRepository.findAll()).thenReturn(List.of(adminRole, userRole));
 
         // When
@@ -117,14 +150,14 @@ class RoleServiceTest {
         assertEquals("ADMIN", result.get(0).getName());
         assertEquals("USER", result.get(1).getName());
 
-        verify(userRepository).findByEmail("admin@example.com");
+        verify(userRepository).findByEmailWithRoles("admin@example.com");
         verify(roleRepository).findAll();
     }
 
     @Test
     void testGetRoleById_Success() {
         // Given
-        when(userRepository.findByEmail("admin@example.com")).thenReturn(Optional.of(adminUser));
+        when(userRepository.findByEmailWithRoles("admin@example.com")).thenReturn(Optional.of(adminUser));
         when(roleRepository.findById(1L)).thenReturn(Optional.of(adminRole));
 
         // When
@@ -135,14 +168,14 @@ class RoleServiceTest {
         assertEquals("ADMIN", result.getName());
         assertEquals("관리자", result.getDescription());
 
-        verify(userRepository).findByEmail("admin@example.com");
+        verify(userRepository).findByEmailWithRoles("admin@example.com");
         verify(roleRepository).findById(1L);
     }
 
     @Test
     void testGetRoleById_NotFound() {
         // Given
-        when(userRepository.findByEmail("admin@example.com")).thenReturn(Optional.of(adminUser));
+        when(userRepository.findByEmailWithRoles("admin@example.com")).thenReturn(Optional.of(adminUser));
         when(roleRepository.findById(1L)).thenReturn(Optional.empty());
 
         // When & Then
@@ -150,7 +183,7 @@ class RoleServiceTest {
             roleService.getRoleById(1L);
         });
 
-        verify(userRepository).findByEmail("admin@example.com");
+        verify(userRepository).findByEmailWithRoles("admin@example.com");
         verify(roleRepository).findById(1L);
     }
 
@@ -162,7 +195,7 @@ class RoleServiceTest {
         request.setDescription("매니저");
         request.setPermissionNames(Set.of("USER_READ"));
 
-        when(userRepository.findByEmail("admin@example.com")).thenReturn(Optional.of(adminUser));
+        when(userRepository.findByEmailWithRoles("admin@example.com")).thenReturn(Optional.of(adminUser));
         when(roleRepository.existsByName("MANAGER")).thenReturn(false);
         when(permissionRepository.findByName("USER_READ")).thenReturn(Optional.of(testPermission));
         when(roleRepository.save(any(Role.class))).thenReturn(adminRole);
@@ -174,7 +207,7 @@ class RoleServiceTest {
         assertNotNull(result);
         assertEquals("ADMIN", result.getName());
 
-        verify(userRepository).findByEmail("admin@example.com");
+        verify(userRepository).findByEmailWithRoles("admin@example.com");
         verify(roleRepository).existsByName("MANAGER");
         verify(permissionRepository).findByName("USER_READ");
         verify(roleRepository).save(any(Role.class));
@@ -187,7 +220,7 @@ class RoleServiceTest {
         request.setName("ADMIN");
         request.setDescription("관리자");
 
-        when(userRepository.findByEmail("admin@example.com")).thenReturn(Optional.of(adminUser));
+        when(userRepository.findByEmailWithRoles("admin@example.com")).thenReturn(Optional.of(adminUser));
         when(roleRepository.existsByName("ADMIN")).thenReturn(true);
 
         // When & Then
@@ -195,7 +228,7 @@ class RoleServiceTest {
             roleService.createRole(request);
         });
 
-        verify(userRepository).findByEmail("admin@example.com");
+        verify(userRepository).findByEmailWithRoles("admin@example.com");
         verify(roleRepository).existsByName("ADMIN");
         verify(roleRepository, never()).save(any(Role.class));
     }
@@ -213,10 +246,11 @@ class RoleServiceTest {
         customRole.setDescription("커스텀 역할");
         customRole.setUsers(new HashSet<>());
 
-        when(userRepository.findByEmail("admin@example.com")).thenReturn(Optional.of(adminUser));
+        when(userRepository.findByEmailWithRoles("admin@example.com")).thenReturn(Optional.of(adminUser));
         when(roleRepository.findById(3L)).thenReturn(Optional.of(customRole));
         when(permissionRepository.findByName("USER_READ")).thenReturn(Optional.of(testPermission));
         when(roleRepository.save(any(Role.class))).thenReturn(customRole);
+        when(userRepository.findEmailsByRoleId(3L)).thenReturn(List.of("user@example.com"));
 
         // When
         RoleResponse result = roleService.updateRole(3L, request);
@@ -225,10 +259,11 @@ class RoleServiceTest {
         assertNotNull(result);
         assertEquals("CUSTOM", result.getName());
 
-        verify(userRepository).findByEmail("admin@example.com");
+        verify(userRepository).findByEmailWithRoles("admin@example.com");
         verify(roleRepository).findById(3L);
         verify(permissionRepository).findByName("USER_READ");
         verify(roleRepository).save(customRole);
+        verify(sessionInvalidator).bumpAllAfterCommit(List.of("user@example.com"));
     }
 
     @Test
@@ -237,7 +272,7 @@ class RoleServiceTest {
         RoleUpdateRequest request = new RoleUpdateRequest();
         request.setDescription("업데이트된 설명");
 
-        when(userRepository.findByEmail("admin@example.com")).thenReturn(Optional.of(adminUser));
+        when(userRepository.findByEmailWithRoles("admin@example.com")).thenReturn(Optional.of(adminUser));
         when(roleRepository.findById(1L)).thenReturn(Optional.of(adminRole));
 
         // When & Then
@@ -245,7 +280,7 @@ class RoleServiceTest {
             roleService.updateRole(1L, request);
         });
 
-        verify(userRepository).findByEmail("admin@example.com");
+        verify(userRepository).findByEmailWithRoles("admin@example.com");
         verify(roleRepository).findById(1L);
         verify(roleRepository, never()).save(any(Role.class));
     }
@@ -259,14 +294,14 @@ class RoleServiceTest {
         customRole.setDescription("커스텀 역할");
         customRole.setUsers(new HashSet<>());
 
-        when(userRepository.findByEmail("admin@example.com")).thenReturn(Optional.of(adminUser));
+        when(userRepository.findByEmailWithRoles("admin@example.com")).thenReturn(Optional.of(adminUser));
         when(roleRepository.findById(3L)).thenReturn(Optional.of(customRole));
 
         // When
         roleService.deleteRole(3L);
 
         // Then
-        verify(userRepository).findByEmail("admin@example.com");
+        verify(userRepository).findByEmailWithRoles("admin@example.com");
         verify(roleRepository).findById(3L);
         verify(roleRepository).delete(customRole);
     }
@@ -274,7 +309,7 @@ class RoleServiceTest {
     @Test
     void testDeleteRole_SystemRole() {
         // Given
-        when(userRepository.findByEmail("admin@example.com")).thenReturn(Optional.of(adminUser));
+        when(userRepository.findByEmailWithRoles("admin@example.com")).thenReturn(Optional.of(adminUser));
         when(roleRepository.findById(1L)).thenReturn(Optional.of(adminRole));
 
         // When & Then
@@ -282,7 +317,7 @@ class RoleServiceTest {
             roleService.deleteRole(1L);
         });
 
-        verify(userRepository).findByEmail("admin@example.com");
+        verify(userRepository).findByEmailWithRoles("admin@example.com");
         verify(roleRepository).findById(1L);
         verify(roleRepository, never()).delete(any(Role.class));
     }
@@ -296,7 +331,7 @@ class RoleServiceTest {
         customRole.setDescription("커스텀 역할");
         customRole.setUsers(Set.of(testUser));
 
-        when(userRepository.findByEmail("admin@example.com")).thenReturn(Optional.of(adminUser));
+        when(userRepository.findByEmailWithRoles("admin@example.com")).thenReturn(Optional.of(adminUser));
         when(roleRepository.findById(3L)).thenReturn(Optional.of(customRole));
 
         // When & Then
@@ -304,7 +339,7 @@ class RoleServiceTest {
             roleService.deleteRole(3L);
         });
 
-        verify(userRepository).findByEmail("admin@example.com");
+        verify(userRepository).findByEmailWithRoles("admin@example.com");
         verify(roleRepository).findById(3L);
         verify(roleRepository, never()).delete(any(Role.class));
     }
@@ -312,7 +347,7 @@ class RoleServiceTest {
     @Test
     void testGetAllPermissions_Success() {
         // Given
-        when(userRepository.findByEmail("admin@example.com")).thenReturn(Optional.of(adminUser));
+        when(userRepository.findByEmailWithRoles("admin@example.com")).thenReturn(Optional.of(adminUser));
         when(permissionRepository.findAll()).thenReturn(List.of(testPermission));
 
         // When
@@ -323,14 +358,14 @@ class RoleServiceTest {
         assertEquals(1, result.size());
         assertEquals("USER_READ", result.get(0).getName());
 
-        verify(userRepository).findByEmail("admin@example.com");
+        verify(userRepository).findByEmailWithRoles("admin@example.com");
         verify(permissionRepository).findAll();
     }
 
     @Test
     void testGetPermissionsByCategory_Success() {
         // Given
-        when(userRepository.findByEmail("admin@example.com")).thenReturn(Optional.of(adminUser));
+        when(userRepository.findByEmailWithRoles("admin@example.com")).thenReturn(Optional.of(adminUser));
         when(permissionRepository.findAll()).thenReturn(List.of(testPermission));
 
         // When
@@ -341,14 +376,14 @@ class RoleServiceTest {
         assertTrue(result.containsKey("USER_MANAGEMENT"));
         assertEquals(1, result.get("USER_MANAGEMENT").size());
 
-        verify(userRepository).findByEmail("admin@example.com");
+        verify(userRepository).findByEmailWithRoles("admin@example.com");
         verify(permissionRepository).findAll();
     }
 
     @Test
     void testUpdateUserRoles_Success() {
         // Given
-        when(userRepository.findByEmail("admin@example.com")).thenReturn(Optional.of(adminUser));
+        when(userRepository.findByEmailWithRoles("admin@example.com")).thenReturn(Optional.of(adminUser));
         when(userRepository.findById(2L)).thenReturn(Optional.of(testUser));
         when(roleRepository.findByName("ADMIN")).thenReturn(Optional.of(adminRole));
         when(userRepository.save(any(User.class))).thenReturn(testUser);
@@ -357,10 +392,14 @@ class RoleServiceTest {
         roleService.updateUserRoles(2L, Set.of("ADMIN"));
 
         // Then
-        verify(userRepository).findByEmail("admin@example.com");
+        verify(userRepository).findByEmailWithRoles("admin@example.com");
         verify(userRepository).findById(2L);
         verify(roleRepository).findByName("ADMIN");
         verify(userRepository).save(testUser);
+        verify(userFacetIndex).onUserSaved(testUser);
+        verify(sessionInvalidator).bumpAfterCommit("user@example.com");
+        verify(activityEventLog).record(eq(ActivityEvent.ActivityType.ROLE_CHANGE), eq(adminUser.getId()),
+                eq(testUser.getId()), contains("ADMIN"));
     }
 
     @Test
@@ -373,7 +412,7 @@ class RoleServiceTest {
         masterUser.setId(3L);
         masterUser.setRoles(Set.of(masterRole));
 
-        when(userRepository.findByEmail("admin@example.com")).thenReturn(Optional.of(adminUser));
+        when(userRepository.findByEmailWithRoles("admin@example.com")).thenReturn(Optional.of(adminUser));
         when(userRepository.findById(3L)).thenReturn(Optional.of(masterUser));
 
         // When & Then
@@ -381,7 +420,7 @@ class RoleServiceTest {
             roleService.updateUserRoles(3L, Set.of("ADMIN"));
         });
 
-        verify(userRepository).findByEmail("admin@example.com");
+        verify(userRepository).findByEmailWithRoles("admin@example.com");
         verify(userRepository).findById(3L);
         verify(userRepository, never()).save(any(User.class));
     }
@@ -389,7 +428,7 @@ class RoleServiceTest {
     @Test
     void testGetUsersByRole_Success() {
         // Given
-        when(userRepository.findByEmail("admin@example.com")).thenReturn(Optional.of(adminUser));
+        when(userRepository.findByEmailWithRoles("admin@example.com")).thenReturn(Optional.of(adminUser));
         when(roleRepository.findByName("ADMIN")).thenReturn(Optional.of(adminRole));
 
         // When
@@ -400,14 +439,14 @@ class RoleServiceTest {
         assertEquals(1, result.size());
         assertEquals("admin@example.com", result.get(0).getEmail());
 
-        verify(userRepository).findByEmail("admin@example.com");
+        verify(userRepository).findByEmailWithRoles("admin@example.com");
         verify(roleRepository).findByName("ADMIN");
     }
 
     @Test
     void testGetRoleStatistics_Success() {
         // Given
-        when(userRepository.findByEmail("admin@example.com")).thenReturn(Optional.of(adminUser));
+        when(userRepository.findByEmailWithRoles("admin@example.com")).thenReturn(Optional.of(adminUser));
         when(roleRepository.count()).thenReturn(3L);
         when(permissionRepository.count()).thenReturn(10L);
         when(roleRepository.findAll()).thenReturn(List.of(adminRole, userRole));
@@ -421,7 +460,7 @@ class RoleServiceTest {
         assertEquals(10L, result.get("totalPermissions"));
         assertTrue(result.containsKey("roleUserCounts"));
 
-        verify(userRepository).findByEmail("admin@example.com");
+        verify(userRepository).findByEmailWithRoles("admin@example.com");
         verify(roleRepository).count();
         verify(permissionRepository).count();
         verify(roleRepository).findAll();
@@ -452,26 +491,26 @@ class RoleServiceTest {
     @Test
     void testValidateAdminAccess_InsufficientPermissions() {
         // Given
-        when(userRepository.findByEmail("admin@example.com")).thenReturn(Optional.of(testUser));
+        when(userRepository.findByEmailWithRoles("admin@example.com")).thenReturn(Optional.of(testUser));
 
         // When & Then
         assertThrows(RuntimeException.class, () -> {
             roleService.getAllRoles();
         });
 
-        verify(userRepository).findByEmail("admin@example.com");
+        verify(userRepository).findByEmailWithRoles("admin@example.com");
     }
 
     @Test
     void testValidateAdminAccess_UserNotFound() {
         // Given
-        when(userRepository.findByEmail("admin@example.com")).thenReturn(Optional.empty());
+        when(userRepository.findByEmailWithRoles("admin@example.com")).thenReturn(Optional.empty());
 
         // When & Then
         assertThrows(RuntimeException.class, () -> {
             roleService.getAllRoles();
         });
 
-        verify(userRepository).findByEmail("admin@example.com");
+        verify(userRepository).findByEmailWithRoles("admin@example.com");
     }
 }
\ No newline at end of file
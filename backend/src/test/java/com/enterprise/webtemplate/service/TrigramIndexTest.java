@@ -0,0 +1,64 @@
+package com.enterprise.webtemplate.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrigramIndexTest {
+
+    @Test
+    void testSearch_IntersectsAndVerifiesSubstring() {
+        // Given
+        TrigramIndex index = new TrigramIndex(4);
+        index.put(1, new String[]{"kim.dev@example.com", "김개발", "개발팀", "대리"});
+        index.put(2, new String[]{"lee@example.com", "이영업", "영업팀", null});
+        index.put(3, new String[]{"abcxbcd@example.com", "박테스트", "개발팀", "과장"});
+
+        // When & Then
+        assertArrayEquals(new int[]{1}, index.search(new String[]{"KIM.DEV", null, null, null}));
+        assertArrayEquals(new int[]{1, 3}, index.search(new String[]{null, null, "개발팀", null}));
+        assertArrayEquals(new int[]{3}, index.search(new String[]{"example", null, "개발", "과장"}));
+        // "abc"와 "bcd"는 모두 있지만 "abcd"는 연속되지 않음
+        assertArrayEquals(new int[0], index.search(new String[]{"abcd", null, null, null}));
+        // 3자 미만은 전체 문서를 원문으로 확인
+        assertArrayEquals(new int[]{2}, index.search(new String[]{"ee", null, null, null}));
+    }
+
+    @Test
+    void testPut_UpdateReplacesOldTrigrams() {
+        // Given
+        TrigramIndex index = new TrigramIndex(4);
+        index.put(1, new String[]{"old@example.com", "홍길동", null, null});
+
+        // When
+        index.put(1, new String[]{"new@example.com", "홍길동", null, null});
+        index.put(2, new String[]{"other@example.com", "임꺽정", null, null});
+        index.remove(2);
+
+        // Then
+        assertArrayEquals(new int[0], index.search(new String[]{"old@", null, null, null}));
+        assertArrayEquals(new int[]{1}, index.search(new String[]{"new@", null, null, null}));
+        assertArrayEquals(new int[]{1}, index.search(new String[]{"example", null, null, null}));
+        assertEquals(1, index.documentCount());
+    }
+
+    @Test
+    void testPostingList_SplitsBlocksAndKeepsOrder() {
+        // Given
+        PostingList list = new PostingList();
+        IntStream.range(0, 2000).map(i -> (i * 7919) % 2000 * 3 + 1).forEach(list::add);
+
+        // When
+        list.remove(1);
+        list.remove(5998);
+        int[] retained = list.retainAll(new int[]{1, 4, 5, 3001, 5995, 5998, 7000}, 7);
+
+        // Then
+        assertEquals(1998, list.size());
+        assertArrayEquals(IntStream.range(1, 1999).map(i -> i * 3 + 1).toArray(), list.toArray());
+        assertArrayEquals(new int[]{4, 3001, 5995}, retained);
+        assertFalse(list.add(4));
+    }
+}
@@ -0,0 +1,304 @@
+package com.enterprise.webtemplate.service;
+
+import com.enterprise.webtemplate.dto.BulkUserActionRequest;
+import com.enterprise.webtemplate.dto.BulkUserActionResponse;
+import com.enterprise.webtemplate.dto.BulkUserActionResponse.Outcome;
+import com.enterprise.webtemplate.dto.UserSearchRequest;
+import com.enterprise.webtemplate.entity.Role;
+import com.enterprise.webtemplate.entity.User;
+import com.enterprise.webtemplate.repository.ResourceVersionTracker;
+import com.enterprise.webtemplate.repository.ResourceVersionTracker.Resource;
+import com.enterprise.webtemplate.repository.RoleRepository;
+import com.enterprise.webtemplate.repository.UserRepository;
+import com.enterprise.webtemplate.security.AccountLockReleaser;
+import com.enterprise.webtemplate.security.CurrentUser;
+import com.enterprise.webtemplate.security.CurrentUserProvider;
+import com.enterprise.webtemplate.security.SecurityVersionRegistry;
+import com.enterprise.webtemplate.security.SessionInvalidator;
+import com.enterprise.webtemplate.security.TokenRevocationStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.notNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserBulkServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private RoleRepository roleRepository;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private SecurityVersionRegistry securityVersionRegistry;
+
+    @Mock
+    private TokenRevocationStore tokenRevocationStore;
+
+    private final SessionInvalidator sessionInvalidator = new SessionInvalidator();
+
+    @Mock
+    private ResourceVersionTracker resourceVersionTracker;
+
+    @Mock
+    private UserFacetIndex userFacetIndex;
+
+    @Mock
+    private CurrentUserProvider currentUserProvider;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private AccountLockReleaser accountLockReleaser;
+
+    @InjectMocks
+    private UserBulkService userBulkService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(userBulkService, "chunkSize", 2);
+        ReflectionTestUtils.setField(userBulkService, "maxTargets", 10);
+        ReflectionTestUtils.setField(sessionInvalidator, "securityVersionRegistry", securityVersionRegistry);
+        ReflectionTestUtils.setField(sessionInvalidator, "tokenRevocationStore", tokenRevocationStore);
+        ReflectionTestUtils.setField(userBulkService, "sessionInvalidator", sessionInvalidator);
+        lenient().when(currentUserProvider.requireAdmin())
+                .thenReturn(new CurrentUser(100L, "admin@example.com", Set.of("ADMIN"), null));
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    void testUpdateApprovalStatus_ChunkedWithPerIdResults() {
+        // Given: 1, 3은 대기, 2는 이미 승인, 4는 없음 (묶음 크기 2)
+        when(userRepository.findBulkTargetsByIds(List.of(1L, 2L))).thenReturn(List.of(
+                row(1L, User.ApprovalStatus.PENDING, true), row(2L, User.ApprovalStatus.APPROVED, true)));
+        when(userRepository.findBulkTargetsByIds(List.of(3L, 4L))).thenReturn(List.<Object[]>of(
+                row(3L, User.ApprovalStatus.PENDING, true)));
+
+        // When
+        BulkUserActionResponse response = userBulkService.updateApprovalStatus(
+                new BulkUserActionRequest(List.of(1L, 2L, 3L, 4L, 3L)), User.ApprovalStatus.APPROVED);
+
+        // Then
+        assertEquals(4, response.getRequested());
+        assertEquals(2, response.count(Outcome.UPDATED));
+        assertEquals(1, response.count(Outcome.UNCHANGED));
+        assertEquals(1, response.count(Outcome.NOT_FOUND));
+        assertEquals(Outcome.NOT_FOUND, response.getResults().get(3).getOutcome());
+
+        verify(userRepository).updateApprovalStatusByIds(eq(List.of(1L)), eq(User.ApprovalStatus.APPROVED), notNull(), any());
+        verify(userRepository).updateApprovalStatusByIds(eq(List.of(3L)), eq(User.ApprovalStatus.APPROVED), notNull(), any());
+        verify(userFacetIndex).onUsersPatched(List.of(1L), null, User.ApprovalStatus.APPROVED, null);
+        verify(resourceVersionTracker, times(2)).changed(Resource.USERS);
+        // 승인은 마스터 보호 대상이 아니므로 조회하지 않음
+        verify(userRepository, never()).findIdsWithRole(anyList(), anyString());
+
+        ArgumentCaptor<UserBulkUpdatedEvent> event = ArgumentCaptor.forClass(UserBulkUpdatedEvent.class);
+        verify(eventPublisher, times(1)).publishEvent(event.capture());
+        assertEquals(List.of(1L, 3L), event.getValue().getUserIds());
+        assertEquals("APPROVAL", event.getValue().getAction());
+        assertEquals("admin@example.com", event.getValue().getActorEmail());
+    }
+
+    @Test
+    void testUpdateActivation_SkipsMasterAndRevokesTokens() {
+        // Given
+        when(userRepository.findBulkTargetsByIds(List.of(1L, 2L))).thenReturn(List.of(
+                row(1L, User.ApprovalStatus.APPROVED, true), row(2L, User.ApprovalStatus.APPROVED, true)));
+        when(userRepository.findIdsWithRole(List.of(1L, 2L), "MASTER")).thenReturn(List.of(2L));
+
+        // When
+        BulkUserActionResponse response = userBulkService.updateActivation(
+                new BulkUserActionRequest(List.of(1L, 2L)), false);
+
+        // Then
+        assertEquals(Outcome.UPDATED, response.getResults().get(0).getOutcome());
+        assertEquals(Outcome.SKIPPED, response.getResults().get(1).getOutcome());
+        verify(userRepository).updateActivationByIds(eq(List.of(1L)), eq(false), any());
+        verify(securityVersionRegistry).bumpAll(List.of("user1@example.com"));
+        verify(tokenRevocationStore).revokeAllForUser("user1@example.com");
+        verify(tokenRevocationStore, never()).revokeAllForUser("user2@example.com");
+        verify(userFacetIndex).onUsersPatched(List.of(1L), false, null, null);
+    }
+
+    @Test
+    void testUpdateActivation_RevokesOnlyAfterChunkCommits() {
+        // Given: 묶음마다 트랜잭션 동기화를 열고, 콜백이 실패하면 롤백 (묶음 크기 2)
+        doAnswer(invocation -> {
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                Object result = invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null);
+                List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+                TransactionSynchronizationManager.clearSynchronization();
+                synchronizations.forEach(TransactionSynchronization::afterCommit);
+                return result;
+            } finally {
+                if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                    TransactionSynchronizationManager.clearSynchronization();
+                }
+            }
+        }).when(transactionTemplate).execute(any());
+        when(userRepository.findBulkTargetsByIds(List.of(1L, 2L))).thenReturn(List.of(
+                row(1L, User.ApprovalStatus.APPROVED, true), row(2L, User.ApprovalStatus.APPROVED, true)));
+        when(userRepository.findBulkTargetsByIds(List.of(3L))).thenReturn(List.<Object[]>of(
+                row(3L, User.ApprovalStatus.APPROVED, true)));
+        when(userRepository.findIdsWithRole(anyList(), eq("MASTER"))).thenReturn(List.of());
+        doThrow(new RuntimeException("index down")).when(userFacetIndex).onUsersPatched(eq(List.of(3L)), any(), any(), any());
+
+        // When
+        BulkUserActionResponse response = userBulkService.updateActivation(
+                new BulkUserActionRequest(List.of(1L, 2L, 3L)), false);
+
+        // Then: 커밋된 묶음의 사용자만 폐기되고, 롤백된 묶음은 세션을 건드리지 않음
+        assertEquals(Outcome.FAILED, response.getResults().get(2).getOutcome());
+        verify(securityVersionRegistry).bumpAll(List.of("user1@example.com", "user2@example.com"));
+        verify(tokenRevocationStore).revokeAllForUser("user1@example.com");
+        verify(tokenRevocationStore).revokeAllForUser("user2@example.com");
+        verify(tokenRevocationStore, never()).revokeAllForUser("user3@example.com");
+        verifyNoMoreInteractions(securityVersionRegistry);
+    }
+
+    @Test
+    void testAssignRoles_InsertsOnlyMissingLinks() {
+        // Given: 사용자 1은 이미 USER 역할 보유
+        Role userRole = new Role("USER", "기본 사용자");
+        userRole.setId(3L);
+        when(roleRepository.findByName("USER")).thenReturn(Optional.of(userRole));
+        when(userRepository.findBulkTargetsByIds(List.of(1L, 2L))).thenReturn(List.of(
+                row(1L, User.ApprovalStatus.APPROVED, true), row(2L, User.ApprovalStatus.APPROVED, true)));
+        when(userRepository.findIdsWithRole(List.of(1L, 2L), "MASTER")).thenReturn(List.of());
+        List<Object[]> existing = new ArrayList<>();
+        existing.add(new Object[]{1L, 3L});
+        when(userRepository.findRoleIdsByUserIds(List.of(1L, 2L))).thenReturn(existing);
+
+        // When
+        BulkUserActionResponse response = userBulkService.assignRoles(
+                new BulkUserActionRequest(List.of(1L, 2L)), Set.of("USER"));
+
+        // Then
+        assertEquals(Outcome.UNCHANGED, response.getResults().get(0).getOutcome());
+        assertEquals(Outcome.UPDATED, response.getResults().get(1).getOutcome());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> inserts = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(eq("INSERT INTO user_roles (user_id, role_id) VALUES (?, ?)"), inserts.capture());
+        assertEquals(1, inserts.getValue().size());
+        assertArrayEquals(new Object[]{2L, 3L}, inserts.getValue().get(0));
+        verify(userFacetIndex).onUsersPatched(List.of(2L), null, null, Set.of(3L));
+    }
+
+    @Test
+    void testBulkAction_FailedChunkDoesNotStopOthers() {
+        // Given: 첫 묶음 UPDATE 실패
+        when(userRepository.findBulkTargetsByIds(List.of(1L, 2L))).thenReturn(List.of(
+                row(1L, User.ApprovalStatus.APPROVED, false), row(2L, User.ApprovalStatus.APPROVED, false)));
+        when(userRepository.findBulkTargetsByIds(List.of(3L))).thenReturn(List.<Object[]>of(
+                row(3L, User.ApprovalStatus.APPROVED, false)));
+        when(userRepository.updateActivationByIds(eq(List.of(1L, 2L)), eq(true), any(LocalDateTime.class)))
+                .thenThrow(new RuntimeException("lock timeout"));
+
+        // When
+        BulkUserActionResponse response = userBulkService.updateActivation(
+                new BulkUserActionRequest(List.of(1L, 2L, 3L)), true);
+
+        // Then
+        assertEquals(2, response.count(Outcome.FAILED));
+        assertEquals(1, response.count(Outcome.UPDATED));
+        ArgumentCaptor<UserBulkUpdatedEvent> event = ArgumentCaptor.forClass(UserBulkUpdatedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(List.of(3L), event.getValue().getUserIds());
+    }
+
+    @Test
+    void testUnlock_ReleasesInMemoryLocksForEveryTarget() {
+        // Given: 1은 DB에 잠금 기록, 2는 메모리에서만 잠김, 3은 잠금 없음
+        when(userRepository.findBulkTargetsByIds(List.of(1L, 2L))).thenReturn(List.of(
+                new Object[]{1L, "user1@example.com", true, User.ApprovalStatus.APPROVED, 5, LocalDateTime.now().plusMinutes(30)},
+                row(2L, User.ApprovalStatus.APPROVED, true)));
+        when(userRepository.findBulkTargetsByIds(List.of(3L))).thenReturn(List.<Object[]>of(
+                row(3L, User.ApprovalStatus.APPROVED, true)));
+        when(accountLockReleaser.isHeld("user2@example.com")).thenReturn(true);
+
+        // When
+        BulkUserActionResponse response = userBulkService.unlock(new BulkUserActionRequest(List.of(1L, 2L, 3L)));
+
+        // Then
+        assertEquals(2, response.count(Outcome.UPDATED));
+        assertEquals(1, response.count(Outcome.UNCHANGED));
+        assertEquals(Outcome.UNCHANGED, response.getResults().get(2).getOutcome());
+        verify(userRepository).unlockByIds(eq(List.of(1L, 2L)), any());
+        verify(accountLockReleaser).releaseAfterCommit("user1@example.com");
+        verify(accountLockReleaser).releaseAfterCommit("user2@example.com");
+        verify(accountLockReleaser).releaseAfterCommit("user3@example.com");
+    }
+
+    @Test
+    void testBulkAction_ResolvesFilterTargets() {
+        // Given
+        BulkUserActionRequest request = new BulkUserActionRequest();
+        request.setFilter(new UserSearchRequest());
+        when(userService.findMatchingUserIds(request.getFilter())).thenReturn(List.of());
+
+        // When
+        BulkUserActionResponse response = userBulkService.unlock(request);
+
+        // Then
+        assertEquals(0, response.getRequested());
+        verify(transactionTemplate, never()).execute(any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void testBulkAction_RejectsAmbiguousOrOversizedTargets() {
+        // Given
+        BulkUserActionRequest both = new BulkUserActionRequest(List.of(1L));
+        both.setFilter(new UserSearchRequest());
+        BulkUserActionRequest tooMany = new BulkUserActionRequest(
+                List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L, 11L));
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> userBulkService.unlock(both));
+        assertThrows(IllegalArgumentException.class, () -> userBulkService.unlock(new BulkUserActionRequest()));
+        assertThrows(IllegalArgumentException.class, () -> userBulkService.unlock(tooMany));
+        verify(transactionTemplate, never()).execute(any());
+    }
+
+    private Object[] row(Long id, User.ApprovalStatus status, boolean active) {
+        return new Object[]{id, "user" + id + "@example.com", active, status, 0, null};
+    }
+}
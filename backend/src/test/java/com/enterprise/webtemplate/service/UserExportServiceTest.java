@@ -0,0 +1,166 @@
+package com.enterprise.webtemplate.service;
+
+import com.enterprise.webtemplate.dto.UserListResponse;
+import com.enterprise.webtemplate.dto.UserSearchRequest;
+import com.enterprise.webtemplate.entity.User;
+import com.enterprise.webtemplate.repository.ExportConnectionPool;
+import com.enterprise.webtemplate.repository.UserRepository;
+import com.enterprise.webtemplate.repository.UserSearchFilter;
+import com.enterprise.webtemplate.security.CurrentUserProvider;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserExportServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private CurrentUserProvider currentUserProvider;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ExportConnectionPool exportConnectionPool;
+
+    @InjectMocks
+    private UserExportService userExportService;
+
+    private final UserSearchFilter filter = UserSearchFilter.of(null, null, null, null, null, null, null, null);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(userExportService, "objectMapper", new ObjectMapper().findAndRegisterModules());
+        ReflectionTestUtils.setField(userExportService, "fetchSize", 100);
+        ReflectionTestUtils.setField(userExportService, "batchSize", 2);
+        lenient().when(userService.resolveSearchFilter(any(UserSearchRequest.class))).thenReturn(filter);
+        lenient().when(userRepository.streamMatching(filter, 100)).thenReturn(Stream.of(user(1L, "김철수"), user(2L, "이영희"), user(3L, "=SUM(A1)")));
+        lenient().when(userRepository.findRoleNamesByUserIds(anyCollection())).thenAnswer(invocation -> {
+            List<Object[]> rows = new ArrayList<>();
+            for (Object id : invocation.<Collection<?>>getArgument(0)) {
+                rows.add(new Object[]{id, "USER"});
+                if (id.equals(1L)) {
+                    rows.add(new Object[]{id, "ADMIN"});
+                }
+            }
+            return rows;
+        });
+    }
+
+    @Test
+    void testExportCsv_StreamsInBatches() throws Exception {
+        // Given
+        StreamingResponseBody body = userExportService.export(new UserSearchRequest(), UserExportService.Format.CSV);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // When
+        body.writeTo(output);
+
+        // Then
+        String csv = output.toString(StandardCharsets.UTF_8);
+        assertTrue(csv.startsWith("\uFEFFid,email,name,"));
+        String[] lines = csv.substring(1).split("\r\n");
+        assertEquals(4, lines.length);
+        assertTrue(lines[1].startsWith("1,user1@example.com,김철수,,개발팀,,ADMIN;USER,true,false,PENDING,,"));
+        assertTrue(lines[3].startsWith("3,user3@example.com,'=SUM(A1),"));
+
+        // 묶음 크기 2 → 역할 이름 조회 2번 (행마다 조회하지 않음)
+        verify(userRepository, times(2)).findRoleNamesByUserIds(anyCollection());
+        verify(currentUserProvider).requireAdmin();
+    }
+
+    @Test
+    void testExportNdjson_OneObjectPerLine() throws Exception {
+        // Given
+        StreamingResponseBody body = userExportService.export(new UserSearchRequest(), UserExportService.Format.NDJSON);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // When
+        body.writeTo(output);
+
+        // Then
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, lines.length);
+        JsonNode first = new ObjectMapper().readTree(lines[0]);
+        assertEquals("user1@example.com", first.get("email").asText());
+        assertEquals(2, first.get("roleNames").size());
+        verify(userRepository).streamMatching(filter, 100);
+    }
+
+    @Test
+    void testExport_OnExportPoolDoesNotHoldMainConnection() throws Exception {
+        // Given: fetch-size보다 많은 행을 전용 커넥션에서 읽음
+        ReflectionTestUtils.setField(userExportService, "fetchSize", 2);
+        when(exportConnectionPool.isAvailable()).thenReturn(true);
+        when(userRepository.streamMatching(filter, 2))
+                .thenReturn(LongStream.rangeClosed(1, 7).mapToObj(id -> user(id, "사용자" + id)));
+        StreamingResponseBody body = userExportService.export(new UserSearchRequest(), UserExportService.Format.NDJSON);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // When
+        body.writeTo(output);
+
+        // Then: 기본 풀 커넥션을 내보내기 내내 잡아두는 트랜잭션을 열지 않음 (역할 조회는 묶음마다 한 번)
+        assertEquals(7, output.toString(StandardCharsets.UTF_8).split("\n").length);
+        verifyNoInteractions(transactionManager);
+        verify(userRepository, times(4)).findRoleNamesByUserIds(anyCollection());
+    }
+
+    @Test
+    void testExport_WithoutExportPoolRunsInReadOnlyTransaction() throws Exception {
+        // Given
+        StreamingResponseBody body = userExportService.export(new UserSearchRequest(), UserExportService.Format.CSV);
+
+        // When
+        body.writeTo(new ByteArrayOutputStream());
+
+        // Then
+        verify(transactionManager).getTransaction(argThat(definition -> definition != null && definition.isReadOnly()));
+    }
+
+    @Test
+    void testCsvCell_QuotesAndFormulaGuard() {
+        // Then
+        assertEquals("", UserExportService.csvCell(null));
+        assertEquals("plain", UserExportService.csvCell("plain"));
+        assertEquals("\"a,b\"", UserExportService.csvCell("a,b"));
+        assertEquals("\"say \"\"hi\"\"\"", UserExportService.csvCell("say \"hi\""));
+        assertEquals("\"line\nbreak\"", UserExportService.csvCell("line\nbreak"));
+        assertEquals("'+82-10-1234", UserExportService.csvCell("+82-10-1234"));
+        assertEquals("\"'=1,2\"", UserExportService.csvCell("=1,2"));
+        verifyNoInteractions(transactionManager);
+    }
+
+    private UserListResponse user(Long id, String name) {
+        return new UserListResponse(id, "user" + id + "@example.com", name, null, "개발팀", null, null,
+                true, false, User.ApprovalStatus.PENDING, null, LocalDateTime.of(2024, 1, 1, 9, 0), null, 0);
+    }
+}
@@ -0,0 +1,112 @@
+package com.enterprise.webtemplate.service;
+
+import com.enterprise.webtemplate.entity.User;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserFacetBitmapsTest {
+
+    @Test
+    void testIdBitmap_ArrayAndBitmapContainers() {
+        // Given
+        IdBitmap evens = new IdBitmap();
+        IdBitmap threes = new IdBitmap();
+        IntStream.range(0, 200_000).filter(i -> i % 2 == 0).forEach(evens::add);
+        IntStream.range(0, 200_000).filter(i -> i % 3 == 0).forEach(threes::add);
+
+        // When
+        IdBitmap sixes = evens.and(threes);
+        IdBitmap oddThrees = threes.andNot(evens);
+
+        // Then
+        assertEquals(100_000, evens.cardinality());
+        assertEquals(33_334, sixes.cardinality());
+        assertEquals(33_334, evens.andCardinality(threes));
+        assertEquals(33_333, oddThrees.cardinality());
+        assertTrue(sixes.contains(199_998));
+        assertFalse(oddThrees.contains(6));
+        assertArrayEquals(new int[]{0, 6, 12}, Arrays.copyOf(sixes.toArray(), 3));
+    }
+
+    @Test
+    void testIdBitmap_RemoveShrinksBackToArray() {
+        // Given
+        IdBitmap bitmap = new IdBitmap();
+        IntStream.range(0, 10_000).forEach(bitmap::add);
+
+        // When
+        IntStream.range(5, 10_000).forEach(bitmap::remove);
+
+        // Then
+        assertEquals(5, bitmap.cardinality());
+        assertArrayEquals(new int[]{0, 1, 2, 3, 4}, bitmap.toArray());
+        assertTrue(bitmap.estimatedBytes() < 8 * 1024);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testFacetCounts_FollowIncrementalUpdates() {
+        // Given
+        UserFacetBitmaps bitmaps = new UserFacetBitmaps();
+        bitmaps.putRole(1L, "ADMIN");
+        bitmaps.putRole(2L, "USER");
+        bitmaps.putUser(1, true, true, User.ApprovalStatus.APPROVED, "개발팀", Set.of(1L, 2L));
+        bitmaps.putUser(2, true, false, User.ApprovalStatus.PENDING, "개발팀", Set.of(2L));
+        bitmaps.putUser(3, false, true, User.ApprovalStatus.APPROVED, "영업팀", Set.of(2L));
+
+        // When
+        bitmaps.putUser(2, true, true, User.ApprovalStatus.APPROVED, "영업팀", null);
+        bitmaps.removeUser(3);
+        Map<String, Object> facets = bitmaps.facetCounts(bitmaps.matching(true, null, null, "USER"));
+
+        // Then
+        assertEquals(2L, facets.get("total"));
+        assertEquals(Map.of("APPROVED", 2L, "PENDING", 0L, "REJECTED", 0L), facets.get("approvalStatus"));
+        assertEquals(Map.of("개발팀", 1L, "영업팀", 1L), facets.get("department"));
+        assertEquals(Map.of("ADMIN", 1L, "USER", 2L), facets.get("role"));
+        assertEquals(Map.of("true", 2L, "false", 0L), facets.get("isEmailVerified"));
+        assertEquals(0L, bitmaps.matching(false, null, null, null).cardinality());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testRemoveRole_DropsMembership() {
+        // Given
+        UserFacetBitmaps bitmaps = new UserFacetBitmaps();
+        bitmaps.putRole(1L, "MANAGER");
+        bitmaps.putUser(1, true, true, User.ApprovalStatus.APPROVED, null, Set.of());
+        bitmaps.addRoleMember(1, 1L);
+
+        // When
+        bitmaps.removeRole(1L);
+
+        // Then
+        assertEquals(0L, bitmaps.matching(null, null, null, "MANAGER").cardinality());
+        assertTrue(((Map<String, Long>) bitmaps.facetCounts(bitmaps.all()).get("role")).isEmpty());
+    }
+
+    @Test
+    void testPatchUser_KeepsUnspecifiedAttributes() {
+        // Given
+        UserFacetBitmaps bitmaps = new UserFacetBitmaps();
+        bitmaps.putRole(1L, "USER");
+        bitmaps.putRole(2L, "MANAGER");
+        bitmaps.putUser(1, false, true, User.ApprovalStatus.PENDING, "개발팀", Set.of(1L));
+
+        // When
+        bitmaps.patchUser(1, null, User.ApprovalStatus.APPROVED, Set.of(2L));
+        bitmaps.patchUser(99, true, null, null);
+
+        // Then
+        assertEquals(1L, bitmaps.matching(false, true, User.ApprovalStatus.APPROVED, "USER").cardinality());
+        assertEquals(1L, bitmaps.matching(null, null, null, "MANAGER").cardinality());
+        assertEquals(0L, bitmaps.matching(null, null, User.ApprovalStatus.PENDING, null).cardinality());
+        assertEquals(1, bitmaps.userCount());
+    }
+}
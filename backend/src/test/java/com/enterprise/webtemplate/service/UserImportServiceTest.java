@@ -0,0 +1,236 @@
+package com.enterprise.webtemplate.service;
+
+import com.enterprise.webtemplate.dto.UserImportResponse;
+import com.enterprise.webtemplate.dto.UserImportResponse.BatchStatus;
+import com.enterprise.webtemplate.entity.Role;
+import com.enterprise.webtemplate.entity.User;
+import com.enterprise.webtemplate.repository.ResourceVersionTracker;
+import com.enterprise.webtemplate.repository.ResourceVersionTracker.Resource;
+import com.enterprise.webtemplate.repository.RoleRepository;
+import com.enterprise.webtemplate.repository.UserRepository;
+import com.enterprise.webtemplate.security.CurrentUser;
+import com.enterprise.webtemplate.security.CurrentUserProvider;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserImportServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private RoleRepository roleRepository;
+
+    @Mock
+    private PasswordService passwordService;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private EmailAvailabilityIndex emailAvailabilityIndex;
+
+    @Mock
+    private UserSubstringIndex userSubstringIndex;
+
+    @Mock
+    private UserFacetIndex userFacetIndex;
+
+    @Mock
+    private ResourceVersionTracker resourceVersionTracker;
+
+    @Mock
+    private DashboardCounters dashboardCounters;
+
+    @Mock
+    private CurrentUserProvider currentUserProvider;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private UserImportService userImportService;
+
+    private final Role userRole = new Role("USER", "기본 사용자");
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(userImportService, "validator",
+                Validation.buildDefaultValidatorFactory().getValidator());
+        ReflectionTestUtils.setField(userImportService, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(userImportService, "batchSize", 2);
+        ReflectionTestUtils.setField(userImportService, "maxRows", 10);
+        userRole.setId(3L);
+
+        lenient().when(currentUserProvider.requireAdmin())
+                .thenReturn(new CurrentUser(100L, "admin@example.com", Set.of("ADMIN"), null));
+        lenient().when(roleRepository.findByName("USER")).thenReturn(Optional.of(userRole));
+        lenient().when(passwordService.validatePassword(anyString()))
+                .thenReturn(new PasswordService.PasswordValidationResult());
+        lenient().when(passwordService.encodePasswords(anyList(), anyInt())).thenAnswer(invocation ->
+                invocation.<List<String>>getArgument(0).stream().map(raw -> "hash-" + raw).toList());
+        lenient().when(emailAvailabilityIndex.isDefinitelyAvailable(anyString()))
+                .thenAnswer(invocation -> !invocation.<String>getArgument(0).startsWith("exists"));
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        // 이메일의 숫자를 id로 사용
+        lenient().when(userRepository.findIdsByEmails(anyCollection())).thenAnswer(invocation -> {
+            List<Object[]> rows = new ArrayList<>();
+            for (String email : invocation.<Collection<String>>getArgument(0)) {
+                rows.add(new Object[]{email, Long.parseLong(email.replaceAll("\\D", ""))});
+            }
+            return rows;
+        });
+    }
+
+    @Test
+    void testImportCsv_BatchedInsertsWithRowErrors() throws Exception {
+        // Given: 묶음 크기 2 → [1, 2], [3, 4], [5, 6]
+        String csv = "\uFEFFName,password,Email,department\r\n" +
+                "김철수,Password1!,User1@Example.com,\"개발팀, 백엔드\"\r\n" +
+                "이영희,Password1!,not-an-email,\r\n" +
+                "박민수,Password1!,user1@example.com,\r\n" +
+                "최지훈,Password1!,exists9@example.com,\r\n" +
+                "정수진,Password1!,user5@example.com,\r\n" +
+                "\"한 \"\"별\"\"\",Password1!,user6@example.com,영업팀\r\n";
+        when(userRepository.findExistingEmails(List.of("exists9@example.com"))).thenReturn(List.of("exists9@example.com"));
+
+        // When
+        UserImportResponse response = userImportService.importUsers(stream(csv), UserExportService.Format.CSV, 0,
+                User.ApprovalStatus.APPROVED);
+
+        // Then
+        assertEquals(6, response.getTotalRows());
+        assertEquals(3, response.getImported());
+        assertEquals(3, response.getFailed());
+        assertEquals(List.of("INVALID", "DUPLICATE_IN_FILE", "ALREADY_EXISTS"),
+                response.getErrors().stream().map(UserImportResponse.RowError::getCode).toList());
+        assertEquals(List.of(2, 3, 4), response.getErrors().stream().map(UserImportResponse.RowError::getRow).toList());
+        assertNull(response.getNextBatch());
+
+        // 새 사용자가 없는 두 번째 묶음은 INSERT 없음
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> users = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(2)).batchUpdate(startsWith("INSERT INTO users"), users.capture());
+        Object[] first = users.getAllValues().get(0).get(0);
+        assertEquals("user1@example.com", first[0]);
+        assertEquals("hash-Password1!", first[1]);
+        assertEquals("개발팀, 백엔드", first[4]);
+        assertEquals("APPROVED", first[8]);
+        assertNotNull(first[9]);
+        assertEquals("한 \"별\"", users.getAllValues().get(1).get(1)[2]);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> roles = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(2)).batchUpdate(eq("INSERT INTO user_roles (user_id, role_id) VALUES (?, ?)"), roles.capture());
+        assertArrayEquals(new Object[]{5L, 3L}, roles.getAllValues().get(1).get(0));
+
+        // 블룸 필터에 있을 수 있는 이메일만 DB 조회
+        verify(userRepository, times(1)).findExistingEmails(anyCollection());
+        verify(userSubstringIndex, times(3)).onUserSaved(any(User.class));
+        verify(userFacetIndex, times(3)).onUserSaved(any(User.class));
+        verify(emailAvailabilityIndex).add("user6@example.com");
+        verify(resourceVersionTracker, times(2)).changed(Resource.USERS);
+        verify(dashboardCounters).onUsersRegistered(any(LocalDateTime.class), eq(2));
+
+        ArgumentCaptor<UserBulkUpdatedEvent> event = ArgumentCaptor.forClass(UserBulkUpdatedEvent.class);
+        verify(eventPublisher, times(1)).publishEvent(event.capture());
+        assertEquals(List.of(1L, 5L, 6L), event.getValue().getUserIds());
+        assertEquals("IMPORT", event.getValue().getAction());
+    }
+
+    @Test
+    void testImport_FailedBatchIsReportedAndResumable() throws Exception {
+        // Given: 두 번째 묶음의 INSERT 실패
+        String ndjson = "{\"email\":\"user1@example.com\",\"name\":\"김철수\",\"password\":\"Password1!\"}\n" +
+                "\n" +
+                "{\"email\":\"user2@example.com\",\"name\":\"이영희\",\"password\":\"Password1!\"}\n" +
+                "{\"email\":\"user3@example.com\",\"name\":\"박민수\",\"password\":\"Password1!\"}\n";
+        doReturn(null).doThrow(new RuntimeException("lock timeout")).doReturn(null)
+                .when(jdbcTemplate).batchUpdate(startsWith("INSERT INTO users"), anyList());
+
+        // When
+        UserImportResponse response = userImportService.importUsers(stream(ndjson), UserExportService.Format.NDJSON, 0,
+                User.ApprovalStatus.PENDING);
+
+        // Then
+        assertEquals(2, response.getImported());
+        assertEquals(BatchStatus.FAILED, response.getBatches().get(1).getStatus());
+        assertEquals(1, response.getNextBatch());
+        assertEquals("BATCH_FAILED", response.getErrors().get(0).getCode());
+        assertEquals(3, response.getErrors().get(0).getRow());
+        verify(emailAvailabilityIndex, never()).add("user3@example.com");
+
+        // When: 실패한 묶음부터 다시 요청
+        UserImportResponse resumed = userImportService.importUsers(stream(ndjson), UserExportService.Format.NDJSON,
+                response.getNextBatch(), User.ApprovalStatus.PENDING);
+
+        // Then
+        assertEquals(2, resumed.getSkippedRows());
+        assertEquals(1, resumed.getImported());
+        assertNull(resumed.getNextBatch());
+        verify(emailAvailabilityIndex).add("user3@example.com");
+    }
+
+    @Test
+    void testImport_RejectsMalformedFiles() {
+        // Given
+        String missingColumn = "email,name\nuser1@example.com,김철수\n";
+        StringBuilder tooMany = new StringBuilder("email,name,password\n");
+        for (int i = 1; i <= 11; i++) {
+            tooMany.append("user").append(i).append("@example.com,사용자,Password1!\n");
+        }
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> userImportService.importUsers(
+                stream(missingColumn), UserExportService.Format.CSV, 0, User.ApprovalStatus.APPROVED));
+        assertThrows(IllegalArgumentException.class, () -> userImportService.importUsers(
+                stream(tooMany.toString()), UserExportService.Format.CSV, 0, User.ApprovalStatus.APPROVED));
+        assertThrows(IllegalArgumentException.class, () -> userImportService.importUsers(
+                stream("{\"email\":\n"), UserExportService.Format.NDJSON, 0, User.ApprovalStatus.APPROVED));
+        assertThrows(IllegalArgumentException.class, () -> userImportService.importUsers(
+                stream("email,name,password\n\"unterminated\n"), UserExportService.Format.CSV, 0,
+                User.ApprovalStatus.APPROVED));
+        verifyNoInteractions(jdbcTemplate, transactionTemplate);
+    }
+
+    private InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,120 @@
+package com.enterprise.webtemplate.service;
+
+import com.enterprise.webtemplate.dto.UserListResponse;
+import com.enterprise.webtemplate.dto.UserSearchRequest;
+import com.enterprise.webtemplate.entity.User;
+import com.enterprise.webtemplate.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 키셋 페이지네이션을 실제 쿼리로 끝까지 넘겨 보며 커서 왕복, 같은 정렬 값의 순서, 마지막 페이지를 확인
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class UserScrollTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final UserService userService = new UserService();
+
+    private final List<Long> ids = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        UserSubstringIndex userSubstringIndex = mock(UserSubstringIndex.class);
+        when(userSubstringIndex.findIds(any())).thenReturn(Optional.empty());
+        ReflectionTestUtils.setField(userService, "userRepository", userRepository);
+        ReflectionTestUtils.setField(userService, "userSubstringIndex", userSubstringIndex);
+        ReflectionTestUtils.setField(userService, "userSearchCountCache", mock(UserSearchCountCache.class));
+        ReflectionTestUtils.setField(userService, "maxScrollSize", 100);
+
+        // 이름이 같은 사용자 셋이 페이지 경계에 걸치도록 구성
+        for (String name : List.of("나", "가", "나", "나", "다")) {
+            User user = entityManager.persist(new User("user" + ids.size() + "@example.com", "encoded", name));
+            ids.add(user.getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void testScroll_AscendingVisitsEveryRowOnceWithIdTieBreak() {
+        // When
+        List<List<Long>> pages = scrollAll("asc");
+
+        // Then: (이름, id) 순서이며 마지막 페이지에는 다음 커서가 없음
+        assertEquals(List.of(
+                List.of(ids.get(1), ids.get(0)),
+                List.of(ids.get(2), ids.get(3)),
+                List.of(ids.get(4))
+        ), pages);
+    }
+
+    @Test
+    void testScroll_DescendingBreaksTiesByIdDescending() {
+        // When
+        List<List<Long>> pages = scrollAll("desc");
+
+        // Then
+        assertEquals(List.of(
+                List.of(ids.get(4), ids.get(3)),
+                List.of(ids.get(2), ids.get(0)),
+                List.of(ids.get(1))
+        ), pages);
+    }
+
+    @Test
+    void testScroll_ExactlyFullLastPageHasNoCursor() {
+        // Given
+        UserSearchRequest request = request("asc", 5);
+
+        // When
+        UserListResponse.CursorResponse response = userService.scrollUsers(request);
+
+        // Then: 한 행 더 읽어 본 결과가 없으므로 다음 페이지 없음
+        assertEquals(5, response.getContent().size());
+        assertNull(response.getNextCursor());
+    }
+
+    // 다음 커서가 없을 때까지 이름 기준으로 2건씩 조회
+    private List<List<Long>> scrollAll(String direction) {
+        List<List<Long>> pages = new ArrayList<>();
+        UserSearchRequest request = request(direction, 2);
+        while (true) {
+            UserListResponse.CursorResponse response = userService.scrollUsers(request);
+            pages.add(response.getContent().stream().map(UserListResponse::getId).toList());
+            if (response.getNextCursor() == null) {
+                return pages;
+            }
+            assertTrue(pages.size() <= ids.size(), "cursor did not advance");
+            request = request(direction, 2);
+            // 커서가 있으면 정렬 조건은 커서 값을 따름 (요청의 정렬 기준은 무시)
+            request.setSortBy("email");
+            request.setCursor(response.getNextCursor());
+        }
+    }
+
+    private UserSearchRequest request(String direction, int size) {
+        UserSearchRequest request = new UserSearchRequest();
+        request.setSortBy("name");
+        request.setSortDirection(direction);
+        request.setSize(size);
+        return request;
+    }
+}
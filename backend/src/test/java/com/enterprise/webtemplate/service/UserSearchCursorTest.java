@@ -0,0 +1,47 @@
+package com.enterprise.webtemplate.service;
+
+import com.enterprise.webtemplate.dto.UserListResponse;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserSearchCursorTest {
+
+    @Test
+    void testEncodeDecode_RoundTrip() {
+        // Given
+        UserListResponse user = new UserListResponse();
+        user.setId(42L);
+        user.setName("홍|길동");
+        user.setCreatedAt(LocalDateTime.of(2024, 3, 1, 9, 30, 15, 123000000));
+
+        // When
+        UserSearchCursor byName = UserSearchCursor.decode(
+                UserSearchCursor.after(UserSearchCursor.SortKey.NAME, false, user).encode());
+        UserSearchCursor byCreatedAt = UserSearchCursor.decode(
+                UserSearchCursor.after(UserSearchCursor.SortKey.CREATED_AT, true, user).encode());
+
+        // Then
+        assertEquals(UserSearchCursor.SortKey.NAME, byName.sortKey());
+        assertFalse(byName.descending());
+        assertEquals("홍|길동", byName.lastValue());
+        assertEquals(42L, byName.lastId());
+        assertTrue(byCreatedAt.descending());
+        assertEquals(user.getCreatedAt(), byCreatedAt.lastTimestamp());
+    }
+
+    @Test
+    void testDecode_InvalidToken() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> UserSearchCursor.decode("not-a-cursor"));
+        assertThrows(IllegalArgumentException.class, () -> UserSearchCursor.decode("%%%"));
+    }
+
+    @Test
+    void testFromProperty_UnsupportedSortKey() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> UserSearchCursor.SortKey.fromProperty("lastLoginAt"));
+    }
+}
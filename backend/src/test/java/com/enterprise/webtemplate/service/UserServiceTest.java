@@ -33,6 +33,9 @@ class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private ActivityEventLog activityEventLog;
+
     @InjectMocks
     private UserService userService;
 
@@ -15,11 +15,16 @@ CREATE TABLE IF NOT EXISTS users (
     profile_image_url VARCHAR(500),
     is_active BOOLEAN DEFAULT TRUE,
     approval_status VARCHAR(50) DEFAULT 'PENDING',
+    approved_at TIMESTAMP NULL,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
     INDEX idx_email (email),
     INDEX idx_active (is_active),
-    INDEX idx_approval_status (approval_status)
+    INDEX idx_approval_status (approval_status),
+    INDEX idx_users_created_at_id (created_at, id),
+    INDEX idx_users_updated_at_id (updated_at, id),
+    INDEX idx_users_name_id (name, id),
+    INDEX idx_users_approved_at (approved_at)
 );
 
 -- 역할 테이블
@@ -94,4 +99,25 @@ CREATE TABLE IF NOT EXISTS notifications (
     INDEX idx_is_read (is_read),
     INDEX idx_created_at (created_at),
     INDEX idx_type (type)
-);
\ No newline at end of file
+);
+-- 일별 집계 테이블 (대시보드 시계열)
+CREATE TABLE IF NOT EXISTS daily_stats (
+    stat_date DATE PRIMARY KEY,
+    registrations BIGINT NOT NULL DEFAULT 0,
+    approvals BIGINT NOT NULL DEFAULT 0,
+    logins BIGINT NOT NULL DEFAULT 0,
+    uploads BIGINT NOT NULL DEFAULT 0,
+    notifications BIGINT NOT NULL DEFAULT 0,
+    is_closed BOOLEAN NOT NULL DEFAULT FALSE,
+    aggregated_at TIMESTAMP NOT NULL
+);
+-- 활동 이벤트 로그 (추가 전용, id는 애플리케이션에서 순서대로 부여)
+CREATE TABLE IF NOT EXISTS activity_events (
+    id BIGINT PRIMARY KEY,
+    type VARCHAR(30) NOT NULL,
+    actor_id BIGINT NULL,
+    target_id BIGINT NULL,
+    message VARCHAR(500) NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    INDEX idx_activity_events_type_id (type, id)
+);